@@ -4,6 +4,10 @@ import frc.lib.driver.IDriver;
 import frc.lib.helpers.ExceptionHelpers;
 import frc.lib.helpers.Tracer;
 import frc.lib.mechanisms.LoggingManager;
+import frc.lib.mechanisms.LoopPhase;
+import frc.lib.mechanisms.LoopProfiler;
+import frc.lib.mechanisms.LoopWatchdog;
+import frc.lib.mechanisms.LoopWatchdogPhase;
 import frc.lib.mechanisms.MechanismManager;
 import frc.lib.robotprovider.*;
 import frc.robot.LoggingKey;
@@ -34,8 +38,19 @@ public class CoreRobot<T extends AbstractModule>
     // Mechanisms and injector
     private MechanismManager mechanisms;
     private LoggingManager logger;
+    private IRobotProvider provider;
     private Injector injector;
 
+    // Profiling of the time spent in each part of the loop
+    private LoopProfiler profiler;
+    private int canRefreshProfilerSection;
+    private int driverProfilerSection;
+    private int loggerProfilerSection;
+    private int loopProfilerSection;
+
+    // Shedding of load when the loop takes too long
+    private LoopWatchdog watchdog;
+
     private ITimer timer;
     private boolean timerStarted;
 
@@ -68,6 +83,14 @@ public class CoreRobot<T extends AbstractModule>
         this.logger = injector.getInstance(LoggingManager.class);
         this.logger.refresh(injector);
 
+        this.profiler = injector.getInstance(LoopProfiler.class);
+        this.canRefreshProfilerSection = this.profiler.register("CANRefresh");
+        this.driverProfilerSection = this.profiler.register("Driver");
+        this.loggerProfilerSection = this.profiler.register("LoggingManager");
+        this.loopProfilerSection = this.profiler.register("Loop");
+
+        this.watchdog = injector.getInstance(LoopWatchdog.class);
+
         this.logger.logString(LoggingKey.RobotState, "Init");
 
         this.timer = injector.getInstance(ITimer.class);
@@ -75,7 +98,7 @@ public class CoreRobot<T extends AbstractModule>
         this.timerStarted = false;
 
         // initialize robot provider on robot start instead of waiting for first enable
-        injector.getInstance(IRobotProvider.class);
+        this.provider = injector.getInstance(IRobotProvider.class);
 
         // reset number of logger updates
         this.loggerUpdates = 0;
@@ -106,6 +129,11 @@ public class CoreRobot<T extends AbstractModule>
             this.mechanisms.stop();
         }
 
+        if (this.watchdog != null)
+        {
+            this.watchdog.reset();
+        }
+
         this.logger.logString(LoggingKey.RobotState, "Disabled");
         this.logger.update();
         this.logger.flush();
@@ -154,6 +182,8 @@ public class CoreRobot<T extends AbstractModule>
      */
     public void disabledPeriodic()
     {
+        this.mechanisms.startLoop();
+
         this.disabledCount++;
         if ((this.disabledCount % 500) == 0)
         {
@@ -184,6 +214,7 @@ public class CoreRobot<T extends AbstractModule>
         {
             try
             {
+                this.refreshBatchedSignals();
                 this.mechanisms.readSensors();
             }
             catch (RuntimeException ex)
@@ -197,6 +228,8 @@ public class CoreRobot<T extends AbstractModule>
             }
         }
 
+        this.profiler.endLoop();
+
         if (!TuningConstants.LOG_NULL_WHILE_DISABLED)
         {
             return;
@@ -352,32 +385,60 @@ public class CoreRobot<T extends AbstractModule>
     {
         try
         {
+            long loopStartTime = System.nanoTime();
+            this.mechanisms.startLoop();
+
             Tracer.trace("Read sensors");
 
+            this.refreshBatchedSignals();
             this.mechanisms.readSensors();
 
+            long startTime = System.nanoTime();
+            this.watchdog.record(LoopWatchdogPhase.Sensors, startTime - loopStartTime);
+
             Tracer.trace("Update driver");
 
             this.driver.update();
 
+            long endTime = System.nanoTime();
+            this.profiler.record(this.driverProfilerSection, LoopPhase.Update, endTime - startTime);
+            this.watchdog.record(LoopWatchdogPhase.Driver, endTime - startTime);
+            startTime = endTime;
+
             Tracer.trace("Update mechanisms");
 
-            // run each mechanism
+            // run each mechanism that is due in this loop
             this.mechanisms.update(this.currentMode);
 
+            endTime = System.nanoTime();
+            this.watchdog.record(LoopWatchdogPhase.Mechanisms, endTime - startTime);
+
             Tracer.trace("Updating logs");
 
+            startTime = endTime;
             this.logger.logNumber(LoggingKey.RobotTime, this.timer.get());
+            this.watchdog.publish();
             this.logger.update();
 
-            if (this.loggerUpdates++ > TuningConstants.LOG_FLUSH_THRESHOLD)
+            endTime = System.nanoTime();
+            this.profiler.record(this.loggerProfilerSection, LoopPhase.Update, endTime - startTime);
+            this.profiler.record(this.loopProfilerSection, LoopPhase.Update, endTime - loopStartTime);
+            this.profiler.endLoop();
+            this.watchdog.record(LoopWatchdogPhase.Logging, endTime - startTime);
+
+            if (this.loggerUpdates++ > TuningConstants.LOG_FLUSH_THRESHOLD &&
+                !this.watchdog.shouldDeferFlush(this.loggerUpdates))
             {
                 Tracer.trace("Flushing logs");
 
                 // lazily flush the log, in case of power-off.
+                startTime = System.nanoTime();
                 this.logger.flush();
                 this.loggerUpdates = 0;
+                this.watchdog.record(LoopWatchdogPhase.Flush, System.nanoTime() - startTime);
             }
+
+            this.watchdog.endTick();
         }
         catch (RuntimeException ex)
         {
@@ -389,4 +450,14 @@ public class CoreRobot<T extends AbstractModule>
             throw ex;
         }
     }
+
+    /**
+     * Refresh all of the batched status signals in one go, so that the mechanisms read fresh values in readSensors.
+     */
+    private void refreshBatchedSignals()
+    {
+        long startTime = System.nanoTime();
+        this.provider.refreshBatchedSignals();
+        this.profiler.record(this.canRefreshProfilerSection, LoopPhase.ReadSensors, System.nanoTime() - startTime);
+    }
 }
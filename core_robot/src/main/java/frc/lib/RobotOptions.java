@@ -0,0 +1,82 @@
+package frc.lib;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import frc.robot.TuningConstants;
+
+/**
+ * Options for the features of the robot code that depend on the wall-clock time or the file system, so that they can be turned off
+ * when the robot isn't running on a real robot in real time (e.g. for deterministic simulations).  The injected instance takes each
+ * option from the TuningConstants, and a module can provide an instance with different options instead.
+ */
+@Singleton
+public class RobotOptions
+{
+    private final boolean loopWatchdogEnabled;
+    private final boolean highRateOdometryEnabled;
+    private final int mechanismWorkerThreads;
+    private final boolean trajectoryCacheEnabled;
+
+    /**
+     * Initializes a new instance of the RobotOptions class, using the options from the TuningConstants.  The trajectory cache is
+     * left disabled, as its directory only exists on the roboRIO (where RobotModule provides options that enable it).
+     */
+    @Inject
+    public RobotOptions()
+    {
+        this(false);
+    }
+
+    /**
+     * Initializes a new instance of the RobotOptions class, using the options from the TuningConstants
+     * @param onRobot whether we are running on the roboRIO, where the trajectory cache can be used
+     */
+    public RobotOptions(boolean onRobot)
+    {
+        this(
+            TuningConstants.LOOP_WATCHDOG_ENABLED,
+            TuningConstants.SDSDRIVETRAIN_USE_HIGH_RATE_ODOMETRY,
+            TuningConstants.MECHANISM_WORKER_THREADS,
+            onRobot && TuningConstants.TRAJECTORY_CACHE_ENABLED);
+    }
+
+    /**
+     * Initializes a new instance of the RobotOptions class
+     * @param loopWatchdogEnabled whether to shed load when the loop overruns its time budget
+     * @param highRateOdometryEnabled whether to sample the drivetrain's odometry inputs on a background thread
+     * @param mechanismWorkerThreads number of extra threads for running independent mechanisms in parallel
+     * @param trajectoryCacheEnabled whether to cache built trajectories on disk
+     */
+    public RobotOptions(
+        boolean loopWatchdogEnabled,
+        boolean highRateOdometryEnabled,
+        int mechanismWorkerThreads,
+        boolean trajectoryCacheEnabled)
+    {
+        this.loopWatchdogEnabled = loopWatchdogEnabled;
+        this.highRateOdometryEnabled = highRateOdometryEnabled;
+        this.mechanismWorkerThreads = mechanismWorkerThreads;
+        this.trajectoryCacheEnabled = trajectoryCacheEnabled;
+    }
+
+    public boolean isLoopWatchdogEnabled()
+    {
+        return this.loopWatchdogEnabled;
+    }
+
+    public boolean isHighRateOdometryEnabled()
+    {
+        return this.highRateOdometryEnabled;
+    }
+
+    public int getMechanismWorkerThreads()
+    {
+        return this.mechanismWorkerThreads;
+    }
+
+    public boolean isTrajectoryCacheEnabled()
+    {
+        return this.trajectoryCacheEnabled;
+    }
+}
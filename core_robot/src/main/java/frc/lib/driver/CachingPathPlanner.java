@@ -0,0 +1,208 @@
+package frc.lib.driver;
+
+import frc.lib.robotprovider.IPathPlanner;
+import frc.lib.robotprovider.IPathPlannerGoal;
+import frc.lib.robotprovider.ITrajectory;
+import frc.lib.robotprovider.MotorType;
+import frc.lib.robotprovider.PathPlannerRotationTarget;
+import frc.lib.robotprovider.PathPlannerWaypoint;
+
+/**
+ * Path planner that loads built trajectories from a {@link TrajectoryCache} when possible, and otherwise builds them using the wrapped
+ * path planner and stores them in the cache.  The key for each trajectory is a hash of the cache's file format version and sample
+ * interval, the robot configuration, the constraints and the goal points, so any change to them causes the trajectory to be rebuilt.
+ */
+public class CachingPathPlanner implements IPathPlanner
+{
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final long WAYPOINT_TAG = 1L;
+    private static final long ROTATION_TARGET_TAG = 2L;
+
+    private final IPathPlanner pathPlanner;
+    private final TrajectoryCache cache;
+    private final boolean forceBuild;
+
+    private boolean configured;
+    private long robotHash;
+
+    /**
+     * Initializes a new CachingPathPlanner
+     * @param pathPlanner to build trajectories with when they aren't in the cache
+     * @param cache to load trajectories from and store them in
+     * @param forceBuild whether to always build the trajectories (still updating the cache)
+     */
+    public CachingPathPlanner(IPathPlanner pathPlanner, TrajectoryCache cache, boolean forceBuild)
+    {
+        this.pathPlanner = pathPlanner;
+        this.cache = cache;
+        this.forceBuild = forceBuild;
+
+        this.configured = false;
+        long hash = CachingPathPlanner.FNV_OFFSET_BASIS;
+        hash = CachingPathPlanner.mix(hash, TrajectoryCache.VERSION);
+        hash = CachingPathPlanner.mix(hash, cache.getSampleInterval());
+        hash = CachingPathPlanner.mix(hash, pathPlanner.getClass().getName().hashCode());
+        this.robotHash = hash;
+    }
+
+    @Override
+    public boolean isConfigured()
+    {
+        // track our own configuration, as the robot configuration is part of the key even if the wrapped path planner was already configured
+        return this.configured;
+    }
+
+    @Override
+    public void configureRobot(
+        double robotWeight,
+        double robotMomentOfInertia,
+        double swerveModuleWheelRadius,
+        double swerveModuleMaxVelocity,
+        double swerveModuleWheelCoefficientOfFriction,
+        double swerveDriveGearReduction,
+        MotorType swerveDriveMotorType,
+        int swerveDriveMotorCount,
+        double swerveDriveMotorCurrentLimit,
+        double horizontalModuleCenterDistance,
+        double verticalModuleCenterDistance)
+    {
+        long hash = this.robotHash;
+        hash = CachingPathPlanner.mix(hash, robotWeight);
+        hash = CachingPathPlanner.mix(hash, robotMomentOfInertia);
+        hash = CachingPathPlanner.mix(hash, swerveModuleWheelRadius);
+        hash = CachingPathPlanner.mix(hash, swerveModuleMaxVelocity);
+        hash = CachingPathPlanner.mix(hash, swerveModuleWheelCoefficientOfFriction);
+        hash = CachingPathPlanner.mix(hash, swerveDriveGearReduction);
+        hash = CachingPathPlanner.mix(hash, swerveDriveMotorType.name().hashCode());
+        hash = CachingPathPlanner.mix(hash, swerveDriveMotorCount);
+        hash = CachingPathPlanner.mix(hash, swerveDriveMotorCurrentLimit);
+        hash = CachingPathPlanner.mix(hash, horizontalModuleCenterDistance);
+        hash = CachingPathPlanner.mix(hash, verticalModuleCenterDistance);
+        this.robotHash = hash;
+        this.configured = true;
+
+        if (!this.pathPlanner.isConfigured())
+        {
+            this.pathPlanner.configureRobot(
+                robotWeight,
+                robotMomentOfInertia,
+                swerveModuleWheelRadius,
+                swerveModuleMaxVelocity,
+                swerveModuleWheelCoefficientOfFriction,
+                swerveDriveGearReduction,
+                swerveDriveMotorType,
+                swerveDriveMotorCount,
+                swerveDriveMotorCurrentLimit,
+                horizontalModuleCenterDistance,
+                verticalModuleCenterDistance);
+        }
+    }
+
+    @Override
+    public ITrajectory loadTrajectory(String name)
+    {
+        return this.pathPlanner.loadTrajectory(name);
+    }
+
+    @Override
+    public ITrajectory loadTrajectory(String name, boolean reversed)
+    {
+        return this.pathPlanner.loadTrajectory(name, reversed);
+    }
+
+    @Override
+    public ITrajectory buildTrajectory(
+        double maxVelocity,
+        double maxAcceleration,
+        double maxAngularVelocity,
+        double maxAngularAcceleration,
+        IPathPlannerGoal... goalPoints)
+    {
+        Long key = this.getKey(maxVelocity, maxAcceleration, maxAngularVelocity, maxAngularAcceleration, goalPoints);
+        if (key == null || !this.cache.isEnabled())
+        {
+            return this.pathPlanner.buildTrajectory(maxVelocity, maxAcceleration, maxAngularVelocity, maxAngularAcceleration, goalPoints);
+        }
+
+        if (!this.forceBuild)
+        {
+            ITrajectory cached = this.cache.load(key);
+            if (cached != null)
+            {
+                return cached;
+            }
+        }
+
+        ITrajectory trajectory = this.pathPlanner.buildTrajectory(maxVelocity, maxAcceleration, maxAngularVelocity, maxAngularAcceleration, goalPoints);
+        return this.cache.store(key, trajectory);
+    }
+
+    /**
+     * Calculate the cache key for a trajectory
+     * @return the key, or null if the trajectory can't be cached because of an unknown type of goal
+     */
+    private Long getKey(
+        double maxVelocity,
+        double maxAcceleration,
+        double maxAngularVelocity,
+        double maxAngularAcceleration,
+        IPathPlannerGoal[] goalPoints)
+    {
+        if (goalPoints == null)
+        {
+            return null;
+        }
+
+        long hash = this.robotHash;
+        hash = CachingPathPlanner.mix(hash, maxVelocity);
+        hash = CachingPathPlanner.mix(hash, maxAcceleration);
+        hash = CachingPathPlanner.mix(hash, maxAngularVelocity);
+        hash = CachingPathPlanner.mix(hash, maxAngularAcceleration);
+        hash = CachingPathPlanner.mix(hash, goalPoints.length);
+        for (IPathPlannerGoal goalPoint : goalPoints)
+        {
+            if (goalPoint instanceof PathPlannerWaypoint)
+            {
+                PathPlannerWaypoint waypoint = (PathPlannerWaypoint)goalPoint;
+                hash = CachingPathPlanner.mix(hash, CachingPathPlanner.WAYPOINT_TAG);
+                hash = CachingPathPlanner.mix(hash, waypoint.x);
+                hash = CachingPathPlanner.mix(hash, waypoint.y);
+                hash = CachingPathPlanner.mix(hash, waypoint.heading);
+                hash = CachingPathPlanner.mix(hash, waypoint.orientation.isPresent() ? 1L : 0L);
+                hash = CachingPathPlanner.mix(hash, waypoint.orientation.orElse(0.0));
+            }
+            else if (goalPoint instanceof PathPlannerRotationTarget)
+            {
+                PathPlannerRotationTarget rotationTarget = (PathPlannerRotationTarget)goalPoint;
+                hash = CachingPathPlanner.mix(hash, CachingPathPlanner.ROTATION_TARGET_TAG);
+                hash = CachingPathPlanner.mix(hash, rotationTarget.orientation);
+                hash = CachingPathPlanner.mix(hash, rotationTarget.percentage);
+            }
+            else
+            {
+                return null;
+            }
+        }
+
+        return hash;
+    }
+
+    private static long mix(long hash, double value)
+    {
+        return CachingPathPlanner.mix(hash, Double.doubleToLongBits(value));
+    }
+
+    private static long mix(long hash, long value)
+    {
+        // FNV-1a, one byte at a time
+        for (int i = 0; i < Long.BYTES; i++)
+        {
+            hash ^= (value >>> (i * 8)) & 0xFFL;
+            hash *= CachingPathPlanner.FNV_PRIME;
+        }
+
+        return hash;
+    }
+}
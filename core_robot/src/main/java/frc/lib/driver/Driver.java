@@ -10,7 +10,7 @@ import frc.robot.TuningConstants;
 import frc.lib.driver.descriptions.*;
 import frc.lib.driver.states.*;
 import frc.lib.helpers.ExceptionHelpers;
-import frc.lib.helpers.SetHelper;
+import frc.lib.helpers.OrdinalBitSet;
 import frc.lib.mechanisms.*;
 import frc.lib.robotprovider.*;
 import frc.robot.driver.*;
@@ -35,9 +35,29 @@ public class Driver implements IDriver
     private final DigitalOperation[] allDigitalOperations;
     private final AnalogOperation[] allAnalogOperations;
 
+    private final Shift[] allShifts;
+    private final MacroOperation[] allMacroOperations;
+
     private final EnumMap<Shift, ShiftDescription> shiftMap;
     private final EnumMap<MacroOperation, IMacroOperationState> macroStateMap;
 
+    // preallocated state for update(), to avoid generating garbage within each loop
+    private final EnumSet<Shift> activeShifts;
+    private final EnumSet<Shift> loggedActiveShifts;
+    private final OrdinalBitSet modifiedAnalogOperations;
+    private final OrdinalBitSet modifiedDigitalOperations;
+    private final OrdinalBitSet affectedAnalogOperations;
+    private final OrdinalBitSet affectedDigitalOperations;
+    private final OrdinalBitSet[] activeMacroAnalogOperations;
+    private final OrdinalBitSet[] activeMacroDigitalOperations;
+    private final OrdinalBitSet previouslyActiveMacroOperations;
+    private final OrdinalBitSet activeMacroOperations;
+    private final OrdinalBitSet loggedActiveMacroOperations;
+    private final OrdinalBitSet macroOperationsToCancel;
+    private final OrdinalBitSet scratchMacroOperations;
+    private String activeMacroString;
+    private String activeShiftString;
+
     private final AutonomousRoutineSelector routineSelector;
     private IControlTask autonomousTask;
 
@@ -137,6 +157,36 @@ public class Driver implements IDriver
             }
         }
 
+        this.allShifts = Shift.values();
+        this.allMacroOperations = MacroOperation.values();
+
+        int macroOperationCount = this.allMacroOperations.length;
+        this.activeShifts = EnumSet.noneOf(Shift.class);
+        this.loggedActiveShifts = EnumSet.noneOf(Shift.class);
+        this.modifiedAnalogOperations = new OrdinalBitSet(this.allAnalogOperations.length);
+        this.modifiedDigitalOperations = new OrdinalBitSet(this.allDigitalOperations.length);
+        this.affectedAnalogOperations = new OrdinalBitSet(this.allAnalogOperations.length);
+        this.affectedDigitalOperations = new OrdinalBitSet(this.allDigitalOperations.length);
+        this.activeMacroAnalogOperations = new OrdinalBitSet[this.allAnalogOperations.length];
+        for (int i = 0; i < this.activeMacroAnalogOperations.length; i++)
+        {
+            this.activeMacroAnalogOperations[i] = new OrdinalBitSet(macroOperationCount);
+        }
+
+        this.activeMacroDigitalOperations = new OrdinalBitSet[this.allDigitalOperations.length];
+        for (int i = 0; i < this.activeMacroDigitalOperations.length; i++)
+        {
+            this.activeMacroDigitalOperations[i] = new OrdinalBitSet(macroOperationCount);
+        }
+
+        this.previouslyActiveMacroOperations = new OrdinalBitSet(macroOperationCount);
+        this.activeMacroOperations = new OrdinalBitSet(macroOperationCount);
+        this.loggedActiveMacroOperations = new OrdinalBitSet(macroOperationCount);
+        this.macroOperationsToCancel = new OrdinalBitSet(macroOperationCount);
+        this.scratchMacroOperations = new OrdinalBitSet(macroOperationCount);
+        this.activeMacroString = "";
+        this.activeShiftString = this.activeShifts.toString();
+
         this.currentMode = RobotMode.Disabled;
 
         // initialize the trajectory manager singleton, if it hasn't been already
@@ -161,104 +211,83 @@ public class Driver implements IDriver
         this.logger.logString(LoggingKey.DriverMode, this.currentMode.toString());
 
         // keep track of macros that were running before we checked user input...
-        EnumSet<MacroOperation> previouslyActiveMacroOperations = EnumSet.noneOf(MacroOperation.class);
-        for (MacroOperation macroOperation : this.macroStateMap.keySet())
+        this.previouslyActiveMacroOperations.clearAll();
+        for (int i = 0; i < this.allMacroOperations.length; i++)
         {
-            IMacroOperationState macroState = this.macroStateMap.get(macroOperation);
-            if (macroState.getIsActive())
+            IMacroOperationState macroState = this.macroStateMap.get(this.allMacroOperations[i]);
+            if (macroState != null && macroState.getIsActive())
             {
-                previouslyActiveMacroOperations.add(macroOperation);
+                this.previouslyActiveMacroOperations.set(i);
             }
         }
 
         // check inputs and update shifts based on it...
-        EnumSet<Shift> activeShifts = EnumSet.noneOf(Shift.class);
-        for (Shift shift : this.shiftMap.keySet())
+        this.activeShifts.clear();
+        for (Shift shift : this.allShifts)
         {
             ShiftDescription shiftDescription = this.shiftMap.get(shift);
-            if (this.currentMode != RobotMode.Autonomous && shiftDescription.checkInput(this.joysticks))
+            if (shiftDescription != null && this.currentMode != RobotMode.Autonomous && shiftDescription.checkInput(this.joysticks))
             {
-                activeShifts.add(shift);
+                this.activeShifts.add(shift);
             }
         }
 
-        // check user inputs for various analog operations and keep track of:
-        // operations that were interrupted already, and operations that were modified by user input in this update
-        EnumSet<AnalogOperation> modifiedAnalogOperations = EnumSet.noneOf(AnalogOperation.class);
-        EnumSet<AnalogOperation> interruptedAnalogOperations = EnumSet.noneOf(AnalogOperation.class);
-        for (AnalogOperation analogOperation : this.allAnalogOperations)
+        // check user inputs for various analog operations and keep track of operations that were modified by user input in this update
+        this.modifiedAnalogOperations.clearAll();
+        for (int i = 0; i < this.allAnalogOperations.length; i++)
         {
-            AnalogOperationState opState = this.analogOperationStateMap.get(analogOperation);
-            boolean receivedInput = this.currentMode != RobotMode.Autonomous && opState.checkInput(this.joysticks, activeShifts);
+            AnalogOperationState opState = this.analogOperationStateMap.get(this.allAnalogOperations[i]);
+            boolean receivedInput = this.currentMode != RobotMode.Autonomous && opState.checkInput(this.joysticks, this.activeShifts);
             if (receivedInput)
             {
-                modifiedAnalogOperations.add(analogOperation);
-            }
-
-            if (this.analogOperationStateMap.get(analogOperation).getIsInterrupted())
-            {
-                interruptedAnalogOperations.add(analogOperation);
+                this.modifiedAnalogOperations.set(i);
             }
         }
 
-        // check user inputs for various digital operations and keep track of:
-        // operations that were interrupted already, and operations that were modified by user input in this update
-        EnumSet<DigitalOperation> modifiedDigitalOperations = EnumSet.noneOf(DigitalOperation.class);
-        EnumSet<DigitalOperation> interruptedDigitalOperations = EnumSet.noneOf(DigitalOperation.class);
-        for (DigitalOperation digitalOperation : this.allDigitalOperations)
+        // check user inputs for various digital operations and keep track of operations that were modified by user input in this update
+        this.modifiedDigitalOperations.clearAll();
+        for (int i = 0; i < this.allDigitalOperations.length; i++)
         {
-            DigitalOperationState opState = this.digitalOperationStateMap.get(digitalOperation);
-            boolean receivedInput = this.currentMode != RobotMode.Autonomous && opState.checkInput(this.joysticks, activeShifts);
+            DigitalOperationState opState = this.digitalOperationStateMap.get(this.allDigitalOperations[i]);
+            boolean receivedInput = this.currentMode != RobotMode.Autonomous && opState.checkInput(this.joysticks, this.activeShifts);
             if (receivedInput)
             {
-                modifiedDigitalOperations.add(digitalOperation);
-            }
-
-            if (this.digitalOperationStateMap.get(digitalOperation).getIsInterrupted())
-            {
-                interruptedDigitalOperations.add(digitalOperation);
+                this.modifiedDigitalOperations.set(i);
             }
         }
 
         // check user inputs for various macro operations
         // also keep track of modified and active macro operations, and how macro operations and operations link together
-        EnumSet<MacroOperation> activeMacroOperations = EnumSet.noneOf(MacroOperation.class);
-        EnumMap<AnalogOperation, EnumSet<MacroOperation>> activeMacroAnalogOperationMap = new EnumMap<AnalogOperation, EnumSet<MacroOperation>>(AnalogOperation.class);
-        EnumMap<DigitalOperation, EnumSet<MacroOperation>> activeMacroDigitalOperationMap = new EnumMap<DigitalOperation, EnumSet<MacroOperation>>(DigitalOperation.class);
-        for (MacroOperation macroOperation : this.macroStateMap.keySet())
+        this.activeMacroOperations.clearAll();
+        for (int i = 0; i < this.allMacroOperations.length; i++)
         {
-            IMacroOperationState macroState = this.macroStateMap.get(macroOperation);
+            IMacroOperationState macroState = this.macroStateMap.get(this.allMacroOperations[i]);
+            if (macroState == null)
+            {
+                continue;
+            }
+
             if (this.currentMode != RobotMode.Autonomous)
             {
-                macroState.checkInput(this.joysticks, activeShifts);
+                macroState.checkInput(this.joysticks, this.activeShifts);
             }
 
             if (macroState.getIsActive())
             {
-                activeMacroOperations.add(macroOperation);
+                this.activeMacroOperations.set(i);
 
                 for (AnalogOperation affectedAnalogOperation : macroState.getMacroCancelAnalogOperations())
                 {
-                    EnumSet<MacroOperation> relevantMacroOperations = activeMacroAnalogOperationMap.get(affectedAnalogOperation);
-                    if (relevantMacroOperations == null)
-                    {
-                        relevantMacroOperations = EnumSet.noneOf(MacroOperation.class);
-                        activeMacroAnalogOperationMap.put(affectedAnalogOperation, relevantMacroOperations);
-                    }
-
-                    relevantMacroOperations.add(macroOperation);
+                    int ordinal = affectedAnalogOperation.ordinal();
+                    this.affectedAnalogOperations.set(ordinal);
+                    this.activeMacroAnalogOperations[ordinal].set(i);
                 }
 
                 for (DigitalOperation affectedDigitalOperation : macroState.getMacroCancelDigitalOperations())
                 {
-                    EnumSet<MacroOperation> relevantMacroOperations = activeMacroDigitalOperationMap.get(affectedDigitalOperation);
-                    if (relevantMacroOperations == null)
-                    {
-                        relevantMacroOperations = EnumSet.noneOf(MacroOperation.class);
-                        activeMacroDigitalOperationMap.put(affectedDigitalOperation, relevantMacroOperations);
-                    }
-
-                    relevantMacroOperations.add(macroOperation);
+                    int ordinal = affectedDigitalOperation.ordinal();
+                    this.affectedDigitalOperations.set(ordinal);
+                    this.activeMacroDigitalOperations[ordinal].set(i);
                 }
             }
         }
@@ -267,97 +296,132 @@ public class Driver implements IDriver
         // 1. have not been usurped by a user action
         // 2. have not been usurped by a new macro (i.e. that was started in this round)
         // 3. are new macros that do not overlap with other new macros
-        EnumSet<MacroOperation> macroOperationsToCancel = EnumSet.noneOf(MacroOperation.class);
+        this.macroOperationsToCancel.clearAll();
+
+        // first perform checks for analog operations, and then for digital operations:
+        this.findMacroOperationsToCancel(this.allAnalogOperations, this.affectedAnalogOperations, this.modifiedAnalogOperations, this.activeMacroAnalogOperations);
+        this.findMacroOperationsToCancel(this.allDigitalOperations, this.affectedDigitalOperations, this.modifiedDigitalOperations, this.activeMacroDigitalOperations);
+
+        // cancel macros that didn't follow the rules list above
+        for (int i = this.macroOperationsToCancel.nextSetBit(0); i >= 0; i = this.macroOperationsToCancel.nextSetBit(i + 1))
+        {
+            this.macroStateMap.get(this.allMacroOperations[i]).setIsInterrupted(true);
+            this.activeMacroOperations.clear(i);
+        }
 
-        // first perform checks for analog operations:
-        for (AnalogOperation operation : activeMacroAnalogOperationMap.keySet())
+        // first, run all of the inactive macros (to clear any old interrupts)...
+        for (int i = 0; i < this.allMacroOperations.length; i++)
         {
-            EnumSet<MacroOperation> relevantMacroOperations = activeMacroAnalogOperationMap.get(operation);
-            if (modifiedAnalogOperations.contains(operation))
+            IMacroOperationState macroState = this.macroStateMap.get(this.allMacroOperations[i]);
+            if (macroState != null && !this.activeMacroOperations.get(i))
             {
-                // disobeys rule #1:
-                // (macro usurped by user action)
-                macroOperationsToCancel.addAll(relevantMacroOperations);
-            }
-            else if (SetHelper.<MacroOperation>Count(relevantMacroOperations) > 1)
-            {
-                EnumSet<MacroOperation> newRelevantMacroOperations = SetHelper.<MacroOperation>RelativeComplement(previouslyActiveMacroOperations, relevantMacroOperations);
-                if (SetHelper.<MacroOperation>Count(newRelevantMacroOperations) > 1)
-                {
-                    // disobeys rule #3:
-                    // (there are 2 or more active macros that weren't previously active)
-                    macroOperationsToCancel.addAll(relevantMacroOperations);
-                }
-                else
-                {
-                    // some disobey rule #2 (remove only those that were previously active, and not the 1 that is newly active...)
-                    ExceptionHelpers.Assert(!newRelevantMacroOperations.isEmpty(), "how did we end up with conflicting relevant macros for %s when there are no new ones (among %s)?", operation, relevantMacroOperations);
-                    macroOperationsToCancel.addAll(SetHelper.<MacroOperation>RelativeComplement(newRelevantMacroOperations, relevantMacroOperations));
-                }
+                macroState.run();
             }
         }
 
-        // and then for digital operations:
-        for (DigitalOperation operation : activeMacroDigitalOperationMap.keySet())
+        // second, run all of the active macros (which could add interrupts that were cleared in the previous phase)...
+        for (int i = this.activeMacroOperations.nextSetBit(0); i >= 0; i = this.activeMacroOperations.nextSetBit(i + 1))
+        {
+            this.macroStateMap.get(this.allMacroOperations[i]).run();
+        }
+
+        // only rebuild the strings for logging when the active macros/shifts have changed
+        if (!this.activeMacroOperations.equals(this.loggedActiveMacroOperations))
+        {
+            this.loggedActiveMacroOperations.copyFrom(this.activeMacroOperations);
+            this.activeMacroString = this.getMacroOperationsString(this.activeMacroOperations);
+        }
+
+        if (!this.activeShifts.equals(this.loggedActiveShifts))
         {
-            EnumSet<MacroOperation> relevantMacroOperations = activeMacroDigitalOperationMap.get(operation);
-            if (modifiedDigitalOperations.contains(operation))
+            this.loggedActiveShifts.clear();
+            this.loggedActiveShifts.addAll(this.activeShifts);
+            this.activeShiftString = this.activeShifts.toString();
+        }
+
+        this.logger.logString(LoggingKey.DriverActiveMacros, this.activeMacroString);
+        this.logger.logString(LoggingKey.DriverActiveShifts, this.activeShiftString);
+    }
+
+    /**
+     * Find the macro operations that should be cancelled because of conflicts on the provided type of operation, adding them to macroOperationsToCancel.
+     * Also clears the affected operations and the active macros for each of them, so that they are ready for the next update.
+     * @param allOperations all of the values of the operation enum
+     * @param affectedOperations the ordinals of the operations affected by at least one active macro
+     * @param modifiedOperations the ordinals of the operations that were modified by user input in this update
+     * @param activeMacroOperationsByOperation for each operation ordinal, the ordinals of the active macros that affect it
+     */
+    private void findMacroOperationsToCancel(
+        IOperation[] allOperations,
+        OrdinalBitSet affectedOperations,
+        OrdinalBitSet modifiedOperations,
+        OrdinalBitSet[] activeMacroOperationsByOperation)
+    {
+        for (int operation = affectedOperations.nextSetBit(0); operation >= 0; operation = affectedOperations.nextSetBit(operation + 1))
+        {
+            OrdinalBitSet relevantMacroOperations = activeMacroOperationsByOperation[operation];
+            if (modifiedOperations.get(operation))
             {
                 // disobeys rule #1:
                 // (macro usurped by user action)
-                macroOperationsToCancel.addAll(relevantMacroOperations);
+                this.macroOperationsToCancel.or(relevantMacroOperations);
             }
-            else if (SetHelper.<MacroOperation>Count(relevantMacroOperations) > 1)
+            else if (relevantMacroOperations.cardinality() > 1)
             {
-                EnumSet<MacroOperation> newRelevantMacroOperations = SetHelper.<MacroOperation>RelativeComplement(previouslyActiveMacroOperations, relevantMacroOperations);
-                if (SetHelper.<MacroOperation>Count(newRelevantMacroOperations) > 1)
+                OrdinalBitSet newRelevantMacroOperations = this.scratchMacroOperations;
+                newRelevantMacroOperations.copyFrom(relevantMacroOperations);
+                newRelevantMacroOperations.andNot(this.previouslyActiveMacroOperations);
+                if (newRelevantMacroOperations.cardinality() > 1)
                 {
                     // disobeys rule #3:
                     // (there are 2 or more active macros that weren't previously active)
-                    macroOperationsToCancel.addAll(relevantMacroOperations);
+                    this.macroOperationsToCancel.or(relevantMacroOperations);
                 }
                 else
                 {
                     // some disobey rule #2 (remove only those that were previously active, and not the 1 that is newly active...)
-                    ExceptionHelpers.Assert(!newRelevantMacroOperations.isEmpty(), "how did we end up with conflicting relevant macros for %s when there are no new ones (among %s)?", operation, relevantMacroOperations);
-                    macroOperationsToCancel.addAll(SetHelper.<MacroOperation>RelativeComplement(newRelevantMacroOperations, relevantMacroOperations));
+                    if (newRelevantMacroOperations.isEmpty())
+                    {
+                        ExceptionHelpers.Assert(false, "how did we end up with conflicting relevant macros for %s when there are no new ones (among %s)?", allOperations[operation], this.getMacroOperationsString(relevantMacroOperations));
+                    }
+
+                    OrdinalBitSet oldRelevantMacroOperations = this.scratchMacroOperations;
+                    oldRelevantMacroOperations.copyFrom(relevantMacroOperations);
+                    oldRelevantMacroOperations.and(this.previouslyActiveMacroOperations);
+                    this.macroOperationsToCancel.or(oldRelevantMacroOperations);
                 }
             }
-        }
 
-        // cancel macros that didn't follow the rules list above
-        for (MacroOperation macroOperationToCancel : macroOperationsToCancel)
-        {
-            this.macroStateMap.get(macroOperationToCancel).setIsInterrupted(true);
-            activeMacroOperations.remove(macroOperationToCancel);
+            relevantMacroOperations.clearAll();
         }
 
-        // first, run all of the inactive macros (to clear any old interrupts)...
-        EnumSet<MacroOperation> inactiveMacroOperations = SetHelper.<MacroOperation>RelativeComplement(activeMacroOperations, this.macroStateMap.keySet());
-        for (MacroOperation macroOperation : inactiveMacroOperations)
+        affectedOperations.clearAll();
+    }
+
+    /**
+     * Build the string representation of a set of macro operations, for logging
+     * @param macroOperations the ordinals of the macro operations
+     * @return comma-separated list of macro operation names
+     */
+    private String getMacroOperationsString(OrdinalBitSet macroOperations)
+    {
+        if (macroOperations.isEmpty())
         {
-            this.macroStateMap.get(macroOperation).run();
+            return "";
         }
 
-        // second, run all of the active macros (which could add interrupts that were cleared in the previous phase)...
-        // while we're doing that, grab the names of the macros for logging
-        String macroString = "";
-        int activeMacroCount = activeMacroOperations.size();
-        if (activeMacroCount > 0)
+        StringBuilder builder = new StringBuilder();
+        for (int i = macroOperations.nextSetBit(0); i >= 0; i = macroOperations.nextSetBit(i + 1))
         {
-            int i = 0;
-            String[] macroStrings = new String[activeMacroCount];
-            for (MacroOperation macroOperation : activeMacroOperations)
+            if (builder.length() > 0)
             {
-                macroStrings[i++] = macroOperation.toString();
-                this.macroStateMap.get(macroOperation).run();
+                builder.append(", ");
             }
 
-            macroString = String.join(", ", macroStrings);
+            builder.append(this.allMacroOperations[i].toString());
         }
 
-        this.logger.logString(LoggingKey.DriverActiveMacros, macroString);
-        this.logger.logString(LoggingKey.DriverActiveShifts, activeShifts.toString());
+        return builder.toString();
     }
 
     /**
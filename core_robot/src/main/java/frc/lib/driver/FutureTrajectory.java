@@ -0,0 +1,98 @@
+package frc.lib.driver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import frc.lib.robotprovider.ITrajectory;
+import frc.lib.robotprovider.MutableTrajectoryState;
+import frc.lib.robotprovider.TrajectoryState;
+
+/**
+ * Handle for a trajectory that is being built in the background.  Using it as a trajectory blocks until it has been built, so code
+ * in the robot loop should wait until it {@link #isReady()} and then {@link #await()} the built trajectory once and use that instead.
+ */
+public class FutureTrajectory implements ITrajectory
+{
+    private final CompletableFuture<ITrajectory> future;
+
+    /**
+     * Initializes a new FutureTrajectory
+     * @param future that completes with the built trajectory
+     */
+    public FutureTrajectory(CompletableFuture<ITrajectory> future)
+    {
+        this.future = future;
+    }
+
+    /**
+     * Check whether the trajectory has finished building, so that await() won't block
+     * @return true if the trajectory is ready
+     */
+    public boolean isReady()
+    {
+        return this.future.isDone();
+    }
+
+    /**
+     * Wait for the trajectory to finish building
+     * @return the built trajectory, or null if building it failed
+     */
+    public ITrajectory await()
+    {
+        try
+        {
+            return this.future.get();
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        catch (ExecutionException ex)
+        {
+            System.err.println("Encountered exception building trajectory: " + ex.getCause().toString());
+            return null;
+        }
+    }
+
+    @Override
+    public double getDuration()
+    {
+        ITrajectory trajectory = this.await();
+        if (trajectory == null)
+        {
+            return 0.0;
+        }
+
+        return trajectory.getDuration();
+    }
+
+    @Override
+    public TrajectoryState get(double time)
+    {
+        ITrajectory trajectory = this.await();
+        if (trajectory == null)
+        {
+            return null;
+        }
+
+        return trajectory.get(time);
+    }
+
+    @Override
+    public boolean get(double time, MutableTrajectoryState out)
+    {
+        ITrajectory trajectory = this.await();
+        if (trajectory == null)
+        {
+            return false;
+        }
+
+        return trajectory.get(time, out);
+    }
+
+    CompletableFuture<ITrajectory> getFuture()
+    {
+        return this.future;
+    }
+}
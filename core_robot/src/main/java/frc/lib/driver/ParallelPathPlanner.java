@@ -0,0 +1,108 @@
+package frc.lib.driver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import frc.lib.robotprovider.IPathPlanner;
+import frc.lib.robotprovider.IPathPlannerGoal;
+import frc.lib.robotprovider.ITrajectory;
+import frc.lib.robotprovider.MotorType;
+
+/**
+ * Path planner that builds trajectories on a pool of worker threads, immediately returning a {@link FutureTrajectory} handle for each of
+ * them.  Configuring the robot and loading trajectories from files still happen on the calling thread, as does building trajectories once
+ * the generation has been completed (see {@link TrajectoryManager#completeGeneration()}) and the worker threads have been shut down.
+ */
+class ParallelPathPlanner implements IPathPlanner
+{
+    private final IPathPlanner pathPlanner;
+    private final Executor executor;
+    private final TrajectoryManager trajectoryManager;
+
+    /**
+     * Initializes a new ParallelPathPlanner
+     * @param pathPlanner to build the trajectories with (must support building several trajectories at once)
+     * @param executor to build the trajectories on
+     * @param trajectoryManager to track the trajectories that are being built
+     */
+    ParallelPathPlanner(IPathPlanner pathPlanner, Executor executor, TrajectoryManager trajectoryManager)
+    {
+        this.pathPlanner = pathPlanner;
+        this.executor = executor;
+        this.trajectoryManager = trajectoryManager;
+    }
+
+    @Override
+    public boolean isConfigured()
+    {
+        return this.pathPlanner.isConfigured();
+    }
+
+    @Override
+    public void configureRobot(
+        double robotWeight,
+        double robotMomentOfInertia,
+        double swerveModuleWheelRadius,
+        double swerveModuleMaxVelocity,
+        double swerveModuleWheelCoefficientOfFriction,
+        double swerveDriveGearReduction,
+        MotorType swerveDriveMotorType,
+        int swerveDriveMotorCount,
+        double swerveDriveMotorCurrentLimit,
+        double horizontalModuleCenterDistance,
+        double verticalModuleCenterDistance)
+    {
+        this.pathPlanner.configureRobot(
+            robotWeight,
+            robotMomentOfInertia,
+            swerveModuleWheelRadius,
+            swerveModuleMaxVelocity,
+            swerveModuleWheelCoefficientOfFriction,
+            swerveDriveGearReduction,
+            swerveDriveMotorType,
+            swerveDriveMotorCount,
+            swerveDriveMotorCurrentLimit,
+            horizontalModuleCenterDistance,
+            verticalModuleCenterDistance);
+    }
+
+    @Override
+    public ITrajectory loadTrajectory(String name)
+    {
+        return this.pathPlanner.loadTrajectory(name);
+    }
+
+    @Override
+    public ITrajectory loadTrajectory(String name, boolean reversed)
+    {
+        return this.pathPlanner.loadTrajectory(name, reversed);
+    }
+
+    @Override
+    public ITrajectory buildTrajectory(
+        double maxVelocity,
+        double maxAcceleration,
+        double maxAngularVelocity,
+        double maxAngularAcceleration,
+        IPathPlannerGoal... goalPoints)
+    {
+        IPathPlannerGoal[] goalPointsCopy = goalPoints == null ? null : goalPoints.clone();
+        CompletableFuture<ITrajectory> future;
+        try
+        {
+            future = CompletableFuture.supplyAsync(
+                () -> this.pathPlanner.buildTrajectory(maxVelocity, maxAcceleration, maxAngularVelocity, maxAngularAcceleration, goalPointsCopy),
+                this.executor);
+        }
+        catch (RejectedExecutionException ex)
+        {
+            // the generation has already been completed and the worker threads are gone, so there's nothing to wait for
+            return this.pathPlanner.buildTrajectory(maxVelocity, maxAcceleration, maxAngularVelocity, maxAngularAcceleration, goalPoints);
+        }
+
+        FutureTrajectory trajectory = new FutureTrajectory(future);
+        this.trajectoryManager.trackGeneration(trajectory);
+        return trajectory;
+    }
+}
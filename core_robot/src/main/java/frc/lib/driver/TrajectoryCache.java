@@ -0,0 +1,286 @@
+package frc.lib.driver;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import frc.lib.robotprovider.ITrajectory;
+import frc.lib.robotprovider.SampledTrajectory;
+
+/**
+ * On-disk cache of built trajectories, so that the trajectories that haven't changed don't need to be rebuilt every time the robot boots.
+ * Each trajectory is stored as a {@link SampledTrajectory} in its own file, named after its key (a hash of everything used to build it).
+ * Files are memory-mapped to load them, and are written to a temporary file that is then moved into place so that a partially-written
+ * file is never loaded (files that can't be loaded are treated as a miss and deleted).  If the directory can't be created, the cache is disabled and every trajectory is built as usual.
+ */
+public class TrajectoryCache
+{
+    static final int MAGIC = 0x31333138; // "1318"
+    static final short VERSION = 1;
+
+    private static final String EXTENSION = ".traj";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Long.BYTES;
+
+    private final Path directory;
+    private final double sampleInterval;
+    private final Set<Long> usedKeys;
+    private final Set<String> writingFiles;
+    private final AtomicInteger hits;
+    private final AtomicInteger builds;
+
+    /**
+     * Initializes a new TrajectoryCache
+     * @param directory to store the cached trajectories in (created if it doesn't exist)
+     * @param sampleInterval the maximum time between the samples stored for each trajectory, in seconds
+     */
+    public TrajectoryCache(String directory, double sampleInterval)
+    {
+        Path path = Paths.get(directory);
+        try
+        {
+            Files.createDirectories(path);
+        }
+        catch (IOException | SecurityException ex)
+        {
+            System.err.println("Trajectory cache disabled, can't use directory " + directory + ": " + ex.toString());
+            path = null;
+        }
+
+        this.directory = path;
+        this.sampleInterval = sampleInterval;
+        this.usedKeys = ConcurrentHashMap.newKeySet();
+        this.writingFiles = ConcurrentHashMap.newKeySet();
+        this.hits = new AtomicInteger(0);
+        this.builds = new AtomicInteger(0);
+    }
+
+    /**
+     * Check whether the cache's directory is usable
+     * @return true if trajectories can be loaded from and stored in the cache
+     */
+    public boolean isEnabled()
+    {
+        return this.directory != null;
+    }
+
+    /**
+     * Retrieve the maximum time between the samples stored for each trajectory
+     * @return the sample interval, in seconds
+     */
+    public double getSampleInterval()
+    {
+        return this.sampleInterval;
+    }
+
+    /**
+     * Load a trajectory from the cache
+     * @param key of the trajectory
+     * @return the cached trajectory, or null if it isn't in the cache
+     */
+    public ITrajectory load(long key)
+    {
+        if (this.directory == null)
+        {
+            return null;
+        }
+
+        this.usedKeys.add(key);
+
+        Path file = this.getFile(key);
+        if (!Files.isRegularFile(file))
+        {
+            return null;
+        }
+
+        SampledTrajectory trajectory = null;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+            if (buffer.remaining() >= TrajectoryCache.HEADER_SIZE &&
+                buffer.getInt() == TrajectoryCache.MAGIC &&
+                buffer.getShort() == TrajectoryCache.VERSION &&
+                buffer.getLong() == key)
+            {
+                trajectory = SampledTrajectory.read(buffer);
+            }
+        }
+        catch (IOException | RuntimeException ex)
+        {
+            // a truncated or corrupted file can also fail partway through being read (e.g. BufferUnderflowException)
+            System.err.println("Encountered exception loading cached trajectory " + file + ": " + ex.toString());
+        }
+
+        if (trajectory == null)
+        {
+            TrajectoryCache.delete(file);
+            return null;
+        }
+
+        this.hits.incrementAndGet();
+        return trajectory;
+    }
+
+    /**
+     * Sample a trajectory and store it in the cache
+     * @param key of the trajectory
+     * @param trajectory that was built
+     * @return the sampled trajectory (which is what will be loaded from the cache in future), or the provided trajectory if it can't be sampled
+     */
+    public ITrajectory store(long key, ITrajectory trajectory)
+    {
+        if (this.directory == null || trajectory == null)
+        {
+            return trajectory;
+        }
+
+        this.usedKeys.add(key);
+        this.builds.incrementAndGet();
+
+        SampledTrajectory sampled = SampledTrajectory.sample(trajectory, this.sampleInterval);
+        if (sampled == null)
+        {
+            return trajectory;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(TrajectoryCache.HEADER_SIZE + sampled.getSerializedSize());
+        buffer.putInt(TrajectoryCache.MAGIC);
+        buffer.putShort(TrajectoryCache.VERSION);
+        buffer.putLong(key);
+        sampled.write(buffer);
+        buffer.flip();
+
+        Path file = this.getFile(key);
+        String temporaryName = null;
+        try
+        {
+            Path temporaryFile = Files.createTempFile(this.directory, Long.toHexString(key), TrajectoryCache.TEMPORARY_EXTENSION);
+            temporaryName = temporaryFile.getFileName().toString();
+            this.writingFiles.add(temporaryName);
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+            {
+                while (buffer.hasRemaining())
+                {
+                    channel.write(buffer);
+                }
+            }
+
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException ex)
+        {
+            System.err.println("Encountered exception caching trajectory " + file + ": " + ex.toString());
+        }
+        finally
+        {
+            if (temporaryName != null)
+            {
+                this.writingFiles.remove(temporaryName);
+            }
+        }
+
+        return sampled;
+    }
+
+    /**
+     * Delete the cached trajectories that haven't been loaded or stored since the cache was created (e.g. paths that have changed),
+     * along with any temporary files left behind by writes that never finished (e.g. the robot being turned off partway through)
+     * @return the number of files that were deleted
+     */
+    public int removeUnused()
+    {
+        if (this.directory == null)
+        {
+            return 0;
+        }
+
+        int removed = 0;
+        String glob = "*{" + TrajectoryCache.EXTENSION + "," + TrajectoryCache.TEMPORARY_EXTENSION + "}";
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory, glob))
+        {
+            for (Path file : files)
+            {
+                String name = file.getFileName().toString();
+                boolean unused;
+                if (name.endsWith(TrajectoryCache.TEMPORARY_EXTENSION))
+                {
+                    unused = !this.writingFiles.contains(name);
+                }
+                else
+                {
+                    Long key = TrajectoryCache.parseKey(name.substring(0, name.length() - TrajectoryCache.EXTENSION.length()));
+                    unused = key == null || !this.usedKeys.contains(key);
+                }
+
+                if (unused)
+                {
+                    Files.deleteIfExists(file);
+                    removed++;
+                }
+            }
+        }
+        catch (IOException ex)
+        {
+            System.err.println("Encountered exception removing unused cached trajectories: " + ex.toString());
+        }
+
+        return removed;
+    }
+
+    /**
+     * Retrieve the number of trajectories that were loaded from the cache
+     * @return number of cache hits
+     */
+    public int getHits()
+    {
+        return this.hits.get();
+    }
+
+    /**
+     * Retrieve the number of trajectories that were built and stored in the cache
+     * @return number of trajectories built
+     */
+    public int getBuilds()
+    {
+        return this.builds.get();
+    }
+
+    private Path getFile(long key)
+    {
+        return this.directory.resolve(String.format("%016x%s", key, TrajectoryCache.EXTENSION));
+    }
+
+    private static void delete(Path file)
+    {
+        try
+        {
+            Files.deleteIfExists(file);
+        }
+        catch (IOException ex)
+        {
+            System.err.println("Encountered exception removing cached trajectory " + file + ": " + ex.toString());
+        }
+    }
+
+    private static Long parseKey(String value)
+    {
+        try
+        {
+            return Long.parseUnsignedLong(value, 16);
+        }
+        catch (NumberFormatException ex)
+        {
+            return null;
+        }
+    }
+}
@@ -1,28 +1,83 @@
 package frc.lib.driver;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import frc.lib.RobotOptions;
+import frc.lib.robotprovider.IPathPlanner;
 import frc.lib.robotprovider.ITrajectory;
+import frc.lib.robotprovider.MirroredTrajectory;
+import frc.lib.robotprovider.SampledTrajectory;
+import frc.robot.TuningConstants;
 
 @Singleton
 public class TrajectoryManager
 {
+    private final boolean cacheEnabled;
     private final HashMap<String, ITrajectory> map;
+    private final ArrayList<CompletableFuture<ITrajectory>> pendingTrajectories;
+    private TrajectoryCache cache;
+    private ExecutorService generationExecutor;
+    private ExecutorService onTheFlyExecutor;
+    private final LinkedHashMap<String, FutureTrajectory> onTheFlyTrajectories;
+    private volatile boolean ready;
+    private volatile Double readyTime;
+    private volatile int failedCount;
+
+    /**
+     * Initializes a new TrajectoryManager, using the options from the TuningConstants
+     */
+    public TrajectoryManager()
+    {
+        this(new RobotOptions());
+    }
 
     /**
      * Initializes a new TrajectoryManager
+     * @param options to check whether the on-disk cache is enabled
      */
     @Inject
-    public TrajectoryManager()
+    public TrajectoryManager(RobotOptions options)
     {
+        this.cacheEnabled = options.isTrajectoryCacheEnabled();
         this.map = new HashMap<String, ITrajectory>();
+        this.pendingTrajectories = new ArrayList<CompletableFuture<ITrajectory>>();
+        this.cache = null;
+        this.generationExecutor = null;
+        this.onTheFlyExecutor = null;
+        this.ready = true;
+        this.readyTime = null;
+        this.failedCount = 0;
+
+        // least-recently-used trajectories are removed first once there are too many of them
+        this.onTheFlyTrajectories = new LinkedHashMap<String, FutureTrajectory>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, FutureTrajectory> eldest)
+            {
+                return this.size() > TuningConstants.TRAJECTORY_ON_THE_FLY_CACHE_SIZE;
+            }
+        };
     }
 
+    /**
+     * Get a trajectory by name.  Trajectories that are generated in parallel are returned as a {@link FutureTrajectory} handle, which
+     * might still be building.
+     * @param name of the trajectory
+     * @return the trajectory, or null if there is no trajectory with that name
+     */
     public ITrajectory getTrajectory(String name)
     {
         return this.map.getOrDefault(name, null);
@@ -33,8 +88,269 @@ public class TrajectoryManager
         this.map.put(name, builtTrajectory);
     }
 
+    /**
+     * Add a trajectory that follows another trajectory mirrored through the center of the field, rather than building it separately.
+     * A {@link FutureTrajectory} handle is mirrored once it has been built, so the mirrored trajectory is also a handle.
+     * @param name of the mirrored trajectory
+     * @param builtTrajectory to mirror
+     */
+    public void addMirroredTrajectory(String name, ITrajectory builtTrajectory)
+    {
+        ITrajectory mirroredTrajectory;
+        if (builtTrajectory instanceof FutureTrajectory)
+        {
+            mirroredTrajectory = new FutureTrajectory(
+                ((FutureTrajectory)builtTrajectory).getFuture().thenApply(
+                    (trajectory) -> trajectory == null ? null : new MirroredTrajectory(trajectory)));
+        }
+        else if (builtTrajectory != null)
+        {
+            mirroredTrajectory = new MirroredTrajectory(builtTrajectory);
+        }
+        else
+        {
+            mirroredTrajectory = null;
+        }
+
+        this.map.put(name, mirroredTrajectory);
+    }
+
     public Set<String> getNames()
     {
         return this.map.keySet();
     }
-}
\ No newline at end of file
+
+    /**
+     * Get a path planner that loads the trajectories it builds from the on-disk cache when they haven't changed
+     * @param pathPlanner to build trajectories with when they aren't in the cache
+     * @return the caching path planner, or the provided path planner if the cache is disabled
+     */
+    public IPathPlanner getCachingPathPlanner(IPathPlanner pathPlanner)
+    {
+        if (!this.cacheEnabled)
+        {
+            return pathPlanner;
+        }
+
+        if (this.cache == null)
+        {
+            this.cache = new TrajectoryCache(TuningConstants.TRAJECTORY_CACHE_DIRECTORY, TuningConstants.TRAJECTORY_SAMPLE_INTERVAL);
+        }
+
+        if (!this.cache.isEnabled())
+        {
+            return pathPlanner;
+        }
+
+        return new CachingPathPlanner(pathPlanner, this.cache, TuningConstants.TRAJECTORY_FORCE_BUILD);
+    }
+
+    /**
+     * Get a path planner that builds trajectories in the background on TRAJECTORY_GENERATION_THREADS worker threads, returning a
+     * {@link FutureTrajectory} handle for each of them, until completeGeneration is called
+     * @param pathPlanner to build trajectories with
+     * @return the parallel path planner, or the provided path planner if there are no worker threads
+     */
+    public IPathPlanner getParallelPathPlanner(IPathPlanner pathPlanner)
+    {
+        if (TuningConstants.TRAJECTORY_GENERATION_THREADS <= 0)
+        {
+            return pathPlanner;
+        }
+
+        if (this.generationExecutor == null)
+        {
+            this.ready = false;
+            this.generationExecutor = Executors.newFixedThreadPool(
+                TuningConstants.TRAJECTORY_GENERATION_THREADS,
+                (runnable) ->
+                {
+                    // build trajectories while the robot is disabled without getting in the way of the robot's loop
+                    Thread thread = new Thread(runnable, "TrajectoryGenerator");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                });
+        }
+
+        return new ParallelPathPlanner(pathPlanner, this.generationExecutor, this);
+    }
+
+    /**
+     * Build a trajectory on the fly on a background worker thread, so that building it doesn't hold up the robot's loop.  The most recently
+     * used trajectories are kept, so that requesting a trajectory with the same key again returns the same handle without rebuilding it.
+     * @param key identifying the trajectory (requests with the same key must build the same trajectory)
+     * @param builder to build the trajectory with, which is called on the worker thread
+     * @return handle for the trajectory, which can be polled with {@link FutureTrajectory#isReady()} until it has been built
+     */
+    public FutureTrajectory buildTrajectoryAsync(String key, Supplier<ITrajectory> builder)
+    {
+        synchronized (this.onTheFlyTrajectories)
+        {
+            FutureTrajectory trajectory = this.onTheFlyTrajectories.get(key);
+            if (trajectory != null)
+            {
+                return trajectory;
+            }
+
+            if (this.onTheFlyExecutor == null)
+            {
+                this.onTheFlyExecutor = Executors.newSingleThreadExecutor(
+                    (runnable) ->
+                    {
+                        Thread thread = new Thread(runnable, "OnTheFlyTrajectoryBuilder");
+                        thread.setDaemon(true);
+                        thread.setPriority(Thread.NORM_PRIORITY - 1);
+                        return thread;
+                    });
+            }
+
+            CompletableFuture<ITrajectory> future = new CompletableFuture<ITrajectory>();
+            FutureTrajectory handle = new FutureTrajectory(future);
+            this.onTheFlyTrajectories.put(key, handle);
+            this.onTheFlyExecutor.execute(
+                () ->
+                {
+                    ITrajectory builtTrajectory = null;
+                    RuntimeException exception = null;
+                    try
+                    {
+                        builtTrajectory = builder.get();
+                        if (builtTrajectory != null)
+                        {
+                            builtTrajectory = SampledTrajectory.sample(builtTrajectory, TuningConstants.TRAJECTORY_SAMPLE_INTERVAL);
+                        }
+                    }
+                    catch (RuntimeException ex)
+                    {
+                        exception = ex;
+                    }
+
+                    if (builtTrajectory == null)
+                    {
+                        // don't keep failed trajectories, so that they will be built again the next time they are requested.
+                        // this happens before completing the handle, so that anyone waiting on it will get a new one.
+                        synchronized (this.onTheFlyTrajectories)
+                        {
+                            this.onTheFlyTrajectories.remove(key, handle);
+                        }
+                    }
+
+                    if (exception != null)
+                    {
+                        future.completeExceptionally(exception);
+                    }
+                    else
+                    {
+                        future.complete(builtTrajectory);
+                    }
+                });
+
+            return handle;
+        }
+    }
+
+    /**
+     * Complete the generation of trajectories.  Once all of the trajectories have been built, the cached trajectories that are no longer
+     * used are removed and the time from boot until the trajectories were ready is recorded (see {@link #getReadyTime()}).
+     * The worker threads are shut down, so path planners from {@link #getParallelPathPlanner} build any later trajectories on the calling thread.
+     * @return future that completes once all of the trajectories have been built
+     */
+    public CompletableFuture<Void> completeGeneration()
+    {
+        CompletableFuture<?>[] pending;
+        synchronized (this.pendingTrajectories)
+        {
+            pending = this.pendingTrajectories.toArray(new CompletableFuture<?>[this.pendingTrajectories.size()]);
+            this.pendingTrajectories.clear();
+        }
+
+        if (this.generationExecutor != null)
+        {
+            // no more trajectories will be submitted, so let the worker threads exit once they're done
+            this.generationExecutor.shutdown();
+            this.generationExecutor = null;
+        }
+
+        return CompletableFuture.allOf(pending).handle(
+            (result, exception) ->
+            {
+                this.onGenerationComplete(pending);
+                return null;
+            });
+    }
+
+    /**
+     * Check whether all of the trajectories have been built
+     * @return true if there are no trajectories being built in the background
+     */
+    public boolean isReady()
+    {
+        return this.ready;
+    }
+
+    /**
+     * Retrieve how long after boot all of the trajectories were ready
+     * @return the time since the JVM started (in seconds), or null if trajectories are still being built
+     */
+    public Double getReadyTime()
+    {
+        return this.readyTime;
+    }
+
+    /**
+     * Retrieve the number of trajectories that failed to build in the background
+     * @return number of failed trajectories
+     */
+    public int getFailedCount()
+    {
+        return this.failedCount;
+    }
+
+    /**
+     * Retrieve the number of trajectories that were loaded from the on-disk cache
+     * @return number of cache hits, or 0 if the cache is disabled
+     */
+    public int getCacheHits()
+    {
+        return this.cache == null ? 0 : this.cache.getHits();
+    }
+
+    /**
+     * Retrieve the number of trajectories that were built and stored in the on-disk cache
+     * @return number of trajectories built, or 0 if the cache is disabled
+     */
+    public int getCacheBuilds()
+    {
+        return this.cache == null ? 0 : this.cache.getBuilds();
+    }
+
+    void trackGeneration(FutureTrajectory trajectory)
+    {
+        synchronized (this.pendingTrajectories)
+        {
+            this.pendingTrajectories.add(trajectory.getFuture());
+        }
+    }
+
+    private void onGenerationComplete(CompletableFuture<?>[] generated)
+    {
+        int failed = 0;
+        for (CompletableFuture<?> trajectory : generated)
+        {
+            if (trajectory.isCompletedExceptionally() || trajectory.getNow(null) == null)
+            {
+                failed++;
+            }
+        }
+
+        if (this.cache != null && this.cache.isEnabled())
+        {
+            this.cache.removeUnused();
+        }
+
+        this.failedCount = failed;
+        this.readyTime = ManagementFactory.getRuntimeMXBean().getUptime() / 1000.0;
+        this.ready = true;
+    }
+}
@@ -4,6 +4,7 @@ import java.util.EnumSet;
 
 import frc.lib.driver.IOperation;
 import frc.lib.helpers.ExceptionHelpers;
+import frc.lib.helpers.SetHelper;
 import frc.robot.driver.Shift;
 
 /**
@@ -17,6 +18,7 @@ public abstract class OperationDescription<TOperation extends IOperation>
     private final UserInputDevice userInputDevice;
     private final EnumSet<Shift> relevantShifts;
     private final EnumSet<Shift> requiredShifts;
+    private final Shift[] excludedShifts;
     private final double userInputDeviceRangeMin;
     private final double userInputDeviceRangeMax;
 
@@ -32,6 +34,15 @@ public abstract class OperationDescription<TOperation extends IOperation>
 
         ExceptionHelpers.Assert((relevantShifts == null) == (requiredShifts == null), "Either both or neither of relevant and required shifts should be null");
         ExceptionHelpers.Assert(relevantShifts == null || requiredShifts == null || relevantShifts.containsAll(requiredShifts), "relevant shifts must contain required shifts");
+
+        if (relevantShifts != null && requiredShifts != null)
+        {
+            this.excludedShifts = SetHelper.RelativeComplement(requiredShifts, relevantShifts).toArray(new Shift[0]);
+        }
+        else
+        {
+            this.excludedShifts = null;
+        }
     }
 
     public TOperation getOperation()
@@ -59,6 +70,35 @@ public abstract class OperationDescription<TOperation extends IOperation>
         return this.requiredShifts;
     }
 
+    /**
+     * Checks whether the active shifts allow this operation, meaning that the active shifts that are relevant to this operation are
+     * exactly the required shifts.  Unlike intersecting the sets, this doesn't allocate.
+     * @param activeShifts the currently active shifts
+     * @return true if the operation should respond to user input with the provided shifts
+     */
+    public boolean checkShifts(EnumSet<Shift> activeShifts)
+    {
+        if (this.excludedShifts == null)
+        {
+            return true;
+        }
+
+        if (!activeShifts.containsAll(this.requiredShifts))
+        {
+            return false;
+        }
+
+        for (Shift shift : this.excludedShifts)
+        {
+            if (activeShifts.contains(shift))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     public double getUserInputDeviceRangeMin()
     {
         return this.userInputDeviceRangeMin;
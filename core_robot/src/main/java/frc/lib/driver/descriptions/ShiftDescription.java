@@ -109,7 +109,11 @@ public class ShiftDescription
 
         if (relevantJoystick == null || !relevantJoystick.isConnected())
         {
-            ExceptionHelpers.Assert(TuningConstants.EXPECT_UNUSED_JOYSTICKS, "Unexpected user input device " + userInputDevice.toString());
+            if (!TuningConstants.EXPECT_UNUSED_JOYSTICKS)
+            {
+                ExceptionHelpers.Assert(false, "Unexpected user input device " + userInputDevice.toString());
+            }
+
             return false;
         }
 
@@ -9,7 +9,6 @@ import frc.lib.driver.descriptions.AnalogOperationDescription;
 import frc.lib.driver.descriptions.UserInputDevice;
 import frc.lib.helpers.ExceptionHelpers;
 import frc.lib.helpers.Helpers;
-import frc.lib.helpers.SetHelper;
 import frc.lib.robotprovider.IJoystick;
 import frc.robot.driver.Shift;
 
@@ -74,22 +73,20 @@ public class AnalogOperationState extends OperationState
             return false;
         }
 
-        EnumSet<Shift> relevantShifts = description.getRelevantShifts();
-        EnumSet<Shift> requiredShifts = description.getRequiredShifts();
-        if (relevantShifts != null && requiredShifts != null)
+        if (!description.checkShifts(activeShifts))
         {
-            EnumSet<Shift> relevantActiveShifts = SetHelper.Intersection(relevantShifts, activeShifts);
-            if (!relevantActiveShifts.equals(requiredShifts))
-            {
-                this.currentValue = description.getDefaultValue();
-                return false;
-            }
+            this.currentValue = description.getDefaultValue();
+            return false;
         }
 
         IJoystick relevantJoystick = joysticks[userInputDevice.getId()];
         if (relevantJoystick == null || !relevantJoystick.isConnected())
         {
-            ExceptionHelpers.Assert(TuningConstants.EXPECT_UNUSED_JOYSTICKS, "Unexpected user input device " + userInputDevice.toString());
+            if (!TuningConstants.EXPECT_UNUSED_JOYSTICKS)
+            {
+                ExceptionHelpers.Assert(false, "Unexpected user input device " + userInputDevice.toString());
+            }
+
             this.currentValue = description.getDefaultValue();
             return false;
         }
@@ -13,7 +13,6 @@ import frc.lib.driver.buttons.ToggleButton;
 import frc.lib.driver.descriptions.DigitalOperationDescription;
 import frc.lib.driver.descriptions.UserInputDevice;
 import frc.lib.helpers.ExceptionHelpers;
-import frc.lib.helpers.SetHelper;
 import frc.robot.driver.Shift;
 
 /**
@@ -94,22 +93,20 @@ public class DigitalOperationState extends OperationState
             return false;
         }
 
-        EnumSet<Shift> relevantShifts = description.getRelevantShifts();
-        EnumSet<Shift> requiredShifts = description.getRequiredShifts();
-        if (relevantShifts != null && requiredShifts != null)
+        if (!description.checkShifts(activeShifts))
         {
-            EnumSet<Shift> relevantActiveShifts = SetHelper.Intersection(relevantShifts, activeShifts);
-            if (!relevantActiveShifts.equals(requiredShifts))
-            {
-                this.button.updateState(false);
-                return false;
-            }
+            this.button.updateState(false);
+            return false;
         }
 
         IJoystick relevantJoystick = joysticks[userInputDevice.getId()];
         if (relevantJoystick == null || !relevantJoystick.isConnected())
         {
-            ExceptionHelpers.Assert(TuningConstants.EXPECT_UNUSED_JOYSTICKS, "Unexpected user input device " + userInputDevice.toString());
+            if (!TuningConstants.EXPECT_UNUSED_JOYSTICKS)
+            {
+                ExceptionHelpers.Assert(false, "Unexpected user input device " + userInputDevice.toString());
+            }
+
             return false;
         }
 
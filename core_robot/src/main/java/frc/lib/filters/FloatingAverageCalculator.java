@@ -34,7 +34,7 @@ public class FloatingAverageCalculator extends FloatingCalculatorBase implements
     }
 
     @Override
-    protected double updateValue(double oldValue, double newValue)
+    protected double updateValue(int index, double oldValue, double newValue)
     {
         return this.filteredValue + (newValue - oldValue) * this.sampleDurationRate;
     }
@@ -95,7 +95,7 @@ abstract class FloatingCalculatorBase implements ISimpleFilter
         for (int i = 1; i < slots; i++)
         {
             int index = (prevIndex + i) % this.totalSamples;
-            this.filteredValue = this.updateValue(this.samples[index], value);
+            this.filteredValue = this.updateValue(index, this.samples[index], value);
             this.samples[index] = value;
         }
 
@@ -118,7 +118,7 @@ abstract class FloatingCalculatorBase implements ISimpleFilter
         return this.filteredValue;
     }
 
-    protected abstract double updateValue(double oldValue, double newValue);
+    protected abstract double updateValue(int index, double oldValue, double newValue);
     protected abstract boolean shouldRecalculate(double currTime);
     protected abstract double recalculateValue();
 
@@ -1,15 +1,14 @@
 package frc.lib.filters;
 
-import java.util.Arrays;
-
 import frc.lib.robotprovider.ITimer;
 
 /**
- * A floating-median calculator filter, where it will find the median value over the look-back period to return the filtered value
+ * A floating-median calculator filter, where it will find the median value over the look-back period to return the filtered value.
+ * The samples are tracked in a SlidingWindowMedian as they are replaced, so each new sample costs O(log n) instead of re-sorting.
  */
 public class FloatingMedianCalculator extends FloatingCalculatorBase implements ISimpleFilter
 {
-    protected final double[] sortedSamples;
+    private final SlidingWindowMedian median;
 
     /**
      * Average calculator to determine the mean value across a certain look-back time period
@@ -34,12 +33,13 @@ public class FloatingMedianCalculator extends FloatingCalculatorBase implements
     {
         super(timer, minValue, maxValue, duration, samplesPerSecond);
 
-        this.sortedSamples = new double[this.totalSamples];
+        this.median = new SlidingWindowMedian(this.totalSamples);
     }
 
     @Override
-    protected double updateValue(double oldValue, double newValue)
+    protected double updateValue(int index, double oldValue, double newValue)
     {
+        this.median.replace(index, newValue);
         return this.filteredValue;
     }
 
@@ -52,17 +52,21 @@ public class FloatingMedianCalculator extends FloatingCalculatorBase implements
     @Override
     protected double recalculateValue()
     {
-        // this isn't terribly efficient.  There's probably a more efficient algorithm for updating median besides this and the "needsRecalculation" optimization
-        System.arraycopy(this.samples, 0, this.sortedSamples, 0, this.totalSamples);
-        Arrays.sort(this.sortedSamples);
+        return this.median.getMedian();
+    }
 
-        if (this.totalSamples % 2 == 0)
-        {
-            return (this.sortedSamples[this.totalSamples / 2] + this.sortedSamples[this.totalSamples / 2 - 1]) / 2.0;
-        }
-        else
+    /**
+     * Resets this filter to accomodate a gap in time
+     */
+    @Override
+    public void reset()
+    {
+        super.reset();
+
+        // note: the base class resets during construction, before the median has been created
+        if (this.median != null)
         {
-            return this.sortedSamples[this.totalSamples / 2];
+            this.median.reset();
         }
     }
 }
@@ -0,0 +1,191 @@
+package frc.lib.filters;
+
+/**
+ * Tracks the median of a fixed-size window of values, where each value lives in a slot (e.g. an index in a ring buffer) and is
+ * replaced over time.  Values are split between a max-heap of the lower half and a min-heap of the upper half, with both heaps
+ * indexed by slot so that replacing the value in a slot is O(log n) and never allocates.
+ */
+class SlidingWindowMedian
+{
+    private final int size;
+    private final double[] values;
+
+    // heap of slots for the lower half (max at the top), and the upper half (min at the top)
+    private final int[] lowHeap;
+    private final int[] highHeap;
+    private final int lowSize;
+    private final int highSize;
+
+    // position of each slot within its heap, and whether it is within the lower half
+    private final int[] positions;
+    private final boolean[] inLowHeap;
+
+    /**
+     * Initializes a new instance of the SlidingWindowMedian class, with every slot having a value of 0.0
+     * @param size number of slots in the window
+     */
+    SlidingWindowMedian(int size)
+    {
+        this.size = size;
+        this.values = new double[size];
+
+        // the lower half gets the extra slot when there are an odd number, so that it holds the median
+        this.lowSize = (size + 1) / 2;
+        this.highSize = size - this.lowSize;
+        this.lowHeap = new int[this.lowSize];
+        this.highHeap = new int[this.highSize];
+
+        this.positions = new int[size];
+        this.inLowHeap = new boolean[size];
+
+        this.reset();
+    }
+
+    /**
+     * Reset all of the slots to have a value of 0.0
+     */
+    void reset()
+    {
+        for (int slot = 0; slot < this.size; slot++)
+        {
+            this.values[slot] = 0.0;
+            if (slot < this.lowSize)
+            {
+                this.lowHeap[slot] = slot;
+                this.positions[slot] = slot;
+                this.inLowHeap[slot] = true;
+            }
+            else
+            {
+                this.highHeap[slot - this.lowSize] = slot;
+                this.positions[slot] = slot - this.lowSize;
+                this.inLowHeap[slot] = false;
+            }
+        }
+    }
+
+    /**
+     * Replace the value in the provided slot
+     * @param slot to update
+     * @param value to place in the slot
+     */
+    void replace(int slot, double value)
+    {
+        this.values[slot] = value;
+
+        // restore the ordering within the slot's heap...
+        if (this.inLowHeap[slot])
+        {
+            this.siftUp(this.lowHeap, true, this.siftDown(this.lowHeap, this.lowSize, true, this.positions[slot]));
+        }
+        else
+        {
+            this.siftUp(this.highHeap, false, this.siftDown(this.highHeap, this.highSize, false, this.positions[slot]));
+        }
+
+        // ...and then between the heaps.  As only one value changed, swapping the tops is enough to ensure everything in the lower
+        // half is less than or equal to everything in the upper half
+        if (this.highSize > 0 && this.values[this.lowHeap[0]] > this.values[this.highHeap[0]])
+        {
+            int lowTop = this.lowHeap[0];
+            int highTop = this.highHeap[0];
+
+            this.lowHeap[0] = highTop;
+            this.inLowHeap[highTop] = true;
+            this.positions[highTop] = 0;
+
+            this.highHeap[0] = lowTop;
+            this.inLowHeap[lowTop] = false;
+            this.positions[lowTop] = 0;
+
+            this.siftDown(this.lowHeap, this.lowSize, true, 0);
+            this.siftDown(this.highHeap, this.highSize, false, 0);
+        }
+    }
+
+    /**
+     * Retrieve the median of the values in all of the slots
+     * @return median value
+     */
+    double getMedian()
+    {
+        if (this.size == 0)
+        {
+            return 0.0;
+        }
+
+        if (this.lowSize == this.highSize)
+        {
+            return (this.values[this.lowHeap[0]] + this.values[this.highHeap[0]]) / 2.0;
+        }
+
+        return this.values[this.lowHeap[0]];
+    }
+
+    /**
+     * Check whether the first slot belongs above the second slot in the heap
+     */
+    private boolean isHigherPriority(int firstSlot, int secondSlot, boolean isMaxHeap)
+    {
+        if (isMaxHeap)
+        {
+            return this.values[firstSlot] > this.values[secondSlot];
+        }
+
+        return this.values[firstSlot] < this.values[secondSlot];
+    }
+
+    private int siftDown(int[] heap, int heapSize, boolean isMaxHeap, int position)
+    {
+        int slot = heap[position];
+        while (true)
+        {
+            int childPosition = 2 * position + 1;
+            if (childPosition >= heapSize)
+            {
+                break;
+            }
+
+            int rightPosition = childPosition + 1;
+            if (rightPosition < heapSize && this.isHigherPriority(heap[rightPosition], heap[childPosition], isMaxHeap))
+            {
+                childPosition = rightPosition;
+            }
+
+            int child = heap[childPosition];
+            if (!this.isHigherPriority(child, slot, isMaxHeap))
+            {
+                break;
+            }
+
+            heap[position] = child;
+            this.positions[child] = position;
+            position = childPosition;
+        }
+
+        heap[position] = slot;
+        this.positions[slot] = position;
+        return position;
+    }
+
+    private void siftUp(int[] heap, boolean isMaxHeap, int position)
+    {
+        int slot = heap[position];
+        while (position > 0)
+        {
+            int parentPosition = (position - 1) >>> 1;
+            int parent = heap[parentPosition];
+            if (!this.isHigherPriority(slot, parent, isMaxHeap))
+            {
+                break;
+            }
+
+            heap[position] = parent;
+            this.positions[parent] = position;
+            position = parentPosition;
+        }
+
+        heap[position] = slot;
+        this.positions[slot] = position;
+    }
+}
@@ -1,34 +1,51 @@
 package frc.lib.helpers;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Base class for a graph that has weighted, directional nodes
  * See: https://en.wikipedia.org/wiki/Graph_(discrete_mathematics)
+ *
+ * Optimal paths are found using Dijkstra's algorithm with an indexed binary heap over a compact (array-based) copy of the edges.
+ * Dijkstra's algorithm is run backwards from each destination node, producing a row of the "next hop" table that contains, for
+ * every node in the graph, the next node along the optimal path to that destination.  Rows are calculated the first time they
+ * are needed (or all at once by precalculateOptimalPaths), after which finding an optimal path is a simple walk through the row.
+ * Note that this class is not thread-safe.
  */
 public abstract class Graph<TGraphNode extends GraphNode>
 {
+    private static final int UNREACHABLE = -1;
+
     private final ArrayList<TGraphNode> nodes;
-    private final ArrayList<ArrayList<TGraphNode>> optimalPredecessorPathMap;
 
     private int nodeCount;
     private boolean precalculated;
 
+    // compact copy of the edges, grouped by the node they go to (i.e. edges into node i are [incomingOffsets[i], incomingOffsets[i + 1]))
+    private boolean edgesChanged;
+    private int[] incomingOffsets;
+    private int[] incomingSources;
+    private double[] incomingWeights;
+
+    // the next node along the optimal path from each node to each destination (indexed by destination * nodeCount + node),
+    // and the total weight of that path
+    private boolean[] calculatedDestinations;
+    private int[] nextHops;
+    private double[] pathWeights;
+    private IndexedMinHeap heap;
+
     /**
      * Initializes a new instance of the Graph class.
      */
     protected Graph()
     {
-        this.optimalPredecessorPathMap = new ArrayList<ArrayList<TGraphNode>>();
         this.nodes = new ArrayList<TGraphNode>();
 
         this.nodeCount = 0;
         this.precalculated = false;
+        this.edgesChanged = true;
     }
 
     /**
@@ -39,9 +56,8 @@ public abstract class Graph<TGraphNode extends GraphNode>
     {
         node.ordinal = this.nodeCount++;
         this.nodes.add(node);
-        this.optimalPredecessorPathMap.add(null);
+        this.edgesChanged = true;
         ExceptionHelpers.Assert(this.nodes.size() == this.nodeCount, "Expect node count %d to equal node count %d", this.nodes.size(), this.nodeCount);
-        ExceptionHelpers.Assert(this.optimalPredecessorPathMap.size() == this.nodeCount, "Expect optimal predecessor map count %d to equal node count %d", this.nodes.size(), this.nodeCount);
     }
 
     /**
@@ -97,6 +113,7 @@ public abstract class Graph<TGraphNode extends GraphNode>
     public void connect(TGraphNode from, TGraphNode to, double weight)
     {
         from.addLink(new GraphLink(from, to, weight));
+        this.edgesChanged = true;
     }
 
     /**
@@ -114,12 +131,15 @@ public abstract class Graph<TGraphNode extends GraphNode>
     public void precalculateOptimalPaths()
     {
         System.out.println("Precalculating optimal paths through the graph");
+        this.ensureEdges();
         for (int i = 0; i < this.nodeCount; i++)
         {
             TGraphNode node = this.nodes.get(i);
             ExceptionHelpers.Assert(node.ordinal == i, "Expect node ordinal %d to equal index %d", node.ordinal, i);
-            ArrayList<TGraphNode> optimalPredecessorNodes = this.dijkstra(node);
-            this.optimalPredecessorPathMap.set(i, optimalPredecessorNodes);
+            if (!this.calculatedDestinations[i])
+            {
+                this.dijkstra(i);
+            }
         }
 
         this.precalculated = true;
@@ -133,93 +153,167 @@ public abstract class Graph<TGraphNode extends GraphNode>
      */
     public List<TGraphNode> getOptimalPath(TGraphNode start, TGraphNode end)
     {
-        ArrayList<TGraphNode> optimalPredecessorNodes = this.optimalPredecessorPathMap.get(start.ordinal);
-        if (optimalPredecessorNodes == null)
+        int row = this.getDestinationRow(end);
+        if (this.nextHops[row + start.ordinal] == Graph.UNREACHABLE)
         {
-            ExceptionHelpers.Assert(!this.precalculated, "Didn't expect to need to calculate the optimal path if we precalculated them...");
-            optimalPredecessorNodes = this.dijkstra(start);
-            this.optimalPredecessorPathMap.set(start.ordinal, optimalPredecessorNodes);
+            ExceptionHelpers.Assert(false, "The provided start node is not reachable from the provided end node.");
+            return null;
         }
 
-        // build the list in reverse order
         List<TGraphNode> optimalPath = new ArrayList<TGraphNode>(16);
-        TGraphNode node = end;
-        while (node != null)
+        for (int node = start.ordinal; ; node = this.nextHops[row + node])
         {
-            optimalPath.add(node);
-            node = optimalPredecessorNodes.get(node.ordinal);
+            optimalPath.add(this.nodes.get(node));
+            if (node == end.ordinal)
+            {
+                return optimalPath;
+            }
         }
+    }
 
-        Collections.reverse(optimalPath);
-        if (optimalPath.size() < 1 || optimalPath.get(0) != start)
+    /**
+     * Retrieve (and potentially calculate) the optimal path from "start" to "end" (where the optimal path has the lowest weight),
+     * writing it into the provided buffer.  Once the optimal paths to "end" have been calculated, this doesn't allocate.
+     * @param start node of the path
+     * @param end node of the path
+     * @param path buffer to write the ordered nodes that make up the optimal path into (a path can include every node in the graph)
+     * @return the number of nodes in the optimal path, or -1 if "end" is not reachable from "start" (or the path doesn't fit in the buffer)
+     */
+    public int getOptimalPath(TGraphNode start, TGraphNode end, TGraphNode[] path)
+    {
+        int row = this.getDestinationRow(end);
+        if (this.nextHops[row + start.ordinal] == Graph.UNREACHABLE)
         {
-            ExceptionHelpers.Assert(false, "The provided start node is not reachable from the provided end node.");
-            return null;
+            return -1;
         }
 
-        return optimalPath;
+        int length = 0;
+        for (int node = start.ordinal; ; node = this.nextHops[row + node])
+        {
+            if (length >= path.length)
+            {
+                ExceptionHelpers.Assert(false, "Expect the path buffer (%d) to be large enough for the optimal path", path.length);
+                return -1;
+            }
+
+            path[length++] = this.nodes.get(node);
+            if (node == end.ordinal)
+            {
+                return length;
+            }
+        }
     }
 
     /**
-     * Calculate dijkstra's algorithm from the provided starting node.
-     * @param start node
-     * @return the "optimal predecessor" map for each node in the graph
+     * Retrieve (and potentially calculate) the total weight of the optimal path from "start" to "end"
+     * @param start node of the path
+     * @param end node of the path
+     * @return the total weight of the optimal path, or positive infinity if "end" is not reachable from "start"
      */
-    private ArrayList<TGraphNode> dijkstra(TGraphNode start)
+    public double getOptimalPathWeight(TGraphNode start, TGraphNode end)
     {
-        // the optimal previous node along each potential path for each node based on the provided starting node,
-        // where the index is the ordinal number for the node.
-        ArrayList<TGraphNode> optimalPreviousNode = new ArrayList<TGraphNode>(this.nodeCount);
-        for (int i = 0; i < this.nodeCount; i++)
+        return this.pathWeights[this.getDestinationRow(end) + start.ordinal];
+    }
+
+    /**
+     * Retrieve the offset of the row of the next hop table for the provided destination, calculating it if necessary
+     * @param end destination node
+     * @return offset of the row within nextHops and pathWeights
+     */
+    private int getDestinationRow(TGraphNode end)
+    {
+        this.ensureEdges();
+        if (!this.calculatedDestinations[end.ordinal])
         {
-            optimalPreviousNode.add(null);
+            ExceptionHelpers.Assert(!this.precalculated, "Didn't expect to need to calculate the optimal path if we precalculated them...");
+            this.dijkstra(end.ordinal);
         }
 
-        // the current distance to each node from the starting node
-        Map<GraphNode, Double> distanceMap = new HashMap<GraphNode, Double>(this.nodeCount);
+        return end.ordinal * this.nodeCount;
+    }
+
+    /**
+     * Rebuild the compact copy of the edges (and clear any calculated paths) if the graph has changed
+     */
+    private void ensureEdges()
+    {
+        if (!this.edgesChanged)
+        {
+            return;
+        }
 
-        // the set of nodes that have not yet been visited
-        HashSet<TGraphNode> unvisitedNodes = new HashSet<TGraphNode>(this.nodeCount);
+        int nodeCount = this.nodeCount;
+        this.incomingOffsets = new int[nodeCount + 1];
         for (TGraphNode node : this.nodes)
         {
-            if (node == start)
-            {
-                distanceMap.put(node, 0.0);
-                unvisitedNodes.add(node);
-            }
-            else
+            for (GraphLink link : node.edgesFrom)
             {
-                distanceMap.put(node, Double.POSITIVE_INFINITY);
-                unvisitedNodes.add(node);
+                this.incomingOffsets[link.to.ordinal + 1]++;
             }
         }
 
-        while (!unvisitedNodes.isEmpty())
+        for (int i = 0; i < nodeCount; i++)
         {
-            TGraphNode node = null;
-            for (TGraphNode unvisitedNode : unvisitedNodes)
+            this.incomingOffsets[i + 1] += this.incomingOffsets[i];
+        }
+
+        int edgeCount = this.incomingOffsets[nodeCount];
+        this.incomingSources = new int[edgeCount];
+        this.incomingWeights = new double[edgeCount];
+
+        int[] insertPositions = Arrays.copyOf(this.incomingOffsets, nodeCount);
+        for (TGraphNode node : this.nodes)
+        {
+            for (GraphLink link : node.edgesFrom)
             {
-                if (node == null || distanceMap.get(unvisitedNode) < distanceMap.get(node))
-                {
-                    node = unvisitedNode;
-                }
+                int position = insertPositions[link.to.ordinal]++;
+                this.incomingSources[position] = link.from.ordinal;
+                this.incomingWeights[position] = link.weight;
             }
+        }
 
-            unvisitedNodes.remove(node);
+        this.calculatedDestinations = new boolean[nodeCount];
+        this.nextHops = new int[nodeCount * nodeCount];
+        this.pathWeights = new double[nodeCount * nodeCount];
+        this.heap = new IndexedMinHeap(nodeCount);
+        this.precalculated = false;
+        this.edgesChanged = false;
+    }
 
-            double nodeDistance = distanceMap.get(node);
-            for (GraphLink link : node.edgesFrom)
+    /**
+     * Calculate dijkstra's algorithm backwards from the provided destination node, filling in that destination's row of the
+     * next hop table (the next node along the optimal path from each node to the destination)
+     * @param end ordinal of the destination node
+     */
+    private void dijkstra(int end)
+    {
+        int row = end * this.nodeCount;
+        Arrays.fill(this.nextHops, row, row + this.nodeCount, Graph.UNREACHABLE);
+        Arrays.fill(this.pathWeights, row, row + this.nodeCount, Double.POSITIVE_INFINITY);
+
+        IndexedMinHeap heap = this.heap;
+        heap.clear();
+
+        this.nextHops[row + end] = end;
+        this.pathWeights[row + end] = 0.0;
+        heap.insertOrDecrease(end, 0.0);
+        while (!heap.isEmpty())
+        {
+            int node = heap.poll();
+            double nodeWeight = this.pathWeights[row + node];
+            for (int i = this.incomingOffsets[node]; i < this.incomingOffsets[node + 1]; i++)
             {
-                GraphNode to = link.to;
-                double distance = nodeDistance + link.weight;
-                if (distance < distanceMap.get(to))
+                int from = this.incomingSources[i];
+                double weight = nodeWeight + this.incomingWeights[i];
+                if (weight < this.pathWeights[row + from])
                 {
-                    distanceMap.put(to, distance);
-                    optimalPreviousNode.set(to.ordinal, node);
+                    this.pathWeights[row + from] = weight;
+                    this.nextHops[row + from] = node;
+                    heap.insertOrDecrease(from, weight);
                 }
             }
         }
 
-        return optimalPreviousNode;
+        this.calculatedDestinations[end] = true;
     }
 }
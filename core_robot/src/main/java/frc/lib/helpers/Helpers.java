@@ -271,6 +271,18 @@ public class Helpers
         return new AnglePair(currentAngle + difference, false);
     }
 
+    /**
+     * Get the closest angle equivalent to desiredAngle from current angle, without swapping directions
+     * (the same as getClosestAngle(desiredAngle, currentAngle, false).getAngle(), without allocating an AnglePair)
+     * @param desiredAngle desired angle in degrees
+     * @param currentAngle current angle in degrees
+     * @return closest angle equivalent to the desired angle from the current angle in degrees
+     */
+    public static double getClosestAngle(double desiredAngle, double currentAngle)
+    {
+        return currentAngle + Helpers.updateAngleRange180(desiredAngle - currentAngle);
+    }
+
     /**
      * Get the closest angle equivalent to desiredAngle from current angle, swapping directions if it is closer,
      * within range of [0, 360)
@@ -0,0 +1,149 @@
+package frc.lib.helpers;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of integer items (such as graph node ordinals) in the range [0, capacity), keyed by a double priority.
+ * Tracks the position of each item within the heap so that an item's key can be decreased in O(log n), and never allocates
+ * after construction.
+ */
+class IndexedMinHeap
+{
+    private final int[] items;
+    private final int[] positions;
+    private final double[] keys;
+
+    private int size;
+
+    IndexedMinHeap(int capacity)
+    {
+        this.items = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new double[capacity];
+
+        Arrays.fill(this.positions, -1);
+        this.size = 0;
+    }
+
+    /**
+     * Remove all items from the heap
+     */
+    void clear()
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            this.positions[this.items[i]] = -1;
+        }
+
+        this.size = 0;
+    }
+
+    boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    /**
+     * Add an item to the heap, or lower its key if it is already in the heap with a higher key
+     * @param item to add
+     * @param key priority of the item (lower keys are removed first)
+     */
+    void insertOrDecrease(int item, double key)
+    {
+        int position = this.positions[item];
+        if (position < 0)
+        {
+            position = this.size++;
+            this.items[position] = item;
+            this.positions[item] = position;
+            this.keys[item] = key;
+        }
+        else if (key < this.keys[item])
+        {
+            this.keys[item] = key;
+        }
+        else
+        {
+            return;
+        }
+
+        this.siftUp(position);
+    }
+
+    /**
+     * Remove the item with the lowest key from the heap
+     * @return the item with the lowest key
+     */
+    int poll()
+    {
+        ExceptionHelpers.Assert(this.size > 0, "Cannot poll an empty heap");
+
+        int result = this.items[0];
+        this.positions[result] = -1;
+
+        int last = this.items[--this.size];
+        if (this.size > 0)
+        {
+            this.items[0] = last;
+            this.positions[last] = 0;
+            this.siftDown(0);
+        }
+
+        return result;
+    }
+
+    private void siftUp(int position)
+    {
+        int item = this.items[position];
+        double key = this.keys[item];
+        while (position > 0)
+        {
+            int parentPosition = (position - 1) >>> 1;
+            int parent = this.items[parentPosition];
+            if (this.keys[parent] <= key)
+            {
+                break;
+            }
+
+            this.items[position] = parent;
+            this.positions[parent] = position;
+            position = parentPosition;
+        }
+
+        this.items[position] = item;
+        this.positions[item] = position;
+    }
+
+    private void siftDown(int position)
+    {
+        int item = this.items[position];
+        double key = this.keys[item];
+        while (true)
+        {
+            int childPosition = 2 * position + 1;
+            if (childPosition >= this.size)
+            {
+                break;
+            }
+
+            int rightPosition = childPosition + 1;
+            if (rightPosition < this.size && this.keys[this.items[rightPosition]] < this.keys[this.items[childPosition]])
+            {
+                childPosition = rightPosition;
+            }
+
+            int child = this.items[childPosition];
+            if (key <= this.keys[child])
+            {
+                break;
+            }
+
+            this.items[position] = child;
+            this.positions[child] = position;
+            position = childPosition;
+        }
+
+        this.items[position] = item;
+        this.positions[item] = position;
+    }
+}
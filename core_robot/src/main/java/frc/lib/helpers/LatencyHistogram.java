@@ -0,0 +1,137 @@
+package frc.lib.helpers;
+
+import java.util.Arrays;
+
+/**
+ * A preallocated, log-linear (HDR-style) histogram of durations in nanoseconds.
+ * Each power-of-2 range is split into a fixed number of linear sub-buckets, so recorded values keep a bounded relative error
+ * (~6%) while recording and querying never allocate.
+ */
+public class LatencyHistogram
+{
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << LatencyHistogram.SUB_BUCKET_BITS;
+    private static final int MAX_SHIFT = 31; // track values up to ~2^35 nanoseconds (~34 seconds)
+    private static final int BUCKET_COUNT = LatencyHistogram.SUB_BUCKET_COUNT * (LatencyHistogram.MAX_SHIFT + 2);
+
+    private final int[] counts;
+
+    private int totalCount;
+    private long maxValue;
+
+    /**
+     * Initializes a new instance of the LatencyHistogram class.
+     */
+    public LatencyHistogram()
+    {
+        this.counts = new int[LatencyHistogram.BUCKET_COUNT];
+        this.reset();
+    }
+
+    /**
+     * Record a duration
+     * @param nanoseconds duration to record
+     */
+    public void record(long nanoseconds)
+    {
+        if (nanoseconds < 0L)
+        {
+            nanoseconds = 0L;
+        }
+
+        this.counts[LatencyHistogram.getBucketIndex(nanoseconds)]++;
+        this.totalCount++;
+        if (nanoseconds > this.maxValue)
+        {
+            this.maxValue = nanoseconds;
+        }
+    }
+
+    /**
+     * Clear all recorded values
+     */
+    public void reset()
+    {
+        Arrays.fill(this.counts, 0);
+        this.totalCount = 0;
+        this.maxValue = 0L;
+    }
+
+    /**
+     * Retrieve the number of values recorded since the last reset
+     * @return number of recorded values
+     */
+    public int getCount()
+    {
+        return this.totalCount;
+    }
+
+    /**
+     * Retrieve the largest value recorded since the last reset (exact)
+     * @return max value in nanoseconds
+     */
+    public long getMax()
+    {
+        return this.maxValue;
+    }
+
+    /**
+     * Retrieve the value at the provided percentile (highest value equivalent to the bucket the percentile falls in)
+     * @param percentile between 0.0 and 100.0
+     * @return value in nanoseconds, or 0 if nothing has been recorded
+     */
+    public long getValueAtPercentile(double percentile)
+    {
+        if (this.totalCount == 0)
+        {
+            return 0L;
+        }
+
+        long countAtPercentile = (long)Math.ceil((Helpers.enforceRange(percentile, 0.0, 100.0) / 100.0) * this.totalCount);
+        if (countAtPercentile < 1L)
+        {
+            countAtPercentile = 1L;
+        }
+
+        long runningCount = 0L;
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++)
+        {
+            runningCount += this.counts[i];
+            if (runningCount >= countAtPercentile)
+            {
+                return Math.min(LatencyHistogram.getBucketHighestValue(i), this.maxValue);
+            }
+        }
+
+        return this.maxValue;
+    }
+
+    private static int getBucketIndex(long value)
+    {
+        if (value < LatencyHistogram.SUB_BUCKET_COUNT)
+        {
+            return (int)value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - LatencyHistogram.SUB_BUCKET_BITS;
+        if (shift > LatencyHistogram.MAX_SHIFT)
+        {
+            return LatencyHistogram.BUCKET_COUNT - 1;
+        }
+
+        int subBucket = (int)(value >>> shift) - LatencyHistogram.SUB_BUCKET_COUNT;
+        return LatencyHistogram.SUB_BUCKET_COUNT * (shift + 1) + subBucket;
+    }
+
+    private static long getBucketHighestValue(int index)
+    {
+        if (index < LatencyHistogram.SUB_BUCKET_COUNT)
+        {
+            return index;
+        }
+
+        int shift = index / LatencyHistogram.SUB_BUCKET_COUNT - 1;
+        int subBucket = index % LatencyHistogram.SUB_BUCKET_COUNT;
+        return ((long)(LatencyHistogram.SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1L;
+    }
+}
@@ -0,0 +1,220 @@
+package frc.lib.helpers;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size set of small non-negative integers (such as enum ordinals), stored as an array of 64-bit words.
+ * Unlike EnumSet and the SetHelper functions, none of the operations allocate, so instances can be preallocated and reused
+ * within the robot loop.
+ */
+public class OrdinalBitSet
+{
+    private static final int BITS_PER_WORD_SHIFT = 6;
+
+    private final int size;
+    private final long[] words;
+
+    /**
+     * Initializes a new instance of the OrdinalBitSet class.
+     * @param size number of ordinals that may be stored (e.g. the number of values in an enum)
+     */
+    public OrdinalBitSet(int size)
+    {
+        ExceptionHelpers.Assert(size >= 0, "Expect size %d to be non-negative", size);
+
+        this.size = size;
+        this.words = new long[(size + 63) >>> OrdinalBitSet.BITS_PER_WORD_SHIFT];
+    }
+
+    /**
+     * Retrieve the number of ordinals that may be stored in this set
+     * @return size of the set
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Add an ordinal to the set
+     * @param ordinal to add
+     */
+    public void set(int ordinal)
+    {
+        this.words[ordinal >>> OrdinalBitSet.BITS_PER_WORD_SHIFT] |= (1L << ordinal);
+    }
+
+    /**
+     * Remove an ordinal from the set
+     * @param ordinal to remove
+     */
+    public void clear(int ordinal)
+    {
+        this.words[ordinal >>> OrdinalBitSet.BITS_PER_WORD_SHIFT] &= ~(1L << ordinal);
+    }
+
+    /**
+     * Check whether the set contains an ordinal
+     * @param ordinal to check
+     * @return true if the ordinal is in the set
+     */
+    public boolean get(int ordinal)
+    {
+        return (this.words[ordinal >>> OrdinalBitSet.BITS_PER_WORD_SHIFT] & (1L << ordinal)) != 0L;
+    }
+
+    /**
+     * Remove all ordinals from the set
+     */
+    public void clearAll()
+    {
+        Arrays.fill(this.words, 0L);
+    }
+
+    /**
+     * Check whether the set is empty
+     * @return true if there are no ordinals in the set
+     */
+    public boolean isEmpty()
+    {
+        for (long word : this.words)
+        {
+            if (word != 0L)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Count the number of ordinals in the set
+     * @return number of ordinals in the set
+     */
+    public int cardinality()
+    {
+        int count = 0;
+        for (long word : this.words)
+        {
+            count += Long.bitCount(word);
+        }
+
+        return count;
+    }
+
+    /**
+     * Find the first ordinal in the set that is at or after the provided ordinal, for iterating over the set:
+     * {@code for (int i = set.nextSetBit(0); i >= 0; i = set.nextSetBit(i + 1))}
+     * @param fromOrdinal the ordinal to start searching from (inclusive)
+     * @return the next ordinal in the set, or -1 if there are no more
+     */
+    public int nextSetBit(int fromOrdinal)
+    {
+        int wordIndex = fromOrdinal >>> OrdinalBitSet.BITS_PER_WORD_SHIFT;
+        if (wordIndex >= this.words.length)
+        {
+            return -1;
+        }
+
+        long word = this.words[wordIndex] & (-1L << fromOrdinal);
+        while (true)
+        {
+            if (word != 0L)
+            {
+                return (wordIndex << OrdinalBitSet.BITS_PER_WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+            }
+
+            if (++wordIndex >= this.words.length)
+            {
+                return -1;
+            }
+
+            word = this.words[wordIndex];
+        }
+    }
+
+    /**
+     * Make this set contain exactly the same ordinals as the other set
+     * @param other set of the same size to copy from
+     */
+    public void copyFrom(OrdinalBitSet other)
+    {
+        System.arraycopy(other.words, 0, this.words, 0, this.words.length);
+    }
+
+    /**
+     * Add all of the ordinals from the other set to this set (union)
+     * @param other set of the same size
+     */
+    public void or(OrdinalBitSet other)
+    {
+        for (int i = 0; i < this.words.length; i++)
+        {
+            this.words[i] |= other.words[i];
+        }
+    }
+
+    /**
+     * Remove all of the ordinals from this set that are not in the other set (intersection)
+     * @param other set of the same size
+     */
+    public void and(OrdinalBitSet other)
+    {
+        for (int i = 0; i < this.words.length; i++)
+        {
+            this.words[i] &= other.words[i];
+        }
+    }
+
+    /**
+     * Remove all of the ordinals from this set that are in the other set (relative complement)
+     * @param other set of the same size
+     */
+    public void andNot(OrdinalBitSet other)
+    {
+        for (int i = 0; i < this.words.length; i++)
+        {
+            this.words[i] &= ~other.words[i];
+        }
+    }
+
+    /**
+     * Check whether this set contains exactly the same ordinals as the other set
+     * @param other set of the same size
+     * @return true if the sets are equal
+     */
+    public boolean equals(OrdinalBitSet other)
+    {
+        return Arrays.equals(this.words, other.words);
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        return obj instanceof OrdinalBitSet && this.equals((OrdinalBitSet)obj);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(this.words);
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = this.nextSetBit(0); i >= 0; i = this.nextSetBit(i + 1))
+        {
+            if (builder.length() > 1)
+            {
+                builder.append(", ");
+            }
+
+            builder.append(i);
+        }
+
+        return builder.append("]").toString();
+    }
+}
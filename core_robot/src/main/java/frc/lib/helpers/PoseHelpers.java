@@ -37,6 +37,36 @@ public class PoseHelpers
         // v.setThird(omega);
     }
 
+    /**
+     * Calculate the pose exponential according to the algorithm described in
+     * https://file.tavsys.net/control/controls-engineering-in-frc.pdf theorem 10.2.1
+     * solving a differential equation moving the pose forward in time.
+     * @param v the x velocity, y velocity, and angular velocity (vx, vy, omega) - in inches, degrees --> updated to the result of the operation in-place
+     */
+    public static void poseExponential(double[] v)
+    {
+        double vx = v[0];
+        double vy = v[1];
+        double omegaRad = v[2] * Helpers.DEGREES_TO_RADIANS;
+
+        double sinOmegaOverOmega;
+        double oneMinusCosOmegaOverOmega;
+        if (Math.abs(v[2]) < 1E-8)
+        {
+            // replacement for values when omega is close to 0
+            sinOmegaOverOmega = 1.0 - omegaRad * omegaRad / 6.0;
+            oneMinusCosOmegaOverOmega = omegaRad / 2.0;
+        }
+        else
+        {
+            sinOmegaOverOmega = Math.sin(omegaRad) / omegaRad;
+            oneMinusCosOmegaOverOmega = (1.0 - Math.cos(omegaRad)) / omegaRad;
+        }
+
+        v[0] = sinOmegaOverOmega * vx - oneMinusCosOmegaOverOmega * vy;
+        v[1] = oneMinusCosOmegaOverOmega * vx + sinOmegaOverOmega * vy;
+    }
+
     /**
      * Calculate the pose exponential according to the algorithm described in
      * https://file.tavsys.net/control/controls-engineering-in-frc.pdf theorem 10.2.1
@@ -118,6 +148,37 @@ public class PoseHelpers
         // v.setThird(omega);
     }
 
+    /**
+     * Calculate the inverse of the pose exponential according to the algorithm used
+     * by WPILib's Pose2d.log() function.
+     * @param v the x velocity, y velocity, and angular velocity (vx, vy, omega) - in inches, degrees --> updated to the result of the operation in-place
+     */
+    public static void inversePoseExponential(double[] v)
+    {
+        double vx = v[0];
+        double vy = v[1];
+        double omegaRad = v[2] * Helpers.DEGREES_TO_RADIANS;
+        double halfOmegaRad = omegaRad / 2.0;
+
+        double cosMinusOne = Math.cos(omegaRad) - 1.0;
+
+        double halfOmegaByTanOfHalfOmega;
+        if (Math.abs(cosMinusOne) < 1E-8)
+        {
+            // replacement for values when cosMinusOne is close to 0
+            halfOmegaByTanOfHalfOmega = 1.0 - omegaRad * omegaRad / 12.0;
+        }
+        else
+        {
+            halfOmegaByTanOfHalfOmega = -(halfOmegaRad * Math.sin(omegaRad)) / cosMinusOne;
+        }
+
+        // rotate by the angle atan2(-halfOmegaRad, halfOmegaByTanOfHalfOmega) and scale by the magnitude, which is the same as
+        // multiplying by (halfOmegaByTanOfHalfOmega, -halfOmegaRad) as a complex number
+        v[0] = halfOmegaByTanOfHalfOmega * vx + halfOmegaRad * vy;
+        v[1] = -halfOmegaRad * vx + halfOmegaByTanOfHalfOmega * vy;
+    }
+
     /**
      * Calculate the inverse of the pose exponential according to the algorithm used
      * by WPILib's Pose2d.log() function.
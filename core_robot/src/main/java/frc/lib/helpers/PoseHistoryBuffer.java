@@ -0,0 +1,150 @@
+package frc.lib.helpers;
+
+/**
+ * A fixed-capacity, time-indexed circular history of robot poses (x, y, angle), stored in primitive arrays so that recording and
+ * looking up poses never allocate.
+ * Poses are expected to be added in increasing time order, and the oldest poses are overwritten once the history is full.
+ * Looking up a pose between two recorded times linearly interpolates between them.
+ */
+public class PoseHistoryBuffer
+{
+    public static final int X_INDEX = 0;
+    public static final int Y_INDEX = 1;
+    public static final int ANGLE_INDEX = 2;
+
+    private final int capacity;
+    private final int mask;
+    private final double[] times;
+    private final double[] xPositions;
+    private final double[] yPositions;
+    private final double[] angles;
+
+    private int newest;
+    private int count;
+
+    /**
+     * Initializes a new instance of the PoseHistoryBuffer class.
+     * @param capacity maximum number of poses to keep (must be a power of 2)
+     */
+    public PoseHistoryBuffer(int capacity)
+    {
+        ExceptionHelpers.Assert(capacity > 0 && (capacity & (capacity - 1)) == 0, "Expect capacity %d to be a power of 2", capacity);
+
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.times = new double[capacity];
+        this.xPositions = new double[capacity];
+        this.yPositions = new double[capacity];
+        this.angles = new double[capacity];
+
+        this.clear();
+    }
+
+    /**
+     * Remove all poses from the history
+     */
+    public void clear()
+    {
+        this.newest = this.mask;
+        this.count = 0;
+    }
+
+    /**
+     * Retrieve the number of poses currently in the history
+     * @return number of poses
+     */
+    public int size()
+    {
+        return this.count;
+    }
+
+    /**
+     * Record the pose at the provided time.  If the time is not after the newest pose's time, the newest pose is replaced instead.
+     * @param time the pose was measured at
+     * @param x position
+     * @param y position
+     * @param angle of the robot
+     */
+    public void add(double time, double x, double y, double angle)
+    {
+        if (this.count == 0 || time > this.times[this.newest])
+        {
+            this.newest = (this.newest + 1) & this.mask;
+            if (this.count < this.capacity)
+            {
+                this.count++;
+            }
+        }
+
+        this.times[this.newest] = time;
+        this.xPositions[this.newest] = x;
+        this.yPositions[this.newest] = y;
+        this.angles[this.newest] = angle;
+    }
+
+    /**
+     * Retrieve the pose at the provided time, interpolating between the recorded poses on either side of it.  Times after the newest
+     * pose return the newest pose.
+     * @param time to look up
+     * @param pose array of at least 3 values to copy the x, y, and angle into (at X_INDEX, Y_INDEX, ANGLE_INDEX)
+     * @return true if the pose was found, false if the history is empty or the time is before the oldest pose
+     */
+    public boolean getPoseAt(double time, double[] pose)
+    {
+        if (this.count == 0)
+        {
+            return false;
+        }
+
+        int index = this.newest;
+        if (time >= this.times[index])
+        {
+            this.copyPose(index, pose);
+            return true;
+        }
+
+        // walk backwards from the newest pose, as lookups are expected to be for recent times
+        for (int i = 1; i < this.count; i++)
+        {
+            int olderIndex = (index - 1) & this.mask;
+            double olderTime = this.times[olderIndex];
+            if (time >= olderTime)
+            {
+                double ratio = (time - olderTime) / (this.times[index] - olderTime);
+                pose[PoseHistoryBuffer.X_INDEX] = this.xPositions[olderIndex] + ratio * (this.xPositions[index] - this.xPositions[olderIndex]);
+                pose[PoseHistoryBuffer.Y_INDEX] = this.yPositions[olderIndex] + ratio * (this.yPositions[index] - this.yPositions[olderIndex]);
+                pose[PoseHistoryBuffer.ANGLE_INDEX] = this.angles[olderIndex] + ratio * (this.angles[index] - this.angles[olderIndex]);
+                return true;
+            }
+
+            index = olderIndex;
+        }
+
+        return false;
+    }
+
+    /**
+     * Offset the position of every pose recorded at or after the provided time, e.g. to replay the odometry forward from a corrected
+     * pose.  Because the odometry deltas are integrated in the field frame, shifting the later poses is equivalent to replaying them.
+     * @param time of the oldest pose to shift
+     * @param deltaX to add to the x positions
+     * @param deltaY to add to the y positions
+     */
+    public void shiftFrom(double time, double deltaX, double deltaY)
+    {
+        int index = this.newest;
+        for (int i = 0; i < this.count && this.times[index] >= time; i++)
+        {
+            this.xPositions[index] += deltaX;
+            this.yPositions[index] += deltaY;
+            index = (index - 1) & this.mask;
+        }
+    }
+
+    private void copyPose(int index, double[] pose)
+    {
+        pose[PoseHistoryBuffer.X_INDEX] = this.xPositions[index];
+        pose[PoseHistoryBuffer.Y_INDEX] = this.yPositions[index];
+        pose[PoseHistoryBuffer.ANGLE_INDEX] = this.angles[index];
+    }
+}
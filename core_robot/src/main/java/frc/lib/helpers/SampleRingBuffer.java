@@ -0,0 +1,129 @@
+package frc.lib.helpers;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, lock-free single-producer/single-consumer ring buffer of fixed-size samples of doubles, for handing sensor readings
+ * from a background thread to the robot loop without allocating or blocking.
+ * When the ring buffer is full (e.g. the consumer has stalled), the oldest sample is discarded (and counted) to make room for the new
+ * one, so that the consumer always gets the most recent samples.  The producer discards a sample by advancing the read position
+ * with a compare-and-set before overwriting it, so a consumer that was copying that sample sees its own compare-and-set fail and
+ * retries with the next one.
+ */
+public class SampleRingBuffer
+{
+    private final int sampleSize;
+    private final int capacity;
+    private final long mask;
+    private final double[] data;
+
+    private final AtomicLong writePosition;
+    private final AtomicLong readPosition;
+
+    private int droppedSamples;
+
+    /**
+     * Initializes a new instance of the SampleRingBuffer class.
+     * @param sampleSize number of values in each sample
+     * @param capacity maximum number of samples that can be buffered (must be a power of 2)
+     */
+    public SampleRingBuffer(int sampleSize, int capacity)
+    {
+        ExceptionHelpers.Assert(sampleSize > 0, "Expect sampleSize %d to be positive", sampleSize);
+        ExceptionHelpers.Assert(capacity > 0 && (capacity & (capacity - 1)) == 0, "Expect capacity %d to be a power of 2", capacity);
+
+        this.sampleSize = sampleSize;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.data = new double[sampleSize * capacity];
+
+        this.writePosition = new AtomicLong(0L);
+        this.readPosition = new AtomicLong(0L);
+
+        this.droppedSamples = 0;
+    }
+
+    /**
+     * Retrieve the number of values in each sample
+     * @return sample size
+     */
+    public int getSampleSize()
+    {
+        return this.sampleSize;
+    }
+
+    /**
+     * Add a sample to the ring buffer (only to be called from the producer thread)
+     * @param sample the values to copy into the ring buffer (at least sampleSize long)
+     * @return true if the sample was added without discarding any, false if the oldest sample was discarded to make room for it
+     */
+    public boolean write(double[] sample)
+    {
+        boolean discarded = false;
+        long writePosition = this.writePosition.get();
+        long readPosition = this.readPosition.get();
+        if (writePosition - readPosition >= this.capacity)
+        {
+            // if this fails, the consumer has just read the oldest sample, which makes room all the same
+            if (this.readPosition.compareAndSet(readPosition, readPosition + 1L))
+            {
+                this.droppedSamples++;
+                discarded = true;
+            }
+        }
+
+        System.arraycopy(sample, 0, this.data, (int)(writePosition & this.mask) * this.sampleSize, this.sampleSize);
+        this.writePosition.lazySet(writePosition + 1L);
+        return !discarded;
+    }
+
+    /**
+     * Remove the oldest sample from the ring buffer (only to be called from the consumer thread)
+     * @param sample the array to copy the values into (at least sampleSize long)
+     * @return true if a sample was read, false if the ring buffer is empty
+     */
+    public boolean read(double[] sample)
+    {
+        while (true)
+        {
+            long readPosition = this.readPosition.get();
+            if (readPosition == this.writePosition.get())
+            {
+                return false;
+            }
+
+            System.arraycopy(this.data, (int)(readPosition & this.mask) * this.sampleSize, sample, 0, this.sampleSize);
+
+            // if the producer discarded this sample while we were copying it, the copy may be torn, so try again with the next one
+            if (this.readPosition.compareAndSet(readPosition, readPosition + 1L))
+            {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Discard all of the samples that haven't been read yet (only to be called from the consumer thread)
+     */
+    public void clear()
+    {
+        while (true)
+        {
+            long readPosition = this.readPosition.get();
+            long writePosition = this.writePosition.get();
+            if (readPosition >= writePosition || this.readPosition.compareAndSet(readPosition, writePosition))
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Retrieve the number of samples that were discarded because the ring buffer was full (only exact from the producer thread)
+     * @return number of dropped samples
+     */
+    public int getDroppedSamples()
+    {
+        return this.droppedSamples;
+    }
+}
@@ -0,0 +1,194 @@
+package frc.lib.helpers;
+
+/**
+ * Kinematics for a swerve drive, converting between the velocity of the robot and the velocities/angles of each of its modules.
+ * The module geometry is precomputed when it is created, and per-module values are kept in primitive arrays indexed by module, with
+ * results written into arrays provided by the caller so that none of the calculations allocate.
+ * Note: using the right-hand rule, "forward" is x and "left" is y, and a module's velocity is the robot's center velocity minus omega
+ * times its offsets from the center of rotation (forward - omega * offsetX, left - omega * offsetY).  Angles are in degrees, and omega
+ * is in radians per second.
+ */
+public class SwerveKinematics
+{
+    public static final int FORWARD_INDEX = 0;
+    public static final int LEFT_INDEX = 1;
+    public static final int OMEGA_INDEX = 2;
+
+    private final int moduleCount;
+    private final double[] moduleOffsetX;
+    private final double[] moduleOffsetY;
+    private final double[] turnInPlaceAngles;
+
+    // least-squares solution for the robot velocity from the module velocities, given that the modules are centered around the robot
+    private final double inverseModuleCount;
+    private final double[] omegaForwardWeights;
+    private final double[] omegaLeftWeights;
+
+    /**
+     * Initializes a new instance of the SwerveKinematics class.
+     * @param moduleOffsetX the x offsets of the swerve modules from the center of the robot
+     * @param moduleOffsetY the y offsets of the swerve modules from the center of the robot
+     */
+    public SwerveKinematics(double[] moduleOffsetX, double[] moduleOffsetY)
+    {
+        ExceptionHelpers.Assert(moduleOffsetX.length == moduleOffsetY.length, "Expect the same number of x and y offsets, got %d and %d", moduleOffsetX.length, moduleOffsetY.length);
+        ExceptionHelpers.Assert(moduleOffsetX.length > 0, "Expect at least one module");
+
+        this.moduleCount = moduleOffsetX.length;
+        this.moduleOffsetX = moduleOffsetX.clone();
+        this.moduleOffsetY = moduleOffsetY.clone();
+        this.turnInPlaceAngles = new double[this.moduleCount];
+        this.omegaForwardWeights = new double[this.moduleCount];
+        this.omegaLeftWeights = new double[this.moduleCount];
+        this.inverseModuleCount = 1.0 / this.moduleCount;
+
+        double sumX = 0.0;
+        double sumY = 0.0;
+        double sumOfSquares = 0.0;
+        for (int i = 0; i < this.moduleCount; i++)
+        {
+            sumX += this.moduleOffsetX[i];
+            sumY += this.moduleOffsetY[i];
+            sumOfSquares += this.moduleOffsetX[i] * this.moduleOffsetX[i] + this.moduleOffsetY[i] * this.moduleOffsetY[i];
+            this.turnInPlaceAngles[i] = Helpers.atan2d(-this.moduleOffsetY[i], -this.moduleOffsetX[i]);
+        }
+
+        ExceptionHelpers.Assert(Helpers.roughEquals(sumX, 0.0) && Helpers.roughEquals(sumY, 0.0), "Expect the modules to be centered around the robot, offset by (%f, %f)", sumX, sumY);
+        ExceptionHelpers.Assert(sumOfSquares > 0.0, "Expect the modules to be offset from the center of the robot");
+
+        for (int i = 0; i < this.moduleCount; i++)
+        {
+            this.omegaForwardWeights[i] = -this.moduleOffsetX[i] / sumOfSquares;
+            this.omegaLeftWeights[i] = -this.moduleOffsetY[i] / sumOfSquares;
+        }
+    }
+
+    /**
+     * Retrieve the number of modules
+     * @return the number of modules
+     */
+    public int getModuleCount()
+    {
+        return this.moduleCount;
+    }
+
+    /**
+     * Retrieve the module angles that would turn the robot in place, pointing each module perpendicular to the center of the robot
+     * @param angles to fill with the angle for each module, in degrees
+     */
+    public void getTurnInPlaceAngles(double[] angles)
+    {
+        System.arraycopy(this.turnInPlaceAngles, 0, angles, 0, this.moduleCount);
+    }
+
+    /**
+     * Calculate the speed and steer angle of each module to achieve the desired robot velocity, picking the angle closest to each module's
+     * current angle (reversing the direction of the module when that's closer)
+     * @param forwardVelocity the forward velocity of the center of the robot
+     * @param leftVelocity the left velocity of the center of the robot
+     * @param omega the angular velocity of the robot, in radians per second
+     * @param rotationCenterX the x offset of the center of rotation from the center of the robot
+     * @param rotationCenterY the y offset of the center of rotation from the center of the robot
+     * @param skipAngleDelta don't steer modules whose forward and left velocity are both within this delta of zero (or negative to always steer)
+     * @param currentAngles the current angle of each module, in degrees
+     * @param speeds to fill with the speed of each module (negative when reversed)
+     * @param angles to fill with the steer angle of each module, in degrees near the current angle (or NaN when the module shouldn't be steered)
+     * @param reversed to fill with whether each module is reversed (unchanged when the module shouldn't be steered)
+     * @return the fastest speed of any of the modules
+     */
+    public double calculateModuleSetpoints(
+        double forwardVelocity,
+        double leftVelocity,
+        double omega,
+        double rotationCenterX,
+        double rotationCenterY,
+        double skipAngleDelta,
+        double[] currentAngles,
+        double[] speeds,
+        double[] angles,
+        boolean[] reversed)
+    {
+        double maxSpeed = 0.0;
+        for (int i = 0; i < this.moduleCount; i++)
+        {
+            double moduleVelocityForward = forwardVelocity - omega * (this.moduleOffsetX[i] + rotationCenterX);
+            double moduleVelocityLeft = leftVelocity - omega * (this.moduleOffsetY[i] + rotationCenterY);
+            if (Helpers.withinDelta(moduleVelocityForward, 0.0, skipAngleDelta) &&
+                Helpers.withinDelta(moduleVelocityLeft, 0.0, skipAngleDelta))
+            {
+                speeds[i] = 0.0;
+                angles[i] = Double.NaN;
+                continue;
+            }
+
+            double speed = Math.sqrt(moduleVelocityForward * moduleVelocityForward + moduleVelocityLeft * moduleVelocityLeft);
+            if (speed > maxSpeed)
+            {
+                maxSpeed = speed;
+            }
+
+            reversed[i] = SwerveKinematics.calculateClosestModuleAngle(Helpers.atan2d(moduleVelocityLeft, moduleVelocityForward), currentAngles[i], angles, i);
+            speeds[i] = reversed[i] ? -speed : speed;
+        }
+
+        return maxSpeed;
+    }
+
+    /**
+     * Calculate the velocity of the robot from the measured state of each of the modules (the least-squares fit of the module velocities)
+     * @param angles the angle of each module, in degrees
+     * @param speeds the speed of each module
+     * @param speedScale to multiply each module's speed by (e.g. to convert from motor velocity)
+     * @param robotVelocity to fill with the forward velocity, left velocity and omega (in radians per second) of the robot
+     */
+    public void calculateRobotVelocity(double[] angles, double[] speeds, double speedScale, double[] robotVelocity)
+    {
+        double forwardVelocity = 0.0;
+        double leftVelocity = 0.0;
+        double omega = 0.0;
+        for (int i = 0; i < this.moduleCount; i++)
+        {
+            double angle = angles[i] * Helpers.DEGREES_TO_RADIANS;
+            double speed = speeds[i] * speedScale;
+
+            // Java has no fused sincos, so this is one Math.cos and one Math.sin per module (each used once)
+            double moduleVelocityForward = Math.cos(angle) * speed;
+            double moduleVelocityLeft = Math.sin(angle) * speed;
+
+            forwardVelocity += moduleVelocityForward;
+            leftVelocity += moduleVelocityLeft;
+            omega += this.omegaForwardWeights[i] * moduleVelocityForward + this.omegaLeftWeights[i] * moduleVelocityLeft;
+        }
+
+        robotVelocity[SwerveKinematics.FORWARD_INDEX] = forwardVelocity * this.inverseModuleCount;
+        robotVelocity[SwerveKinematics.LEFT_INDEX] = leftVelocity * this.inverseModuleCount;
+        robotVelocity[SwerveKinematics.OMEGA_INDEX] = omega;
+    }
+
+    /**
+     * Calculate the module angle closest to the current angle that points in the desired direction, either forwards or reversed
+     * (like Helpers.getClosestAngle allowing reverse, without allocating an AnglePair)
+     * @param desiredAngle the desired direction of the module, in degrees
+     * @param currentAngle the current angle of the module, in degrees
+     * @param angles to write the closest angle into
+     * @param index of the module in angles
+     * @return true if the module should be reversed
+     */
+    public static boolean calculateClosestModuleAngle(double desiredAngle, double currentAngle, double[] angles, int index)
+    {
+        double difference = Helpers.updateAngleRange180(desiredAngle - currentAngle);
+        if (difference < -90.0)
+        {
+            angles[index] = currentAngle + difference + 180.0;
+            return true;
+        }
+        else if (difference > 90.0)
+        {
+            angles[index] = currentAngle + difference - 180.0;
+            return true;
+        }
+
+        angles[index] = currentAngle + difference;
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package frc.lib.mechanisms;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the other mechanisms that a mechanism uses within its readSensors/update functions.
+ * The MechanismManager guarantees that a mechanism's dependencies have finished each phase before the mechanism runs that phase,
+ * and is free to run mechanisms that don't depend on each other in parallel.
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface DependsOn
+{
+    /**
+     * The mechanisms that must be run before this one
+     * @return mechanism classes
+     */
+    Class<? extends IMechanism>[] value();
+}
@@ -0,0 +1,20 @@
+package frc.lib.mechanisms;
+
+/**
+ * Stages of load shedding applied by the LoopWatchdog, in the order that they are applied.  Each stage also applies all of the
+ * stages before it.
+ */
+public enum LoadSheddingStage
+{
+    // run everything normally
+    None,
+
+    // skip writes to logging keys above LOOP_WATCHDOG_SHED_LOGGING_VERBOSITY
+    SkipVerboseLogging,
+
+    // defer flushing the log (up to LOOP_WATCHDOG_MAX_FLUSH_DEFERRAL times the normal threshold)
+    DeferFlush,
+
+    // run mechanisms that aren't marked as critical less often
+    SlowNonCriticalMechanisms,
+}
@@ -10,11 +10,15 @@ import frc.lib.robotprovider.*;
 
 /**
  * Logging manager class, to help log data to Shuffleboard/SmartDashboard/AdvantageKit/etc.
+ * Writes are synchronized, as mechanisms may be run on multiple threads.
+ * Writes to keys above the maximum verbosity are skipped (and counted), so that the LoopWatchdog can shed logging load.
  */
 @Singleton
 public class LoggingManager implements ILogger
 {
     private ILogger currentLogger;
+    private int maxVerbosity;
+    private int skippedCount;
 
     /**
      * Initializes a new instance of the LoggingManager class.
@@ -23,6 +27,8 @@ public class LoggingManager implements ILogger
     @Inject
     public LoggingManager()
     {
+        this.maxVerbosity = Integer.MAX_VALUE;
+        this.skippedCount = 0;
     }
 
     /**
@@ -33,25 +39,55 @@ public class LoggingManager implements ILogger
     public LoggingManager(ILogger logger)
     {
         this.currentLogger = logger;
+        this.maxVerbosity = Integer.MAX_VALUE;
+        this.skippedCount = 0;
     }
 
     /**
-     * Refresh the current logger that is being used based on the logger creator function
+     * Refresh the current logger that is being used based on the logger creator function, closing the previous one
      * @param injector to use to get the appropriate logger
      */
     public void refresh(Injector injector)
     {
+        if (this.currentLogger != null)
+        {
+            this.currentLogger.close();
+        }
+
         this.currentLogger = SettingsManager.getLogger(injector);
     }
 
+    /**
+     * Set the maximum verbosity of the keys to write, skipping writes to any keys above it
+     * @param maxVerbosity the maximum verbosity (Integer.MAX_VALUE to write every key)
+     */
+    public synchronized void setMaxVerbosity(int maxVerbosity)
+    {
+        this.maxVerbosity = maxVerbosity;
+    }
+
+    /**
+     * Retrieve the number of writes that have been skipped because their key was above the maximum verbosity
+     * @return number of skipped writes
+     */
+    public synchronized int getSkippedCount()
+    {
+        return this.skippedCount;
+    }
+
     /**
      * Write a boolean to the log
      * @param key to write to
      * @param value to write
      */
     @Override
-    public void logBoolean(LoggingKey key, boolean value)
+    public synchronized void logBoolean(LoggingKey key, boolean value)
     {
+        if (this.shouldSkip(key))
+        {
+            return;
+        }
+
         this.currentLogger.logBoolean(key, value);
     }
 
@@ -61,8 +97,13 @@ public class LoggingManager implements ILogger
      * @param value to write
      */
     @Override
-    public void logBooleanArray(LoggingKey key, boolean[] value)
+    public synchronized void logBooleanArray(LoggingKey key, boolean[] value)
     {
+        if (this.shouldSkip(key))
+        {
+            return;
+        }
+
         this.currentLogger.logBooleanArray(key, value);
     }
 
@@ -72,8 +113,13 @@ public class LoggingManager implements ILogger
      * @param value to write
      */
     @Override
-    public void logNumber(LoggingKey key, double value)
+    public synchronized void logNumber(LoggingKey key, double value)
     {
+        if (this.shouldSkip(key))
+        {
+            return;
+        }
+
         this.currentLogger.logNumber(key, value);
     }
 
@@ -83,8 +129,13 @@ public class LoggingManager implements ILogger
      * @param value to write
      */
     @Override
-    public void logNumber(LoggingKey key, Double value)
+    public synchronized void logNumber(LoggingKey key, Double value)
     {
+        if (this.shouldSkip(key))
+        {
+            return;
+        }
+
         this.currentLogger.logNumber(key, value);
     }
 
@@ -94,8 +145,13 @@ public class LoggingManager implements ILogger
      * @param value to write
      */
     @Override
-    public void logInteger(LoggingKey key, int value)
+    public synchronized void logInteger(LoggingKey key, int value)
     {
+        if (this.shouldSkip(key))
+        {
+            return;
+        }
+
         this.currentLogger.logInteger(key, value);
     }
 
@@ -105,8 +161,13 @@ public class LoggingManager implements ILogger
      * @param value to write
      */
     @Override
-    public void logInteger(LoggingKey key, Integer value)
+    public synchronized void logInteger(LoggingKey key, Integer value)
     {
+        if (this.shouldSkip(key))
+        {
+            return;
+        }
+
         this.currentLogger.logInteger(key, value);
     }
 
@@ -117,8 +178,13 @@ public class LoggingManager implements ILogger
      * @param formatString to use
      */
     @Override
-    public void logInteger(LoggingKey key, int value, String formatString)
+    public synchronized void logInteger(LoggingKey key, int value, String formatString)
     {
+        if (this.shouldSkip(key))
+        {
+            return;
+        }
+
         this.currentLogger.logInteger(key, value, formatString);
     }
 
@@ -128,8 +194,13 @@ public class LoggingManager implements ILogger
      * @param value to write
      */
     @Override
-    public void logString(LoggingKey key, String value)
+    public synchronized void logString(LoggingKey key, String value)
     {
+        if (this.shouldSkip(key))
+        {
+            return;
+        }
+
         this.currentLogger.logString(key, value);
     }
 
@@ -150,4 +221,24 @@ public class LoggingManager implements ILogger
     {
         this.currentLogger.flush();
     }
+
+    /**
+     * Flush and close the output stream, if appropriate..
+     */
+    @Override
+    public void close()
+    {
+        this.currentLogger.close();
+    }
+
+    private boolean shouldSkip(LoggingKey key)
+    {
+        if (key.verbosity > this.maxVerbosity)
+        {
+            this.skippedCount++;
+            return true;
+        }
+
+        return false;
+    }
 }
@@ -0,0 +1,11 @@
+package frc.lib.mechanisms;
+
+/**
+ * Phases of the robot loop that are timed by the LoopProfiler
+ */
+public enum LoopPhase
+{
+    ReadSensors,
+    Update,
+    Stop,
+}
@@ -0,0 +1,197 @@
+package frc.lib.mechanisms;
+
+import java.util.Arrays;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import frc.lib.helpers.LatencyHistogram;
+import frc.robot.LoggingKey;
+import frc.robot.TuningConstants;
+
+/**
+ * Always-on profiler for the robot loop, which records how long each section (mechanism, driver, logger) takes in each phase.
+ * Durations are recorded into preallocated histograms, and the p50/p99/max of each section's per-loop time is periodically
+ * published (in milliseconds) to the "loop/{section}/p50", "loop/{section}/p99" and "loop/{section}/max" logging keys, if they exist.
+ */
+@Singleton
+public class LoopProfiler
+{
+    private static final double NANOSECONDS_PER_MILLISECOND = 1000000.0;
+
+    private final LoggingManager logger;
+
+    private String[] names;
+    private LatencyHistogram[][] phaseHistograms;
+    private LatencyHistogram[] loopHistograms;
+    private long[] loopNanoseconds;
+    private LoggingKey[] p50Keys;
+    private LoggingKey[] p99Keys;
+    private LoggingKey[] maxKeys;
+    private int sectionCount;
+
+    private int loopCount;
+
+    /**
+     * Initializes a new instance of the LoopProfiler class.
+     * @param logger to publish the timing metrics to
+     */
+    @Inject
+    public LoopProfiler(LoggingManager logger)
+    {
+        this.logger = logger;
+
+        this.names = new String[0];
+        this.phaseHistograms = new LatencyHistogram[0][];
+        this.loopHistograms = new LatencyHistogram[0];
+        this.loopNanoseconds = new long[0];
+        this.p50Keys = new LoggingKey[0];
+        this.p99Keys = new LoggingKey[0];
+        this.maxKeys = new LoggingKey[0];
+        this.sectionCount = 0;
+
+        this.loopCount = 0;
+    }
+
+    /**
+     * Register a section of the loop to be profiled (only expected during initialization)
+     * @param name of the section, used to find the logging keys to publish to
+     * @return the identifier to use when recording durations for this section
+     */
+    public int register(String name)
+    {
+        int section = this.sectionCount++;
+
+        this.names = Arrays.copyOf(this.names, this.sectionCount);
+        this.phaseHistograms = Arrays.copyOf(this.phaseHistograms, this.sectionCount);
+        this.loopHistograms = Arrays.copyOf(this.loopHistograms, this.sectionCount);
+        this.loopNanoseconds = Arrays.copyOf(this.loopNanoseconds, this.sectionCount);
+        this.p50Keys = Arrays.copyOf(this.p50Keys, this.sectionCount);
+        this.p99Keys = Arrays.copyOf(this.p99Keys, this.sectionCount);
+        this.maxKeys = Arrays.copyOf(this.maxKeys, this.sectionCount);
+
+        LatencyHistogram[] histograms = new LatencyHistogram[LoopPhase.values().length];
+        for (int i = 0; i < histograms.length; i++)
+        {
+            histograms[i] = new LatencyHistogram();
+        }
+
+        this.names[section] = name;
+        this.phaseHistograms[section] = histograms;
+        this.loopHistograms[section] = new LatencyHistogram();
+        this.p50Keys[section] = LoopProfiler.findKey("loop/" + name + "/p50");
+        this.p99Keys[section] = LoopProfiler.findKey("loop/" + name + "/p99");
+        this.maxKeys[section] = LoopProfiler.findKey("loop/" + name + "/max");
+
+        return section;
+    }
+
+    /**
+     * Record the duration of a phase for a section
+     * @param section identifier returned from register
+     * @param phase that was timed
+     * @param nanoseconds duration of the phase (from System.nanoTime)
+     */
+    public void record(int section, LoopPhase phase, long nanoseconds)
+    {
+        this.phaseHistograms[section][phase.ordinal()].record(nanoseconds);
+        this.loopNanoseconds[section] += nanoseconds;
+    }
+
+    /**
+     * Complete the current loop, recording the total time spent in each section and periodically publishing the metrics
+     */
+    public void endLoop()
+    {
+        for (int section = 0; section < this.sectionCount; section++)
+        {
+            long nanoseconds = this.loopNanoseconds[section];
+            if (nanoseconds > 0L)
+            {
+                this.loopHistograms[section].record(nanoseconds);
+                this.loopNanoseconds[section] = 0L;
+            }
+        }
+
+        if (++this.loopCount >= TuningConstants.LOOP_PROFILER_PUBLISH_LOOPS)
+        {
+            this.publish();
+            this.loopCount = 0;
+        }
+    }
+
+    /**
+     * Retrieve the name of a section
+     * @param section identifier returned from register
+     * @return name of the section
+     */
+    public String getName(int section)
+    {
+        return this.names[section];
+    }
+
+    /**
+     * Retrieve the histogram of durations recorded for the provided phase of a section since the last time metrics were published
+     * @param section identifier returned from register
+     * @param phase to retrieve
+     * @return histogram of durations (in nanoseconds)
+     */
+    public LatencyHistogram getHistogram(int section, LoopPhase phase)
+    {
+        return this.phaseHistograms[section][phase.ordinal()];
+    }
+
+    /**
+     * Retrieve the histogram of per-loop durations for a section since the last time metrics were published
+     * @param section identifier returned from register
+     * @return histogram of durations (in nanoseconds)
+     */
+    public LatencyHistogram getLoopHistogram(int section)
+    {
+        return this.loopHistograms[section];
+    }
+
+    private void publish()
+    {
+        for (int section = 0; section < this.sectionCount; section++)
+        {
+            LatencyHistogram histogram = this.loopHistograms[section];
+            if (histogram.getCount() > 0)
+            {
+                if (this.p50Keys[section] != null)
+                {
+                    this.logger.logNumber(this.p50Keys[section], histogram.getValueAtPercentile(50.0) / LoopProfiler.NANOSECONDS_PER_MILLISECOND);
+                }
+
+                if (this.p99Keys[section] != null)
+                {
+                    this.logger.logNumber(this.p99Keys[section], histogram.getValueAtPercentile(99.0) / LoopProfiler.NANOSECONDS_PER_MILLISECOND);
+                }
+
+                if (this.maxKeys[section] != null)
+                {
+                    this.logger.logNumber(this.maxKeys[section], histogram.getMax() / LoopProfiler.NANOSECONDS_PER_MILLISECOND);
+                }
+            }
+
+            histogram.reset();
+            for (LatencyHistogram phaseHistogram : this.phaseHistograms[section])
+            {
+                phaseHistogram.reset();
+            }
+        }
+    }
+
+    static LoggingKey findKey(String value)
+    {
+        for (LoggingKey key : LoggingKey.values())
+        {
+            if (key.value.equals(value))
+            {
+                return key;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,201 @@
+package frc.lib.mechanisms;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import frc.lib.RobotOptions;
+import frc.robot.LoggingKey;
+import frc.robot.TuningConstants;
+
+/**
+ * Watchdog for the robot loop's time budget, which sheds load when a tick takes longer than LOOP_WATCHDOG_BUDGET.
+ * Each LOOP_WATCHDOG_SHED_TICKS consecutive ticks that overrun the budget move to the next {@link LoadSheddingStage} (so that a
+ * single slow tick doesn't shed anything), and each LOOP_WATCHDOG_RESTORE_TICKS consecutive ticks with slack (taking less than
+ * LOOP_WATCHDOG_RESTORE_RATIO of the budget) move back to the previous one.
+ * The number of overruns, shed and restore events, skipped log writes and deferred flushes are published to the "watchdog/..."
+ * logging keys, so that shedding is visible in the logs.
+ */
+@Singleton
+public class LoopWatchdog
+{
+    private static final double NANOSECONDS_PER_SECOND = 1000000000.0;
+
+    private static final LoopWatchdogPhase[] PHASES = LoopWatchdogPhase.values();
+    private static final LoadSheddingStage[] STAGES = LoadSheddingStage.values();
+
+    private final LoggingManager logger;
+    private final MechanismManager mechanisms;
+    private final boolean enabled;
+
+    private final long budgetNanoseconds;
+    private final long restoreNanoseconds;
+    private final long[] phaseNanoseconds;
+
+    private LoadSheddingStage stage;
+    private int overrunTicks;
+    private int slackTicks;
+
+    private int overruns;
+    private int shedEvents;
+    private int restoreEvents;
+    private int deferredFlushes;
+    private LoopWatchdogPhase slowestPhase;
+
+    /**
+     * Initializes a new instance of the LoopWatchdog class.
+     * @param logger to skip verbose logging in, and to publish the watchdog's metrics to
+     * @param mechanisms to slow the non-critical mechanisms in
+     * @param options to check whether the watchdog is enabled
+     */
+    @Inject
+    public LoopWatchdog(LoggingManager logger, MechanismManager mechanisms, RobotOptions options)
+    {
+        this.logger = logger;
+        this.mechanisms = mechanisms;
+        this.enabled = options.isLoopWatchdogEnabled();
+
+        this.budgetNanoseconds = Math.round(TuningConstants.LOOP_WATCHDOG_BUDGET * LoopWatchdog.NANOSECONDS_PER_SECOND);
+        this.restoreNanoseconds = Math.round(this.budgetNanoseconds * TuningConstants.LOOP_WATCHDOG_RESTORE_RATIO);
+        this.phaseNanoseconds = new long[LoopWatchdog.PHASES.length];
+
+        this.stage = LoadSheddingStage.None;
+        this.overrunTicks = 0;
+        this.slackTicks = 0;
+
+        this.overruns = 0;
+        this.shedEvents = 0;
+        this.restoreEvents = 0;
+        this.deferredFlushes = 0;
+        this.slowestPhase = null;
+    }
+
+    /**
+     * Record the duration of a phase of the current tick
+     * @param phase that was timed
+     * @param nanoseconds duration of the phase (from System.nanoTime)
+     */
+    public void record(LoopWatchdogPhase phase, long nanoseconds)
+    {
+        this.phaseNanoseconds[phase.ordinal()] += nanoseconds;
+    }
+
+    /**
+     * Complete the current tick, checking its duration against the budget and shedding or restoring load as appropriate
+     */
+    public void endTick()
+    {
+        long total = 0L;
+        LoopWatchdogPhase slowest = null;
+        long slowestNanoseconds = -1L;
+        for (int i = 0; i < this.phaseNanoseconds.length; i++)
+        {
+            long nanoseconds = this.phaseNanoseconds[i];
+            total += nanoseconds;
+            if (nanoseconds > slowestNanoseconds)
+            {
+                slowest = LoopWatchdog.PHASES[i];
+                slowestNanoseconds = nanoseconds;
+            }
+
+            this.phaseNanoseconds[i] = 0L;
+        }
+
+        if (!this.enabled)
+        {
+            return;
+        }
+
+        if (total > this.budgetNanoseconds)
+        {
+            this.overruns++;
+            this.slowestPhase = slowest;
+            this.slackTicks = 0;
+            if (++this.overrunTicks >= TuningConstants.LOOP_WATCHDOG_SHED_TICKS &&
+                this.stage.ordinal() < LoopWatchdog.STAGES.length - 1)
+            {
+                this.overrunTicks = 0;
+                this.shedEvents++;
+                this.setStage(LoopWatchdog.STAGES[this.stage.ordinal() + 1]);
+            }
+
+            return;
+        }
+
+        this.overrunTicks = 0;
+        if (this.stage != LoadSheddingStage.None)
+        {
+            if (total >= this.restoreNanoseconds)
+            {
+                this.slackTicks = 0;
+            }
+            else if (++this.slackTicks >= TuningConstants.LOOP_WATCHDOG_RESTORE_TICKS)
+            {
+                this.slackTicks = 0;
+                this.restoreEvents++;
+                this.setStage(LoopWatchdog.STAGES[this.stage.ordinal() - 1]);
+            }
+        }
+    }
+
+    /**
+     * Check whether the log flush that is due should be deferred to shed load
+     * @param pendingUpdates number of logger updates since the log was last flushed
+     * @return true if the flush should be skipped for now
+     */
+    public boolean shouldDeferFlush(int pendingUpdates)
+    {
+        if (this.stage.ordinal() >= LoadSheddingStage.DeferFlush.ordinal() &&
+            pendingUpdates <= TuningConstants.LOG_FLUSH_THRESHOLD * TuningConstants.LOOP_WATCHDOG_MAX_FLUSH_DEFERRAL)
+        {
+            this.deferredFlushes++;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Restore everything that has been shed, e.g. when the robot is disabled
+     */
+    public void reset()
+    {
+        this.overrunTicks = 0;
+        this.slackTicks = 0;
+        this.setStage(LoadSheddingStage.None);
+    }
+
+    /**
+     * Retrieve the current load shedding stage
+     * @return the stage
+     */
+    public LoadSheddingStage getStage()
+    {
+        return this.stage;
+    }
+
+    /**
+     * Publish the watchdog's metrics to the logger
+     */
+    public void publish()
+    {
+        this.logger.logInteger(LoggingKey.LoopWatchdogStage, this.stage.ordinal());
+        this.logger.logInteger(LoggingKey.LoopWatchdogOverruns, this.overruns);
+        this.logger.logInteger(LoggingKey.LoopWatchdogShedEvents, this.shedEvents);
+        this.logger.logInteger(LoggingKey.LoopWatchdogRestoreEvents, this.restoreEvents);
+        this.logger.logInteger(LoggingKey.LoopWatchdogSkippedLogs, this.logger.getSkippedCount());
+        this.logger.logInteger(LoggingKey.LoopWatchdogDeferredFlushes, this.deferredFlushes);
+        this.logger.logString(LoggingKey.LoopWatchdogSlowestPhase, this.slowestPhase == null ? "" : this.slowestPhase.toString());
+    }
+
+    private void setStage(LoadSheddingStage stage)
+    {
+        this.stage = stage;
+
+        this.logger.setMaxVerbosity(
+            stage.ordinal() >= LoadSheddingStage.SkipVerboseLogging.ordinal() ?
+                TuningConstants.LOOP_WATCHDOG_SHED_LOGGING_VERBOSITY :
+                Integer.MAX_VALUE);
+
+        this.mechanisms.setSlowNonCritical(stage.ordinal() >= LoadSheddingStage.SlowNonCriticalMechanisms.ordinal());
+    }
+}
@@ -0,0 +1,13 @@
+package frc.lib.mechanisms;
+
+/**
+ * Phases of the robot loop that are timed against the loop budget by the LoopWatchdog
+ */
+public enum LoopWatchdogPhase
+{
+    Sensors,
+    Driver,
+    Mechanisms,
+    Logging,
+    Flush,
+}
@@ -0,0 +1,313 @@
+package frc.lib.mechanisms;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import frc.lib.helpers.ExceptionHelpers;
+import frc.lib.helpers.Tracer;
+import frc.lib.robotprovider.RobotMode;
+import frc.robot.TuningConstants;
+
+/**
+ * Runs the readSensors/update phases of a list of mechanisms on the calling thread together with a small fixed set of worker threads.
+ * The dependency graph between the mechanisms is built once from their {@link DependsOn} annotations, and each mechanism is started
+ * as soon as all of its dependencies have finished the phase, so mechanisms that don't depend on each other run concurrently.  When
+ * several mechanisms are ready at the same time, the ones with a higher priority are started first.
+ * Threads park whenever no mechanism is ready for them to run (rather than spinning, so that they don't compete with the mechanisms
+ * for the CPU), and are unparked when a mechanism completes in a way that makes another one ready or finishes the phase.  Running a
+ * phase doesn't allocate.
+ */
+class MechanismExecutor
+{
+    private final List<IMechanism> mechanismList;
+    private final LoopProfiler profiler;
+    private final int[] profilerSections;
+
+    // mechanism indexes ordered by descending priority, to check for mechanisms that are ready to run
+    private final int[] runOrder;
+    private final int[] dependencyCounts;
+    private final int[][] dependents;
+
+    // generation of the most recent phase in which each mechanism was claimed by a thread
+    private final AtomicIntegerArray claims;
+    private final AtomicIntegerArray remainingDependencies;
+    private final AtomicInteger completed;
+    private final AtomicReference<Throwable> failure;
+    private final Thread[] workers;
+
+    // the thread that is running the current phase, which waits for it to complete
+    private volatile Thread caller;
+
+    // phase and mode are written before generation is incremented, and read after generation is read
+    private LoopPhase phase;
+    private RobotMode mode;
+    private volatile int generation;
+
+    /**
+     * Initializes a new instance of the MechanismExecutor class, and starts the worker threads
+     * @param mechanismList list of mechanisms, where each mechanism comes after all of its dependencies
+     * @param profiler to record the time spent in each mechanism
+     * @param profilerSections the profiler section for each mechanism
+     * @param priorities the priority of each mechanism
+     * @param workerCount number of worker threads to run mechanisms on in addition to the calling thread
+     */
+    MechanismExecutor(List<IMechanism> mechanismList, LoopProfiler profiler, int[] profilerSections, int[] priorities, int workerCount)
+    {
+        this.mechanismList = mechanismList;
+        this.profiler = profiler;
+        this.profilerSections = profilerSections;
+
+        int mechanismCount = mechanismList.size();
+        this.runOrder = IntStream.range(0, mechanismCount)
+            .boxed()
+            .sorted((a, b) -> Integer.compare(priorities[b], priorities[a]))
+            .mapToInt((i) -> i)
+            .toArray();
+
+        this.dependencyCounts = new int[mechanismCount];
+        this.dependents = new int[mechanismCount][];
+
+        int[] dependentCounts = new int[mechanismCount];
+        boolean[][] dependsOn = new boolean[mechanismCount][mechanismCount];
+        for (int i = 0; i < mechanismCount; i++)
+        {
+            IMechanism mechanism = mechanismList.get(i);
+            DependsOn annotation = mechanism.getClass().getAnnotation(DependsOn.class);
+            if (annotation == null)
+            {
+                continue;
+            }
+
+            for (Class<? extends IMechanism> dependency : annotation.value())
+            {
+                // dependencies that aren't active are ignored
+                for (int j = 0; j < mechanismCount; j++)
+                {
+                    if (!dependency.isInstance(mechanismList.get(j)))
+                    {
+                        continue;
+                    }
+
+                    // only allow edges to earlier mechanisms, so that the graph can't contain a cycle
+                    ExceptionHelpers.Assert(
+                        j < i,
+                        "Expect %s to come after %s in the mechanism list, as it depends on it",
+                        mechanism.getClass().getSimpleName(),
+                        dependency.getSimpleName());
+
+                    if (j < i && !dependsOn[i][j])
+                    {
+                        dependsOn[i][j] = true;
+                        this.dependencyCounts[i]++;
+                        dependentCounts[j]++;
+                    }
+                }
+            }
+        }
+
+        for (int j = 0; j < mechanismCount; j++)
+        {
+            this.dependents[j] = new int[dependentCounts[j]];
+            int dependentIndex = 0;
+            for (int i = j + 1; i < mechanismCount; i++)
+            {
+                if (dependsOn[i][j])
+                {
+                    this.dependents[j][dependentIndex++] = i;
+                }
+            }
+        }
+
+        this.claims = new AtomicIntegerArray(mechanismCount);
+        this.remainingDependencies = new AtomicIntegerArray(mechanismCount);
+        this.completed = new AtomicInteger(0);
+        this.failure = new AtomicReference<Throwable>();
+        this.generation = 0;
+
+        this.workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++)
+        {
+            Thread worker = new Thread(this::runWorker, "MechanismWorker" + i);
+            worker.setDaemon(true);
+            worker.start();
+            this.workers[i] = worker;
+        }
+    }
+
+    /**
+     * Run a phase of the mechanisms that are due, returning once all of them have completed it
+     * @param phase to run (ReadSensors or Update)
+     * @param mode the current robot mode (for Update)
+     * @param due whether each mechanism should be run in this phase
+     */
+    void run(LoopPhase phase, RobotMode mode, boolean[] due)
+    {
+        this.phase = phase;
+        this.mode = mode;
+        for (int i = 0; i < this.dependencyCounts.length; i++)
+        {
+            this.remainingDependencies.set(i, this.dependencyCounts[i]);
+        }
+
+        // mechanisms that aren't due are treated as having already completed the phase
+        int generation = this.generation + 1;
+        int skipped = 0;
+        for (int i = 0; i < this.dependencyCounts.length; i++)
+        {
+            if (!due[i])
+            {
+                this.claims.set(i, generation);
+                for (int dependent : this.dependents[i])
+                {
+                    this.remainingDependencies.decrementAndGet(dependent);
+                }
+
+                skipped++;
+            }
+        }
+
+        this.completed.set(skipped);
+        this.caller = Thread.currentThread();
+        this.generation = generation;
+        for (Thread worker : this.workers)
+        {
+            LockSupport.unpark(worker);
+        }
+
+        this.runMechanisms(generation);
+        while (this.completed.get() < this.dependencyCounts.length)
+        {
+            LockSupport.park(this);
+        }
+
+        // surface exceptions from any of the threads on the calling thread, as if the mechanisms had been run in sequence
+        Throwable failure = this.failure.getAndSet(null);
+        if (failure instanceof Error)
+        {
+            throw (Error)failure;
+        }
+        else if (failure instanceof RuntimeException)
+        {
+            throw (RuntimeException)failure;
+        }
+        else if (failure != null)
+        {
+            throw new RuntimeException(failure);
+        }
+    }
+
+    private void runWorker()
+    {
+        int lastGeneration = 0;
+        while (true)
+        {
+            int generation = this.generation;
+            if (generation != lastGeneration)
+            {
+                lastGeneration = generation;
+                this.runMechanisms(generation);
+            }
+            else
+            {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    private void runMechanisms(int generation)
+    {
+        int mechanismCount = this.dependencyCounts.length;
+        while (this.generation == generation && this.completed.get() < mechanismCount)
+        {
+            boolean ranMechanism = false;
+            for (int i : this.runOrder)
+            {
+                // every mechanism is claimed exactly once per phase, so a mechanism that hasn't been claimed yet this phase was
+                // claimed in the previous one (which also prevents a thread that is still finishing an old phase from claiming it)
+                if (this.remainingDependencies.get(i) == 0 && this.claims.compareAndSet(i, generation - 1, generation))
+                {
+                    this.runMechanism(i);
+                    boolean released = false;
+                    for (int dependent : this.dependents[i])
+                    {
+                        if (this.remainingDependencies.decrementAndGet(dependent) == 0)
+                        {
+                            released = true;
+                        }
+                    }
+
+                    if (this.completed.incrementAndGet() == mechanismCount || released)
+                    {
+                        this.unparkOthers();
+                    }
+
+                    ranMechanism = true;
+                }
+            }
+
+            if (!ranMechanism)
+            {
+                // a thread that completes a mechanism unparks us afterwards, and if that already happened the park returns at once
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    private void unparkOthers()
+    {
+        Thread current = Thread.currentThread();
+        Thread caller = this.caller;
+        if (caller != current)
+        {
+            LockSupport.unpark(caller);
+        }
+
+        for (Thread worker : this.workers)
+        {
+            if (worker != current)
+            {
+                LockSupport.unpark(worker);
+            }
+        }
+    }
+
+    private void runMechanism(int index)
+    {
+        IMechanism mechanism = this.mechanismList.get(index);
+        LoopPhase phase = this.phase;
+        Tracer.trace("Running %s for mechanism %s", phase, mechanism.getClass().getName());
+
+        long startTime = System.nanoTime();
+        try
+        {
+            if (phase == LoopPhase.ReadSensors)
+            {
+                mechanism.readSensors();
+            }
+            else
+            {
+                mechanism.update(this.mode);
+            }
+        }
+        catch (Exception ex)
+        {
+            System.err.println("Encountered exception: " + ex.toString());
+            if (TuningConstants.THROW_EXCEPTIONS)
+            {
+                this.failure.compareAndSet(null, ex);
+            }
+        }
+        catch (Error err)
+        {
+            // don't let the worker thread die, or the phase would never complete
+            this.failure.compareAndSet(null, err);
+        }
+
+        this.profiler.record(this.profilerSections[index], phase, System.nanoTime() - startTime);
+        Tracer.trace("Finished %s for mechanism %s", phase, mechanism.getClass().getName());
+    }
+}
@@ -2,37 +2,103 @@ package frc.lib.mechanisms;
 
 import java.util.List;
 
+import frc.lib.RobotOptions;
 import frc.lib.helpers.Tracer;
 import frc.lib.robotprovider.RobotMode;
 import frc.robot.TuningConstants;
 
 /**
- * Manager of mechanisms - runs each mechanism in order and individually so that they can be interacted with in-bulk
+ * Manager of mechanisms - runs each mechanism individually so that they can be interacted with in-bulk.
+ * Each main loop only runs the mechanisms that are due based on their {@link MechanismSchedule}.  When worker threads are enabled, mechanisms that don't depend on each other (see {@link DependsOn}) may
+ * read sensors and update in parallel, otherwise each mechanism is run in order.
  */
 public class MechanismManager implements IMechanism
 {
     public final List<IMechanism> mechanismList;
 
+    private final LoopProfiler profiler;
+    private final int[] profilerSections;
+    private final MechanismScheduler scheduler;
+    private final MechanismExecutor executor;
+
     /**
      * Initializes a new instance of the MechanismManager class.
      * @param mechanismList list of mechanisms to be managed
+     * @param profiler to record the time spent in each mechanism
+     * @param logger to publish the scheduler's metrics to
+     * @param options to get the number of worker threads from
      */
-    public MechanismManager(List<IMechanism> mechanismList)
+    public MechanismManager(List<IMechanism> mechanismList, LoopProfiler profiler, LoggingManager logger, RobotOptions options)
     {
         this.mechanismList = mechanismList;
+        this.profiler = profiler;
+
+        this.profilerSections = new int[mechanismList.size()];
+        for (int i = 0; i < this.profilerSections.length; i++)
+        {
+            this.profilerSections[i] = profiler.register(mechanismList.get(i).getClass().getSimpleName());
+        }
+
+        this.scheduler = new MechanismScheduler(mechanismList, logger, TuningConstants.LOOP_DURATION);
+        if (options.getMechanismWorkerThreads() > 0)
+        {
+            this.executor = new MechanismExecutor(
+                mechanismList,
+                profiler,
+                this.profilerSections,
+                this.scheduler.getPriorities(),
+                options.getMechanismWorkerThreads());
+        }
+        else
+        {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Advance to the next loop of the timeline, determining which mechanisms will be run by readSensors and update.
+     * This function is called every loop, before the readSensors function is called.
+     */
+    public void startLoop()
+    {
+        this.scheduler.startLoop();
     }
 
     /**
-     * Reads all of the sensors for each mechanism that will be used in macros/autonomous mode and records their values.
-     * This function is called every ~20ms whenever the robot is enabled, shortly before the update function is called.
+     * Set whether to run the mechanisms that aren't marked as critical in their {@link MechanismSchedule} less often, to shed load
+     * @param slowNonCritical true to run non-critical mechanisms less often
+     */
+    public void setSlowNonCritical(boolean slowNonCritical)
+    {
+        this.scheduler.setSlowNonCritical(slowNonCritical);
+    }
+
+    /**
+     * Reads all of the sensors for each mechanism that is due in the current loop, which will be used in macros/autonomous mode, and
+     * records their values.
+     * This function is called every loop whenever the robot is enabled, shortly before the update function is called.
      */
     @Override
     public void readSensors()
     {
-        for (IMechanism mechanism : this.mechanismList)
+        boolean[] due = this.scheduler.getDue();
+        if (this.executor != null)
+        {
+            this.executor.run(LoopPhase.ReadSensors, null, due);
+            return;
+        }
+
+        for (int i = 0; i < this.profilerSections.length; i++)
         {
+            if (!due[i])
+            {
+                continue;
+            }
+
+            IMechanism mechanism = this.mechanismList.get(i);
             Tracer.trace("Reading sensors for mechanism %s", mechanism.getClass().getName());
 
+            long startTime = System.nanoTime();
             try
             {
                 mechanism.readSensors();
@@ -46,22 +112,38 @@ public class MechanismManager implements IMechanism
                 }
             }
 
+            this.profiler.record(this.profilerSections[i], LoopPhase.ReadSensors, System.nanoTime() - startTime);
             Tracer.trace("Finished reading sensors for mechanism %s", mechanism.getClass().getName());
         }
     }
 
     /**
-     * Calculates the various states to use for each mechanism based on the sensors/operations and applies them to the outputs (actuators, etc.).
-     * This function is called every ~20ms whenever the robot is enabled in some mode, after the update function is called.
+     * Calculates the various states to use for each mechanism that is due in the current loop based on the sensors/operations and
+     * applies them to the outputs (actuators, etc.).
+     * This function is called every loop whenever the robot is enabled in some mode, after the readSensors function is called.
      * @param mode the current robot mode
      */
     @Override
     public void update(RobotMode mode)
     {
-        for (IMechanism mechanism : this.mechanismList)
+        boolean[] due = this.scheduler.getDue();
+        if (this.executor != null)
+        {
+            this.executor.run(LoopPhase.Update, mode, due);
+            return;
+        }
+
+        for (int i = 0; i < this.profilerSections.length; i++)
         {
+            if (!due[i])
+            {
+                continue;
+            }
+
+            IMechanism mechanism = this.mechanismList.get(i);
             Tracer.trace("Updating mechanism %s", mechanism.getClass().getName());
 
+            long startTime = System.nanoTime();
             try
             {
                 mechanism.update(mode);
@@ -75,6 +157,7 @@ public class MechanismManager implements IMechanism
                 }
             }
 
+            this.profiler.record(this.profilerSections[i], LoopPhase.Update, System.nanoTime() - startTime);
             Tracer.trace("Finished update for mechanism %s", mechanism.getClass().getName());
         }
     }
@@ -86,10 +169,12 @@ public class MechanismManager implements IMechanism
     @Override
     public void stop()
     {
-        for (IMechanism mechanism : this.mechanismList)
+        for (int i = 0; i < this.profilerSections.length; i++)
         {
+            IMechanism mechanism = this.mechanismList.get(i);
             Tracer.trace("Stopping mechanism %s", mechanism.getClass().getName());
 
+            long startTime = System.nanoTime();
             try
             {
                 mechanism.stop();
@@ -103,6 +188,7 @@ public class MechanismManager implements IMechanism
                 }
             }
 
+            this.profiler.record(this.profilerSections[i], LoopPhase.Stop, System.nanoTime() - startTime);
             Tracer.trace("Finished stop for mechanism %s", mechanism.getClass().getName());
         }
     }
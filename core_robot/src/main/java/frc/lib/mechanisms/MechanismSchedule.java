@@ -0,0 +1,36 @@
+package frc.lib.mechanisms;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how often a mechanism should read its sensors and update, and how important it is relative to the other mechanisms.
+ * Mechanisms without this annotation run at the main loop rate (LOOP_DURATION) with the default priority.
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface MechanismSchedule
+{
+    /**
+     * The period (in seconds) at which to run the mechanism, which must be a multiple of the main loop's period (LOOP_DURATION)
+     * (0.0 to use the main loop's period)
+     * @return period in seconds
+     */
+    double period() default 0.0;
+
+    /**
+     * The priority of the mechanism, where mechanisms with a higher priority are started first when they are ready at the same time
+     * @return priority
+     */
+    int priority() default 0;
+
+    /**
+     * Whether the mechanism must keep running at its period when the LoopWatchdog is shedding load, or may be run less often
+     * @return true if critical
+     */
+    boolean critical() default true;
+}
@@ -0,0 +1,228 @@
+package frc.lib.mechanisms;
+
+import java.util.Arrays;
+import java.util.List;
+
+import frc.lib.helpers.ExceptionHelpers;
+import frc.lib.helpers.LatencyHistogram;
+import frc.robot.LoggingKey;
+import frc.robot.TuningConstants;
+
+/**
+ * Timeline that decides which mechanisms are due to run in each main loop, based on their {@link MechanismSchedule}.
+ * Each mechanism runs every N loops, where N is its period divided by the main loop's duration, so that a mechanism always runs in a
+ * loop in which the driver has been updated.  Mechanisms that share a period form a rate group, and groups slower than the main loop
+ * are staggered onto different loops to spread out the load.  Staggering is best-effort: it doesn't guarantee that two groups never
+ * run in the same loop (e.g. groups running every 2 and every 3 loops coincide every 6th loop, whatever their offsets), so
+ * mechanisms in different groups mustn't rely on running in different loops.  Note that a mechanism in a slower group only sees the operations of the
+ * loops in which it runs, so it shouldn't rely on operations that are only set for a single loop (such as Click buttons).
+ * The jitter of each rate group (how far the time between its runs strays from its period) is periodically published to the
+ * "sched/{period}ms/jitter_p99" and "sched/{period}ms/jitter_max" logging keys, if they exist.
+ * While the LoopWatchdog is shedding load, mechanisms that aren't critical are only run every LOOP_WATCHDOG_SLOW_MECHANISM_DIVISOR
+ * times that they are due.
+ */
+class MechanismScheduler
+{
+    private static final double NANOSECONDS_PER_SECOND = 1000000000.0;
+    private static final double NANOSECONDS_PER_MILLISECOND = 1000000.0;
+
+    private final LoggingManager logger;
+
+    private final int[] mechanismGroups;
+    private final int[] priorities;
+    private final boolean[] critical;
+    private final int[] dueCounts;
+    private final boolean[] due;
+
+    private final int[] groupDivisors;
+    private final int[] groupOffsets;
+    private final long[] groupPeriodNanoseconds;
+    private final long[] groupLastRunNanoseconds;
+    private final LatencyHistogram[] groupJitter;
+    private final LoggingKey[] groupP99Keys;
+    private final LoggingKey[] groupMaxKeys;
+
+    private long loop;
+    private int publishLoopCount;
+    private boolean slowNonCritical;
+
+    /**
+     * Initializes a new instance of the MechanismScheduler class.
+     * @param mechanismList list of mechanisms to schedule
+     * @param logger to publish the jitter metrics to
+     * @param loopDuration duration (in seconds) of the main loop
+     */
+    MechanismScheduler(List<IMechanism> mechanismList, LoggingManager logger, double loopDuration)
+    {
+        this.logger = logger;
+
+        int mechanismCount = mechanismList.size();
+        this.mechanismGroups = new int[mechanismCount];
+        this.priorities = new int[mechanismCount];
+        this.critical = new boolean[mechanismCount];
+        this.dueCounts = new int[mechanismCount];
+        this.due = new boolean[mechanismCount];
+        Arrays.fill(this.due, true);
+
+        int[] divisors = new int[mechanismCount];
+        for (int i = 0; i < mechanismCount; i++)
+        {
+            int divisor = 1;
+            this.critical[i] = true;
+            MechanismSchedule schedule = mechanismList.get(i).getClass().getAnnotation(MechanismSchedule.class);
+            if (schedule != null)
+            {
+                this.priorities[i] = schedule.priority();
+                this.critical[i] = schedule.critical();
+                if (schedule.period() > 0.0)
+                {
+                    divisor = MechanismScheduler.getDivisor(schedule.period(), loopDuration);
+                    ExceptionHelpers.Assert(
+                        Math.abs(divisor * loopDuration - schedule.period()) < 1e-6,
+                        "Expect the period of %s (%fs) to be a multiple of the main loop (%fs)",
+                        mechanismList.get(i).getClass().getSimpleName(),
+                        schedule.period(),
+                        loopDuration);
+                }
+            }
+
+            divisors[i] = divisor;
+        }
+
+        // order the groups from fastest to slowest
+        this.groupDivisors = Arrays.stream(divisors).distinct().sorted().toArray();
+        int groupCount = this.groupDivisors.length;
+        this.groupOffsets = new int[groupCount];
+        this.groupPeriodNanoseconds = new long[groupCount];
+        this.groupLastRunNanoseconds = new long[groupCount];
+        this.groupJitter = new LatencyHistogram[groupCount];
+        this.groupP99Keys = new LoggingKey[groupCount];
+        this.groupMaxKeys = new LoggingKey[groupCount];
+
+        int staggeredGroups = 0;
+        for (int group = 0; group < groupCount; group++)
+        {
+            int divisor = this.groupDivisors[group];
+            if (divisor > 1)
+            {
+                // spread the groups that are slower than the main loop across different loops (but they can still coincide, see above)
+                this.groupOffsets[group] = ++staggeredGroups % divisor;
+            }
+
+            double period = divisor * loopDuration;
+            String name = Math.round(period * 1000.0) + "ms";
+            this.groupPeriodNanoseconds[group] = Math.round(period * MechanismScheduler.NANOSECONDS_PER_SECOND);
+            this.groupJitter[group] = new LatencyHistogram();
+            this.groupP99Keys[group] = LoopProfiler.findKey("sched/" + name + "/jitter_p99");
+            this.groupMaxKeys[group] = LoopProfiler.findKey("sched/" + name + "/jitter_max");
+        }
+
+        for (int i = 0; i < mechanismCount; i++)
+        {
+            this.mechanismGroups[i] = Arrays.binarySearch(this.groupDivisors, divisors[i]);
+        }
+
+        this.loop = 0L;
+        this.publishLoopCount = 0;
+        this.slowNonCritical = false;
+    }
+
+    /**
+     * Advance to the next loop of the timeline, determining which mechanisms are due to run and recording the jitter of each rate group
+     */
+    void startLoop()
+    {
+        long now = System.nanoTime();
+        for (int group = 0; group < this.groupDivisors.length; group++)
+        {
+            if (this.loop % this.groupDivisors[group] == this.groupOffsets[group])
+            {
+                long lastRun = this.groupLastRunNanoseconds[group];
+                if (lastRun != 0L)
+                {
+                    this.groupJitter[group].record(Math.abs(now - lastRun - this.groupPeriodNanoseconds[group]));
+                }
+
+                this.groupLastRunNanoseconds[group] = now;
+            }
+        }
+
+        for (int i = 0; i < this.due.length; i++)
+        {
+            int group = this.mechanismGroups[i];
+            boolean due = this.loop % this.groupDivisors[group] == this.groupOffsets[group];
+            if (due && this.slowNonCritical && !this.critical[i])
+            {
+                due = this.dueCounts[i]++ % TuningConstants.LOOP_WATCHDOG_SLOW_MECHANISM_DIVISOR == 0;
+            }
+
+            this.due[i] = due;
+        }
+
+        this.loop++;
+        if (++this.publishLoopCount >= TuningConstants.LOOP_PROFILER_PUBLISH_LOOPS)
+        {
+            this.publish();
+            this.publishLoopCount = 0;
+        }
+    }
+
+    /**
+     * Set whether to run the mechanisms that aren't critical less often, to shed load
+     * @param slowNonCritical true to run non-critical mechanisms less often
+     */
+    void setSlowNonCritical(boolean slowNonCritical)
+    {
+        if (slowNonCritical && !this.slowNonCritical)
+        {
+            Arrays.fill(this.dueCounts, 0);
+        }
+
+        this.slowNonCritical = slowNonCritical;
+    }
+
+    /**
+     * Retrieve which mechanisms are due to run in the current loop
+     * @return array with an entry for each mechanism (all true before the first loop)
+     */
+    boolean[] getDue()
+    {
+        return this.due;
+    }
+
+    /**
+     * Retrieve the priority of each mechanism
+     * @return array with an entry for each mechanism
+     */
+    int[] getPriorities()
+    {
+        return this.priorities;
+    }
+
+    private void publish()
+    {
+        for (int group = 0; group < this.groupJitter.length; group++)
+        {
+            LatencyHistogram histogram = this.groupJitter[group];
+            if (histogram.getCount() > 0)
+            {
+                if (this.groupP99Keys[group] != null)
+                {
+                    this.logger.logNumber(this.groupP99Keys[group], histogram.getValueAtPercentile(99.0) / MechanismScheduler.NANOSECONDS_PER_MILLISECOND);
+                }
+
+                if (this.groupMaxKeys[group] != null)
+                {
+                    this.logger.logNumber(this.groupMaxKeys[group], histogram.getMax() / MechanismScheduler.NANOSECONDS_PER_MILLISECOND);
+                }
+            }
+
+            histogram.reset();
+        }
+    }
+
+    private static int getDivisor(double period, double loopDuration)
+    {
+        return Math.max(1, (int)Math.round(period / loopDuration));
+    }
+}
@@ -0,0 +1,239 @@
+package frc.lib.robotprovider;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import frc.lib.helpers.ExceptionHelpers;
+
+/**
+ * Binary file writer that hands data off to a background writer thread, so that the robot's main loop never blocks on I/O.
+ * Data is copied into a bounded, lock-free single-producer/single-consumer ring buffer, and the writer thread drains it into
+ * the underlying file writer.  When the ring buffer doesn't have room for a write (e.g. a slow USB stick), the write is dropped
+ * and counted instead of waiting.
+ * Closing the writer waits for the writer thread to write out everything that is buffered, and then closes the file.
+ */
+public class AsyncBinaryFileWriter implements IBinaryFileWriter
+{
+    private static final long IDLE_PARK_NANOS = 5000000L; // 5ms
+
+    private final RingBuffer ringBuffer;
+    private final Thread writerThread;
+
+    private long writePosition;
+    private int droppedWrites;
+    private boolean closed;
+
+    /**
+     * Initializes a new instance of the AsyncBinaryFileWriter class.
+     * @param fileWriter to write into from the background thread
+     * @param bufferSize size of the ring buffer in bytes (must be a power of 2)
+     */
+    public AsyncBinaryFileWriter(IBinaryFileWriter fileWriter, int bufferSize)
+    {
+        ExceptionHelpers.Assert(bufferSize > 0 && (bufferSize & (bufferSize - 1)) == 0, "Expect bufferSize %d to be a power of 2", bufferSize);
+
+        this.ringBuffer = new RingBuffer(fileWriter, bufferSize);
+        this.writePosition = 0L;
+        this.droppedWrites = 0;
+        this.closed = false;
+
+        this.writerThread = new Thread(new WriterLoop(this.ringBuffer), "AsyncBinaryFileWriter");
+        this.writerThread.setDaemon(true);
+        this.writerThread.setPriority(Thread.MIN_PRIORITY);
+        this.writerThread.start();
+    }
+
+    /**
+     * Write data into the ring buffer, to be written to the file by the background thread.
+     * The entire write is dropped if there isn't enough room for it in the ring buffer (or the writer has been closed).
+     * @param data buffer containing the bytes to write
+     * @param offset within the buffer of the first byte to write
+     * @param length number of bytes to write
+     */
+    @Override
+    public void write(byte[] data, int offset, int length)
+    {
+        RingBuffer ringBuffer = this.ringBuffer;
+        long writePosition = this.writePosition;
+        long available = ringBuffer.buffer.length - (writePosition - ringBuffer.readPosition.get());
+        if (length > available || this.closed)
+        {
+            this.droppedWrites++;
+            return;
+        }
+
+        int index = (int)(writePosition & ringBuffer.mask);
+        int firstLength = Math.min(length, ringBuffer.buffer.length - index);
+        System.arraycopy(data, offset, ringBuffer.buffer, index, firstLength);
+        if (firstLength < length)
+        {
+            System.arraycopy(data, offset + firstLength, ringBuffer.buffer, 0, length - firstLength);
+        }
+
+        this.writePosition = writePosition + length;
+        ringBuffer.writePosition.lazySet(this.writePosition);
+    }
+
+    /**
+     * Request that the background thread flush the data to disk once it has caught up (does not wait for the flush to occur)
+     */
+    @Override
+    public void flush()
+    {
+        this.ringBuffer.flushRequested.lazySet(true);
+    }
+
+    /**
+     * Wait for the background thread to write and flush everything that is buffered, and then close the underlying file writer.
+     * Any later writes are dropped.
+     * @throws IOException if there's some issue closing the file
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if (this.closed)
+        {
+            return;
+        }
+
+        this.closed = true;
+        this.ringBuffer.closeRequested.set(true);
+        LockSupport.unpark(this.writerThread);
+
+        boolean interrupted = false;
+        while (this.writerThread.isAlive())
+        {
+            try
+            {
+                this.writerThread.join();
+            }
+            catch (InterruptedException ex)
+            {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        // the writer thread has stopped, so we can use the underlying file writer from this thread
+        this.ringBuffer.fileWriter.close();
+    }
+
+    /**
+     * Retrieve the number of writes that were dropped because the ring buffer was full
+     * @return number of dropped writes
+     */
+    @Override
+    public int getDroppedWrites()
+    {
+        return this.droppedWrites;
+    }
+
+    /**
+     * State shared between the producer (robot loop) and the consumer (writer thread)
+     */
+    private static class RingBuffer
+    {
+        final IBinaryFileWriter fileWriter;
+        final byte[] buffer;
+        final long mask;
+
+        final AtomicLong writePosition;
+        final AtomicLong readPosition;
+        final AtomicBoolean flushRequested;
+        final AtomicBoolean closeRequested;
+
+        RingBuffer(IBinaryFileWriter fileWriter, int bufferSize)
+        {
+            this.fileWriter = fileWriter;
+            this.buffer = new byte[bufferSize];
+            this.mask = bufferSize - 1;
+
+            this.writePosition = new AtomicLong(0L);
+            this.readPosition = new AtomicLong(0L);
+            this.flushRequested = new AtomicBoolean(false);
+            this.closeRequested = new AtomicBoolean(false);
+        }
+    }
+
+    /**
+     * Background loop that drains the ring buffer into the underlying file writer
+     */
+    private static class WriterLoop implements Runnable
+    {
+        private final RingBuffer ringBuffer;
+
+        WriterLoop(RingBuffer ringBuffer)
+        {
+            this.ringBuffer = ringBuffer;
+        }
+
+        @Override
+        public void run()
+        {
+            RingBuffer ringBuffer = this.ringBuffer;
+            int capacity = ringBuffer.buffer.length;
+            long readPosition = ringBuffer.readPosition.get();
+            while (true)
+            {
+                long writePosition = ringBuffer.writePosition.get();
+                if (writePosition == readPosition)
+                {
+                    if (ringBuffer.flushRequested.getAndSet(false))
+                    {
+                        this.flush();
+                    }
+                    else if (ringBuffer.closeRequested.get())
+                    {
+                        // the last writes may have landed after we checked, so only stop once they have been written too
+                        if (ringBuffer.writePosition.get() != readPosition)
+                        {
+                            continue;
+                        }
+
+                        // nothing else can be written, so flush anything remaining and stop
+                        this.flush();
+                        return;
+                    }
+                    else
+                    {
+                        LockSupport.parkNanos(AsyncBinaryFileWriter.IDLE_PARK_NANOS);
+                    }
+
+                    continue;
+                }
+
+                int index = (int)(readPosition & ringBuffer.mask);
+                int length = (int)Math.min(writePosition - readPosition, capacity - index);
+                try
+                {
+                    ringBuffer.fileWriter.write(ringBuffer.buffer, index, length);
+                }
+                catch (IOException e)
+                {
+                    // best-effort...
+                }
+
+                readPosition += length;
+                ringBuffer.readPosition.lazySet(readPosition);
+            }
+        }
+
+        private void flush()
+        {
+            try
+            {
+                this.ringBuffer.fileWriter.flush();
+            }
+            catch (IOException e)
+            {
+                // best-effort...
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package frc.lib.robotprovider;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Offline tool to convert a file written by the BinaryLogger back into CSV format, matching what the CSVLogger would have written.
+ * Usage: BinaryLogConverter input.bin [output.csv]
+ */
+public class BinaryLogConverter
+{
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length < 1 || args.length > 2)
+        {
+            System.err.println("Usage: BinaryLogConverter input.bin [output.csv]");
+            System.exit(1);
+            return;
+        }
+
+        String inputFileName = args[0];
+        String outputFileName;
+        if (args.length > 1)
+        {
+            outputFileName = args[1];
+        }
+        else if (inputFileName.endsWith(".bin"))
+        {
+            outputFileName = inputFileName.substring(0, inputFileName.length() - 4) + ".csv";
+        }
+        else
+        {
+            outputFileName = inputFileName + ".csv";
+        }
+
+        try (InputStream input = new BufferedInputStream(new FileInputStream(inputFileName));
+             BufferedWriter output = new BufferedWriter(new FileWriter(outputFileName)))
+        {
+            int records = BinaryLogConverter.convert(input, output);
+            System.out.println(String.format("Converted %1$d records from %2$s into %3$s", records, inputFileName, outputFileName));
+        }
+    }
+
+    /**
+     * Convert binary log data into CSV
+     * @param input stream containing the binary log data
+     * @param output to write CSV into
+     * @return the number of records that were converted
+     * @throws IOException if the input is not a valid binary log, or there's some issue reading/writing data
+     */
+    public static int convert(InputStream input, Appendable output) throws IOException
+    {
+        DataInputStream dataInput = new DataInputStream(input);
+        if (dataInput.readInt() != BinaryLogger.MAGIC)
+        {
+            throw new IOException("Input is not a binary log");
+        }
+
+        short version = dataInput.readShort();
+        if (version != BinaryLogger.VERSION)
+        {
+            throw new IOException("Unsupported binary log version " + version);
+        }
+
+        int columnCount = dataInput.readShort();
+        for (int i = 0; i < columnCount; i++)
+        {
+            dataInput.readByte(); // LoggingType of the column, values are self-describing
+            byte[] name = new byte[dataInput.readShort()];
+            dataInput.readFully(name);
+
+            if (i > 0)
+            {
+                output.append(",");
+            }
+
+            output.append(new String(name, StandardCharsets.UTF_8));
+        }
+
+        output.append("\r\n");
+
+        int bitmaskSize = (columnCount + 7) / 8;
+        String[] values = new String[columnCount];
+        int records = 0;
+        while (true)
+        {
+            int recordLength;
+            byte[] record;
+            try
+            {
+                recordLength = dataInput.readInt();
+                record = new byte[recordLength];
+                dataInput.readFully(record);
+            }
+            catch (EOFException ex)
+            {
+                // end of the file, or a partially-written final record (e.g. robot lost power)
+                break;
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            buffer.position(bitmaskSize);
+            for (int column = 0; column < columnCount; column++)
+            {
+                values[column] = null;
+                if ((record[column >> 3] & (1 << (column & 7))) == 0)
+                {
+                    continue;
+                }
+
+                byte tag = buffer.get();
+                switch (tag)
+                {
+                    case BinaryLogger.TAG_NULL:
+                        values[column] = "null";
+                        break;
+
+                    case BinaryLogger.TAG_NUMBER:
+                        values[column] = String.valueOf(buffer.getDouble());
+                        break;
+
+                    case BinaryLogger.TAG_INTEGER:
+                        values[column] = String.valueOf(buffer.getInt());
+                        break;
+
+                    case BinaryLogger.TAG_BOOLEAN:
+                        values[column] = String.valueOf(buffer.get() != 0);
+                        break;
+
+                    case BinaryLogger.TAG_BOOLEAN_ARRAY:
+                        int length = buffer.getShort();
+                        long bits = buffer.getLong();
+                        StringBuilder builder = new StringBuilder();
+                        for (int i = 0; i < length; i++)
+                        {
+                            if (i > 0)
+                            {
+                                builder.append(",");
+                            }
+
+                            builder.append((bits & (1L << i)) != 0);
+                        }
+
+                        values[column] = builder.toString();
+                        break;
+
+                    case BinaryLogger.TAG_STRING:
+                        byte[] stringBytes = new byte[buffer.getShort()];
+                        buffer.get(stringBytes);
+                        values[column] = new String(stringBytes, StandardCharsets.UTF_8);
+                        break;
+
+                    default:
+                        throw new IOException("Unexpected value tag " + tag + " in record " + records);
+                }
+            }
+
+            for (int column = 0; column < columnCount; column++)
+            {
+                if (column > 0)
+                {
+                    output.append(",");
+                }
+
+                String value = values[column];
+                if (value != null)
+                {
+                    // check if string needs to be quoted
+                    if (value.contains(",") || value.contains("\"") || value.contains("\r") || value.contains("\n"))
+                    {
+                        value = "\"" + value.replace("\"", "\"\"") + "\"";
+                    }
+
+                    output.append(value);
+                }
+            }
+
+            output.append("\r\n");
+            records++;
+        }
+
+        return records;
+    }
+}
@@ -0,0 +1,507 @@
+package frc.lib.robotprovider;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import frc.robot.LoggingKey;
+
+/**
+ * Logs data into a compact binary, typed, columnar file that is saved to the provided location.
+ * Values are kept in preallocated per-column storage (indexed by LoggingKey ordinal) and are written into a
+ * preallocated buffer once per update, so that logging does not allocate on the robot's main loop.
+ * Use the BinaryLogConverter to convert the resulting file back into CSV format.
+ *
+ * File format (all values big-endian):
+ * - header: int magic, short version, short column count, then per column: byte LoggingType ordinal, short name length, name (UTF-8)
+ * - records: int record length, presence bitmask (1 bit per column), then for each present column: byte tag, value
+ */
+public class BinaryLogger implements ILogger
+{
+    static final int MAGIC = 0x31333138; // "1318"
+    static final short VERSION = 1;
+
+    static final byte TAG_NULL = 0;
+    static final byte TAG_NUMBER = 1;
+    static final byte TAG_INTEGER = 2;
+    static final byte TAG_BOOLEAN = 3;
+    static final byte TAG_STRING = 4;
+    static final byte TAG_BOOLEAN_ARRAY = 5;
+
+    static final int MAX_BOOLEAN_ARRAY_LENGTH = 64;
+
+    private static final int MAX_VALUE_SIZE = 11; // tag + largest primitive/boolean array payload
+    private static final int STRING_BUFFER_SIZE = 16 * 1024; // shared budget for all string values in a single record
+
+    private final IBinaryFileWriter fileWriter;
+    private final int[] columnLookup; // LoggingKey ordinal -> column index (or -1 when not logged)
+    private final int columnCount;
+    private final int bitmaskSize;
+
+    private final byte[] tags;
+    private final double[] numberValues;
+    private final int[] integerValues;
+    private final long[] booleanArrayValues;
+    private final String[] stringValues;
+
+    private final ByteBuffer buffer;
+
+    private int loggingCounter;
+    private int failedWrites;
+
+    /**
+     * Initializes a new instance of the BinaryLogger class, using the shouldLogToCsv LoggingKeys to determine the schema
+     * @param fileWriter to write into
+     * @throws IOException
+     */
+    public BinaryLogger(IBinaryFileWriter fileWriter) throws IOException
+    {
+        this(fileWriter, BinaryLogger.getDefaultSchema());
+    }
+
+    /**
+     * Initializes a new instance of the BinaryLogger class.
+     * @param fileWriter to write into
+     * @param schema to use for writing
+     * @throws IOException
+     */
+    public BinaryLogger(IBinaryFileWriter fileWriter, LoggingKey... schema) throws IOException
+    {
+        this.fileWriter = fileWriter;
+        this.columnLookup = new int[LoggingKey.values().length];
+        Arrays.fill(this.columnLookup, -1);
+
+        this.columnCount = schema.length;
+        for (int i = 0; i < this.columnCount; i++)
+        {
+            this.columnLookup[schema[i].ordinal()] = i;
+        }
+
+        this.bitmaskSize = (this.columnCount + 7) / 8;
+
+        this.tags = new byte[this.columnCount];
+        this.numberValues = new double[this.columnCount];
+        this.integerValues = new int[this.columnCount];
+        this.booleanArrayValues = new long[this.columnCount];
+        this.stringValues = new String[this.columnCount];
+        Arrays.fill(this.tags, (byte)-1);
+
+        int headerSize = 8;
+        byte[][] names = new byte[this.columnCount][];
+        for (int i = 0; i < this.columnCount; i++)
+        {
+            names[i] = schema[i].value.getBytes(StandardCharsets.UTF_8);
+            headerSize += 3 + names[i].length;
+        }
+
+        int recordSize = 4 + this.bitmaskSize + this.columnCount * BinaryLogger.MAX_VALUE_SIZE + BinaryLogger.STRING_BUFFER_SIZE;
+        this.buffer = ByteBuffer.allocate(Math.max(headerSize, recordSize));
+
+        this.buffer.putInt(BinaryLogger.MAGIC);
+        this.buffer.putShort(BinaryLogger.VERSION);
+        this.buffer.putShort((short)this.columnCount);
+        for (int i = 0; i < this.columnCount; i++)
+        {
+            this.buffer.put((byte)schema[i].type.ordinal());
+            this.buffer.putShort((short)names[i].length);
+            this.buffer.put(names[i]);
+        }
+
+        this.fileWriter.write(this.buffer.array(), 0, this.buffer.position());
+        this.fileWriter.flush();
+
+        this.loggingCounter = 0;
+        this.failedWrites = 0;
+    }
+
+    /**
+     * Write a boolean to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logBoolean(LoggingKey key, boolean value)
+    {
+        int column = this.getColumn(key);
+        if (column >= 0)
+        {
+            this.tags[column] = BinaryLogger.TAG_BOOLEAN;
+            this.integerValues[column] = value ? 1 : 0;
+        }
+    }
+
+    /**
+     * Write a boolean array to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logBooleanArray(LoggingKey key, boolean[] value)
+    {
+        int column = this.getColumn(key);
+        if (column >= 0)
+        {
+            if (value == null)
+            {
+                this.tags[column] = BinaryLogger.TAG_NULL;
+                return;
+            }
+
+            int length = Math.min(value.length, BinaryLogger.MAX_BOOLEAN_ARRAY_LENGTH);
+            long bits = 0L;
+            for (int i = 0; i < length; i++)
+            {
+                if (value[i])
+                {
+                    bits |= 1L << i;
+                }
+            }
+
+            this.tags[column] = BinaryLogger.TAG_BOOLEAN_ARRAY;
+            this.integerValues[column] = length;
+            this.booleanArrayValues[column] = bits;
+        }
+    }
+
+    /**
+     * Write a number (double) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logNumber(LoggingKey key, double value)
+    {
+        int column = this.getColumn(key);
+        if (column >= 0)
+        {
+            this.tags[column] = BinaryLogger.TAG_NUMBER;
+            this.numberValues[column] = value;
+        }
+    }
+
+    /**
+     * Write a number (nullable Double) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logNumber(LoggingKey key, Double value)
+    {
+        int column = this.getColumn(key);
+        if (column >= 0)
+        {
+            if (value == null)
+            {
+                this.tags[column] = BinaryLogger.TAG_NULL;
+            }
+            else
+            {
+                this.tags[column] = BinaryLogger.TAG_NUMBER;
+                this.numberValues[column] = value.doubleValue();
+            }
+        }
+    }
+
+    /**
+     * Write a number (integer) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logInteger(LoggingKey key, int value)
+    {
+        int column = this.getColumn(key);
+        if (column >= 0)
+        {
+            this.tags[column] = BinaryLogger.TAG_INTEGER;
+            this.integerValues[column] = value;
+        }
+    }
+
+    /**
+     * Write a number (nullable Integer) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logInteger(LoggingKey key, Integer value)
+    {
+        int column = this.getColumn(key);
+        if (column >= 0)
+        {
+            if (value == null)
+            {
+                this.tags[column] = BinaryLogger.TAG_NULL;
+            }
+            else
+            {
+                this.tags[column] = BinaryLogger.TAG_INTEGER;
+                this.integerValues[column] = value.intValue();
+            }
+        }
+    }
+
+    /**
+     * Write a number (integer) to the log.  The raw integer is recorded, the format string is not applied.
+     * @param key to write to
+     * @param value to write
+     * @param formatString to use
+     */
+    @Override
+    public void logInteger(LoggingKey key, int value, String formatString)
+    {
+        this.logInteger(key, value);
+    }
+
+    /**
+     * Write a string to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logString(LoggingKey key, String value)
+    {
+        int column = this.getColumn(key);
+        if (column >= 0)
+        {
+            if (value == null)
+            {
+                this.tags[column] = BinaryLogger.TAG_NULL;
+            }
+            else
+            {
+                this.tags[column] = BinaryLogger.TAG_STRING;
+                this.stringValues[column] = value;
+            }
+        }
+    }
+
+    /**
+     * Update the log, if appropriate..
+     */
+    @Override
+    public void update()
+    {
+        this.logInteger(LoggingKey.LogDroppedRecords, this.fileWriter.getDroppedWrites() + this.failedWrites);
+        this.loggingCounter++;
+
+        ByteBuffer buffer = this.buffer;
+        buffer.clear();
+
+        // reserve space for the record length and the presence bitmask
+        buffer.putInt(0);
+        int bitmaskPosition = buffer.position();
+        for (int i = 0; i < this.bitmaskSize; i++)
+        {
+            buffer.put((byte)0);
+        }
+
+        int stringBudget = BinaryLogger.STRING_BUFFER_SIZE;
+        for (int column = 0; column < this.columnCount; column++)
+        {
+            byte tag = this.tags[column];
+            if (tag < 0)
+            {
+                continue;
+            }
+
+            int bitmaskIndex = bitmaskPosition + (column >> 3);
+            buffer.put(bitmaskIndex, (byte)(buffer.get(bitmaskIndex) | (1 << (column & 7))));
+            buffer.put(tag);
+            switch (tag)
+            {
+                case BinaryLogger.TAG_NUMBER:
+                    buffer.putDouble(this.numberValues[column]);
+                    break;
+
+                case BinaryLogger.TAG_INTEGER:
+                    buffer.putInt(this.integerValues[column]);
+                    break;
+
+                case BinaryLogger.TAG_BOOLEAN:
+                    buffer.put((byte)this.integerValues[column]);
+                    break;
+
+                case BinaryLogger.TAG_BOOLEAN_ARRAY:
+                    buffer.putShort((short)this.integerValues[column]);
+                    buffer.putLong(this.booleanArrayValues[column]);
+                    break;
+
+                case BinaryLogger.TAG_STRING:
+                    stringBudget -= BinaryLogger.putString(buffer, this.stringValues[column], stringBudget);
+                    this.stringValues[column] = null;
+                    break;
+
+                default:
+                    // TAG_NULL has no value
+                    break;
+            }
+        }
+
+        buffer.putInt(0, buffer.position() - 4);
+
+        try
+        {
+            this.fileWriter.write(buffer.array(), 0, buffer.position());
+        }
+        catch (IOException e)
+        {
+            // count the record as dropped, but only report the first failure instead of one on every loop
+            if (this.failedWrites++ == 0)
+            {
+                System.err.println("Encountered exception writing log record: " + e.toString());
+            }
+        }
+
+        // clear the values
+        Arrays.fill(this.tags, (byte)-1);
+    }
+
+    /**
+     * Flush the output stream, if appropriate..
+     */
+    @Override
+    public void flush()
+    {
+        try
+        {
+            this.fileWriter.flush();
+        }
+        catch (IOException e)
+        {
+            // best-effort...
+        }
+    }
+
+    /**
+     * Flush and close the output stream, waiting for any buffered records to be written..
+     */
+    @Override
+    public void close()
+    {
+        try
+        {
+            this.fileWriter.close();
+        }
+        catch (IOException e)
+        {
+            System.err.println("Encountered exception closing log: " + e.toString());
+        }
+    }
+
+    /**
+     * Retrieve the column for the provided key, if it should be logged during this update
+     * @param key to look up
+     * @return column index, or -1 if the key should not be logged
+     */
+    private int getColumn(LoggingKey key)
+    {
+        if ((this.loggingCounter % key.loggingFrequency) != 0)
+        {
+            return -1;
+        }
+
+        return this.columnLookup[key.ordinal()];
+    }
+
+    /**
+     * Write a string into the buffer as a length-prefixed UTF-8 value, without allocating
+     * @param buffer to write into
+     * @param value to write
+     * @param budget maximum number of encoded bytes to write (truncating the string if needed)
+     * @return number of encoded bytes written
+     */
+    private static int putString(ByteBuffer buffer, String value, int budget)
+    {
+        int lengthPosition = buffer.position();
+        buffer.putShort((short)0);
+
+        int maxBytes = Math.min(budget, Short.MAX_VALUE);
+        int written = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++)
+        {
+            char c = value.charAt(i);
+            if (c < 0x80)
+            {
+                if (written + 1 > maxBytes)
+                {
+                    break;
+                }
+
+                buffer.put((byte)c);
+                written += 1;
+            }
+            else if (c < 0x800)
+            {
+                if (written + 2 > maxBytes)
+                {
+                    break;
+                }
+
+                buffer.put((byte)(0xC0 | (c >> 6)));
+                buffer.put((byte)(0x80 | (c & 0x3F)));
+                written += 2;
+            }
+            else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1)))
+            {
+                if (written + 4 > maxBytes)
+                {
+                    break;
+                }
+
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte)(0xF0 | (codePoint >> 18)));
+                buffer.put((byte)(0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte)(0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte)(0x80 | (codePoint & 0x3F)));
+                written += 4;
+            }
+            else
+            {
+                if (written + 3 > maxBytes)
+                {
+                    break;
+                }
+
+                buffer.put((byte)(0xE0 | (c >> 12)));
+                buffer.put((byte)(0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte)(0x80 | (c & 0x3F)));
+                written += 3;
+            }
+        }
+
+        buffer.putShort(lengthPosition, (short)written);
+        return written;
+    }
+
+    /**
+     * Retrieve the default schema, consisting of the keys that should be logged to CSV
+     * @return keys to use for the schema
+     */
+    private static LoggingKey[] getDefaultSchema()
+    {
+        int count = 0;
+        LoggingKey[] keys = LoggingKey.values();
+        for (LoggingKey key : keys)
+        {
+            if (key.shouldLogToCsv)
+            {
+                count++;
+            }
+        }
+
+        int index = 0;
+        LoggingKey[] schema = new LoggingKey[count];
+        for (LoggingKey key : keys)
+        {
+            if (key.shouldLogToCsv)
+            {
+                schema[index++] = key;
+            }
+        }
+
+        return schema;
+    }
+}
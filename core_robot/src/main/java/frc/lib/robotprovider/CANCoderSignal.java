@@ -0,0 +1,15 @@
+package frc.lib.robotprovider;
+
+/**
+ * The status signals read from a CANCoder that can be refreshed as a part of the batched refresh
+ * 
+ * Position: the position of the sensor (getPosition)
+ * Velocity: the velocity of the sensor (getVelocity)
+ * AbsolutePosition: the absolute position of the sensor (getAbsolutePosition)
+ */
+public enum CANCoderSignal
+{
+    Position,
+    Velocity,
+    AbsolutePosition;
+}
@@ -135,4 +135,20 @@ public class CSVLogger extends StringLogger
             // best-effort...
         }
     }
+
+    /**
+     * Flush and close the output stream, if appropriate..
+     */
+    @Override
+    public void close()
+    {
+        try
+        {
+            this.fileWriter.close();
+        }
+        catch (IOException e)
+        {
+            // best-effort...
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package frc.lib.robotprovider;
+
+import java.io.IOException;
+
+/**
+ * Represents a writer of raw binary data into a file on the local filesystem
+ */
+public interface IBinaryFileWriter
+{
+    /**
+     * Write data into the file
+     * @param data buffer containing the bytes to write
+     * @param offset within the buffer of the first byte to write
+     * @param length number of bytes to write
+     * @throws IOException if there's some issue writing data
+     */
+    public void write(byte[] data, int offset, int length) throws IOException;
+
+    /**
+     * Attempt to flush the data to disk (out of buffer)
+     * @throws IOException if there's some issue writing data
+     */
+    public void flush() throws IOException;
+
+    /**
+     * Flush the data to disk and close the file
+     * @throws IOException if there's some issue writing data
+     */
+    public void close() throws IOException;
+
+    /**
+     * Retrieve the number of writes that were dropped instead of written (e.g. due to backpressure)
+     * @return number of dropped writes
+     */
+    public int getDroppedWrites();
+}
@@ -28,6 +28,13 @@ public interface ICANCoder
      */
     double getAbsolutePosition();
 
+    /**
+     * Register status signals to be refreshed together with all other registered signals once per loop (see IRobotProvider.refreshBatchedSignals),
+     * instead of being refreshed individually each time they are read.  Only expected during initialization.
+     * @param signals to refresh as a part of the batch
+     */
+    void registerBatchedSignals(CANCoderSignal... signals);
+
     /**
      * Sets the position of the sensor.
      * The units are determined by the coefficient and unit-string configuration params, default is degrees.
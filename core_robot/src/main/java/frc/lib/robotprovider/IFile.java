@@ -36,4 +36,11 @@ public interface IFile
      * @throws IOException if there's an issue opening a writer
      */
     public IFileWriter openWriter() throws IOException;
+
+    /**
+     * Attempt to open a writer to write raw binary data into the file
+     * @return binary file writer
+     * @throws IOException if there's an issue opening a writer
+     */
+    public IBinaryFileWriter openBinaryWriter() throws IOException;
 }
\ No newline at end of file
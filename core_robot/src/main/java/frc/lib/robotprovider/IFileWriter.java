@@ -19,4 +19,10 @@ public interface IFileWriter
      * @throws IOException if there's some issue writing data
      */
     public void flush() throws IOException;
+
+    /**
+     * Flush the data to disk and close the file
+     * @throws IOException if there's some issue writing data
+     */
+    public void close() throws IOException;
 }
\ No newline at end of file
@@ -73,4 +73,9 @@ public interface ILogger
      * Flush the output stream, if appropriate..
      */
     void flush();
+
+    /**
+     * Flush and close the output stream, if appropriate (the logger shouldn't be written to afterwards)..
+     */
+    void close();
 }
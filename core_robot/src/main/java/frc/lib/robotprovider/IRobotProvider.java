@@ -292,4 +292,10 @@ public interface IRobotProvider
      * @return Preferences object
      */
     public IPreferences getPreferences();
+
+    /**
+     * Refresh all of the status signals that have been registered for batched refresh (e.g. ITalonFX.registerBatchedSignals)
+     * in as few bulk operations as possible.  Expected to be called once per loop, before the mechanisms read their sensors.
+     */
+    public void refreshBatchedSignals();
 }
@@ -0,0 +1,19 @@
+package frc.lib.robotprovider;
+
+/**
+ * Represents a copy of a device's status signal that is refreshed and read separately from the device's own getters, so that it
+ * can be used from another thread (e.g. a background sampler).  Each status signal should only be used from a single thread.
+ */
+public interface IStatusSignal
+{
+    /**
+     * Refresh the value from the most recent data received from the device
+     */
+    void refresh();
+
+    /**
+     * Retrieve the value as of the most recent refresh
+     * @return the value (in the same units as the device's corresponding getter)
+     */
+    double getValue();
+}
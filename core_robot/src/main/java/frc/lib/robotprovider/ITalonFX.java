@@ -116,6 +116,21 @@ public interface ITalonFX extends ITalonXBase
      */
     void setReverseLimitSwitchUpdateRate(double frequencyHz);
 
+    /**
+     * Register status signals to be refreshed together with all other registered signals once per loop (see IRobotProvider.refreshBatchedSignals),
+     * instead of being refreshed individually each time they are read.  Only expected during initialization.
+     * @param signals to refresh as a part of the batch
+     */
+    void registerBatchedSignals(TalonFXSignal... signals);
+
+    /**
+     * Create a separate copy of a status signal, which doesn't share any state with this TalonFX's getters or the batched refresh,
+     * so that it can be refreshed and read from another thread.  Only expected during initialization.
+     * @param signal to copy
+     * @return the copy of the status signal
+     */
+    IStatusSignal createSignal(TalonFXSignal signal);
+
     /**
      * Optimize CAN bus utilization by disabling (or decreasing the frequency of) signals that haven't been explicitly configured.
      * See TalonFX documentation for more information
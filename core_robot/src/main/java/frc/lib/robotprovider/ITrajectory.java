@@ -17,4 +17,23 @@ public interface ITrajectory
      * @return desired state when following the trajectory
      */
     TrajectoryState get(double time);
+
+    /**
+     * Retrieve the desired state at the provided time into the trajectory, filling in the provided state.
+     * Implementations that can do so without allocating should override this.
+     * @param time in seconds
+     * @param out state to fill in with the desired state when following the trajectory
+     * @return true if the state was filled in, false if the trajectory doesn't provide a state
+     */
+    default boolean get(double time, MutableTrajectoryState out)
+    {
+        TrajectoryState state = this.get(time);
+        if (state == null)
+        {
+            return false;
+        }
+
+        out.set(state.xPosition, state.yPosition, state.angle, state.xVelocity, state.yVelocity, state.angleVelocity);
+        return true;
+    }
 }
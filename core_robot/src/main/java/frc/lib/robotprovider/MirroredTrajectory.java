@@ -0,0 +1,64 @@
+package frc.lib.robotprovider;
+
+import frc.lib.helpers.Helpers;
+
+/**
+ * View of a trajectory mirrored through the center of the field, as if it were rotated by 180 degrees.  Field positions are
+ * symmetric between the alliances this way (see AutonLocManager), so a trajectory built for the blue alliance can be followed on the
+ * red alliance without building it a second time.
+ */
+public class MirroredTrajectory implements ITrajectory
+{
+    private final ITrajectory trajectory;
+
+    /**
+     * Initializes a new MirroredTrajectory
+     * @param trajectory to mirror
+     */
+    public MirroredTrajectory(ITrajectory trajectory)
+    {
+        this.trajectory = trajectory;
+    }
+
+    @Override
+    public double getDuration()
+    {
+        return this.trajectory.getDuration();
+    }
+
+    @Override
+    public TrajectoryState get(double time)
+    {
+        TrajectoryState state = this.trajectory.get(time);
+        if (state == null)
+        {
+            return null;
+        }
+
+        return new TrajectoryState(
+            -state.xPosition,
+            -state.yPosition,
+            Helpers.updateAngleRange180(state.angle + 180.0),
+            -state.xVelocity,
+            -state.yVelocity,
+            state.angleVelocity);
+    }
+
+    @Override
+    public boolean get(double time, MutableTrajectoryState out)
+    {
+        if (!this.trajectory.get(time, out))
+        {
+            return false;
+        }
+
+        out.set(
+            -out.xPosition,
+            -out.yPosition,
+            Helpers.updateAngleRange180(out.angle + 180.0),
+            -out.xVelocity,
+            -out.yVelocity,
+            out.angleVelocity);
+        return true;
+    }
+}
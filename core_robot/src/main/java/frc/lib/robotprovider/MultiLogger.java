@@ -154,4 +154,16 @@ public class MultiLogger implements ILogger
             logger.flush();
         }
     }
+
+    /**
+     * Flush and close the output stream, if appropriate..
+     */
+    @Override
+    public void close()
+    {
+        for (ILogger logger : this.loggers)
+        {
+            logger.close();
+        }
+    }
 }
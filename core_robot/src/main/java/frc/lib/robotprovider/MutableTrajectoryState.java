@@ -0,0 +1,40 @@
+package frc.lib.robotprovider;
+
+/**
+ * The desired state of a robot following a trajectory at some point in time, which can be filled in repeatedly (to avoid allocating
+ * a new TrajectoryState on every update)
+ */
+public class MutableTrajectoryState
+{
+    public double xPosition; // in inches
+    public double yPosition; // in inches
+    public double angle; // in degrees
+    public double xVelocity; // in inches per second
+    public double yVelocity; // in inches per second
+    public double angleVelocity; // in degrees per second
+
+    /**
+     * Set the values of this state
+     * @param xPosition in inches
+     * @param yPosition in inches
+     * @param angle in degrees
+     * @param xVelocity in inches per second
+     * @param yVelocity in inches per second
+     * @param angleVelocity in degrees per second
+     */
+    public void set(
+        double xPosition,
+        double yPosition,
+        double angle,
+        double xVelocity,
+        double yVelocity,
+        double angleVelocity)
+    {
+        this.xPosition = xPosition;
+        this.yPosition = yPosition;
+        this.angle = angle;
+        this.xVelocity = xVelocity;
+        this.yVelocity = yVelocity;
+        this.angleVelocity = angleVelocity;
+    }
+}
@@ -0,0 +1,183 @@
+package frc.lib.robotprovider;
+
+import java.nio.ByteBuffer;
+
+import frc.lib.helpers.ExceptionHelpers;
+import frc.lib.helpers.Helpers;
+
+/**
+ * Trajectory stored as states sampled at a uniform interval in primitive arrays, which are linearly interpolated between.
+ * Looking up a state only takes some index math, and doesn't allocate when using get(time, out), so trajectories are converted into
+ * this form once when they are built rather than sampling the path planner's trajectory on every update.  It can also be written to
+ * and read from a buffer, for caching trajectories on disk (see TrajectoryCache).
+ */
+public class SampledTrajectory implements ITrajectory
+{
+    private static final int FIELDS_PER_SAMPLE = 6;
+
+    private final double duration;
+    private final double sampleInterval;
+    private final double[] xPositions;
+    private final double[] yPositions;
+    private final double[] angles;
+    private final double[] xVelocities;
+    private final double[] yVelocities;
+    private final double[] angleVelocities;
+
+    private SampledTrajectory(double duration, double sampleInterval, int sampleCount)
+    {
+        this.duration = duration;
+        this.sampleInterval = sampleInterval;
+        this.xPositions = new double[sampleCount];
+        this.yPositions = new double[sampleCount];
+        this.angles = new double[sampleCount];
+        this.xVelocities = new double[sampleCount];
+        this.yVelocities = new double[sampleCount];
+        this.angleVelocities = new double[sampleCount];
+    }
+
+    /**
+     * Sample a trajectory at (at most) the provided interval, from the start to the end of the trajectory
+     * @param trajectory to sample
+     * @param maxSampleInterval the maximum time between samples, in seconds
+     * @return the sampled trajectory, or null if the trajectory doesn't provide any states
+     */
+    public static SampledTrajectory sample(ITrajectory trajectory, double maxSampleInterval)
+    {
+        ExceptionHelpers.Assert(maxSampleInterval > 0.0, "Expect a positive sample interval, got %f", maxSampleInterval);
+
+        double duration = Math.max(0.0, trajectory.getDuration());
+        int sampleCount = (int)Math.ceil(duration / maxSampleInterval) + 1;
+        double sampleInterval = sampleCount > 1 ? duration / (sampleCount - 1) : maxSampleInterval;
+
+        SampledTrajectory sampled = new SampledTrajectory(duration, sampleInterval, sampleCount);
+        for (int i = 0; i < sampleCount; i++)
+        {
+            TrajectoryState state = trajectory.get(i < sampleCount - 1 ? i * sampleInterval : duration);
+            if (state == null)
+            {
+                return null;
+            }
+
+            sampled.xPositions[i] = state.xPosition;
+            sampled.yPositions[i] = state.yPosition;
+            sampled.angles[i] = state.angle;
+            sampled.xVelocities[i] = state.xVelocity;
+            sampled.yVelocities[i] = state.yVelocity;
+            sampled.angleVelocities[i] = state.angleVelocity;
+        }
+
+        return sampled;
+    }
+
+    /**
+     * Retrieve the number of bytes needed to write this trajectory
+     * @return size in bytes
+     */
+    public int getSerializedSize()
+    {
+        return 2 * Double.BYTES + Integer.BYTES + this.xPositions.length * SampledTrajectory.FIELDS_PER_SAMPLE * Double.BYTES;
+    }
+
+    /**
+     * Write this trajectory into the provided buffer
+     * @param buffer to write into, with at least getSerializedSize() bytes remaining
+     */
+    public void write(ByteBuffer buffer)
+    {
+        buffer.putDouble(this.duration);
+        buffer.putDouble(this.sampleInterval);
+        buffer.putInt(this.xPositions.length);
+        buffer.asDoubleBuffer()
+            .put(this.xPositions)
+            .put(this.yPositions)
+            .put(this.angles)
+            .put(this.xVelocities)
+            .put(this.yVelocities)
+            .put(this.angleVelocities);
+        buffer.position(buffer.position() + this.xPositions.length * SampledTrajectory.FIELDS_PER_SAMPLE * Double.BYTES);
+    }
+
+    /**
+     * Read a trajectory that was written by write()
+     * @param buffer to read from
+     * @return the trajectory, or null if the buffer doesn't contain a valid trajectory
+     */
+    public static SampledTrajectory read(ByteBuffer buffer)
+    {
+        if (buffer.remaining() < 2 * Double.BYTES + Integer.BYTES)
+        {
+            return null;
+        }
+
+        double duration = buffer.getDouble();
+        double sampleInterval = buffer.getDouble();
+        int sampleCount = buffer.getInt();
+        if (sampleCount <= 0 ||
+            !(sampleInterval > 0.0) ||
+            !(duration >= 0.0) ||
+            buffer.remaining() < (long)sampleCount * SampledTrajectory.FIELDS_PER_SAMPLE * Double.BYTES)
+        {
+            return null;
+        }
+
+        SampledTrajectory sampled = new SampledTrajectory(duration, sampleInterval, sampleCount);
+        buffer.asDoubleBuffer()
+            .get(sampled.xPositions)
+            .get(sampled.yPositions)
+            .get(sampled.angles)
+            .get(sampled.xVelocities)
+            .get(sampled.yVelocities)
+            .get(sampled.angleVelocities);
+        buffer.position(buffer.position() + sampleCount * SampledTrajectory.FIELDS_PER_SAMPLE * Double.BYTES);
+        return sampled;
+    }
+
+    @Override
+    public double getDuration()
+    {
+        return this.duration;
+    }
+
+    @Override
+    public TrajectoryState get(double time)
+    {
+        MutableTrajectoryState state = new MutableTrajectoryState();
+        this.get(time, state);
+        return new TrajectoryState(state.xPosition, state.yPosition, state.angle, state.xVelocity, state.yVelocity, state.angleVelocity);
+    }
+
+    @Override
+    public boolean get(double time, MutableTrajectoryState out)
+    {
+        int lastIndex = this.xPositions.length - 1;
+        double position = Helpers.enforceRange(time, 0.0, this.duration) / this.sampleInterval;
+        int index = Math.min((int)position, lastIndex);
+        if (index == lastIndex)
+        {
+            out.set(
+                this.xPositions[index],
+                this.yPositions[index],
+                this.angles[index],
+                this.xVelocities[index],
+                this.yVelocities[index],
+                this.angleVelocities[index]);
+            return true;
+        }
+
+        double ratio = position - index;
+        out.set(
+            SampledTrajectory.interpolate(this.xPositions, index, ratio),
+            SampledTrajectory.interpolate(this.yPositions, index, ratio),
+            Helpers.updateAngleRange180(this.angles[index] + Helpers.updateAngleRange180(this.angles[index + 1] - this.angles[index]) * ratio),
+            SampledTrajectory.interpolate(this.xVelocities, index, ratio),
+            SampledTrajectory.interpolate(this.yVelocities, index, ratio),
+            SampledTrajectory.interpolate(this.angleVelocities, index, ratio));
+        return true;
+    }
+
+    private static double interpolate(double[] values, int index, double ratio)
+    {
+        return values[index] + (values[index + 1] - values[index]) * ratio;
+    }
+}
@@ -157,6 +157,14 @@ public abstract class StringLogger implements ILogger
     {
     }
 
+    /**
+     * Flush and close the output stream, if appropriate..
+     */
+    @Override
+    public void close()
+    {
+    }
+
     /**
      * Write a string to the log
      * @param key to write to
@@ -0,0 +1,21 @@
+package frc.lib.robotprovider;
+
+/**
+ * The status signals read from a TalonFX that can be refreshed as a part of the batched refresh
+ * 
+ * Position: the sensor position (getPosition)
+ * Velocity: the sensor velocity (getVelocity)
+ * Error: the closed-loop error (getError)
+ * Output: the duty-cycle output (getOutput)
+ * ForwardLimitSwitch: the state of the forward limit switch (getForwardLimitSwitchClosed, getLimitSwitchStatus)
+ * ReverseLimitSwitch: the state of the reverse limit switch (getReverseLimitSwitchClosed, getLimitSwitchStatus)
+ */
+public enum TalonFXSignal
+{
+    Position,
+    Velocity,
+    Error,
+    Output,
+    ForwardLimitSwitch,
+    ReverseLimitSwitch;
+}
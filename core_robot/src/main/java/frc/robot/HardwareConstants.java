@@ -37,6 +37,7 @@ public class HardwareConstants
     public static final double SDSDRIVETRAIN_STEER_TICKS_PER_DEGREE = HardwareConstants.SDSDRIVETRAIN_STEER_GEAR_RATIO / HardwareConstants.SDSDRIVETRAIN_STEER_DEGREES; // in rotations
 
     public static final double SDSDRIVETRAIN_WHEEL_COEFFICIENT_OF_FRICTION = 1.2; // (unitless)
+    public static final MotorType SDSDRIVETRAIN_STEER_MOTOR_TYPE = MotorType.KrakenX60;
     public static final MotorType SDSDRIVETRAIN_DRIVE_MOTOR_TYPE = MotorType.KrakenX60;
     public static final int SDSDRIVETRAIN_DRIVE_MOTOR_COUNT = 1;
     public static final double SDSDRIVETRAIN_DRIVE_GEAR_RATIO = 38250.0 / 6480.0; // According to SDS Mk4N L2: (50.0 / 13.0) * (17.0 / 27.0) * (45.0 / 15.0) == ~6.12 : 1
@@ -10,11 +10,70 @@ public enum LoggingKey
     RobotState("r/state", LoggingType.String, false, 1, true),
     RobotTime("r/time", LoggingType.Number, false, 1, true),
     RobotCrash("r/crash", LoggingType.String, false, true),
+    LogDroppedRecords("log/droppedRecords", LoggingType.Integer, false, 1, true),
+
+    // Loop timing (in milliseconds, published periodically by LoopProfiler)
+    LoopTimePowerManagerP50("loop/PowerManager/p50", LoggingType.Number, false, 1, true),
+    LoopTimePowerManagerP99("loop/PowerManager/p99", LoggingType.Number, false, 1, true),
+    LoopTimePowerManagerMax("loop/PowerManager/max", LoggingType.Number, false, 1, true),
+    LoopTimePigeonManagerP50("loop/PigeonManager/p50", LoggingType.Number, false, 1, true),
+    LoopTimePigeonManagerP99("loop/PigeonManager/p99", LoggingType.Number, false, 1, true),
+    LoopTimePigeonManagerMax("loop/PigeonManager/max", LoggingType.Number, false, 1, true),
+    LoopTimeOffboardVisionManagerP50("loop/OffboardVisionManager/p50", LoggingType.Number, false, 1, true),
+    LoopTimeOffboardVisionManagerP99("loop/OffboardVisionManager/p99", LoggingType.Number, false, 1, true),
+    LoopTimeOffboardVisionManagerMax("loop/OffboardVisionManager/max", LoggingType.Number, false, 1, true),
+    LoopTimeCoralEndEffectorMechanismP50("loop/CoralEndEffectorMechanism/p50", LoggingType.Number, false, 1, true),
+    LoopTimeCoralEndEffectorMechanismP99("loop/CoralEndEffectorMechanism/p99", LoggingType.Number, false, 1, true),
+    LoopTimeCoralEndEffectorMechanismMax("loop/CoralEndEffectorMechanism/max", LoggingType.Number, false, 1, true),
+    LoopTimeAlgaeIntakeMechanismP50("loop/AlgaeIntakeMechanism/p50", LoggingType.Number, false, 1, true),
+    LoopTimeAlgaeIntakeMechanismP99("loop/AlgaeIntakeMechanism/p99", LoggingType.Number, false, 1, true),
+    LoopTimeAlgaeIntakeMechanismMax("loop/AlgaeIntakeMechanism/max", LoggingType.Number, false, 1, true),
+    LoopTimeClimberMechanismP50("loop/ClimberMechanism/p50", LoggingType.Number, false, 1, true),
+    LoopTimeClimberMechanismP99("loop/ClimberMechanism/p99", LoggingType.Number, false, 1, true),
+    LoopTimeClimberMechanismMax("loop/ClimberMechanism/max", LoggingType.Number, false, 1, true),
+    LoopTimeElevatorMechanismP50("loop/ElevatorMechanism/p50", LoggingType.Number, false, 1, true),
+    LoopTimeElevatorMechanismP99("loop/ElevatorMechanism/p99", LoggingType.Number, false, 1, true),
+    LoopTimeElevatorMechanismMax("loop/ElevatorMechanism/max", LoggingType.Number, false, 1, true),
+    LoopTimeSDSDriveTrainMechanismP50("loop/SDSDriveTrainMechanism/p50", LoggingType.Number, false, 1, true),
+    LoopTimeSDSDriveTrainMechanismP99("loop/SDSDriveTrainMechanism/p99", LoggingType.Number, false, 1, true),
+    LoopTimeSDSDriveTrainMechanismMax("loop/SDSDriveTrainMechanism/max", LoggingType.Number, false, 1, true),
+    LoopTimeDriverFeedbackManagerP50("loop/DriverFeedbackManager/p50", LoggingType.Number, false, 1, true),
+    LoopTimeDriverFeedbackManagerP99("loop/DriverFeedbackManager/p99", LoggingType.Number, false, 1, true),
+    LoopTimeDriverFeedbackManagerMax("loop/DriverFeedbackManager/max", LoggingType.Number, false, 1, true),
+    LoopTimeCANRefreshP50("loop/CANRefresh/p50", LoggingType.Number, false, 1, true),
+    LoopTimeCANRefreshP99("loop/CANRefresh/p99", LoggingType.Number, false, 1, true),
+    LoopTimeCANRefreshMax("loop/CANRefresh/max", LoggingType.Number, false, 1, true),
+    LoopTimeDriverP50("loop/Driver/p50", LoggingType.Number, false, 1, true),
+    LoopTimeDriverP99("loop/Driver/p99", LoggingType.Number, false, 1, true),
+    LoopTimeDriverMax("loop/Driver/max", LoggingType.Number, false, 1, true),
+    LoopTimeLoggingManagerP50("loop/LoggingManager/p50", LoggingType.Number, false, 1, true),
+    LoopTimeLoggingManagerP99("loop/LoggingManager/p99", LoggingType.Number, false, 1, true),
+    LoopTimeLoggingManagerMax("loop/LoggingManager/max", LoggingType.Number, false, 1, true),
+    LoopTimeLoopP50("loop/Loop/p50", LoggingType.Number, false, 1, true),
+    LoopTimeLoopP99("loop/Loop/p99", LoggingType.Number, false, 1, true),
+    LoopTimeLoopMax("loop/Loop/max", LoggingType.Number, false, 1, true),
+    SchedulerJitter20msP99("sched/20ms/jitter_p99", LoggingType.Number, false, 1, true),
+    SchedulerJitter20msMax("sched/20ms/jitter_max", LoggingType.Number, false, 1, true),
+    SchedulerJitter100msP99("sched/100ms/jitter_p99", LoggingType.Number, false, 1, true),
+    SchedulerJitter100msMax("sched/100ms/jitter_max", LoggingType.Number, false, 1, true),
+    LoopWatchdogStage("watchdog/stage", LoggingType.Integer, false, 1, true),
+    LoopWatchdogOverruns("watchdog/overruns", LoggingType.Integer, false, 1, true),
+    LoopWatchdogShedEvents("watchdog/shedEvents", LoggingType.Integer, false, 1, true),
+    LoopWatchdogRestoreEvents("watchdog/restoreEvents", LoggingType.Integer, false, 1, true),
+    LoopWatchdogSkippedLogs("watchdog/skippedLogs", LoggingType.Integer, false, 1, true),
+    LoopWatchdogDeferredFlushes("watchdog/deferredFlushes", LoggingType.Integer, false, 1, true),
+    LoopWatchdogSlowestPhase("watchdog/slowestPhase", LoggingType.String, false, 1, true),
+
     DriverMode("driver/mode", LoggingType.String, false, 1, true),
     DriverActiveMacros("driver/activeMacros", LoggingType.String, false, 1, true),
     DriverActiveShifts("driver/activeShifts", LoggingType.String, false),
     AutonomousSelection("auto/selected", LoggingType.String, false),
     AutonomousDSMessage("auto/dsMessage", LoggingType.String, false),
+    AutonomousTimedOutTask("auto/timedOut", LoggingType.String, false, 1, true),
+    AutonomousTrajectoriesReadyTime("auto/trajectoriesReadyTime", LoggingType.NullableNumber, false, 1, true),
+    AutonomousTrajectoriesFailed("auto/trajectoriesFailed", LoggingType.Integer, false, 1, true),
+    AutonomousTrajectoryCacheHits("auto/trajectoryCacheHits", LoggingType.Integer, false, 1, true),
+    AutonomousTrajectoryCacheBuilds("auto/trajectoryCacheBuilds", LoggingType.Integer, false, 1, true),
     OffboardVisionAprilTagXOffset("coproc/atXOffset", LoggingType.NullableNumber, true, 1),
     OffboardVisionAprilTagYOffset("coproc/atYOffset", LoggingType.NullableNumber, true, 1),
     OffboardVisionAprilTagZOffset("coproc/atZOffset", LoggingType.NullableNumber, true, 1),
@@ -59,6 +118,8 @@ public enum LoggingKey
     DriveTrainAngle("dt/angle", LoggingType.Number, false),
     DriveTrainXPosition("dt/xpos", LoggingType.Number, false, 1, true),
     DriveTrainYPosition("dt/ypos", LoggingType.Number, false, 1, true),
+    DriveTrainOdometrySamples("dt/odometry_samples", LoggingType.Integer, false),
+    DriveTrainPoseVariance("dt/pose_variance", LoggingType.Number, false),
     DriveTrainXPositionGoal("dt/xpos_goal", LoggingType.Number, false, true),
     DriveTrainYPositionGoal("dt/ypos_goal", LoggingType.Number, false, true),
     DriveTrainAngleGoal("dt/angle_pathgoal", LoggingType.Number, false),
@@ -164,6 +225,8 @@ public enum LoggingKey
     public final boolean isInput;
     public final int loggingFrequency;
     public final boolean shouldLogToCsv;
+    public final int verbosity;
+
     private LoggingKey(String value, LoggingType type)
     {
         this(value, type, false, TuningConstants.DEFAULT_LOGGING_FREQUENCY, false);
@@ -196,6 +259,10 @@ public enum LoggingKey
         this.isInput = isInput;
         this.loggingFrequency = loggingFrequency;
         this.shouldLogToCsv = shouldLogToCsv;
+
+        // keys that are logged to the log file are essential (0), other inputs are needed to understand the robot's behavior (1),
+        // and everything else is for debugging (2)
+        this.verbosity = shouldLogToCsv ? 0 : (isInput ? 1 : 2);
     }
 }
 
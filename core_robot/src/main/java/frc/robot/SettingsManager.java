@@ -11,7 +11,10 @@ import com.google.inject.Injector;
 
 import frc.lib.mechanisms.IMechanism;
 import frc.lib.robotprovider.Alliance;
+import frc.lib.robotprovider.AsyncBinaryFileWriter;
+import frc.lib.robotprovider.BinaryLogger;
 import frc.lib.robotprovider.CSVLogger;
+import frc.lib.robotprovider.IBinaryFileWriter;
 import frc.lib.robotprovider.IDriverStation;
 import frc.lib.robotprovider.IFile;
 import frc.lib.robotprovider.ILogger;
@@ -26,6 +29,7 @@ public class SettingsManager
 {
     public static List<IMechanism> getActiveMechanisms(Injector injector)
     {
+        // each mechanism must come after the mechanisms it depends on (see @DependsOn), mechanisms that don't depend on each other may run in parallel
         List<IMechanism> mechanismList = new ArrayList<IMechanism>();
         mechanismList.add(injector.getInstance(PowerManager.class));
         mechanismList.add(injector.getInstance(PigeonManager.class)); // PigeonManager/NavxManager should come before DriveTrainMechanism
@@ -65,6 +69,7 @@ public class SettingsManager
             return smartDashboardLogger;
         }
 
+        String extension = TuningConstants.LOG_FILE_USE_BINARY_FORMAT ? "bin" : "csv";
         String eventName = driverStation.getEventName();
         int matchNumber = driverStation.getMatchNumber();
         int replayNumber = driverStation.getReplayNumber();
@@ -90,7 +95,7 @@ public class SettingsManager
                 directory.mkdir();
 
                 file = injector.getInstance(IFile.class);
-                file.open(String.format("/U/other/%1$d.csv", Calendar.getInstance().getTime().getTime()));
+                file.open(String.format("/U/other/%1$d.%2$s", Calendar.getInstance().getTime().getTime(), extension));
                 if (file.exists())
                 {
                     // file already exists
@@ -110,14 +115,15 @@ public class SettingsManager
             file = injector.getInstance(IFile.class);
             String fileName =
                 String.format(
-                    "%1$s%2$s%3$02d%4$s (%5$s%6$d).%7$s.csv",
+                    "%1$s%2$s%3$02d%4$s (%5$s%6$d).%7$s.%8$s",
                     directoryPath,
                     matchType.value,
                     matchNumber,
                     replayNumber == 0 ? "" : String.format("R%1$d", replayNumber),
                     alliance.get().value,
                     location.getAsInt(),
-                    mode.toString().toLowerCase());
+                    mode.toString().toLowerCase(),
+                    extension);
 
             file.open(fileName);
             if (file.exists())
@@ -127,7 +133,7 @@ public class SettingsManager
                     // start adding .2, .3, etc. to the name, a la "/U/2020 - Glacier Peak/Q03 (R2).2.csv"
                     fileName =
                         String.format(
-                            "%1$s%2$s%3$02d%4$s (%5$s%6$d).%7$s.%8$d.csv",
+                            "%1$s%2$s%3$02d%4$s (%5$s%6$d).%7$s.%8$d.%9$s",
                             directoryPath,
                             matchType.value,
                             matchNumber,
@@ -135,7 +141,8 @@ public class SettingsManager
                             alliance.get().value,
                             location.getAsInt(),
                             mode.toString().toLowerCase(),
-                            i);
+                            i,
+                            extension);
 
                     file.open(fileName);
                     if (!file.exists())
@@ -148,8 +155,23 @@ public class SettingsManager
 
         try
         {
-            CSVLogger csvLogger = new CSVLogger(file.openWriter());
-            return new MultiLogger(csvLogger, smartDashboardLogger);
+            ILogger fileLogger;
+            if (TuningConstants.LOG_FILE_USE_BINARY_FORMAT)
+            {
+                IBinaryFileWriter fileWriter = file.openBinaryWriter();
+                if (TuningConstants.LOG_FILE_ASYNC_WRITE)
+                {
+                    fileWriter = new AsyncBinaryFileWriter(fileWriter, TuningConstants.LOG_FILE_ASYNC_BUFFER_SIZE);
+                }
+
+                fileLogger = new BinaryLogger(fileWriter);
+            }
+            else
+            {
+                fileLogger = new CSVLogger(file.openWriter());
+            }
+
+            return new MultiLogger(fileLogger, smartDashboardLogger);
         }
         catch (IOException ex)
         {
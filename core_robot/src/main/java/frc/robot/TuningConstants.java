@@ -23,6 +23,7 @@ public class TuningConstants
 
     public static final boolean EXPECT_UNUSED_JOYSTICKS = true;
     public static final boolean PERFORM_COSTLY_TASKS_WHILE_DISABLED = true;
+    public static final int MECHANISM_WORKER_THREADS = 0; // extra threads for running independent mechanisms in parallel (0 runs every mechanism in sequence on the main thread)
 
     //================================================== Magic Values ==============================================================
 
@@ -38,12 +39,30 @@ public class TuningConstants
     public static final boolean LOG_FILE_ONLY_COMPETITION_MATCHES = false;
     public static final long LOG_FILE_REQUIRED_FREE_SPACE = 50 * 1024 * 1024; // require at least 50 MB of space
     public static final int LOG_FLUSH_THRESHOLD = 25;
+    public static final boolean LOG_FILE_USE_BINARY_FORMAT = false; // write a compact binary log (convert to CSV offline using BinaryLogConverter)
+    public static final boolean LOG_FILE_ASYNC_WRITE = true; // write the binary log from a background thread so the main loop never blocks on I/O
+    public static final int LOG_FILE_ASYNC_BUFFER_SIZE = 1024 * 1024; // bytes of log data to buffer for the background thread (must be a power of 2)
     public static final boolean USE_LOGGING_FREQUENCY = true; // TuningConstants.COMPETITION_ROBOT;
     public static final int DEFAULT_LOGGING_FREQUENCY = 10; // number of entries to ignore between logging
+    public static final int LOOP_PROFILER_PUBLISH_LOOPS = 250; // number of loops to gather timing over before publishing p50/p99/max (5s)
+    public static final boolean LOOP_WATCHDOG_ENABLED = true; // default for RobotOptions (deterministic simulations turn it off, as shedding depends on the wall-clock time)
+    public static final double LOOP_WATCHDOG_BUDGET = 0.016; // shed load when a tick takes longer than this (in seconds), to leave some slack within the LOOP_DURATION
+    public static final int LOOP_WATCHDOG_SHED_TICKS = 3; // number of consecutive ticks over the budget before shedding the next stage, so a single spike (e.g. GC) doesn't shed
+    public static final double LOOP_WATCHDOG_RESTORE_RATIO = 0.6; // a tick has slack when it takes less than this fraction of the budget
+    public static final int LOOP_WATCHDOG_RESTORE_TICKS = 50; // number of consecutive ticks with slack before restoring the previous stage (1s)
+    public static final int LOOP_WATCHDOG_SHED_LOGGING_VERBOSITY = 1; // while shedding, skip logging keys above this verbosity (debug outputs)
+    public static final int LOOP_WATCHDOG_MAX_FLUSH_DEFERRAL = 4; // while shedding, defer flushing the log for up to this many times the LOG_FLUSH_THRESHOLD
+    public static final int LOOP_WATCHDOG_SLOW_MECHANISM_DIVISOR = 2; // while shedding, only run non-critical mechanisms every this many times they are due
 
     //================================================== Autonomous ==============================================================
 
-    public static final boolean TRAJECTORY_FORCE_BUILD = false;
+    public static final boolean TRAJECTORY_FORCE_BUILD = false; // rebuild every trajectory instead of loading it from the cache
+    public static final boolean TRAJECTORY_CACHE_ENABLED = true; // cache built trajectories on disk so that unchanged trajectories don't need to be rebuilt at every boot (only on the roboRIO, see RobotModule)
+    public static final String TRAJECTORY_CACHE_DIRECTORY = "/home/lvuser/trajectory_cache/"; // outside of the deploy directory, which is wiped by each deploy
+    public static final double TRAJECTORY_SAMPLE_INTERVAL = 0.01; // maximum time between the samples stored for each built (and cached) trajectory (in seconds)
+    public static final int TRAJECTORY_GENERATION_THREADS = 2; // worker threads for building trajectories in the background while disabled (0 builds them all at boot on the main thread)
+    public static final double TRAJECTORY_GENERATION_WAIT_TIMEOUT = 2.0; // how long a path task holds position waiting for its trajectory to finish building before giving up (in seconds)
+    public static final int TRAJECTORY_ON_THE_FLY_CACHE_SIZE = 8; // number of recently built on-the-fly trajectories (e.g. AprilTag approaches) to keep for reuse
     public static final double AUTO_3_CORAL_DO_LAST_CORAL_TIME_THRESHOLD = 3.2; // seconds
     public static final double AUTO_TIME_TO_RAISE_ELEVATOR = 1.0;
 
@@ -300,6 +319,9 @@ public class TuningConstants
     // Finding AprilTags to determine if theres enough valid data to translate 
     public static final int TAGS_MISSED_THRESHOLD = 30;
     public static final int TAGS_FOUND_THRESHOLD = 5;
+    public static final int APPROACH_APRILTAG_BUILD_TIMEOUT = 50; // number of updates to wait for the approach path to be built before giving up (1s)
+    public static final double APPROACH_APRILTAG_POSITION_QUANTUM = 0.5; // approach goals are rounded to this (in inches), so that repeated approaches can reuse a recently built path
+    public static final double APPROACH_APRILTAG_ANGLE_QUANTUM = 1.0; // approach goal angles are rounded to this (in degrees)
     public static final double ACCEPTABLE_RANGE_IN_X_AND_Y_FOR_ALIGNMENT_TRANSLATE = 1.0; // in inches
 
     // Acceptable vision centering range values in degrees
@@ -388,6 +410,7 @@ public class TuningConstants
     public static final double VISION_FAST_MOVING_PID_MAX = 0.45;
 
     public static final int VISION_MISSED_HEARTBEAT_THRESHOLD = 50;
+    public static final double VISION_DEFAULT_LATENCY = 0.075; // seconds between capturing a frame and publishing its results, if the coprocessor doesn't report it
 
     public static final double ORIENTATION_TURN_THRESHOLD = 2.0; // number of degrees off at which point we give up trying to face an angle
 
@@ -407,6 +430,20 @@ public class TuningConstants
     public static final double SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP = 0.02;
 
     public static final boolean SDSDRIVETRAIN_USE_ODOMETRY = true;
+    public static final boolean SDSDRIVETRAIN_USE_HIGH_RATE_ODOMETRY = true; // default for RobotOptions (deterministic simulations turn it off, as the sampler thread is paced by the wall clock)
+    public static final int SDSDRIVETRAIN_HIGH_RATE_ODOMETRY_FREQUENCY_HZ = 250;
+    public static final int SDSDRIVETRAIN_HIGH_RATE_ODOMETRY_BUFFER_SIZE = 32; // must be a power of 2, enough for a few loops of samples
+    public static final boolean SDSDRIVETRAIN_USE_VISION_POSE_FUSION = false; // until the coprocessor's absolute position has been validated on the field
+    public static final int SDSDRIVETRAIN_POSE_HISTORY_CAPACITY = 512; // must be a power of 2, enough for ~2 seconds of high-rate odometry
+    public static final double SDSDRIVETRAIN_POSE_INITIAL_VARIANCE = 1.0; // in^2, how much we trust the starting position
+    public static final double SDSDRIVETRAIN_POSE_VARIANCE_PER_INCH = 0.05; // in^2 of odometry drift per inch traveled
+    public static final double SDSDRIVETRAIN_POSE_VARIANCE_MAX = 10000.0; // in^2
+    public static final double SDSDRIVETRAIN_VISION_STD_DEV_BASE = 2.0; // in
+    public static final double SDSDRIVETRAIN_VISION_ERROR_REFERENCE = 1.0e-6; // m^2, pose estimation (object-space) error reported by the coprocessor for a clean detection
+    public static final double SDSDRIVETRAIN_VISION_STD_DEV_AT_ERROR_REFERENCE = 1.0; // in, how much less we trust a detection with the reference error
+    public static final double SDSDRIVETRAIN_VISION_STD_DEV_PER_ERROR = TuningConstants.SDSDRIVETRAIN_VISION_STD_DEV_AT_ERROR_REFERENCE / TuningConstants.SDSDRIVETRAIN_VISION_ERROR_REFERENCE; // in, per m^2 of pose estimation error
+    public static final double SDSDRIVETRAIN_VISION_DECISION_MARGIN_REFERENCE = 100.0; // decision margin at which we use the base std dev
+    public static final double SDSDRIVETRAIN_VISION_DECISION_MARGIN_MIN = 20.0; // ignore detections less certain than this
     public static final boolean SDSDRIVETRAIN_RESET_ON_ROBOT_START = true;
     public static final boolean SDSDRIVETRAIN_FIELD_ORIENTED_ON_ROBOT_START = true;
     public static final boolean SDSDRIVETRAIN_MAINTAIN_ORIENTATION_ON_ROBOT_START = false;
@@ -602,6 +639,7 @@ public class TuningConstants
     public static final double SDSDRIVETRAIN_STATIONARY_VELOCITY = 0.1;
     public static final double SDSDRIVETRAIN_TURN_APPROXIMATION_STATIONARY = 2.0; // number of degrees off at which point we give up trying to face an angle when uncommanded
     public static final double SDSDRIVETRAIN_TURN_APPROXIMATION = 1.0; // number of degrees off at which point we give up trying to face an angle when uncommanded
+    public static final double SDSDRIVETRAIN_PATH_END_TOLERANCE = 6.0; // in inches, how far from the end of a path we can be when its time runs out before we report that it timed out
     public static final double SDSDRIVETRAIN_MAX_MODULE_PATH_VELOCITY = 0.85 * TuningConstants.SDSDRIVETRAIN_MAX_VELOCITY; // up to x% of our max controllable speed
     public static final double SDSDRIVETRAIN_MAX_PATH_TURN_VELOCITY = 180.0; // in degrees per second
     public static final double SDSDRIVETRAIN_MAX_PATH_TRANSLATIONAL_VELOCITY = 0.60 * TuningConstants.SDSDRIVETRAIN_MAX_VELOCITY; // in inches per second
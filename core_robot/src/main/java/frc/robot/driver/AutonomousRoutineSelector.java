@@ -9,6 +9,7 @@ import frc.lib.mechanisms.LoggingManager;
 import frc.lib.robotprovider.Alliance;
 import frc.lib.robotprovider.IDriverStation;
 import frc.lib.robotprovider.ILogger;
+import frc.lib.robotprovider.IPathPlanner;
 import frc.lib.robotprovider.IRobotProvider;
 import frc.lib.robotprovider.RobotMode;
 import frc.robot.AutonLocManager;
@@ -65,7 +66,9 @@ public class AutonomousRoutineSelector
 
         this.locManager = new AutonLocManager(provider);
 
-        PathPlannerTrajectoryGenerator.generateTrajectories(this.trajectoryManager, provider.getPathPlanner());
+        IPathPlanner pathPlanner = this.trajectoryManager.getCachingPathPlanner(provider.getPathPlanner());
+        PathPlannerTrajectoryGenerator.generateTrajectories(this.trajectoryManager, this.trajectoryManager.getParallelPathPlanner(pathPlanner));
+        this.trajectoryManager.completeGeneration();
     }
 
     /**
@@ -77,6 +80,13 @@ public class AutonomousRoutineSelector
     {
         String driverStationMessage = this.driverStation.getGameSpecificMessage();
         this.logger.logString(LoggingKey.AutonomousDSMessage, driverStationMessage);
+
+        // report how long the trajectories took to be ready after boot (null if they are still being built)
+        this.logger.logNumber(LoggingKey.AutonomousTrajectoriesReadyTime, this.trajectoryManager.getReadyTime());
+        this.logger.logInteger(LoggingKey.AutonomousTrajectoriesFailed, this.trajectoryManager.getFailedCount());
+        this.logger.logInteger(LoggingKey.AutonomousTrajectoryCacheHits, this.trajectoryManager.getCacheHits());
+        this.logger.logInteger(LoggingKey.AutonomousTrajectoryCacheBuilds, this.trajectoryManager.getCacheBuilds());
+
         if (mode == RobotMode.Test)
         {
             // currently not supported...
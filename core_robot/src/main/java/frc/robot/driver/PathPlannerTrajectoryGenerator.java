@@ -37,8 +37,8 @@ public class PathPlannerTrajectoryGenerator
     {
         PathPlannerTrajectoryGenerator.configureRobot(pathPlanner);
 
+        // red alliance trajectories are mirrored from the blue alliance ones as they're added, rather than being built separately
         PathPlannerTrajectoryGenerator.generateTrajectories(false, trajectoryManager, pathPlanner);
-        PathPlannerTrajectoryGenerator.generateTrajectories(true, trajectoryManager, pathPlanner);
 
         // ------------------------------- Macro paths --------------------------------------------
         addTrajectory(
@@ -1456,6 +1456,11 @@ public class PathPlannerTrajectoryGenerator
         {
             if (alliance.isPresent())
             {
+                if (alliance.get() == Alliance.Blue)
+                {
+                    trajectoryManager.addMirroredTrajectory(name + Alliance.Red.toString(), trajectory);
+                }
+
                 name += alliance.get().toString();
             }
 
@@ -88,4 +88,21 @@ public class AlgaeIntakeControlTask extends CompositeOperationTask
                 return super.hasCompleted();
         }
     }
+
+    @Override
+    protected boolean hasReachedGoal()
+    {
+        switch (this.desiredResult)
+        {
+            case Intake:
+                return this.endEffector.hasGamePiece();
+
+            case Outtake:
+            case Launch:
+                return !this.endEffector.hasGamePiece();
+
+            default:
+                return true;
+        }
+    }
 }
\ No newline at end of file
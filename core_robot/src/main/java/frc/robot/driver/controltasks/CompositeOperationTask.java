@@ -125,6 +125,12 @@ public abstract class CompositeOperationTask extends UpdateCycleTask
     public void end()
     {
         super.end();
+
+        if (this.timeoutMode && !this.runIndefinitely && this.timer.get() >= this.startTime + this.timeout && !this.hasReachedGoal())
+        {
+            this.reportTimeout(this.toPerform.toString());
+        }
+
         for (DigitalOperation op : this.possibleOperations)
         {
             this.setDigitalOperationState(op, false);
@@ -147,6 +153,16 @@ public abstract class CompositeOperationTask extends UpdateCycleTask
         return super.hasCompleted();
     }
 
+    /**
+     * Checks whether the goal of this task has been reached, used to decide whether expiring in timeout mode was a timeout.
+     * Tasks whose only goal is to run for their duration should leave this as the default.
+     * @return true if the goal has been reached (or there is no goal), otherwise false
+     */
+    protected boolean hasReachedGoal()
+    {
+        return true;
+    }
+
     /**
      * Update the toPerform value.  Note that we would want this to be called only really within an override for begin()
      * @param toPerform the operation to perform (by setting to true)
@@ -5,6 +5,9 @@ import java.util.EnumMap;
 import frc.lib.driver.*;
 import frc.lib.driver.states.AnalogOperationState;
 import frc.lib.driver.states.DigitalOperationState;
+import frc.lib.mechanisms.LoggingManager;
+import frc.lib.robotprovider.ITimer;
+import frc.robot.LoggingKey;
 import frc.robot.driver.*;
 
 import com.google.inject.Injector;
@@ -116,6 +119,17 @@ public abstract class ControlTaskBase implements IControlTask
         return operationState.getState();
     }
 
+    /**
+     * Report that this task gave up because it ran out of time before reaching its goal, by logging what it gave up on and the time
+     * @param description of what timed out (e.g. the operation being performed)
+     */
+    protected void reportTimeout(String description)
+    {
+        ITimer timer = this.injector.getInstance(ITimer.class);
+        LoggingManager logger = this.injector.getInstance(LoggingManager.class);
+        logger.logString(LoggingKey.AutonomousTimedOutTask, String.format("%s@%.2f", description, timer.get()));
+    }
+
     /**
      * Gets the injector for the robot
      * @return the injector for retrieving the of robot components
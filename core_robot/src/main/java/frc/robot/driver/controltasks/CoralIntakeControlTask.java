@@ -121,4 +121,24 @@ public class CoralIntakeControlTask extends CompositeOperationTask
 
         return super.hasCompleted();
     }
+
+    @Override
+    protected boolean hasReachedGoal()
+    {
+        switch (this.desiredResult)
+        {
+            case Intake:
+            case IntakeSlow:
+                return this.endEffector.hasGamePiece();
+
+            case Place:
+            case PlaceSlow:
+            case ReverseSlow:
+                return !this.endEffector.hasGamePiece();
+
+            case Reverse:
+            default:
+                return true;
+        }
+    }
 }
\ No newline at end of file
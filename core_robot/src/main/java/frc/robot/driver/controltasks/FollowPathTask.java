@@ -1,5 +1,6 @@
 package frc.robot.driver.controltasks;
 
+import frc.lib.driver.FutureTrajectory;
 import frc.lib.driver.TrajectoryManager;
 import frc.lib.helpers.ExceptionHelpers;
 import frc.lib.helpers.Helpers;
@@ -7,8 +8,8 @@ import frc.lib.robotprovider.Alliance;
 import frc.lib.robotprovider.IRobotProvider;
 import frc.lib.robotprovider.ITimer;
 import frc.lib.robotprovider.ITrajectory;
+import frc.lib.robotprovider.MutableTrajectoryState;
 import frc.lib.robotprovider.Pose2d;
-import frc.lib.robotprovider.TrajectoryState;
 import frc.robot.TuningConstants;
 import frc.robot.driver.AnalogOperation;
 import frc.robot.driver.DigitalOperation;
@@ -31,13 +32,18 @@ public class FollowPathTask extends ControlTaskBase
 
     private final String pathName;
     private final Type type;
+    private final MutableTrajectoryState state;
 
     private ITimer timer;
 
     private double startTime;
     private double trajectoryDuration;
     private ITrajectory trajectory;
+    private FutureTrajectory pendingTrajectory;
+    private double waitStartTime;
     private Pose2d initialPose;
+    private double xGoal;
+    private double yGoal;
 
     private boolean shouldCancel;
 
@@ -70,6 +76,7 @@ public class FollowPathTask extends ControlTaskBase
     {
         this.pathName = pathName;
         this.type = type;
+        this.state = new MutableTrajectoryState();
 
         this.shouldCancel = false;
     }
@@ -83,7 +90,33 @@ public class FollowPathTask extends ControlTaskBase
         this.timer = this.getInjector().getInstance(ITimer.class);
 
         TrajectoryManager trajectoryManager = this.getInjector().getInstance(TrajectoryManager.class);
-        this.trajectory = trajectoryManager.getTrajectory(this.pathName);
+        ITrajectory trajectory = trajectoryManager.getTrajectory(this.pathName);
+        if (trajectory instanceof FutureTrajectory && !((FutureTrajectory)trajectory).isReady())
+        {
+            // this path hasn't finished building in the background yet, so hold position until it has instead of blocking the loop
+            this.pendingTrajectory = (FutureTrajectory)trajectory;
+            this.waitStartTime = this.timer.get();
+            this.holdPosition();
+            return;
+        }
+
+        this.startPath(trajectory);
+    }
+
+    /**
+     * Start following the path
+     * @param trajectory for the path, which has already been built
+     */
+    private void startPath(ITrajectory trajectory)
+    {
+        this.pendingTrajectory = null;
+        this.trajectory = trajectory;
+        if (this.trajectory instanceof FutureTrajectory)
+        {
+            // already built, so this doesn't block
+            this.trajectory = ((FutureTrajectory)this.trajectory).await();
+        }
+
         if (this.trajectory == null)
         {
             ExceptionHelpers.Assert(false, "Unknown trajectory '" + this.pathName + "'");
@@ -112,13 +145,55 @@ public class FollowPathTask extends ControlTaskBase
         this.setDigitalOperationState(DigitalOperation.DriveTrainPathMode, true);
     }
 
+    /**
+     * Hold the robot at its current pose (using path mode) while waiting for the path to be built
+     */
+    private void holdPosition()
+    {
+        IDriveTrainMechanism driveTrain = this.getInjector().getInstance(SDSDriveTrainMechanism.class);
+        Pose2d pose = driveTrain.getPose();
+        this.xGoal = pose.x;
+        this.yGoal = pose.y;
+
+        this.setDigitalOperationState(DigitalOperation.DriveTrainPathMode, true);
+        this.setAnalogOperationState(AnalogOperation.DriveTrainPathXGoal, pose.x);
+        this.setAnalogOperationState(AnalogOperation.DriveTrainPathYGoal, pose.y);
+        this.setAnalogOperationState(AnalogOperation.DriveTrainPathAngleGoal, pose.angle);
+        this.setAnalogOperationState(AnalogOperation.DriveTrainPathXVelocityGoal, 0.0);
+        this.setAnalogOperationState(AnalogOperation.DriveTrainPathYVelocityGoal, 0.0);
+        this.setAnalogOperationState(AnalogOperation.DriveTrainPathAngleVelocityGoal, 0.0);
+    }
+
     /**
      * Run an iteration of the current task and apply any control changes
      */
     @Override
     public void update()
     { 
-        TrajectoryState state = this.trajectory.get(this.timer.get() - this.startTime);
+        if (this.pendingTrajectory != null)
+        {
+            if (!this.pendingTrajectory.isReady())
+            {
+                if (this.timer.get() - this.waitStartTime > TuningConstants.TRAJECTORY_GENERATION_WAIT_TIMEOUT)
+                {
+                    System.out.println(String.format("timed out waiting for path %s to be built", this.pathName));
+                    this.reportTimeout(this.pathName);
+                    this.shouldCancel = true;
+                }
+
+                // keep holding the pose from when we started waiting
+                return;
+            }
+
+            this.startPath(this.pendingTrajectory);
+            if (this.shouldCancel)
+            {
+                return;
+            }
+        }
+
+        MutableTrajectoryState state = this.state;
+        this.trajectory.get(this.timer.get() - this.startTime, state);
 
         double xPos = state.xPosition;
         double yPos = state.yPosition;
@@ -167,6 +242,9 @@ public class FollowPathTask extends ControlTaskBase
                 break;
         }
 
+        this.xGoal = xGoal;
+        this.yGoal = yGoal;
+
         this.setAnalogOperationState(AnalogOperation.DriveTrainPathXGoal, xGoal);
         this.setAnalogOperationState(AnalogOperation.DriveTrainPathYGoal, yGoal);
         this.setAnalogOperationState(AnalogOperation.DriveTrainPathAngleGoal, angleGoal);
@@ -181,6 +259,17 @@ public class FollowPathTask extends ControlTaskBase
     @Override
     public void end()
     {
+        if (this.hasCompleted())
+        {
+            // the path's time ran out, so check whether we actually made it to the end of the path
+            IDriveTrainMechanism driveTrain = this.getInjector().getInstance(SDSDriveTrainMechanism.class);
+            Pose2d pose = driveTrain.getPose();
+            if (Math.hypot(pose.x - this.xGoal, pose.y - this.yGoal) > TuningConstants.SDSDRIVETRAIN_PATH_END_TOLERANCE)
+            {
+                this.reportTimeout(this.pathName);
+            }
+        }
+
         this.setDigitalOperationState(DigitalOperation.DriveTrainPathMode, false);
         this.setAnalogOperationState(AnalogOperation.DriveTrainPathXGoal, 0.0);
         this.setAnalogOperationState(AnalogOperation.DriveTrainPathYGoal, 0.0);
@@ -203,6 +292,6 @@ public class FollowPathTask extends ControlTaskBase
     @Override
     public boolean hasCompleted()
     {
-        return !this.shouldCancel && this.timer.get() > this.startTime + this.trajectoryDuration;
+        return !this.shouldCancel && this.pendingTrajectory == null && this.timer.get() > this.startTime + this.trajectoryDuration;
     }
 }
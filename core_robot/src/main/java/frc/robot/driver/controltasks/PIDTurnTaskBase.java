@@ -97,6 +97,12 @@ public abstract class PIDTurnTaskBase extends ControlTaskBase
     @Override
     public void end()
     {
+        if (this.noAngleCount >= this.noAngleThreshold)
+        {
+            // gave up because the angle wasn't available for too long
+            this.reportTimeout(this.getClass().getSimpleName());
+        }
+
         this.setAnalogOperationState(AnalogOperation.DriveTrainSpinLeft, 0.0);
         this.setAnalogOperationState(AnalogOperation.DriveTrainSpinRight, 0.0);
 
@@ -2,6 +2,7 @@ package frc.robot.driver.controltasks;
 
 import java.util.function.Function;
 
+import frc.lib.driver.FutureTrajectory;
 import frc.lib.driver.IControlTask;
 import frc.lib.driver.TrajectoryManager;
 import frc.lib.helpers.ExceptionHelpers;
@@ -41,11 +42,14 @@ public class VisionApproachAprilTagTask extends DecisionSequentialTask
     private DigitalOperation visionOperation;
 
     private int noAprilTags;
+    private int buildUpdates;
+    private FutureTrajectory approachTrajectory;
 
     private enum State
     {
         PreReadWait,
         ReadAprilTag,
+        BuildApproachPath,
         ApproachAprilTag
     }
 
@@ -181,16 +185,18 @@ public class VisionApproachAprilTagTask extends DecisionSequentialTask
 
             if (this.vision.getAprilTagId() != null)
             {
-                IPathPlanner pathPlanner = this.provider.getPathPlanner();
-                PathPlannerTrajectoryGenerator.configureRobot(pathPlanner);
-
                 double tagXOffset = vision.getAprilTagXOffset();
                 double tagYOffset = vision.getAprilTagYOffset();
                 double tagYawOffset = vision.getAprilTagYaw();
 
-                double xGoal = tagXOffset - Helpers.cosd(tagYawOffset) * this.xOffset - Helpers.sind(tagYawOffset) * this.yOffset;
-                double yGoal = tagYOffset + Helpers.cosd(tagYawOffset) * this.yOffset - Helpers.sind(tagYawOffset) * this.xOffset;
-                double yawGoal = tagYawOffset + this.yawOffset;
+                // round the goal so that approaching the same tag from (nearly) the same place can reuse a recently built path
+                long xGoalSteps = Math.round((tagXOffset - Helpers.cosd(tagYawOffset) * this.xOffset - Helpers.sind(tagYawOffset) * this.yOffset) / TuningConstants.APPROACH_APRILTAG_POSITION_QUANTUM);
+                long yGoalSteps = Math.round((tagYOffset + Helpers.cosd(tagYawOffset) * this.yOffset - Helpers.sind(tagYawOffset) * this.xOffset) / TuningConstants.APPROACH_APRILTAG_POSITION_QUANTUM);
+                long yawGoalSteps = Math.round((tagYawOffset + this.yawOffset) / TuningConstants.APPROACH_APRILTAG_ANGLE_QUANTUM);
+
+                double xGoal = xGoalSteps * TuningConstants.APPROACH_APRILTAG_POSITION_QUANTUM;
+                double yGoal = yGoalSteps * TuningConstants.APPROACH_APRILTAG_POSITION_QUANTUM;
+                double yawGoal = yawGoalSteps * TuningConstants.APPROACH_APRILTAG_ANGLE_QUANTUM;
 
                 double tangent = Helpers.atan2d(yGoal, xGoal);
 
@@ -211,30 +217,43 @@ public class VisionApproachAprilTagTask extends DecisionSequentialTask
                         break;
                 }
 
-                // generate the path
-                ITrajectory approachTrajectory =
-                    pathPlanner.buildTrajectory(
+                // the path planner is shared with the rest of the robot, so it is configured here on the robot's loop (a no-op unless the
+                // boot-time trajectories weren't generated) and only the build itself happens in the background, without holding up the loop
+                IPathPlanner pathPlanner = this.provider.getPathPlanner();
+                PathPlannerTrajectoryGenerator.configureRobot(pathPlanner);
+                this.approachTrajectory = this.trajectoryManager.buildTrajectoryAsync(
+                    String.format("%s %d %d %d %s", VisionApproachAprilTagTask.PATH_NAME, xGoalSteps, yGoalSteps, yawGoalSteps, this.approachType),
+                    () -> pathPlanner.buildTrajectory(
                         TuningConstants.SDSDRIVETRAIN_MAX_PATH_TRANSLATIONAL_VELOCITY,
                         TuningConstants.SDSDRIVETRAIN_MAX_PATH_TRANSLATIONAL_ACCELERATION,
                         TuningConstants.SDSDRIVETRAIN_MAX_PATH_ROTATIONAL_VELOCITY,
                         TuningConstants.SDSDRIVETRAIN_MAX_PATH_ROTATIONAL_ACCELERATION,
                         new PathPlannerWaypoint(0, 0, tangent, 0),
-                        new PathPlannerWaypoint(xGoal, yGoal, finalHeading, yawGoal));
-
-                this.trajectoryManager.addTrajectory(VisionApproachAprilTagTask.PATH_NAME, approachTrajectory);
-
-                IControlTask taskToPreform = new FollowPathTask(VisionApproachAprilTagTask.PATH_NAME, Type.RobotRelativeFromCurrentPose);
-                if (this.creator != null)
-                {
-                    taskToPreform = ConcurrentTask.AllTasks(taskToPreform, this.creator.apply(approachTrajectory.getDuration()));
-                }
+                        new PathPlannerWaypoint(xGoal, yGoal, finalHeading, yawGoal)));
 
-                this.AppendTask(taskToPreform);
-                this.state = State.ApproachAprilTag;
+                this.buildUpdates = 0;
+                this.state = State.BuildApproachPath;
+                this.startApproachIfBuilt();
             }
             else
             {
                 this.noAprilTags++;
+                if (this.noAprilTags == TuningConstants.TAGS_MISSED_THRESHOLD + 1)
+                {
+                    // shouldCancel will give up on the next check
+                    this.reportTimeout(this.visionOperation.toString());
+                }
+            }
+        }
+        else if (this.state == State.BuildApproachPath)
+        {
+            // hold position until the approach path has been built
+            this.buildUpdates++;
+            this.startApproachIfBuilt();
+            if (this.state == State.BuildApproachPath && this.buildUpdates == TuningConstants.APPROACH_APRILTAG_BUILD_TIMEOUT + 1)
+            {
+                // shouldCancel will give up on the next check
+                this.reportTimeout(VisionApproachAprilTagTask.PATH_NAME);
             }
         }
         else // if (this.state == State.ApproachAprilTag)
@@ -243,6 +262,31 @@ public class VisionApproachAprilTagTask extends DecisionSequentialTask
         }
     }
 
+    private void startApproachIfBuilt()
+    {
+        if (!this.approachTrajectory.isReady())
+        {
+            return;
+        }
+
+        ITrajectory trajectory = this.approachTrajectory.await();
+        if (trajectory == null)
+        {
+            return;
+        }
+
+        this.trajectoryManager.addTrajectory(VisionApproachAprilTagTask.PATH_NAME, trajectory);
+
+        IControlTask taskToPreform = new FollowPathTask(VisionApproachAprilTagTask.PATH_NAME, Type.RobotRelativeFromCurrentPose);
+        if (this.creator != null)
+        {
+            taskToPreform = ConcurrentTask.AllTasks(taskToPreform, this.creator.apply(trajectory.getDuration()));
+        }
+
+        this.AppendTask(taskToPreform);
+        this.state = State.ApproachAprilTag;
+    }
+
     @Override
     public void end()
     {
@@ -276,6 +320,13 @@ public class VisionApproachAprilTagTask extends DecisionSequentialTask
             return this.noAprilTags > TuningConstants.TAGS_MISSED_THRESHOLD;
         }
 
+        if (this.state == State.BuildApproachPath)
+        {
+            // give up if the approach path couldn't be built, or is taking too long to build
+            return this.buildUpdates > TuningConstants.APPROACH_APRILTAG_BUILD_TIMEOUT ||
+                (this.approachTrajectory.isReady() && this.approachTrajectory.await() == null);
+        }
+
         return super.shouldCancel();
     }
 }
\ No newline at end of file
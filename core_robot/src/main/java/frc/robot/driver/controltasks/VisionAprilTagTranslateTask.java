@@ -136,6 +136,7 @@ public class VisionAprilTagTranslateTask extends ControlTaskBase
             else if (this.tagsMissed >= TuningConstants.TAGS_MISSED_THRESHOLD)
             {
                 this.currentState = TranslateState.Stop;
+                this.reportTimeout(DigitalOperation.VisionFindAnyAprilTag.toString());
             }
         }
         else if (this.currentState == TranslateState.Translate)
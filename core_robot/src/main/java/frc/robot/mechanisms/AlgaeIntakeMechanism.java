@@ -7,8 +7,10 @@ import frc.lib.driver.IDriver;
 import frc.lib.filters.FloatingAverageCalculator;
 import frc.lib.helpers.ExceptionHelpers;
 import frc.lib.helpers.Helpers;
+import frc.lib.mechanisms.DependsOn;
 import frc.lib.mechanisms.IMechanism;
 import frc.lib.mechanisms.LoggingManager;
+import frc.lib.mechanisms.MechanismSchedule;
 import frc.lib.robotprovider.IRobotProvider;
 import frc.lib.robotprovider.ISparkMax;
 import frc.lib.robotprovider.ITalonSRX;
@@ -27,6 +29,8 @@ import frc.robot.driver.AnalogOperation;
 import frc.robot.driver.DigitalOperation;
 
 @Singleton
+@DependsOn(PowerManager.class)
+@MechanismSchedule(priority = 2)
 public class AlgaeIntakeMechanism implements IMechanism
 {
     private final IDriver driver;
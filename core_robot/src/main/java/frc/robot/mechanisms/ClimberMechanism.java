@@ -5,8 +5,10 @@ import frc.lib.driver.IDriver;
 import frc.lib.filters.FloatingAverageCalculator;
 import frc.lib.helpers.ExceptionHelpers;
 import frc.lib.helpers.Helpers;
+import frc.lib.mechanisms.DependsOn;
 import frc.lib.mechanisms.IMechanism;
 import frc.lib.mechanisms.LoggingManager;
+import frc.lib.mechanisms.MechanismSchedule;
 import frc.lib.robotprovider.*;
 import frc.robot.ElectronicsConstants;
 import frc.robot.HardwareConstants;
@@ -19,6 +21,8 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 @Singleton
+@DependsOn(PowerManager.class)
+@MechanismSchedule(priority = 1)
 public class ClimberMechanism implements IMechanism
 {
     private final IDriver driver;
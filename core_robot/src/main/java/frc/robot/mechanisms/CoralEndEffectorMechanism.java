@@ -8,8 +8,10 @@ import frc.lib.filters.BooleanThresholdFilter;
 import frc.lib.filters.FloatingAverageCalculator;
 import frc.lib.helpers.ExceptionHelpers;
 import frc.lib.helpers.Helpers;
+import frc.lib.mechanisms.DependsOn;
 import frc.lib.mechanisms.IMechanism;
 import frc.lib.mechanisms.LoggingManager;
+import frc.lib.mechanisms.MechanismSchedule;
 import frc.lib.robotprovider.IDigitalInput;
 import frc.lib.robotprovider.IRobotProvider;
 import frc.lib.robotprovider.ISparkMax;
@@ -29,6 +31,8 @@ import frc.robot.driver.AnalogOperation;
 import frc.robot.driver.DigitalOperation;
 
 @Singleton
+@DependsOn(PowerManager.class)
+@MechanismSchedule(priority = 2)
 public class CoralEndEffectorMechanism implements IMechanism
 {
     private final IDriver driver;
@@ -6,7 +6,9 @@ import com.google.inject.Singleton;
 import frc.lib.driver.IDriver;
 import frc.lib.driver.descriptions.UserInputDevice;
 import frc.lib.helpers.Helpers;
+import frc.lib.mechanisms.DependsOn;
 import frc.lib.mechanisms.IMechanism;
+import frc.lib.mechanisms.MechanismSchedule;
 import frc.lib.robotprovider.IDriverStation;
 import frc.lib.robotprovider.IRobotProvider;
 import frc.lib.robotprovider.ITimer;
@@ -22,6 +24,8 @@ import frc.robot.driver.DigitalOperation;
  *
  */
 @Singleton
+@DependsOn({ PowerManager.class, CoralEndEffectorMechanism.class })
+@MechanismSchedule(period = 0.1, priority = 0, critical = false)
 public class DriverFeedbackManager implements IMechanism
 {
     private static enum RumbleMode
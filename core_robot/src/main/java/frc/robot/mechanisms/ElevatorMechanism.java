@@ -6,8 +6,10 @@ import com.google.inject.Singleton;
 import frc.lib.driver.IDriver;
 import frc.lib.filters.FloatingAverageCalculator;
 import frc.lib.helpers.Helpers;
+import frc.lib.mechanisms.DependsOn;
 import frc.lib.mechanisms.IMechanism;
 import frc.lib.mechanisms.LoggingManager;
+import frc.lib.mechanisms.MechanismSchedule;
 import frc.lib.robotprovider.IDigitalInput;
 import frc.lib.robotprovider.ILogger;
 import frc.lib.robotprovider.IRobotProvider;
@@ -16,6 +18,7 @@ import frc.lib.robotprovider.ITimer;
 import frc.lib.robotprovider.MotorNeutralMode;
 import frc.lib.robotprovider.RobotMode;
 import frc.lib.robotprovider.TalonFXControlMode;
+import frc.lib.robotprovider.TalonFXSignal;
 import frc.robot.ElectronicsConstants;
 import frc.robot.HardwareConstants;
 import frc.robot.LoggingKey;
@@ -24,6 +27,8 @@ import frc.robot.driver.AnalogOperation;
 import frc.robot.driver.DigitalOperation;
 
 @Singleton
+@DependsOn({ PowerManager.class, CoralEndEffectorMechanism.class, AlgaeIntakeMechanism.class })
+@MechanismSchedule(priority = 2)
 public class ElevatorMechanism implements IMechanism
 {
     private final ILogger logger;
@@ -100,6 +105,7 @@ public class ElevatorMechanism implements IMechanism
         this.elevatorMotor.setFeedbackUpdateRate(TuningConstants.ELEVATOR_FEEDBACK_UPDATE_RATE_HZ);
         this.elevatorMotor.setErrorUpdateRate(TuningConstants.ELEVATOR_ERROR_UPDATE_RATE_HZ);
         this.elevatorMotor.setOutputUpdateRate(TuningConstants.ELEVATOR_OUTPUT_UPDATE_RATE_HZ);
+        this.elevatorMotor.registerBatchedSignals(TalonFXSignal.Position, TalonFXSignal.Velocity, TalonFXSignal.Error);
         this.elevatorMotor.setControlMode(this.inSimpleMode ? TalonFXControlMode.PercentOutput : this.pidControlMode);
         this.elevatorMotor.setPosition(HardwareConstants.ELEVATOR_START_HEIGHT * HardwareConstants.ELEVATOR_TICKS_PER_INCH);
 
@@ -6,8 +6,11 @@ import frc.lib.robotprovider.Pose2d;
 public interface IDriveTrainMechanism extends IMechanism
 {
     Pose2d getPose();
+    void getPose(Pose2d pose);
     double getPositionX();
     double getPositionY();
     double[] getModuleTurnInPlaceAngles();
+    void getModuleTurnInPlaceAngles(double[] angles);
     double[] getDriveMotorPositions();
+    void getDriveMotorPositions(double[] positions);
 }
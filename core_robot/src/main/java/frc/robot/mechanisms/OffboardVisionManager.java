@@ -5,6 +5,7 @@ import frc.lib.driver.IDriver;
 import frc.lib.helpers.Helpers;
 import frc.lib.mechanisms.IMechanism;
 import frc.lib.mechanisms.LoggingManager;
+import frc.lib.mechanisms.MechanismSchedule;
 import frc.lib.robotprovider.*;
 import frc.robot.driver.*;
 
@@ -18,6 +19,7 @@ import com.google.inject.Singleton;
  * Offboard Vision manager.
  */
 @Singleton
+@MechanismSchedule(priority = 2, critical = false)
 public class OffboardVisionManager implements IMechanism
 {
     public static final DigitalOperation[] PossibleVisionOperations =
@@ -37,6 +39,7 @@ public class OffboardVisionManager implements IMechanism
     private final IDriver driver;
     private final ILogger logger;
     private final IDriverStation ds;
+    private final ITimer timer;
 
     private final IDoubleSubscriber atrXOffsetSubscriber;
     private final IDoubleSubscriber atrYOffsetSubscriber;
@@ -65,6 +68,7 @@ public class OffboardVisionManager implements IMechanism
     private final IDoubleSubscriber abslTagIdSubscriber;
     private final IDoubleSubscriber abslDecisionMarginSubscriber;
     private final IDoubleSubscriber abslErrorSubscriber;
+    private final IDoubleSubscriber abslLatencySubscriber;
 
     private final IDoubleSubscriber absrXOffsetSubscriber;
     private final IDoubleSubscriber absrYOffsetSubscriber;
@@ -75,6 +79,7 @@ public class OffboardVisionManager implements IMechanism
     private final IDoubleSubscriber absrTagIdSubscriber;
     private final IDoubleSubscriber absrDecisionMarginSubscriber;
     private final IDoubleSubscriber absrErrorSubscriber;
+    private final IDoubleSubscriber absrLatencySubscriber;
 
     private final IDoubleSubscriber ledModeSubscriber;
     private final IDoubleSubscriber ledValueSubscriber;
@@ -98,6 +103,12 @@ public class OffboardVisionManager implements IMechanism
     private Integer absId;
     private Double absDecisionMargin;
     private Double absError;
+    private double absCaptureTime;
+    private boolean absUpdated;
+
+    private double prevAbsXOffset;
+    private double prevAbsYOffset;
+    private double prevAbsYaw;
 
     private boolean enableVision;
     private List<Integer> prevTargets;
@@ -110,13 +121,15 @@ public class OffboardVisionManager implements IMechanism
      * @param driver for obtaining operations
      * @param logger for logging to smart dashboard
      * @param provider for obtaining electronics objects
+     * @param timer to use to determine when the absolute position was captured
      */
     @Inject
-    public OffboardVisionManager(IDriver driver, LoggingManager logger, IRobotProvider provider)
+    public OffboardVisionManager(IDriver driver, LoggingManager logger, IRobotProvider provider, ITimer timer)
     {
         this.driver = driver;
         this.logger = logger;
         this.ds = provider.getDriverStation();
+        this.timer = timer;
 
         INetworkTableProvider networkTable = provider.getNetworkTableProvider();
 
@@ -147,6 +160,7 @@ public class OffboardVisionManager implements IMechanism
         this.abslTagIdSubscriber = networkTable.getDoubleSubscriber("absl.tagId", TuningConstants.MAGIC_NULL_VALUE);
         this.abslDecisionMarginSubscriber = networkTable.getDoubleSubscriber("absl.decisionMargin", TuningConstants.MAGIC_NULL_VALUE);
         this.abslErrorSubscriber = networkTable.getDoubleSubscriber("absl.error", TuningConstants.MAGIC_NULL_VALUE);
+        this.abslLatencySubscriber = networkTable.getDoubleSubscriber("absl.latency", TuningConstants.MAGIC_NULL_VALUE);
 
         this.absrXOffsetSubscriber = networkTable.getDoubleSubscriber("absr.xOffset", TuningConstants.MAGIC_NULL_VALUE);
         this.absrYOffsetSubscriber = networkTable.getDoubleSubscriber("absr.yOffset", TuningConstants.MAGIC_NULL_VALUE);
@@ -157,6 +171,7 @@ public class OffboardVisionManager implements IMechanism
         this.absrTagIdSubscriber = networkTable.getDoubleSubscriber("absr.tagId", TuningConstants.MAGIC_NULL_VALUE);
         this.absrDecisionMarginSubscriber = networkTable.getDoubleSubscriber("absr.decisionMargin", TuningConstants.MAGIC_NULL_VALUE);
         this.absrErrorSubscriber = networkTable.getDoubleSubscriber("absr.error", TuningConstants.MAGIC_NULL_VALUE);
+        this.absrLatencySubscriber = networkTable.getDoubleSubscriber("absr.latency", TuningConstants.MAGIC_NULL_VALUE);
 
         this.heartbeatSubscriber = networkTable.getDoubleSubscriber("bellypan.heartbeat", 0);
 
@@ -166,6 +181,12 @@ public class OffboardVisionManager implements IMechanism
         this.enableVision = false;
         this.prevTargets = null;
 
+        this.absCaptureTime = 0.0;
+        this.absUpdated = false;
+        this.prevAbsXOffset = TuningConstants.MAGIC_NULL_VALUE;
+        this.prevAbsYOffset = TuningConstants.MAGIC_NULL_VALUE;
+        this.prevAbsYaw = TuningConstants.MAGIC_NULL_VALUE;
+
         this.missedHeartbeats = 0;
         this.prevHeartbeat = 0.0;
     }
@@ -203,6 +224,7 @@ public class OffboardVisionManager implements IMechanism
         int abslId = (int)this.abslTagIdSubscriber.get();
         double abslDecisionMargin = this.abslDecisionMarginSubscriber.get();
         double abslError = this.abslErrorSubscriber.get();
+        double abslLatency = this.abslLatencySubscriber.get();
 
         double absrXOffset = this.absrXOffsetSubscriber.get();
         double absrYOffset = this.absrYOffsetSubscriber.get();
@@ -213,6 +235,7 @@ public class OffboardVisionManager implements IMechanism
         int absrId = (int)this.absrTagIdSubscriber.get();
         double absrDecisionMargin = this.absrDecisionMarginSubscriber.get();
         double absrError = this.absrErrorSubscriber.get();
+        double absrLatency = this.absrLatencySubscriber.get();
 
         double newHeartbeat = this.heartbeatSubscriber.get();
         if (!Helpers.roughEquals(this.prevHeartbeat, newHeartbeat, 0.5))
@@ -248,7 +271,9 @@ public class OffboardVisionManager implements IMechanism
         this.absId = null;
         this.absDecisionMargin = null;
         this.absError = null;
+        this.absUpdated = false;
 
+        double absLatency = TuningConstants.MAGIC_NULL_VALUE;
         if (!missedHeartbeatExceedsThreshold && this.enableVision)
         {
             // since these conditions are used in multiple places, I put them in memory for conciseness
@@ -317,6 +342,9 @@ public class OffboardVisionManager implements IMechanism
                 this.absPitch = absrPitch;
                 this.absRoll = absrRoll;
                 this.absId = absrId;
+                this.absDecisionMargin = absrDecisionMargin;
+                this.absError = absrError;
+                absLatency = absrLatency;
             }
             else if (abslXOffset != TuningConstants.MAGIC_NULL_VALUE &&
                 abslYOffset != TuningConstants.MAGIC_NULL_VALUE &&
@@ -329,6 +357,30 @@ public class OffboardVisionManager implements IMechanism
                 this.absPitch = abslPitch;
                 this.absRoll = abslRoll;
                 this.absId = abslId;
+                this.absDecisionMargin = abslDecisionMargin;
+                this.absError = abslError;
+                absLatency = abslLatency;
+            }
+        }
+
+        if (this.absXOffset != null)
+        {
+            // the coprocessor keeps publishing the same values until it processes a new frame
+            double absXOffset = this.absXOffset;
+            double absYOffset = this.absYOffset;
+            double absYaw = this.absYaw;
+            if (absXOffset != this.prevAbsXOffset || absYOffset != this.prevAbsYOffset || absYaw != this.prevAbsYaw)
+            {
+                if (absLatency == TuningConstants.MAGIC_NULL_VALUE)
+                {
+                    absLatency = TuningConstants.VISION_DEFAULT_LATENCY;
+                }
+
+                this.absUpdated = true;
+                this.absCaptureTime = this.timer.get() - absLatency;
+                this.prevAbsXOffset = absXOffset;
+                this.prevAbsYOffset = absYOffset;
+                this.prevAbsYaw = absYaw;
             }
         }
 
@@ -555,4 +607,22 @@ public class OffboardVisionManager implements IMechanism
     {
         return this.absError;
     }
+
+    /**
+     * Check whether the absolute position is from a frame that hasn't been reported in a previous loop
+     * @return true if there is a new absolute position measurement
+     */
+    public boolean getAbsolutePositionUpdated()
+    {
+        return this.absUpdated;
+    }
+
+    /**
+     * Retrieve the time at which the frame for the most recent absolute position measurement was captured
+     * @return capture time (in the same time base as the ITimer)
+     */
+    public double getAbsolutePositionCaptureTime()
+    {
+        return this.absCaptureTime;
+    }
 }
\ No newline at end of file
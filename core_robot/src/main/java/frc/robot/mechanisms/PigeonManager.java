@@ -1,9 +1,11 @@
 package frc.robot.mechanisms;
 
 import frc.robot.*;
+import frc.lib.RobotOptions;
 import frc.lib.driver.IDriver;
 import frc.lib.mechanisms.IIMUManager;
 import frc.lib.mechanisms.LoggingManager;
+import frc.lib.mechanisms.MechanismSchedule;
 import frc.lib.robotprovider.*;
 import frc.robot.driver.AnalogOperation;
 import frc.robot.driver.DigitalOperation;
@@ -17,6 +19,7 @@ import com.google.inject.Singleton;
  * Pigeon manager
  */
 @Singleton
+@MechanismSchedule(priority = 3)
 public class PigeonManager implements IIMUManager
 {
     private final IDriver driver;
@@ -40,7 +43,7 @@ public class PigeonManager implements IIMUManager
     private double pitchRate;
     private double rollRate;
 
-    private double startYaw;
+    private volatile double startYaw; // also read by the odometry sampler thread
     private double pitchOffset;
     private double rollOffset;
 
@@ -51,12 +54,14 @@ public class PigeonManager implements IIMUManager
      * Initializes a new PigeonManager
      * @param logger to use
      * @param provider for obtaining electronics objects
+     * @param options to check whether the yaw is sampled at the high odometry rate
      */
     @Inject
     public PigeonManager(
         IDriver driver,
         LoggingManager logger,
-        IRobotProvider provider)
+        IRobotProvider provider,
+        RobotOptions options)
     {
         this.driver = driver;
         this.logger = logger;
@@ -65,7 +70,7 @@ public class PigeonManager implements IIMUManager
 
         this.pigeon = provider.getPigeon2(ElectronicsConstants.PIGEON_IMU_CAN_ID, ElectronicsConstants.CANIVORE_NAME);
         this.pigeon.setYaw(0.0);
-        this.pigeon.setYPRUpdateFrequency(200);
+        this.pigeon.setYPRUpdateFrequency(options.isHighRateOdometryEnabled() ? TuningConstants.SDSDRIVETRAIN_HIGH_RATE_ODOMETRY_FREQUENCY_HZ : 200);
         this.pigeon.setRPYRateUpdateFrequency(200);
 
         this.ypr_deg = new double[3];
@@ -97,7 +102,11 @@ public class PigeonManager implements IIMUManager
     {
         this.isActive = true;
 
-        this.pigeon.getYawPitchRoll(this.ypr_deg);
+        synchronized (this.pigeon)
+        {
+            this.pigeon.getYawPitchRoll(this.ypr_deg);
+        }
+
         this.yaw = this.ypr_deg[0];
         this.pitch = this.ypr_deg[1];
         this.roll = this.ypr_deg[2];
@@ -186,6 +195,22 @@ public class PigeonManager implements IIMUManager
         return this.yaw + this.startYaw;
     }
 
+    /**
+     * Read the current Yaw angle (counter-clockwise) in degrees directly from the pigeon.
+     * Unlike getYaw, this is safe to call from threads other than the robot loop (such as the odometry sampler thread).
+     * @param ypr_deg array to read the yaw/pitch/roll into, owned by the calling thread
+     * @return the current angle in degrees
+     */
+    public double readYaw(double[] ypr_deg)
+    {
+        synchronized (this.pigeon)
+        {
+            this.pigeon.getYawPitchRoll(ypr_deg);
+        }
+
+        return ypr_deg[0] + this.startYaw;
+    }
+
     public double getPitch()
     {
         return this.pitch - this.pitchOffset;
@@ -5,6 +5,7 @@ import frc.lib.driver.IDriver;
 import frc.lib.filters.*;
 import frc.lib.mechanisms.IMechanism;
 import frc.lib.mechanisms.LoggingManager;
+import frc.lib.mechanisms.MechanismSchedule;
 import frc.lib.robotprovider.*;
 
 import com.google.inject.Inject;
@@ -17,6 +18,7 @@ import com.google.inject.Singleton;
  *
  */
 @Singleton
+@MechanismSchedule(priority = 2)
 public class PowerManager implements IMechanism
 {
     public enum CurrentLimiting
@@ -11,18 +11,25 @@
 
 package frc.robot.mechanisms;
 
+import java.util.Optional;
+
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 import frc.lib.controllers.PIDHandler;
 import frc.lib.driver.IDriver;
 import frc.lib.filters.SlewRateLimiter;
-import frc.lib.helpers.AnglePair;
 import frc.lib.helpers.Helpers;
+import frc.lib.helpers.PoseHistoryBuffer;
 import frc.lib.helpers.PoseHelpers;
-import frc.lib.helpers.Triple;
+import frc.lib.helpers.SwerveKinematics;
+import frc.lib.mechanisms.DependsOn;
 import frc.lib.mechanisms.LoggingManager;
+import frc.lib.mechanisms.MechanismSchedule;
+import frc.lib.robotprovider.CANCoderSignal;
+import frc.lib.robotprovider.Alliance;
 import frc.lib.robotprovider.ICANCoder;
+import frc.lib.robotprovider.IDriverStation;
 import frc.lib.robotprovider.ILogger;
 import frc.lib.robotprovider.IRobotProvider;
 import frc.lib.robotprovider.ITalonFX;
@@ -31,7 +38,9 @@ import frc.lib.robotprovider.MotorNeutralMode;
 import frc.lib.robotprovider.Pose2d;
 import frc.lib.robotprovider.RobotMode;
 import frc.lib.robotprovider.TalonFXControlMode;
+import frc.lib.robotprovider.TalonFXSignal;
 import frc.robot.ElectronicsConstants;
+import frc.robot.FieldConstants;
 import frc.robot.HardwareConstants;
 import frc.robot.LoggingKey;
 import frc.robot.TuningConstants;
@@ -40,6 +49,8 @@ import frc.robot.driver.DigitalOperation;
 import frc.robot.mechanisms.PowerManager.CurrentLimiting;
 
 @Singleton
+@DependsOn({ PigeonManager.class, PowerManager.class, OffboardVisionManager.class, ElevatorMechanism.class })
+@MechanismSchedule(priority = 3)
 public class SDSDriveTrainMechanism implements IDriveTrainMechanism
 {
     private static enum SlewRateLimitingMode
@@ -68,11 +79,8 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
     private static final AnalogOperation[] STEER_SETPOINT_OPERATIONS = new AnalogOperation[] { AnalogOperation.DriveTrainPositionSteer1, AnalogOperation.DriveTrainPositionSteer2, AnalogOperation.DriveTrainPositionSteer3, AnalogOperation.DriveTrainPositionSteer4 };
     private static final AnalogOperation[] DRIVE_SETPOINT_OPERATIONS = new AnalogOperation[] { AnalogOperation.DriveTrainPositionDrive1, AnalogOperation.DriveTrainPositionDrive2, AnalogOperation.DriveTrainPositionDrive3, AnalogOperation.DriveTrainPositionDrive4 };
 
-    // the x offsets of the swerve modules from the default center of rotation
-    private final double[] moduleOffsetX;
-
-    // the y offsets of the swerve modules from the default center of rotation
-    private final double[] moduleOffsetY;
+    // kinematics for the swerve modules, based on their offsets from the default center of rotation
+    private final SwerveKinematics kinematics;
 
     private final double[] drivetrainSteerMotorAbsoluteOffsets;
 
@@ -82,6 +90,8 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
 
     private final PigeonManager imuManager;
     private final PowerManager powerManager;
+    private final OffboardVisionManager vision;
+    private final IDriverStation ds;
 
     private final ITalonFX[] steerMotors;
     private final ITalonFX[] driveMotors;
@@ -103,9 +113,27 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
     private final double[] steerErrors;
     private final double[] encoderAngles;
 
-    private final Triple<Double, Double, Double> driveTwistCorrection;
-    private final Triple<Double, Double, Double> odometryTwistCorrection;
-    private final Setpoint[] result;
+    private final SDSOdometrySampler odometrySampler;
+    private final double[] odometrySample;
+    private final double[] odometryDriveVelocities;
+    private final double[] odometrySteerAngles;
+    private double odometrySampleTime;
+
+    // recent history of the odometry pose, for applying latent vision measurements at the time they were captured
+    private final PoseHistoryBuffer poseHistory;
+    private final double[] historicalPose;
+    private double poseVariance;
+    private double lastVisionCaptureTime;
+
+    private final double[] driveTwistCorrection;
+    private final double[] odometryTwistCorrection;
+    private final double[] robotVelocity;
+
+    // setpoints for each module, NaN when the module shouldn't be steered/the drive motor isn't using that control mode
+    private final double[] steerSetpoints;
+    private final double[] driveVelocitySetpoints;
+    private final double[] drivePositionSetpoints;
+    private final double[] currentSteerAngles;
 
     private final SlewRateLimiter xVelocityLimiter;
     private final SlewRateLimiter yVelocityLimiter;
@@ -128,8 +156,6 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
     private double leftFieldVelocity;
     private double angularVelocity;
 
-    private double deltaT;
-
     private double robotYaw;
 
     @Inject
@@ -139,8 +165,10 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
         IRobotProvider provider,
         PigeonManager imuManager,
         PowerManager powerManager,
+        OffboardVisionManager vision,
         ElevatorMechanism elevator,
-        ITimer timer)
+        ITimer timer,
+        SDSOdometrySamplerFactory odometrySamplerFactory)
     {
         this.driver = driver;
         this.logger = logger;
@@ -148,13 +176,15 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
 
         this.imuManager = imuManager;
         this.powerManager = powerManager;
+        this.vision = vision;
+        this.ds = provider.getDriverStation();
         this.elevator = elevator;
 
         this.steerMotors = new ITalonFX[SDSDriveTrainMechanism.NUM_MODULES];
         this.driveMotors = new ITalonFX[SDSDriveTrainMechanism.NUM_MODULES];
         this.absoluteEncoders = new ICANCoder[SDSDriveTrainMechanism.NUM_MODULES];
 
-        this.moduleOffsetX =
+        double[] moduleOffsetX =
             new double[]
             {
                 -HardwareConstants.SDSDRIVETRAIN_HORIZONTAL_WHEEL_CENTER_DISTANCE, // module 1 (front-right)
@@ -163,7 +193,7 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
                 -HardwareConstants.SDSDRIVETRAIN_HORIZONTAL_WHEEL_CENTER_DISTANCE, // module 4 (back-right)
             };
 
-        this.moduleOffsetY =
+        double[] moduleOffsetY =
             new double[]
             {
                 -HardwareConstants.SDSDRIVETRAIN_VERTICAL_WHEEL_CENTER_DISTANCE, // module 1 (front-right)
@@ -172,6 +202,8 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
                 HardwareConstants.SDSDRIVETRAIN_VERTICAL_WHEEL_CENTER_DISTANCE, // module 4 (back-right)
             };
 
+        this.kinematics = new SwerveKinematics(moduleOffsetX, moduleOffsetY);
+
         this.drivetrainSteerMotorAbsoluteOffsets =
             new double[]
             {
@@ -226,13 +258,25 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
                 HardwareConstants.SDSDRIVETRAIN_STEER_MOTOR4_INVERT
             };
 
+        boolean useHighRateOdometry = odometrySamplerFactory.isEnabled();
+        int feedbackUpdateRate = useHighRateOdometry ? TuningConstants.SDSDRIVETRAIN_HIGH_RATE_ODOMETRY_FREQUENCY_HZ : TuningConstants.SDSDRIVETRAIN_FEEDBACK_UPDATE_RATE_HZ;
         for (int i = 0; i < SDSDriveTrainMechanism.NUM_MODULES; i++)
         {
             this.driveMotors[i] = provider.getTalonFX(driveMotorCanIds[i], ElectronicsConstants.CANIVORE_NAME);
             this.driveMotors[i].setMotorOutputSettings(driveMotorInvert[i], MotorNeutralMode.Brake);
-            this.driveMotors[i].setFeedbackUpdateRate(TuningConstants.SDSDRIVETRAIN_FEEDBACK_UPDATE_RATE_HZ);
+            this.driveMotors[i].setFeedbackUpdateRate(feedbackUpdateRate);
             this.driveMotors[i].setErrorUpdateRate(TuningConstants.SDSDRIVETRAIN_ERROR_UPDATE_RATE_HZ);
             this.driveMotors[i].optimizeCanbus();
+            if (useHighRateOdometry)
+            {
+                // drive velocity is only read by the odometry sampler thread, from its own copy of the signal
+                this.driveMotors[i].registerBatchedSignals(TalonFXSignal.Position, TalonFXSignal.Error);
+            }
+            else
+            {
+                this.driveMotors[i].registerBatchedSignals(TalonFXSignal.Velocity, TalonFXSignal.Position, TalonFXSignal.Error);
+            }
+
             this.driveMotors[i].setPIDF(
                 TuningConstants.SDSDRIVETRAIN_DRIVE_MOTORS_VELOCITY_PID_KP,
                 TuningConstants.SDSDRIVETRAIN_DRIVE_MOTORS_VELOCITY_PID_KI,
@@ -286,9 +330,19 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
                 TuningConstants.SDSDRIVETRAIN_STEER_SUPPLY_TRIGGER_DURATION,
                 TuningConstants.SDSDRIVETRAIN_STEER_STATOR_CURRENT_LIMITING_ENABLED,
                 TuningConstants.SDSDRIVETRAIN_STEER_STATOR_CURRENT_LIMIT);
-            this.steerMotors[i].setFeedbackUpdateRate(TuningConstants.SDSDRIVETRAIN_FEEDBACK_UPDATE_RATE_HZ);
+            this.steerMotors[i].setFeedbackUpdateRate(feedbackUpdateRate);
             this.steerMotors[i].setErrorUpdateRate(TuningConstants.SDSDRIVETRAIN_ERROR_UPDATE_RATE_HZ);
             this.steerMotors[i].optimizeCanbus();
+            if (useHighRateOdometry)
+            {
+                // steer position is only read by the odometry sampler thread, from its own copy of the signal
+                this.steerMotors[i].registerBatchedSignals(TalonFXSignal.Velocity, TalonFXSignal.Error);
+            }
+            else
+            {
+                this.steerMotors[i].registerBatchedSignals(TalonFXSignal.Velocity, TalonFXSignal.Position, TalonFXSignal.Error);
+            }
+
             if (TuningConstants.SDSDRIVETRAIN_STEER_MOTORS_USE_MOTION_MAGIC)
             {
                 this.steerMotors[i].setControlMode(TalonFXControlMode.MotionMagicPosition);
@@ -301,6 +355,7 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
             }
 
             this.absoluteEncoders[i] = provider.getCANCoder(absoluteEncoderCanIds[i], ElectronicsConstants.CANIVORE_NAME);
+            this.absoluteEncoders[i].registerBatchedSignals(CANCoderSignal.AbsolutePosition);
         }
 
         // prepare arrays for sensor data to re-use on each readSensors/update loop
@@ -313,6 +368,18 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
         this.steerErrors = new double[SDSDriveTrainMechanism.NUM_MODULES];
         this.encoderAngles = new double[SDSDriveTrainMechanism.NUM_MODULES];
 
+        this.odometrySampler = odometrySamplerFactory.create(this.driveMotors, this.steerMotors, this.imuManager, this.timer);
+        this.odometrySample = this.odometrySampler != null ? new double[this.odometrySampler.getSampleSize()] : null;
+
+        this.odometryDriveVelocities = new double[SDSDriveTrainMechanism.NUM_MODULES];
+        this.odometrySteerAngles = new double[SDSDriveTrainMechanism.NUM_MODULES];
+        this.odometrySampleTime = 0.0;
+
+        this.poseHistory = new PoseHistoryBuffer(TuningConstants.SDSDRIVETRAIN_POSE_HISTORY_CAPACITY);
+        this.historicalPose = new double[3];
+        this.poseVariance = TuningConstants.SDSDRIVETRAIN_POSE_INITIAL_VARIANCE;
+        this.lastVisionCaptureTime = 0.0;
+
         this.isDirectionSwapped = new boolean[SDSDriveTrainMechanism.NUM_MODULES];
         this.driveSlotIds = new int[SDSDriveTrainMechanism.NUM_MODULES];
 
@@ -356,13 +423,13 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
             TuningConstants.SDSDRIVETRAIN_PATH_Y_MAX_OUTPUT,
             this.timer);
 
-        this.driveTwistCorrection = new Triple<Double, Double, Double>(0.0, 0.0, 0.0);
-        this.odometryTwistCorrection = new Triple<Double, Double, Double>(0.0, 0.0, 0.0);
-        this.result = new Setpoint[SDSDriveTrainMechanism.NUM_MODULES];
-        for (int i = 0; i < SDSDriveTrainMechanism.NUM_MODULES; i++)
-        {
-            this.result[i] = new Setpoint();
-        }
+        this.driveTwistCorrection = new double[3];
+        this.odometryTwistCorrection = new double[3];
+        this.robotVelocity = new double[3];
+        this.steerSetpoints = new double[SDSDriveTrainMechanism.NUM_MODULES];
+        this.driveVelocitySetpoints = new double[SDSDriveTrainMechanism.NUM_MODULES];
+        this.drivePositionSetpoints = new double[SDSDriveTrainMechanism.NUM_MODULES];
+        this.currentSteerAngles = new double[SDSDriveTrainMechanism.NUM_MODULES];
 
         if (TuningConstants.SDSDRIVETRAIN_USE_TRANSLATIONAL_RATE_LIMITING)
         {
@@ -412,13 +479,45 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
     @Override
     public void readSensors()
     {
+        int odometrySamples = 0;
+        if (this.odometrySampler != null)
+        {
+            // integrate all of the samples taken since the previous loop, and use the latest one as the current drive velocities/steer positions
+            int steerPositionIndex = this.odometrySampler.getSteerPositionIndex();
+            while (this.odometrySampler.read(this.odometrySample))
+            {
+                odometrySamples++;
+                for (int i = 0; i < SDSDriveTrainMechanism.NUM_MODULES; i++)
+                {
+                    this.driveVelocities[i] = this.odometrySample[SDSOdometrySampler.DRIVE_VELOCITY_INDEX + i];
+                    this.steerPositions[i] = this.odometrySample[steerPositionIndex + i];
+                    this.odometryDriveVelocities[i] = this.driveVelocities[i];
+                    this.odometrySteerAngles[i] = Helpers.updateAngleRange180(this.steerPositions[i] * HardwareConstants.SDSDRIVETRAIN_STEER_TICK_DISTANCE);
+                }
+
+                double prevSampleTime = this.odometrySampleTime;
+                this.odometrySampleTime = this.odometrySample[SDSOdometrySampler.TIME_INDEX];
+
+                // skip the first sample, and samples from before the timer was reset
+                double sampleDeltaT = this.odometrySampleTime - prevSampleTime;
+                if (TuningConstants.SDSDRIVETRAIN_USE_ODOMETRY && prevSampleTime > 0.0 && sampleDeltaT > 0.0)
+                {
+                    this.calculateOdometry(this.odometrySteerAngles, this.odometryDriveVelocities, this.odometrySample[SDSOdometrySampler.YAW_INDEX], this.odometrySampleTime, sampleDeltaT);
+                }
+            }
+        }
+
         for (int i = 0; i < SDSDriveTrainMechanism.NUM_MODULES; i++)
         {
-            this.driveVelocities[i] = this.driveMotors[i].getVelocity();
+            if (this.odometrySampler == null)
+            {
+                this.driveVelocities[i] = this.driveMotors[i].getVelocity();
+                this.steerPositions[i] = this.steerMotors[i].getPosition();
+            }
+
             this.drivePositions[i] = this.driveMotors[i].getPosition();
             this.driveErrors[i] = this.driveMotors[i].getError();
             this.steerVelocities[i] = this.steerMotors[i].getVelocity();
-            this.steerPositions[i] = this.steerMotors[i].getPosition();
             this.steerAngles[i] = Helpers.updateAngleRange180(this.steerPositions[i] * HardwareConstants.SDSDRIVETRAIN_STEER_TICK_DISTANCE);
             this.steerErrors[i] = this.steerMotors[i].getError();
             this.encoderAngles[i] = this.absoluteEncoders[i].getAbsolutePosition();
@@ -433,23 +532,31 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
             this.logger.logNumber(SDSDriveTrainMechanism.ENCODER_ANGLE_LOGGING_KEYS[i], this.encoderAngles[i]);
         }
 
-        double prevYaw = this.robotYaw;
         double prevTime = this.time;
         this.robotYaw = this.imuManager.getYaw();
         this.time = this.timer.get();
 
-        this.deltaT = this.time - prevTime;
-        if (this.deltaT <= 0.0)
+        double deltaT = this.time - prevTime;
+        if (deltaT <= 0.0)
+        {
+            deltaT = 0.001;
+        }
+
+        if (TuningConstants.SDSDRIVETRAIN_USE_ODOMETRY && this.odometrySampler == null)
         {
-            this.deltaT = 0.001;
+            this.calculateOdometry(this.steerAngles, this.driveVelocities, this.robotYaw, this.time, deltaT);
         }
 
-        if (TuningConstants.SDSDRIVETRAIN_USE_ODOMETRY)
+        if (TuningConstants.SDSDRIVETRAIN_USE_ODOMETRY &&
+            TuningConstants.SDSDRIVETRAIN_USE_VISION_POSE_FUSION &&
+            this.vision.getAbsolutePositionUpdated())
         {
-            double deltaImuYaw = (this.robotYaw - prevYaw) / this.deltaT;
-            this.calculateOdometry(deltaImuYaw);
+            this.applyVisionMeasurement();
         }
 
+        this.logger.logInteger(LoggingKey.DriveTrainOdometrySamples, odometrySamples);
+        this.logger.logNumber(LoggingKey.DriveTrainPoseVariance, this.poseVariance);
+
         this.logger.logNumber(LoggingKey.DriveTrainXPosition, this.xPosition);
         this.logger.logNumber(LoggingKey.DriveTrainYPosition, this.yPosition);
         this.logger.logNumber(LoggingKey.DriveTrainAngle, this.angle);
@@ -557,6 +664,10 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
         {
             this.xPosition = this.driver.getAnalog(AnalogOperation.DriveTrainStartingXPosition);
             this.yPosition = this.driver.getAnalog(AnalogOperation.DriveTrainStartingYPosition);
+            this.poseHistory.clear();
+            this.poseVariance = TuningConstants.SDSDRIVETRAIN_POSE_INITIAL_VARIANCE;
+            this.lastVisionCaptureTime = 0.0;
+            this.discardOdometrySamples();
         }
 
         double startingAngle = this.driver.getAnalog(AnalogOperation.PositionStartingAngle);
@@ -579,27 +690,28 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
                 this.steerAngles[i] = angleDifference % 360.0;
             }
 
+            // samples taken before the motors were reset would be integrated onto the reset pose
+            this.discardOdometrySamples();
             this.firstRun = false;
         }
 
         this.calculateSetpoints(useFieldOriented, maintainOrientation);
         for (int i = 0; i < SDSDriveTrainMechanism.NUM_MODULES; i++)
         {
-            Setpoint current = this.result[i];
-            Double steerSetpoint = current.angle;
-            Double driveVelocitySetpoint = current.driveVelocity;
-            Double drivePositionSetpoint = current.drivePosition;
+            double steerSetpoint = this.steerSetpoints[i];
+            double driveVelocitySetpoint = this.driveVelocitySetpoints[i];
+            double drivePositionSetpoint = this.drivePositionSetpoints[i];
 
             TalonFXControlMode driveControlMode = TalonFXControlMode.Neutral;
             int driveDesiredPidSlotId = SDSDriveTrainMechanism.defaultPidSlotId;
             double driveSetpoint = 0.0;
-            if (driveVelocitySetpoint != null)
+            if (!Double.isNaN(driveVelocitySetpoint))
             {
                 driveSetpoint = driveVelocitySetpoint;
                 driveControlMode = TalonFXControlMode.Velocity;
                 driveDesiredPidSlotId = SDSDriveTrainMechanism.defaultPidSlotId;
             }
-            else if (drivePositionSetpoint != null)
+            else if (!Double.isNaN(drivePositionSetpoint))
             {
                 driveSetpoint = drivePositionSetpoint;
                 driveControlMode = TalonFXControlMode.Position;
@@ -623,7 +735,7 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
                 this.driveMotors[i].stop();
             }
 
-            if (steerSetpoint != null)
+            if (!Double.isNaN(steerSetpoint))
             {
                 this.logger.logNumber(SDSDriveTrainMechanism.STEER_GOAL_LOGGING_KEYS[i], steerSetpoint);
                 this.steerMotors[i].set(steerSetpoint);
@@ -661,28 +773,34 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
 
         this.xPosition = 0.0;
         this.yPosition = 0.0;
+        this.poseHistory.clear();
+        this.poseVariance = TuningConstants.SDSDRIVETRAIN_POSE_INITIAL_VARIANCE;
+        this.lastVisionCaptureTime = 0.0;
+        this.discardOdometrySamples();
     }
 
     public double[] getModuleTurnInPlaceAngles()
     {
-        return new double[]
-            {
-                Helpers.atan2d(-this.moduleOffsetY[0], -this.moduleOffsetX[0]),
-                Helpers.atan2d(-this.moduleOffsetY[1], -this.moduleOffsetX[1]),
-                Helpers.atan2d(-this.moduleOffsetY[2], -this.moduleOffsetX[2]),
-                Helpers.atan2d(-this.moduleOffsetY[3], -this.moduleOffsetX[3]),
-            };
+        double[] angles = new double[SDSDriveTrainMechanism.NUM_MODULES];
+        this.getModuleTurnInPlaceAngles(angles);
+        return angles;
+    }
+
+    public void getModuleTurnInPlaceAngles(double[] angles)
+    {
+        this.kinematics.getTurnInPlaceAngles(angles);
     }
 
     public double[] getDriveMotorPositions()
     {
-        return new double[]
-            {
-                this.drivePositions[0],
-                this.drivePositions[1],
-                this.drivePositions[2],
-                this.drivePositions[3],
-            };
+        double[] positions = new double[SDSDriveTrainMechanism.NUM_MODULES];
+        this.getDriveMotorPositions(positions);
+        return positions;
+    }
+
+    public void getDriveMotorPositions(double[] positions)
+    {
+        System.arraycopy(this.drivePositions, 0, positions, 0, SDSDriveTrainMechanism.NUM_MODULES);
     }
 
     public Pose2d getPose()
@@ -690,6 +808,13 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
         return new Pose2d(this.xPosition, this.yPosition, this.robotYaw);
     }
 
+    public void getPose(Pose2d pose)
+    {
+        pose.x = this.xPosition;
+        pose.y = this.yPosition;
+        pose.angle = this.robotYaw;
+    }
+
     private void calculateSetpoints(boolean useFieldOriented, boolean maintainOrientation)
     {
         double xMult = 1.0;
@@ -707,23 +832,20 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
         {
             for (int i = 0; i < SDSDriveTrainMechanism.NUM_MODULES; i++)
             {
-                this.result[i].driveVelocity = null;
+                this.driveVelocitySetpoints[i] = Double.NaN;
                 if (maintainPositionMode)
                 {
-                    this.result[i].drivePosition = this.driver.getAnalog(SDSDriveTrainMechanism.DRIVE_SETPOINT_OPERATIONS[i]);
+                    this.drivePositionSetpoints[i] = this.driver.getAnalog(SDSDriveTrainMechanism.DRIVE_SETPOINT_OPERATIONS[i]);
                 }
                 else
                 {
-                    this.result[i].drivePosition = null;
+                    this.drivePositionSetpoints[i] = Double.NaN;
                 }
 
                 double moduleSteerPositionGoal = this.driver.getAnalog(SDSDriveTrainMechanism.STEER_SETPOINT_OPERATIONS[i]);
                 double currentAngle = this.steerPositions[i] * HardwareConstants.SDSDRIVETRAIN_STEER_TICK_DISTANCE;
-                AnglePair anglePair = Helpers.getClosestAngle(moduleSteerPositionGoal, currentAngle, true);
-                moduleSteerPositionGoal = anglePair.getAngle() * TuningConstants.SDSDRIVETRAIN_STEER_MOTOR_POSITION_PID_KS;
-                this.isDirectionSwapped[i] = anglePair.getSwapDirection();
-
-                this.result[i].angle = moduleSteerPositionGoal;
+                this.isDirectionSwapped[i] = SwerveKinematics.calculateClosestModuleAngle(moduleSteerPositionGoal, currentAngle, this.steerSetpoints, i);
+                this.steerSetpoints[i] *= TuningConstants.SDSDRIVETRAIN_STEER_MOTOR_POSITION_PID_KS;
             }
 
             return;
@@ -769,12 +891,13 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
                 this.logger.logNumber(LoggingKey.DriveTrainAngleVelocityGoal, angleVelocityGoal);
 
                 // convert velocity to be robot-oriented
-                centerVelocityLeft = Helpers.cosd(this.robotYaw) * yVelocityGoal - Helpers.sind(this.robotYaw) * xVelocityGoal;
-                centerVelocityForward = Helpers.cosd(this.robotYaw) * xVelocityGoal + Helpers.sind(this.robotYaw) * yVelocityGoal;
+                double cosRobotYaw = Helpers.cosd(this.robotYaw);
+                double sinRobotYaw = Helpers.sind(this.robotYaw);
+                centerVelocityLeft = cosRobotYaw * yVelocityGoal - sinRobotYaw * xVelocityGoal;
+                centerVelocityForward = cosRobotYaw * xVelocityGoal + sinRobotYaw * yVelocityGoal;
 
                 // add correction for angle drift
-                AnglePair anglePair = Helpers.getClosestAngle(angleGoal, this.robotYaw, false);
-                this.desiredYaw = anglePair.getAngle();
+                this.desiredYaw = Helpers.getClosestAngle(angleGoal, this.robotYaw);
 
                 this.logger.logNumber(LoggingKey.DriveTrainDesiredAngle, this.desiredYaw);
                 omega += this.pathOmegaPID.calculatePosition(this.desiredYaw, this.robotYaw);
@@ -809,8 +932,10 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
 
             if (useFieldOriented)
             {
-                centerVelocityLeft = yMult * (Helpers.cosd(this.robotYaw) * centerVelocityLeftRaw - Helpers.sind(this.robotYaw) * centerVelocityForwardRaw);
-                centerVelocityForward = xMult * (Helpers.cosd(this.robotYaw) * centerVelocityForwardRaw + Helpers.sind(this.robotYaw) * centerVelocityLeftRaw);
+                double cosRobotYaw = Helpers.cosd(this.robotYaw);
+                double sinRobotYaw = Helpers.sind(this.robotYaw);
+                centerVelocityLeft = yMult * (cosRobotYaw * centerVelocityLeftRaw - sinRobotYaw * centerVelocityForwardRaw);
+                centerVelocityForward = xMult * (cosRobotYaw * centerVelocityForwardRaw + sinRobotYaw * centerVelocityLeftRaw);
             }
             else
             {
@@ -869,8 +994,7 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
                 {
                     updatedOrientation = true;
 
-                    AnglePair anglePair = Helpers.getClosestAngle(yawGoal + yawAdj, this.robotYaw, false);
-                    this.desiredYaw = anglePair.getAngle();
+                    this.desiredYaw = Helpers.getClosestAngle(yawGoal + yawAdj, this.robotYaw);
                 }
 
                 if (maintainOrientation || updatedOrientation)
@@ -900,58 +1024,39 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
 
         if (TuningConstants.SDSDRIVETRAIN_USE_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION)
         {
-            this.driveTwistCorrection.set(
-                centerVelocityForward * TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP,
-                centerVelocityLeft * TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP,
-                omega * TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP);
+            this.driveTwistCorrection[0] = centerVelocityForward * TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
+            this.driveTwistCorrection[1] = centerVelocityLeft * TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
+            this.driveTwistCorrection[2] = omega * TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
 
             PoseHelpers.inversePoseExponential(this.driveTwistCorrection);
 
-            centerVelocityForward = this.driveTwistCorrection.getFirst() / TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
-            centerVelocityLeft = this.driveTwistCorrection.getSecond() / TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
-            omega = this.driveTwistCorrection.getThird() / TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
+            centerVelocityForward = this.driveTwistCorrection[0] / TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
+            centerVelocityLeft = this.driveTwistCorrection[1] / TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
+            omega = this.driveTwistCorrection[2] / TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
         }
 
-        double maxModuleDriveVelocityGoal = 0.0;
         for (int i = 0; i < SDSDriveTrainMechanism.NUM_MODULES; i++)
         {
-            double moduleVelocityLeft = centerVelocityLeft - omega * (this.moduleOffsetY[i] + rotationCenterB);
-            double moduleVelocityForward = centerVelocityForward - omega * (this.moduleOffsetX[i] + rotationCenterA);
-
-            Double moduleSteerPositionGoal;
-            double moduleDriveVelocityGoal;
-            if (TuningConstants.SDSDRIVETRAIN_SKIP_ANGLE_ON_ZERO_VELOCITY
-                    && Helpers.withinDelta(moduleVelocityLeft, 0.0, TuningConstants.SDSDRIVETRAIN_SKIP_ANGLE_ON_ZERO_DELTA)
-                    && Helpers.withinDelta(moduleVelocityForward, 0.0, TuningConstants.SDSDRIVETRAIN_SKIP_ANGLE_ON_ZERO_DELTA))
-            {
-                moduleDriveVelocityGoal = 0.0;
-                moduleSteerPositionGoal = null;
-            }
-            else
-            {
-                moduleDriveVelocityGoal = Math.sqrt(moduleVelocityLeft * moduleVelocityLeft + moduleVelocityForward * moduleVelocityForward);
-
-                moduleSteerPositionGoal = Helpers.atan2d(moduleVelocityLeft, moduleVelocityForward);
-                double currentAngle = this.steerPositions[i] * HardwareConstants.SDSDRIVETRAIN_STEER_TICK_DISTANCE;
-                AnglePair anglePair = Helpers.getClosestAngle(moduleSteerPositionGoal, currentAngle, true);
-                moduleSteerPositionGoal = anglePair.getAngle() * TuningConstants.SDSDRIVETRAIN_STEER_MOTOR_POSITION_PID_KS;
-                this.isDirectionSwapped[i] = anglePair.getSwapDirection();
-
-                if (maxModuleDriveVelocityGoal < moduleDriveVelocityGoal)
-                {
-                    maxModuleDriveVelocityGoal = moduleDriveVelocityGoal;
-                }
+            this.currentSteerAngles[i] = this.steerPositions[i] * HardwareConstants.SDSDRIVETRAIN_STEER_TICK_DISTANCE;
+        }
 
-                moduleDriveVelocityGoal *= HardwareConstants.SDSDRIVETRAIN_DRIVE_INCHES_PER_SECOND_TO_MOTOR_VELOCITY;
-                if (this.isDirectionSwapped[i])
-                {
-                    moduleDriveVelocityGoal *= -1.0;
-                }
-            }
+        double maxModuleDriveVelocityGoal = this.kinematics.calculateModuleSetpoints(
+            centerVelocityForward,
+            centerVelocityLeft,
+            omega,
+            rotationCenterA,
+            rotationCenterB,
+            TuningConstants.SDSDRIVETRAIN_SKIP_ANGLE_ON_ZERO_VELOCITY ? TuningConstants.SDSDRIVETRAIN_SKIP_ANGLE_ON_ZERO_DELTA : -1.0,
+            this.currentSteerAngles,
+            this.driveVelocitySetpoints,
+            this.steerSetpoints,
+            this.isDirectionSwapped);
 
-            this.result[i].driveVelocity = moduleDriveVelocityGoal;
-            this.result[i].drivePosition = null;
-            this.result[i].angle = moduleSteerPositionGoal;
+        for (int i = 0; i < SDSDriveTrainMechanism.NUM_MODULES; i++)
+        {
+            this.driveVelocitySetpoints[i] *= HardwareConstants.SDSDRIVETRAIN_DRIVE_INCHES_PER_SECOND_TO_MOTOR_VELOCITY;
+            this.drivePositionSetpoints[i] = Double.NaN;
+            this.steerSetpoints[i] *= TuningConstants.SDSDRIVETRAIN_STEER_MOTOR_POSITION_PID_KS;
         }
 
         // rescale velocities based on max velocity percentage, if max velocity is exceeded for any module
@@ -961,7 +1066,7 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
             double invPercentage = TuningConstants.SDSDRIVETRAIN_MAX_VELOCITY / maxModuleDriveVelocityGoal;
             for (int i = 0; i < SDSDriveTrainMechanism.NUM_MODULES; i++)
             {
-                this.result[i].driveVelocity *= invPercentage;
+                this.driveVelocitySetpoints[i] *= invPercentage;
             }
         }
 
@@ -982,88 +1087,195 @@ public class SDSDriveTrainMechanism implements IDriveTrainMechanism
 
                 for (int i = 0; i < SDSDriveTrainMechanism.NUM_MODULES; i++)
                 {
-                    this.result[i].driveVelocity *= currentLimitingMultiplier;
+                    this.driveVelocitySetpoints[i] *= currentLimitingMultiplier;
                 }
             }
         }
     }
 
-    private void calculateOdometry(double deltaImuYaw)
+    /**
+     * Discard the odometry samples that haven't been integrated yet, and treat the next sample as the first one
+     */
+    private void discardOdometrySamples()
     {
-        // double imuOmega = deltaImuYaw / this.deltaT; // in degrees
-        double leftRobotVelocity;
-        double forwardRobotVelocity;
+        if (this.odometrySampler != null)
+        {
+            this.odometrySampler.clear();
+            this.odometrySampleTime = 0.0;
+        }
+    }
 
-        // calculate our right and forward velocities using an average of our various velocities and the angle.
-        double rightRobotVelocity1 = -Helpers.sind(this.steerAngles[0]) * HardwareConstants.SDSDRIVETRAIN_DRIVE_MOTOR_VELOCITY_TO_INCHES_PER_SECOND * this.driveVelocities[0];
-        double rightRobotVelocity2 = -Helpers.sind(this.steerAngles[1]) * HardwareConstants.SDSDRIVETRAIN_DRIVE_MOTOR_VELOCITY_TO_INCHES_PER_SECOND * this.driveVelocities[1];
-        double rightRobotVelocity3 = -Helpers.sind(this.steerAngles[2]) * HardwareConstants.SDSDRIVETRAIN_DRIVE_MOTOR_VELOCITY_TO_INCHES_PER_SECOND * this.driveVelocities[2];
-        double rightRobotVelocity4 = -Helpers.sind(this.steerAngles[3]) * HardwareConstants.SDSDRIVETRAIN_DRIVE_MOTOR_VELOCITY_TO_INCHES_PER_SECOND * this.driveVelocities[3];
+    /**
+     * Integrate the robot's pose over a period of time, based on module states and yaw measured at the same time
+     * @param steerAngles the angles of each of the modules
+     * @param driveVelocities the drive velocities of each of the modules
+     * @param robotYaw the yaw of the robot
+     * @param time the time at which the module states and yaw were measured
+     * @param deltaT the period of time to integrate over
+     */
+    private void calculateOdometry(double[] steerAngles, double[] driveVelocities, double robotYaw, double time, double deltaT)
+    {
+        // calculate the robot's velocity from the module states, and then rotate it to be field-oriented
+        this.kinematics.calculateRobotVelocity(steerAngles, driveVelocities, HardwareConstants.SDSDRIVETRAIN_DRIVE_MOTOR_VELOCITY_TO_INCHES_PER_SECOND, this.robotVelocity);
+        double forwardRobotVelocity = this.robotVelocity[SwerveKinematics.FORWARD_INDEX];
+        double leftRobotVelocity = this.robotVelocity[SwerveKinematics.LEFT_INDEX];
+        double omegaRadians = this.robotVelocity[SwerveKinematics.OMEGA_INDEX];
+
+        double robotYawRadians = robotYaw * Helpers.DEGREES_TO_RADIANS;
+        double sinRobotYaw = Math.sin(robotYawRadians);
+        double cosRobotYaw = Math.cos(robotYawRadians);
+        double leftFieldVelocity = leftRobotVelocity * cosRobotYaw + forwardRobotVelocity * sinRobotYaw;
+        double forwardFieldVelocity = -leftRobotVelocity * sinRobotYaw + forwardRobotVelocity * cosRobotYaw;
 
-        double forwardRobotVelocity1 = Helpers.cosd(this.steerAngles[0]) * HardwareConstants.SDSDRIVETRAIN_DRIVE_MOTOR_VELOCITY_TO_INCHES_PER_SECOND * this.driveVelocities[0];
-        double forwardRobotVelocity2 = Helpers.cosd(this.steerAngles[1]) * HardwareConstants.SDSDRIVETRAIN_DRIVE_MOTOR_VELOCITY_TO_INCHES_PER_SECOND * this.driveVelocities[1];
-        double forwardRobotVelocity3 = Helpers.cosd(this.steerAngles[2]) * HardwareConstants.SDSDRIVETRAIN_DRIVE_MOTOR_VELOCITY_TO_INCHES_PER_SECOND * this.driveVelocities[2];
-        double forwardRobotVelocity4 = Helpers.cosd(this.steerAngles[3]) * HardwareConstants.SDSDRIVETRAIN_DRIVE_MOTOR_VELOCITY_TO_INCHES_PER_SECOND * this.driveVelocities[3];
+        double omegaDegrees = omegaRadians * Helpers.RADIANS_TO_DEGREES;
+        if (TuningConstants.SDSDRIVETRAIN_USE_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION)
+        {
+            this.odometryTwistCorrection[0] = forwardFieldVelocity * TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
+            this.odometryTwistCorrection[1] = leftFieldVelocity * TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
+            this.odometryTwistCorrection[2] = omegaDegrees * TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
 
-        // rightRobotVelocity = (rightRobotVelocity1 + rightRobotVelocity2 + rightRobotVelocity3 + rightRobotVelocity4) / 4.0;
-        // forwardRobotVelocity = (forwardRobotVelocity1 + forwardRobotVelocity2 + forwardRobotVelocity3 + forwardRobotVelocity4) / 4.0;
+            PoseHelpers.poseExponential(this.odometryTwistCorrection);
 
-        double a = -0.5 * (rightRobotVelocity3 + rightRobotVelocity4);
-        double b = -0.5 * (rightRobotVelocity1 + rightRobotVelocity2);
-        double c = 0.5 * (forwardRobotVelocity1 + forwardRobotVelocity4);
-        double d = 0.5 * (forwardRobotVelocity2 + forwardRobotVelocity3);
+            forwardFieldVelocity = this.odometryTwistCorrection[0] / TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
+            leftFieldVelocity = this.odometryTwistCorrection[1] / TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
+            omegaDegrees = this.odometryTwistCorrection[2] / TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
+        }
 
-        double omegaRadians1 = (b - a) * HardwareConstants.SDSDRIVETRAIN_VERTICAL_WHEEL_SEPERATION_DISTANCE_INV;
-        double omegaRadians2 = (c - d) * HardwareConstants.SDSDRIVETRAIN_HORIZONTAL_WHEEL_SEPERATION_DISTANCE_INV;
-        double omegaRadians = 0.5 * (omegaRadians1 + omegaRadians2);
+        this.forwardFieldVelocity = forwardFieldVelocity;
+        this.leftFieldVelocity = leftFieldVelocity;
+        this.angularVelocity = omegaDegrees;
 
-        double rightRobotVelocityA = omegaRadians * HardwareConstants.SDSDRIVETRAIN_HORIZONTAL_WHEEL_CENTER_DISTANCE + a;
-        double rightRobotVelocityB = -omegaRadians * HardwareConstants.SDSDRIVETRAIN_HORIZONTAL_WHEEL_CENTER_DISTANCE + b;
-        leftRobotVelocity = 0.5 * (rightRobotVelocityA + rightRobotVelocityB);
+        this.angle += omegaDegrees * deltaT;
+        this.xPosition += forwardFieldVelocity * deltaT;
+        this.yPosition += leftFieldVelocity * deltaT;
 
-        double forwardRobotVelocityA = omegaRadians * HardwareConstants.SDSDRIVETRAIN_VERTICAL_WHEEL_CENTER_DISTANCE + c;
-        double forwardRobotVelocityB = -omegaRadians * HardwareConstants.SDSDRIVETRAIN_VERTICAL_WHEEL_CENTER_DISTANCE + d;
-        forwardRobotVelocity = 0.5 * (forwardRobotVelocityA + forwardRobotVelocityB);
+        // odometry drifts proportionally to the distance traveled
+        double distance = Math.sqrt(forwardFieldVelocity * forwardFieldVelocity + leftFieldVelocity * leftFieldVelocity) * deltaT;
+        this.poseVariance = Math.min(
+            this.poseVariance + distance * TuningConstants.SDSDRIVETRAIN_POSE_VARIANCE_PER_INCH,
+            TuningConstants.SDSDRIVETRAIN_POSE_VARIANCE_MAX);
 
-        double leftFieldVelocity = leftRobotVelocity * Helpers.cosd(this.robotYaw) + forwardRobotVelocity * Helpers.sind(this.robotYaw);
-        double forwardFieldVelocity = -leftRobotVelocity * Helpers.sind(this.robotYaw) + forwardRobotVelocity * Helpers.cosd(this.robotYaw);
+        this.poseHistory.add(time, this.xPosition, this.yPosition, this.angle);
+    }
 
-        double omegaDegrees = omegaRadians * Helpers.RADIANS_TO_DEGREES;
-        if (TuningConstants.SDSDRIVETRAIN_USE_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION)
+    /**
+     * Correct the odometry pose using the latest absolute position from vision.  The vision measurement is converted into the odometry
+     * frame and compared against the odometry pose from when its frame was captured, blended in using a scalar Kalman gain based on how
+     * much we trust the odometry (variance grows with distance traveled) versus the measurement (based on its decision margin and
+     * error), and the correction is then carried forward through the odometry recorded since the capture time.
+     */
+    private void applyVisionMeasurement()
+    {
+        Double absoluteX = this.vision.getAbsolutePositionX();
+        Double absoluteY = this.vision.getAbsolutePositionY();
+        if (absoluteX == null || absoluteY == null ||
+            absoluteX == TuningConstants.MAGIC_NULL_VALUE || absoluteY == TuningConstants.MAGIC_NULL_VALUE)
         {
-            this.odometryTwistCorrection.set(
-                forwardFieldVelocity * TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP,
-                leftFieldVelocity * TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP,
-                omegaDegrees * TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP);
+            return;
+        }
 
-            PoseHelpers.poseExponential(this.odometryTwistCorrection);
+        Optional<Alliance> alliance = this.ds.getAlliance();
+        boolean isRed = alliance.isPresent() && alliance.get() == Alliance.Red;
+        double visionX = SDSDriveTrainMechanism.convertVisionPositionX(absoluteX, isRed);
+        double visionY = SDSDriveTrainMechanism.convertVisionPositionY(absoluteY, isRed);
+        if (!Helpers.withinRange(visionX, -FieldConstants.FIELD_WIDTH / 2.0, FieldConstants.FIELD_WIDTH / 2.0) ||
+            !Helpers.withinRange(visionY, -FieldConstants.FIELD_LENGTH / 2.0, FieldConstants.FIELD_LENGTH / 2.0))
+        {
+            return;
+        }
 
-            forwardFieldVelocity = this.odometryTwistCorrection.getFirst() / TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
-            leftFieldVelocity = this.odometryTwistCorrection.getSecond() / TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
-            omegaDegrees = this.odometryTwistCorrection.getThird() / TuningConstants.SDSDRIVETRAIN_POSE_ESTIMATION_INVERSE_TWIST_CORRECTION_TIMESTEP;
+        double decisionMargin = TuningConstants.SDSDRIVETRAIN_VISION_DECISION_MARGIN_REFERENCE;
+        Double visionDecisionMargin = this.vision.getAbsolutePositionDecisionMargin();
+        if (visionDecisionMargin != null && visionDecisionMargin != TuningConstants.MAGIC_NULL_VALUE)
+        {
+            decisionMargin = visionDecisionMargin;
         }
 
-        this.forwardFieldVelocity = forwardFieldVelocity;
-        this.leftFieldVelocity = leftFieldVelocity;
-        this.angularVelocity = omegaDegrees;
+        if (decisionMargin < TuningConstants.SDSDRIVETRAIN_VISION_DECISION_MARGIN_MIN)
+        {
+            return;
+        }
+
+        double error = 0.0;
+        Double visionError = this.vision.getAbsolutePositionError();
+        if (visionError != null && visionError != TuningConstants.MAGIC_NULL_VALUE)
+        {
+            error = Math.abs(visionError);
+        }
 
-        this.angle += omegaDegrees * this.deltaT;
-        this.xPosition += forwardFieldVelocity * this.deltaT;
-        this.yPosition += leftFieldVelocity * this.deltaT;
+        double visionStdDev =
+            (TuningConstants.SDSDRIVETRAIN_VISION_STD_DEV_BASE + TuningConstants.SDSDRIVETRAIN_VISION_STD_DEV_PER_ERROR * error)
+                * TuningConstants.SDSDRIVETRAIN_VISION_DECISION_MARGIN_REFERENCE / decisionMargin;
+        this.fuseVisionMeasurement(visionX, visionY, visionStdDev, this.vision.getAbsolutePositionCaptureTime());
     }
 
     /**
-     * Basic structure to hold an angle/drive pair
+     * Blend a vision measurement (in the odometry frame) into the pose as of when its frame was captured, and carry the correction
+     * forward.  The vision manager keeps reporting its latest frame as updated until it reads the next one, so frames that aren't newer
+     * than the last one we fused are skipped rather than counted again.
+     * @param visionX x position measured by vision (in inches)
+     * @param visionY y position measured by vision (in inches)
+     * @param visionStdDev standard deviation of the vision measurement (in inches)
+     * @param captureTime time at which the frame was captured
+     * @return true if the measurement was fused, otherwise false
      */
-    private class Setpoint
+    boolean fuseVisionMeasurement(double visionX, double visionY, double visionStdDev, double captureTime)
     {
-        public Double angle;
-        public Double driveVelocity;
-        public Double drivePosition;
+        if (captureTime <= this.lastVisionCaptureTime)
+        {
+            return false;
+        }
 
-        public Setpoint()
+        // rewind to where odometry thought we were when the frame was captured (skip measurements older than our history)
+        if (!this.poseHistory.getPoseAt(captureTime, this.historicalPose))
         {
+            return false;
         }
+
+        this.lastVisionCaptureTime = captureTime;
+
+        double gain = this.poseVariance / (this.poseVariance + visionStdDev * visionStdDev);
+
+        double xCorrection = gain * (visionX - this.historicalPose[PoseHistoryBuffer.X_INDEX]);
+        double yCorrection = gain * (visionY - this.historicalPose[PoseHistoryBuffer.Y_INDEX]);
+
+        // the odometry deltas are in the field frame, so replaying them from the corrected pose just shifts every later pose
+        this.poseHistory.shiftFrom(captureTime, xCorrection, yCorrection);
+        this.xPosition += xCorrection;
+        this.yPosition += yCorrection;
+        this.poseVariance *= (1.0 - gain);
+        return true;
+    }
+
+    /**
+     * Convert the x position reported by the vision coprocessor into the odometry frame.  The coprocessor reports the field pose
+     * in meters with its origin in the blue alliance's corner of the field, while odometry (like the AutonLocManager) is in inches
+     * with its origin at the center of the field, negated when we are on the red alliance.
+     * @param absoluteX position along the length of the field reported by the coprocessor (in meters)
+     * @param isRed whether we are on the red alliance
+     * @return x position in the odometry frame (in inches)
+     */
+    static double convertVisionPositionX(double absoluteX, boolean isRed)
+    {
+        double x = absoluteX * Helpers.INCHES_PER_METER - FieldConstants.FIELD_WIDTH / 2.0;
+        return isRed ? -x : x;
+    }
+
+    /**
+     * Convert the y position reported by the vision coprocessor into the odometry frame (see convertVisionPositionX)
+     * @param absoluteY position across the width of the field reported by the coprocessor (in meters)
+     * @param isRed whether we are on the red alliance
+     * @return y position in the odometry frame (in inches)
+     */
+    static double convertVisionPositionY(double absoluteY, boolean isRed)
+    {
+        double y = absoluteY * Helpers.INCHES_PER_METER - FieldConstants.FIELD_LENGTH / 2.0;
+        return isRed ? -y : y;
+    }
+
+    double getPoseVariance()
+    {
+        return this.poseVariance;
     }
 
     public double getPositionX()
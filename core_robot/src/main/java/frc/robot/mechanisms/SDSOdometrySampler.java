@@ -0,0 +1,160 @@
+package frc.robot.mechanisms;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.locks.LockSupport;
+
+import frc.lib.helpers.SampleRingBuffer;
+import frc.lib.robotprovider.IStatusSignal;
+import frc.lib.robotprovider.ITimer;
+
+/**
+ * Samples the inputs for the drivetrain's odometry (drive velocities, steer positions and yaw) on a background thread at a higher
+ * rate than the robot loop.  All of the values in a sample are read back-to-back and stamped with a single time, and the samples
+ * are handed to the robot loop through a lock-free ring buffer so that odometry can integrate every sample since the previous loop.
+ * If the robot loop stalls for long enough to fill the ring buffer, the oldest samples are overwritten.
+ * The sampler thread reads its own copies of the drive velocity and steer position signals (see ITalonFX.createSignal), which are
+ * only refreshed on the sampler thread, and reads the yaw through the PigeonManager's thread-safe readYaw.  The thread exits on its
+ * own once this sampler is no longer referenced.
+ */
+class SDSOdometrySampler
+{
+    static final int TIME_INDEX = 0;
+    static final int YAW_INDEX = 1;
+    static final int DRIVE_VELOCITY_INDEX = 2;
+
+    private final int steerPositionIndex;
+    private final SampleRingBuffer ringBuffer;
+
+    /**
+     * Initializes a new instance of the SDSOdometrySampler class, and starts the sampler thread
+     * @param driveVelocities signals to read the drive velocities from (only to be used by the sampler thread)
+     * @param steerPositions signals to read the steer positions from (only to be used by the sampler thread)
+     * @param imuManager to read the yaw from
+     * @param timer to stamp the samples with
+     * @param frequencyHz rate at which to take samples
+     * @param capacity maximum number of samples to buffer between robot loops (must be a power of 2)
+     */
+    SDSOdometrySampler(IStatusSignal[] driveVelocities, IStatusSignal[] steerPositions, PigeonManager imuManager, ITimer timer, double frequencyHz, int capacity)
+    {
+        this.steerPositionIndex = SDSOdometrySampler.DRIVE_VELOCITY_INDEX + driveVelocities.length;
+        this.ringBuffer = new SampleRingBuffer(this.steerPositionIndex + steerPositions.length, capacity);
+
+        Thread samplerThread = new Thread(
+            new SamplerLoop(this, this.ringBuffer, driveVelocities, steerPositions, imuManager, timer, (long)(1000000000.0 / frequencyHz)),
+            "SDSOdometrySampler");
+        samplerThread.setDaemon(true);
+        samplerThread.setPriority(Thread.MAX_PRIORITY);
+        samplerThread.start();
+    }
+
+    /**
+     * Retrieve the number of values in each sample
+     * @return sample size
+     */
+    int getSampleSize()
+    {
+        return this.ringBuffer.getSampleSize();
+    }
+
+    /**
+     * Retrieve the index of the steer position of the first module within a sample
+     * @return steer position index
+     */
+    int getSteerPositionIndex()
+    {
+        return this.steerPositionIndex;
+    }
+
+    /**
+     * Remove the oldest sample that hasn't been read yet (only to be called from the robot loop)
+     * @param sample the array to copy the values into
+     * @return true if a sample was read, false if there are no new samples
+     */
+    boolean read(double[] sample)
+    {
+        return this.ringBuffer.read(sample);
+    }
+
+    /**
+     * Discard the samples that haven't been read yet, such as when the pose is reset (only to be called from the robot loop)
+     */
+    void clear()
+    {
+        this.ringBuffer.clear();
+    }
+
+    /**
+     * Background loop that periodically reads the sensors into the ring buffer
+     */
+    private static class SamplerLoop implements Runnable
+    {
+        private final WeakReference<SDSOdometrySampler> owner;
+        private final SampleRingBuffer ringBuffer;
+        private final IStatusSignal[] driveVelocities;
+        private final IStatusSignal[] steerPositions;
+        private final PigeonManager imuManager;
+        private final ITimer timer;
+        private final long periodNanos;
+
+        private final double[] sample;
+        private final double[] ypr_deg;
+
+        SamplerLoop(
+            SDSOdometrySampler owner,
+            SampleRingBuffer ringBuffer,
+            IStatusSignal[] driveVelocities,
+            IStatusSignal[] steerPositions,
+            PigeonManager imuManager,
+            ITimer timer,
+            long periodNanos)
+        {
+            this.owner = new WeakReference<SDSOdometrySampler>(owner);
+            this.ringBuffer = ringBuffer;
+            this.driveVelocities = driveVelocities;
+            this.steerPositions = steerPositions;
+            this.imuManager = imuManager;
+            this.timer = timer;
+            this.periodNanos = periodNanos;
+
+            this.sample = new double[ringBuffer.getSampleSize()];
+            this.ypr_deg = new double[3];
+        }
+
+        @Override
+        public void run()
+        {
+            int steerPositionIndex = SDSOdometrySampler.DRIVE_VELOCITY_INDEX + this.driveVelocities.length;
+            long nextSampleTime = System.nanoTime();
+            while (this.owner.get() != null)
+            {
+                this.sample[SDSOdometrySampler.TIME_INDEX] = this.timer.get();
+                this.sample[SDSOdometrySampler.YAW_INDEX] = this.imuManager.readYaw(this.ypr_deg);
+                for (int i = 0; i < this.driveVelocities.length; i++)
+                {
+                    this.driveVelocities[i].refresh();
+                    this.sample[SDSOdometrySampler.DRIVE_VELOCITY_INDEX + i] = this.driveVelocities[i].getValue();
+                }
+
+                for (int i = 0; i < this.steerPositions.length; i++)
+                {
+                    this.steerPositions[i].refresh();
+                    this.sample[steerPositionIndex + i] = this.steerPositions[i].getValue();
+                }
+
+                this.ringBuffer.write(this.sample);
+
+                nextSampleTime += this.periodNanos;
+                long remainingNanos = nextSampleTime - System.nanoTime();
+                if (remainingNanos > 0L)
+                {
+                    LockSupport.parkNanos(remainingNanos);
+                }
+                else
+                {
+                    // we fell behind, so don't try to catch up with a burst of samples
+                    nextSampleTime = System.nanoTime();
+                }
+            }
+        }
+    }
+}
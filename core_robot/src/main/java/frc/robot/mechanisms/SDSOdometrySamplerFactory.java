@@ -0,0 +1,82 @@
+package frc.robot.mechanisms;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import frc.lib.RobotOptions;
+import frc.lib.robotprovider.IStatusSignal;
+import frc.lib.robotprovider.ITalonFX;
+import frc.lib.robotprovider.ITimer;
+import frc.lib.robotprovider.TalonFXSignal;
+import frc.robot.TuningConstants;
+
+/**
+ * Creates the SDSOdometrySampler for the drivetrain.  The sampler starts its own high-priority thread, so the drivetrain gets it
+ * from this factory rather than creating it directly, allowing tests and benchmarks to run the drivetrain without that thread.
+ */
+@Singleton
+public class SDSOdometrySamplerFactory
+{
+    private final boolean enabled;
+
+    @Inject
+    public SDSOdometrySamplerFactory(RobotOptions options)
+    {
+        this(options.isHighRateOdometryEnabled());
+    }
+
+    /**
+     * Initializes a new instance of the SDSOdometrySamplerFactory class
+     * @param enabled whether to sample the odometry inputs on a background thread, or to read them in the robot loop
+     */
+    public SDSOdometrySamplerFactory(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Retrieve whether the odometry inputs are sampled on a background thread
+     * @return true if create() will create a sampler
+     */
+    public boolean isEnabled()
+    {
+        return this.enabled;
+    }
+
+    /**
+     * Create the sampler, starting its thread.  The sampler gets its own copies of the motors' signals, so that it doesn't share any
+     * state with the robot loop's reads of the motors.
+     * @param driveMotors to read the drive velocities from
+     * @param steerMotors to read the steer positions from
+     * @param imuManager to read the yaw from
+     * @param timer to stamp the samples with
+     * @return the sampler, or null if the odometry inputs should be read in the robot loop
+     */
+    SDSOdometrySampler create(ITalonFX[] driveMotors, ITalonFX[] steerMotors, PigeonManager imuManager, ITimer timer)
+    {
+        if (!this.enabled)
+        {
+            return null;
+        }
+
+        IStatusSignal[] driveVelocities = new IStatusSignal[driveMotors.length];
+        for (int i = 0; i < driveMotors.length; i++)
+        {
+            driveVelocities[i] = driveMotors[i].createSignal(TalonFXSignal.Velocity);
+        }
+
+        IStatusSignal[] steerPositions = new IStatusSignal[steerMotors.length];
+        for (int i = 0; i < steerMotors.length; i++)
+        {
+            steerPositions[i] = steerMotors[i].createSignal(TalonFXSignal.Position);
+        }
+
+        return new SDSOdometrySampler(
+            driveVelocities,
+            steerPositions,
+            imuManager,
+            timer,
+            TuningConstants.SDSDRIVETRAIN_HIGH_RATE_ODOMETRY_FREQUENCY_HZ,
+            TuningConstants.SDSDRIVETRAIN_HIGH_RATE_ODOMETRY_BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,103 @@
+package frc.lib.common;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import frc.lib.filters.FloatingMedianCalculator;
+import frc.lib.robotprovider.ITimer;
+
+public class FloatingMedianCalculatorTests
+{
+    @Test
+    public void testMatchesSortedMedianOddWindow()
+    {
+        FloatingMedianCalculatorTests.verifyAgainstSortedMedian(7, 1000);
+    }
+
+    @Test
+    public void testMatchesSortedMedianEvenWindow()
+    {
+        FloatingMedianCalculatorTests.verifyAgainstSortedMedian(50, 2000);
+    }
+
+    @Test
+    public void testSkippedSamplesAndReset()
+    {
+        TestTimer timer = new TestTimer();
+        FloatingMedianCalculator calc = new FloatingMedianCalculator(timer, 5.0, 1.0);
+
+        // the first update fills the whole window
+        timer.time = 0.0;
+        Assertions.assertEquals(2.0, calc.update(2.0), 0.0001);
+
+        // skipping 2 seconds fills 2 slots with the new value
+        timer.time = 2.0;
+        Assertions.assertEquals(2.0, calc.update(10.0), 0.0001);
+
+        timer.time = 3.0;
+        Assertions.assertEquals(10.0, calc.update(10.0), 0.0001);
+
+        calc.reset();
+        timer.time = 4.0;
+        Assertions.assertEquals(-1.0, calc.update(-1.0), 0.0001);
+    }
+
+    private static void verifyAgainstSortedMedian(int windowSize, int updates)
+    {
+        TestTimer timer = new TestTimer();
+        FloatingMedianCalculator calc = new FloatingMedianCalculator(timer, windowSize, 1.0);
+
+        Random random = new Random(1318);
+        double[] window = new double[windowSize];
+        double[] sorted = new double[windowSize];
+        for (int i = 0; i < updates; i++)
+        {
+            // use a small number of distinct values so that there are plenty of duplicates
+            double value = random.nextInt(20) * 0.5 - 5.0;
+            if (i == 0)
+            {
+                Arrays.fill(window, value);
+            }
+            else
+            {
+                window[i % windowSize] = value;
+            }
+
+            System.arraycopy(window, 0, sorted, 0, windowSize);
+            Arrays.sort(sorted);
+            double expected = windowSize % 2 == 0 ? (sorted[windowSize / 2] + sorted[windowSize / 2 - 1]) / 2.0 : sorted[windowSize / 2];
+
+            timer.time = i;
+            Assertions.assertEquals(expected, calc.update(value), 0.0001, "unexpected median after update " + i);
+        }
+    }
+
+    private static class TestTimer implements ITimer
+    {
+        double time;
+
+        @Override
+        public void start()
+        {
+        }
+
+        @Override
+        public void stop()
+        {
+        }
+
+        @Override
+        public double get()
+        {
+            return this.time;
+        }
+
+        @Override
+        public void reset()
+        {
+        }
+    }
+}
@@ -9,7 +9,7 @@ import frc.lib.helpers.*;
 
 public class GraphTests
 {
-    // @Test
+    @Test
     public void testGraph()
     {
         TestGraph graph = new TestGraph();
@@ -77,6 +77,52 @@ public class GraphTests
         Assertions.assertEquals(leavenworth, list.get(3));
     }
 
+    @Test
+    public void testOptimalPathIntoBuffer()
+    {
+        TestGraph graph = new TestGraph();
+        TestGraphNode a = graph.createNode("A");
+        TestGraphNode b = graph.createNode("B");
+        TestGraphNode c = graph.createNode("C");
+        TestGraphNode d = graph.createNode("D");
+        TestGraphNode isolated = graph.createNode("Isolated");
+
+        graph.connect(a, b, 1.0);
+        graph.connect(b, c, 1.0);
+        graph.connect(a, c, 3.0);
+        graph.connect(c, d, 0.5);
+        graph.connect(d, a, 1.0);
+
+        graph.precalculateOptimalPaths();
+
+        TestGraphNode[] path = new TestGraphNode[graph.getNodes().size()];
+        Assertions.assertEquals(4, graph.getOptimalPath(a, d, path));
+        Assertions.assertEquals(a, path[0]);
+        Assertions.assertEquals(b, path[1]);
+        Assertions.assertEquals(c, path[2]);
+        Assertions.assertEquals(d, path[3]);
+        Assertions.assertEquals(2.5, graph.getOptimalPathWeight(a, d), 0.0001);
+
+        Assertions.assertEquals(3, graph.getOptimalPath(c, a, path));
+        Assertions.assertEquals(c, path[0]);
+        Assertions.assertEquals(d, path[1]);
+        Assertions.assertEquals(a, path[2]);
+        Assertions.assertEquals(1.5, graph.getOptimalPathWeight(c, a), 0.0001);
+
+        Assertions.assertEquals(1, graph.getOptimalPath(b, b, path));
+        Assertions.assertEquals(b, path[0]);
+        Assertions.assertEquals(0.0, graph.getOptimalPathWeight(b, b), 0.0001);
+
+        Assertions.assertEquals(-1, graph.getOptimalPath(a, isolated, path));
+        Assertions.assertEquals(-1, graph.getOptimalPath(isolated, a, path));
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, graph.getOptimalPathWeight(a, isolated));
+
+        // adding an edge updates the optimal paths
+        graph.connect(a, d, 1.0);
+        Assertions.assertEquals(2, graph.getOptimalPath(a, d, path));
+        Assertions.assertEquals(1.0, graph.getOptimalPathWeight(a, d), 0.0001);
+    }
+
     static class TestGraph extends Graph<TestGraphNode>
     {
         public TestGraph()
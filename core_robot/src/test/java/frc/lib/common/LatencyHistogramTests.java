@@ -0,0 +1,66 @@
+package frc.lib.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import frc.lib.helpers.LatencyHistogram;
+
+public class LatencyHistogramTests
+{
+    @Test
+    public void testEmpty()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assertions.assertEquals(0, histogram.getCount());
+        Assertions.assertEquals(0L, histogram.getMax());
+        Assertions.assertEquals(0L, histogram.getValueAtPercentile(50.0));
+    }
+
+    @Test
+    public void testSmallValuesAreExact()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10; i++)
+        {
+            histogram.record(i);
+        }
+
+        Assertions.assertEquals(10, histogram.getCount());
+        Assertions.assertEquals(10L, histogram.getMax());
+        Assertions.assertEquals(5L, histogram.getValueAtPercentile(50.0));
+        Assertions.assertEquals(10L, histogram.getValueAtPercentile(99.0));
+        Assertions.assertEquals(1L, histogram.getValueAtPercentile(0.0));
+    }
+
+    @Test
+    public void testPercentilesWithinRelativeError()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++)
+        {
+            histogram.record(i * 20000L); // 20us to 20ms
+        }
+
+        Assertions.assertEquals(20000000L, histogram.getMax());
+        Assertions.assertEquals(10000000.0, histogram.getValueAtPercentile(50.0), 10000000.0 * 0.07);
+        Assertions.assertEquals(19800000.0, histogram.getValueAtPercentile(99.0), 19800000.0 * 0.07);
+        Assertions.assertEquals(20000000L, histogram.getValueAtPercentile(100.0));
+
+        histogram.reset();
+        Assertions.assertEquals(0, histogram.getCount());
+        Assertions.assertEquals(0L, histogram.getMax());
+    }
+
+    @Test
+    public void testVeryLargeValues()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-5L);
+
+        Assertions.assertEquals(2, histogram.getCount());
+        Assertions.assertEquals(Long.MAX_VALUE, histogram.getMax());
+        Assertions.assertEquals(0L, histogram.getValueAtPercentile(50.0));
+        Assertions.assertTrue(histogram.getValueAtPercentile(100.0) > 0L);
+    }
+}
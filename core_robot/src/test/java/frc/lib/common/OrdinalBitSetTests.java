@@ -0,0 +1,70 @@
+package frc.lib.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import frc.lib.helpers.OrdinalBitSet;
+
+public class OrdinalBitSetTests
+{
+    @Test
+    public void testSetClearAcrossWords()
+    {
+        OrdinalBitSet set = new OrdinalBitSet(130);
+        Assertions.assertTrue(set.isEmpty());
+        Assertions.assertEquals(-1, set.nextSetBit(0));
+
+        set.set(0);
+        set.set(63);
+        set.set(64);
+        set.set(129);
+        Assertions.assertFalse(set.isEmpty());
+        Assertions.assertEquals(4, set.cardinality());
+        Assertions.assertTrue(set.get(63));
+        Assertions.assertTrue(set.get(64));
+        Assertions.assertFalse(set.get(65));
+        Assertions.assertEquals("[0, 63, 64, 129]", set.toString());
+
+        Assertions.assertEquals(0, set.nextSetBit(0));
+        Assertions.assertEquals(63, set.nextSetBit(1));
+        Assertions.assertEquals(64, set.nextSetBit(64));
+        Assertions.assertEquals(129, set.nextSetBit(65));
+        Assertions.assertEquals(-1, set.nextSetBit(130));
+
+        set.clear(63);
+        Assertions.assertFalse(set.get(63));
+        Assertions.assertEquals(3, set.cardinality());
+
+        set.clearAll();
+        Assertions.assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void testSetOperations()
+    {
+        OrdinalBitSet left = new OrdinalBitSet(70);
+        left.set(1);
+        left.set(2);
+        left.set(68);
+
+        OrdinalBitSet right = new OrdinalBitSet(70);
+        right.set(2);
+        right.set(3);
+
+        OrdinalBitSet result = new OrdinalBitSet(70);
+        result.copyFrom(left);
+        Assertions.assertTrue(result.equals(left));
+
+        result.or(right);
+        Assertions.assertEquals("[1, 2, 3, 68]", result.toString());
+
+        result.copyFrom(left);
+        result.and(right);
+        Assertions.assertEquals("[2]", result.toString());
+
+        result.copyFrom(left);
+        result.andNot(right);
+        Assertions.assertEquals("[1, 68]", result.toString());
+        Assertions.assertFalse(result.equals(left));
+    }
+}
@@ -48,4 +48,33 @@ public class PoseHelperTests
             }
         }
     }
+
+    @Test
+    public void testPrimitivePoseExponential()
+    {
+        // the in-place primitive versions match the in-place Triple versions
+        for (double angle = -90.0; angle < 90.0; angle += 5.0)
+        {
+            for (double dx = -10.0; dx <= 10.0; dx += 2.5)
+            {
+                for (double dy = -10.0; dy <= 10.0; dy += 2.5)
+                {
+                    Triple<Double, Double, Double> expected = new Triple<Double, Double, Double>(dx, dy, angle);
+                    double[] value = new double[] { dx, dy, angle };
+
+                    PoseHelpers.inversePoseExponential(expected);
+                    PoseHelpers.inversePoseExponential(value);
+                    Assertions.assertEquals(expected.getFirst(), value[0], 1E-9);
+                    Assertions.assertEquals(expected.getSecond(), value[1], 1E-9);
+                    Assertions.assertEquals(angle, value[2], 1E-9);
+
+                    PoseHelpers.poseExponential(expected);
+                    PoseHelpers.poseExponential(value);
+                    Assertions.assertEquals(expected.getFirst(), value[0], 1E-9);
+                    Assertions.assertEquals(expected.getSecond(), value[1], 1E-9);
+                    Assertions.assertEquals(angle, value[2], 1E-9);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package frc.lib.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import frc.lib.helpers.PoseHistoryBuffer;
+
+public class PoseHistoryBufferTests
+{
+    @Test
+    public void testInterpolates()
+    {
+        PoseHistoryBuffer history = new PoseHistoryBuffer(4);
+        double[] pose = new double[3];
+
+        Assertions.assertFalse(history.getPoseAt(0.0, pose));
+
+        // add more poses than the capacity, so that the oldest ones are overwritten
+        for (int i = 0; i < 6; i++)
+        {
+            history.add(0.1 * i, 10.0 * i, -10.0 * i, i);
+        }
+
+        Assertions.assertEquals(4, history.size());
+        Assertions.assertFalse(history.getPoseAt(0.15, pose));
+
+        Assertions.assertTrue(history.getPoseAt(0.25, pose));
+        Assertions.assertArrayEquals(new double[] { 25.0, -25.0, 2.5 }, pose, 0.0001);
+
+        Assertions.assertTrue(history.getPoseAt(0.2, pose));
+        Assertions.assertArrayEquals(new double[] { 20.0, -20.0, 2.0 }, pose, 0.0001);
+
+        Assertions.assertTrue(history.getPoseAt(1.0, pose));
+        Assertions.assertArrayEquals(new double[] { 50.0, -50.0, 5.0 }, pose, 0.0001);
+
+        history.clear();
+        Assertions.assertEquals(0, history.size());
+        Assertions.assertFalse(history.getPoseAt(0.5, pose));
+    }
+
+    @Test
+    public void testShiftFrom()
+    {
+        PoseHistoryBuffer history = new PoseHistoryBuffer(8);
+        double[] pose = new double[3];
+        for (int i = 0; i < 5; i++)
+        {
+            history.add(0.1 * i, i, i, 0.0);
+        }
+
+        // re-adding at the same time replaces the newest pose
+        history.add(0.4, 5.0, 5.0, 0.0);
+
+        history.shiftFrom(0.2, 1.0, -1.0);
+
+        Assertions.assertTrue(history.getPoseAt(0.1, pose));
+        Assertions.assertArrayEquals(new double[] { 1.0, 1.0, 0.0 }, pose, 0.0001);
+        Assertions.assertTrue(history.getPoseAt(0.2, pose));
+        Assertions.assertArrayEquals(new double[] { 3.0, 1.0, 0.0 }, pose, 0.0001);
+        Assertions.assertTrue(history.getPoseAt(0.4, pose));
+        Assertions.assertArrayEquals(new double[] { 6.0, 4.0, 0.0 }, pose, 0.0001);
+    }
+}
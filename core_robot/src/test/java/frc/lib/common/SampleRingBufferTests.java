@@ -0,0 +1,76 @@
+package frc.lib.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import frc.lib.helpers.SampleRingBuffer;
+
+public class SampleRingBufferTests
+{
+    @Test
+    public void testReadsInOrder()
+    {
+        SampleRingBuffer ringBuffer = new SampleRingBuffer(2, 4);
+        double[] sample = new double[2];
+
+        Assertions.assertFalse(ringBuffer.read(sample));
+
+        // write and read more samples than the capacity, so that we wrap around
+        for (int i = 0; i < 10; i++)
+        {
+            Assertions.assertTrue(ringBuffer.write(new double[] { i, -i }));
+            if (i % 3 == 2)
+            {
+                for (int j = i - 2; j <= i; j++)
+                {
+                    Assertions.assertTrue(ringBuffer.read(sample));
+                    Assertions.assertArrayEquals(new double[] { j, -j }, sample);
+                }
+            }
+        }
+
+        Assertions.assertTrue(ringBuffer.read(sample));
+        Assertions.assertArrayEquals(new double[] { 9.0, -9.0 }, sample);
+        Assertions.assertFalse(ringBuffer.read(sample));
+        Assertions.assertEquals(0, ringBuffer.getDroppedSamples());
+    }
+
+    @Test
+    public void testOverwritesOldestWhenFull()
+    {
+        SampleRingBuffer ringBuffer = new SampleRingBuffer(1, 2);
+        double[] sample = new double[1];
+
+        Assertions.assertTrue(ringBuffer.write(new double[] { 1.0 }));
+        Assertions.assertTrue(ringBuffer.write(new double[] { 2.0 }));
+        Assertions.assertFalse(ringBuffer.write(new double[] { 3.0 }));
+        Assertions.assertEquals(1, ringBuffer.getDroppedSamples());
+
+        // the oldest sample was discarded, so we get the newest ones
+        Assertions.assertTrue(ringBuffer.read(sample));
+        Assertions.assertEquals(2.0, sample[0], 0.0);
+        Assertions.assertTrue(ringBuffer.write(new double[] { 4.0 }));
+        Assertions.assertTrue(ringBuffer.read(sample));
+        Assertions.assertEquals(3.0, sample[0], 0.0);
+        Assertions.assertTrue(ringBuffer.read(sample));
+        Assertions.assertEquals(4.0, sample[0], 0.0);
+        Assertions.assertFalse(ringBuffer.read(sample));
+    }
+
+    @Test
+    public void testClear()
+    {
+        SampleRingBuffer ringBuffer = new SampleRingBuffer(1, 4);
+        double[] sample = new double[1];
+
+        ringBuffer.write(new double[] { 1.0 });
+        ringBuffer.write(new double[] { 2.0 });
+        ringBuffer.clear();
+        Assertions.assertFalse(ringBuffer.read(sample));
+
+        ringBuffer.write(new double[] { 3.0 });
+        Assertions.assertTrue(ringBuffer.read(sample));
+        Assertions.assertEquals(3.0, sample[0], 0.0);
+        Assertions.assertFalse(ringBuffer.read(sample));
+    }
+}
@@ -0,0 +1,93 @@
+package frc.lib.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import frc.lib.helpers.SwerveKinematics;
+
+public class SwerveKinematicsTests
+{
+    private static final double[] MODULE_OFFSET_X = new double[] { -11.25, 11.25, 11.25, -11.25 };
+    private static final double[] MODULE_OFFSET_Y = new double[] { -11.25, -11.25, 11.25, 11.25 };
+
+    @Test
+    public void testTurnInPlaceAngles()
+    {
+        SwerveKinematics kinematics = new SwerveKinematics(SwerveKinematicsTests.MODULE_OFFSET_X, SwerveKinematicsTests.MODULE_OFFSET_Y);
+        Assertions.assertEquals(4, kinematics.getModuleCount());
+
+        double[] angles = new double[4];
+        kinematics.getTurnInPlaceAngles(angles);
+        Assertions.assertArrayEquals(new double[] { 45.0, 135.0, -135.0, -45.0 }, angles, 1E-9);
+
+        // turning in place with the modules at those angles doesn't move the center of the robot
+        double[] speeds = new double[] { 10.0, 10.0, 10.0, 10.0 };
+        double[] robotVelocity = new double[3];
+        kinematics.calculateRobotVelocity(angles, speeds, 1.0, robotVelocity);
+        Assertions.assertEquals(0.0, robotVelocity[SwerveKinematics.FORWARD_INDEX], 1E-9);
+        Assertions.assertEquals(0.0, robotVelocity[SwerveKinematics.LEFT_INDEX], 1E-9);
+        Assertions.assertEquals(10.0 / Math.hypot(11.25, 11.25), robotVelocity[SwerveKinematics.OMEGA_INDEX], 1E-9);
+    }
+
+    @Test
+    public void testRoundTrip()
+    {
+        SwerveKinematics kinematics = new SwerveKinematics(SwerveKinematicsTests.MODULE_OFFSET_X, SwerveKinematicsTests.MODULE_OFFSET_Y);
+
+        double[] currentAngles = new double[] { 0.0, 170.0, -350.0, 720.0 };
+        double[] speeds = new double[4];
+        double[] angles = new double[4];
+        boolean[] reversed = new boolean[4];
+        double[] robotVelocity = new double[3];
+        for (double forward = -60.0; forward <= 60.0; forward += 30.0)
+        {
+            for (double left = -60.0; left <= 60.0; left += 30.0)
+            {
+                for (double omega = -2.0; omega <= 2.0; omega += 1.0)
+                {
+                    if (forward == 0.0 && left == 0.0 && omega == 0.0)
+                    {
+                        continue;
+                    }
+
+                    double maxSpeed = kinematics.calculateModuleSetpoints(forward, left, omega, 0.0, 0.0, 0.001, currentAngles, speeds, angles, reversed);
+                    for (int i = 0; i < 4; i++)
+                    {
+                        // the module angle stays within 90 degrees of the current angle, reversing the module when needed
+                        Assertions.assertTrue(Math.abs(angles[i] - currentAngles[i]) <= 90.0, "angle " + angles[i] + " far from " + currentAngles[i]);
+                        Assertions.assertEquals(reversed[i], speeds[i] < 0.0);
+                        Assertions.assertTrue(Math.abs(speeds[i]) <= maxSpeed + 1E-9);
+                    }
+
+                    kinematics.calculateRobotVelocity(angles, speeds, 1.0, robotVelocity);
+                    Assertions.assertEquals(forward, robotVelocity[SwerveKinematics.FORWARD_INDEX], 1E-9);
+                    Assertions.assertEquals(left, robotVelocity[SwerveKinematics.LEFT_INDEX], 1E-9);
+                    Assertions.assertEquals(omega, robotVelocity[SwerveKinematics.OMEGA_INDEX], 1E-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSkipAngleOnZeroVelocity()
+    {
+        SwerveKinematics kinematics = new SwerveKinematics(SwerveKinematicsTests.MODULE_OFFSET_X, SwerveKinematicsTests.MODULE_OFFSET_Y);
+
+        double[] currentAngles = new double[] { 10.0, 20.0, 30.0, 40.0 };
+        double[] speeds = new double[] { 1.0, 1.0, 1.0, 1.0 };
+        double[] angles = new double[4];
+        boolean[] reversed = new boolean[] { true, false, true, false };
+        Assertions.assertEquals(0.0, kinematics.calculateModuleSetpoints(0.0, 0.0, 0.0, 0.0, 0.0, 0.001, currentAngles, speeds, angles, reversed));
+        for (int i = 0; i < 4; i++)
+        {
+            Assertions.assertEquals(0.0, speeds[i]);
+            Assertions.assertTrue(Double.isNaN(angles[i]));
+        }
+
+        Assertions.assertArrayEquals(new boolean[] { true, false, true, false }, reversed);
+
+        // a negative delta always steers the modules
+        kinematics.calculateModuleSetpoints(0.0, 0.0, 0.0, 0.0, 0.0, -1.0, currentAngles, speeds, angles, reversed);
+        Assertions.assertArrayEquals(new double[] { 0.0, 0.0, 0.0, 0.0 }, angles, 1E-9);
+    }
+}
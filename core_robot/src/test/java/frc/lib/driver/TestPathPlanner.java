@@ -0,0 +1,148 @@
+package frc.lib.driver;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import frc.lib.robotprovider.IPathPlanner;
+import frc.lib.robotprovider.IPathPlannerGoal;
+import frc.lib.robotprovider.ITrajectory;
+import frc.lib.robotprovider.MotorType;
+import frc.lib.robotprovider.PathPlannerWaypoint;
+import frc.lib.robotprovider.TrajectoryState;
+
+/**
+ * Path planner for tests, which counts the trajectories it builds and builds each of them as a {@link LinearTrajectory} to the x
+ * position of the last waypoint.  A blocking path planner doesn't finish building any trajectories until it is released.
+ */
+public class TestPathPlanner implements IPathPlanner
+{
+    private final CountDownLatch release;
+    private final AtomicInteger builds;
+    private boolean configured;
+
+    /**
+     * Initializes a new TestPathPlanner that builds trajectories immediately
+     */
+    public TestPathPlanner()
+    {
+        this(false);
+    }
+
+    /**
+     * Initializes a new TestPathPlanner
+     * @param blocking whether to wait until release is called before finishing building any trajectories
+     */
+    public TestPathPlanner(boolean blocking)
+    {
+        this.release = new CountDownLatch(blocking ? 1 : 0);
+        this.builds = new AtomicInteger(0);
+        this.configured = false;
+    }
+
+    /**
+     * Let the trajectories that are waiting (and any later ones) finish building
+     */
+    public void release()
+    {
+        this.release.countDown();
+    }
+
+    /**
+     * Retrieve the number of trajectories that have been built
+     * @return number of trajectories built
+     */
+    public int getBuilds()
+    {
+        return this.builds.get();
+    }
+
+    @Override
+    public boolean isConfigured()
+    {
+        return this.configured;
+    }
+
+    @Override
+    public void configureRobot(
+        double robotWeight,
+        double robotMomentOfInertia,
+        double swerveModuleWheelRadius,
+        double swerveModuleMaxVelocity,
+        double swerveModuleWheelCoefficientOfFriction,
+        double swerveDriveGearReduction,
+        MotorType swerveDriveMotorType,
+        int swerveDriveMotorCount,
+        double swerveDriveMotorCurrentLimit,
+        double horizontalModuleCenterDistance,
+        double verticalModuleCenterDistance)
+    {
+        this.configured = true;
+    }
+
+    @Override
+    public ITrajectory loadTrajectory(String name)
+    {
+        return null;
+    }
+
+    @Override
+    public ITrajectory loadTrajectory(String name, boolean reversed)
+    {
+        return null;
+    }
+
+    @Override
+    public ITrajectory buildTrajectory(
+        double maxVelocity,
+        double maxAcceleration,
+        double maxAngularVelocity,
+        double maxAngularAcceleration,
+        IPathPlannerGoal... goalPoints)
+    {
+        try
+        {
+            this.release.await();
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        this.builds.incrementAndGet();
+        return new LinearTrajectory(((PathPlannerWaypoint)goalPoints[goalPoints.length - 1]).x);
+    }
+
+    /**
+     * Trajectory that moves in x at a constant velocity for one second, while turning from 170 to -170 degrees (across +/-180)
+     */
+    public static class LinearTrajectory implements ITrajectory
+    {
+        private final double distance;
+        private final double y;
+
+        public LinearTrajectory(double distance)
+        {
+            this(distance, 0.0);
+        }
+
+        public LinearTrajectory(double distance, double y)
+        {
+            this.distance = distance;
+            this.y = y;
+        }
+
+        @Override
+        public double getDuration()
+        {
+            return 1.0;
+        }
+
+        @Override
+        public TrajectoryState get(double time)
+        {
+            double angle = 170.0 + 20.0 * time;
+            return new TrajectoryState(this.distance * time, this.y, angle > 180.0 ? angle - 360.0 : angle, this.distance, 0.0, 20.0);
+        }
+    }
+}
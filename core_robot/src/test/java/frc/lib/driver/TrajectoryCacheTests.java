@@ -0,0 +1,142 @@
+package frc.lib.driver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import frc.lib.robotprovider.ITrajectory;
+import frc.lib.robotprovider.MotorType;
+import frc.lib.robotprovider.PathPlannerWaypoint;
+import frc.lib.robotprovider.TrajectoryState;
+
+public class TrajectoryCacheTests
+{
+    private static final double SAMPLE_INTERVAL = 0.01;
+
+    @Test
+    public void testLoadsUnchangedTrajectories(@TempDir Path directory) throws IOException
+    {
+        // first boot: nothing is cached, so the trajectory is built and stored
+        TestPathPlanner pathPlanner = new TestPathPlanner();
+        TrajectoryCache cache = new TrajectoryCache(directory.toString(), TrajectoryCacheTests.SAMPLE_INTERVAL);
+        ITrajectory built = TrajectoryCacheTests.build(new CachingPathPlanner(pathPlanner, cache, false), 60.0);
+        Assertions.assertEquals(1, pathPlanner.getBuilds());
+        Assertions.assertEquals(0, cache.getHits());
+        Assertions.assertEquals(1, cache.getBuilds());
+        Assertions.assertEquals(1.0, built.getDuration(), 1e-9);
+
+        // second boot: the trajectory is loaded from the cache, and matches what was built
+        pathPlanner = new TestPathPlanner();
+        cache = new TrajectoryCache(directory.toString(), TrajectoryCacheTests.SAMPLE_INTERVAL);
+        ITrajectory loaded = TrajectoryCacheTests.build(new CachingPathPlanner(pathPlanner, cache, false), 60.0);
+        Assertions.assertEquals(0, pathPlanner.getBuilds());
+        Assertions.assertEquals(1, cache.getHits());
+        Assertions.assertEquals(built.getDuration(), loaded.getDuration(), 1e-9);
+        for (double time = 0.0; time <= 1.0; time += 0.005)
+        {
+            TrajectoryState expected = new TestPathPlanner.LinearTrajectory(60.0).get(time);
+            TrajectoryState actual = loaded.get(time);
+            Assertions.assertEquals(expected.xPosition, actual.xPosition, 1e-6);
+            Assertions.assertEquals(expected.yPosition, actual.yPosition, 1e-6);
+            Assertions.assertEquals(expected.xVelocity, actual.xVelocity, 1e-6);
+        }
+
+        // third boot: the path changed, so it is rebuilt and the old entry is removed
+        pathPlanner = new TestPathPlanner();
+        cache = new TrajectoryCache(directory.toString(), TrajectoryCacheTests.SAMPLE_INTERVAL);
+        TrajectoryCacheTests.build(new CachingPathPlanner(pathPlanner, cache, false), 72.0);
+        Assertions.assertEquals(1, pathPlanner.getBuilds());
+        Assertions.assertEquals(0, cache.getHits());
+        Assertions.assertEquals(1, cache.removeUnused());
+        try (Stream<Path> files = Files.list(directory))
+        {
+            Assertions.assertEquals(1L, files.count());
+        }
+    }
+
+    @Test
+    public void testRobotConfigurationIsPartOfKey(@TempDir Path directory) throws IOException
+    {
+        TestPathPlanner pathPlanner = new TestPathPlanner();
+        TrajectoryCacheTests.build(new CachingPathPlanner(pathPlanner, new TrajectoryCache(directory.toString(), TrajectoryCacheTests.SAMPLE_INTERVAL), false), 60.0);
+
+        CachingPathPlanner cachingPathPlanner = new CachingPathPlanner(pathPlanner, new TrajectoryCache(directory.toString(), TrajectoryCacheTests.SAMPLE_INTERVAL), false);
+        cachingPathPlanner.configureRobot(130.0, 8.0, 2.0, 180.0, 1.1, 6.75, MotorType.KrakenX60, 1, 80.0, 11.0, 11.0);
+        cachingPathPlanner.buildTrajectory(120.0, 120.0, 360.0, 360.0, new PathPlannerWaypoint(0.0, 0.0, 0.0, 0.0), new PathPlannerWaypoint(60.0, 0.0, 0.0, 0.0));
+        Assertions.assertEquals(2, pathPlanner.getBuilds());
+    }
+
+    @Test
+    public void testSampleIntervalIsPartOfKey(@TempDir Path directory) throws IOException
+    {
+        TestPathPlanner pathPlanner = new TestPathPlanner();
+        TrajectoryCacheTests.build(new CachingPathPlanner(pathPlanner, new TrajectoryCache(directory.toString(), TrajectoryCacheTests.SAMPLE_INTERVAL), false), 60.0);
+        TrajectoryCacheTests.build(new CachingPathPlanner(pathPlanner, new TrajectoryCache(directory.toString(), TrajectoryCacheTests.SAMPLE_INTERVAL / 2.0), false), 60.0);
+        Assertions.assertEquals(2, pathPlanner.getBuilds());
+    }
+
+    @Test
+    public void testCorruptedFilesAreRebuilt(@TempDir Path directory) throws IOException
+    {
+        TestPathPlanner pathPlanner = new TestPathPlanner();
+        TrajectoryCacheTests.build(new CachingPathPlanner(pathPlanner, new TrajectoryCache(directory.toString(), TrajectoryCacheTests.SAMPLE_INTERVAL), false), 60.0);
+        Path file;
+        try (Stream<Path> files = Files.list(directory))
+        {
+            file = files.findFirst().get();
+        }
+
+        // truncate the cached trajectory partway through its samples (e.g. a failing SD card)
+        byte[] contents = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(contents, contents.length / 2));
+
+        // the truncated file is a miss, so the trajectory is rebuilt and stored again
+        TrajectoryCache cache = new TrajectoryCache(directory.toString(), TrajectoryCacheTests.SAMPLE_INTERVAL);
+        TrajectoryCacheTests.build(new CachingPathPlanner(pathPlanner, cache, false), 60.0);
+        Assertions.assertEquals(2, pathPlanner.getBuilds());
+        Assertions.assertEquals(0, cache.getHits());
+        Assertions.assertArrayEquals(contents, Files.readAllBytes(file));
+
+        // as is a file full of garbage
+        Files.write(file, new byte[contents.length]);
+        cache = new TrajectoryCache(directory.toString(), TrajectoryCacheTests.SAMPLE_INTERVAL);
+        TrajectoryCacheTests.build(new CachingPathPlanner(pathPlanner, cache, false), 60.0);
+        Assertions.assertEquals(3, pathPlanner.getBuilds());
+        Assertions.assertEquals(0, cache.getHits());
+        Assertions.assertArrayEquals(contents, Files.readAllBytes(file));
+    }
+
+    @Test
+    public void testRemovesStaleTemporaryFiles(@TempDir Path directory) throws IOException
+    {
+        // left behind by a write that never finished
+        Files.write(directory.resolve("0123456789abcdef12345.tmp"), new byte[16]);
+
+        TestPathPlanner pathPlanner = new TestPathPlanner();
+        TrajectoryCache cache = new TrajectoryCache(directory.toString(), TrajectoryCacheTests.SAMPLE_INTERVAL);
+        TrajectoryCacheTests.build(new CachingPathPlanner(pathPlanner, cache, false), 60.0);
+        Assertions.assertEquals(1, cache.removeUnused());
+        try (Stream<Path> files = Files.list(directory))
+        {
+            Assertions.assertTrue(files.allMatch(file -> file.getFileName().toString().endsWith(".traj")));
+        }
+    }
+
+    private static ITrajectory build(CachingPathPlanner pathPlanner, double distance)
+    {
+        pathPlanner.configureRobot(125.0, 8.0, 2.0, 180.0, 1.1, 6.75, MotorType.KrakenX60, 1, 80.0, 11.0, 11.0);
+        return pathPlanner.buildTrajectory(
+            120.0,
+            120.0,
+            360.0,
+            360.0,
+            new PathPlannerWaypoint(0.0, 0.0, 0.0, 0.0),
+            new PathPlannerWaypoint(distance, 0.0, 0.0, 0.0));
+    }
+}
@@ -0,0 +1,120 @@
+package frc.lib.driver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import frc.lib.robotprovider.IPathPlanner;
+import frc.lib.robotprovider.ITrajectory;
+import frc.lib.robotprovider.MutableTrajectoryState;
+import frc.lib.robotprovider.PathPlannerWaypoint;
+import frc.lib.robotprovider.SampledTrajectory;
+import frc.lib.robotprovider.TrajectoryState;
+
+public class TrajectoryManagerTests
+{
+    @Test
+    public void testParallelGeneration() throws Exception
+    {
+        TestPathPlanner pathPlanner = new TestPathPlanner(true);
+        TrajectoryManager trajectoryManager = new TrajectoryManager();
+        IPathPlanner parallelPathPlanner = trajectoryManager.getParallelPathPlanner(pathPlanner);
+        Assertions.assertFalse(trajectoryManager.isReady());
+
+        // the handle is returned immediately, while the trajectory is still being built
+        trajectoryManager.addTrajectory(
+            "forwards",
+            parallelPathPlanner.buildTrajectory(1.0, 1.0, 1.0, 1.0, new PathPlannerWaypoint(0.0, 0.0, 0.0, 0.0), new PathPlannerWaypoint(30.0, 0.0, 0.0, 0.0)));
+        CompletableFuture<Void> generation = trajectoryManager.completeGeneration();
+
+        FutureTrajectory handle = (FutureTrajectory)trajectoryManager.getTrajectory("forwards");
+        Assertions.assertFalse(handle.isReady());
+        Assertions.assertFalse(trajectoryManager.isReady());
+
+        pathPlanner.release();
+        ITrajectory trajectory = handle.await();
+        Assertions.assertTrue(handle.isReady());
+        Assertions.assertEquals(30.0, trajectory.get(1.0).xPosition, 1e-9);
+
+        generation.get(1, TimeUnit.SECONDS);
+        Assertions.assertTrue(trajectoryManager.isReady());
+        Assertions.assertNotNull(trajectoryManager.getReadyTime());
+        Assertions.assertEquals(0, trajectoryManager.getFailedCount());
+    }
+
+    @Test
+    public void testBuildAfterCompleteGeneration() throws Exception
+    {
+        TestPathPlanner pathPlanner = new TestPathPlanner();
+        TrajectoryManager trajectoryManager = new TrajectoryManager();
+        IPathPlanner parallelPathPlanner = trajectoryManager.getParallelPathPlanner(pathPlanner);
+        trajectoryManager.completeGeneration().get(1, TimeUnit.SECONDS);
+
+        // the worker threads have been shut down, so the trajectory is built right away
+        ITrajectory trajectory = parallelPathPlanner.buildTrajectory(1.0, 1.0, 1.0, 1.0, new PathPlannerWaypoint(0.0, 0.0, 0.0, 0.0), new PathPlannerWaypoint(30.0, 0.0, 0.0, 0.0));
+        Assertions.assertFalse(trajectory instanceof FutureTrajectory);
+        Assertions.assertEquals(30.0, trajectory.get(1.0).xPosition, 1e-9);
+        Assertions.assertEquals(1, pathPlanner.getBuilds());
+        Assertions.assertTrue(trajectoryManager.isReady());
+    }
+
+    @Test
+    public void testMirroredTrajectory()
+    {
+        TestPathPlanner pathPlanner = new TestPathPlanner(true);
+        TrajectoryManager trajectoryManager = new TrajectoryManager();
+        IPathPlanner parallelPathPlanner = trajectoryManager.getParallelPathPlanner(pathPlanner);
+
+        ITrajectory blueTrajectory = parallelPathPlanner.buildTrajectory(1.0, 1.0, 1.0, 1.0, new PathPlannerWaypoint(0.0, 0.0, 0.0, 0.0), new PathPlannerWaypoint(-30.0, 0.0, 0.0, 0.0));
+        trajectoryManager.addTrajectory("forwardsBlue", blueTrajectory);
+        trajectoryManager.addMirroredTrajectory("forwardsRed", blueTrajectory);
+        trajectoryManager.completeGeneration();
+
+        // the mirrored trajectory is still a handle until the blue trajectory has been built
+        FutureTrajectory handle = (FutureTrajectory)trajectoryManager.getTrajectory("forwardsRed");
+        Assertions.assertFalse(handle.isReady());
+
+        pathPlanner.release();
+        ITrajectory trajectory = handle.await();
+        Assertions.assertEquals(1.0, trajectory.getDuration(), 1e-9);
+
+        TrajectoryState state = trajectory.get(1.0);
+        Assertions.assertEquals(30.0, state.xPosition, 1e-9);
+        Assertions.assertEquals(0.0, state.yPosition, 1e-9);
+        Assertions.assertEquals(10.0, state.angle, 1e-9);
+        Assertions.assertEquals(30.0, state.xVelocity, 1e-9);
+
+        MutableTrajectoryState mutableState = new MutableTrajectoryState();
+        Assertions.assertTrue(trajectory.get(0.5, mutableState));
+        Assertions.assertEquals(15.0, mutableState.xPosition, 1e-9);
+        Assertions.assertEquals(30.0, mutableState.xVelocity, 1e-9);
+    }
+
+    @Test
+    public void testBuildTrajectoryAsync()
+    {
+        TestPathPlanner pathPlanner = new TestPathPlanner(true);
+        TrajectoryManager trajectoryManager = new TrajectoryManager();
+
+        FutureTrajectory handle = trajectoryManager.buildTrajectoryAsync(
+            "approach",
+            () -> pathPlanner.buildTrajectory(1.0, 1.0, 1.0, 1.0, new PathPlannerWaypoint(0.0, 0.0, 0.0, 0.0), new PathPlannerWaypoint(20.0, 0.0, 0.0, 0.0)));
+        Assertions.assertFalse(handle.isReady());
+
+        // the same trajectory is only built once, even while it is still being built
+        Assertions.assertSame(handle, trajectoryManager.buildTrajectoryAsync("approach", () -> null));
+
+        pathPlanner.release();
+        ITrajectory trajectory = handle.await();
+        Assertions.assertInstanceOf(SampledTrajectory.class, trajectory);
+        Assertions.assertEquals(20.0, trajectory.get(1.0).xPosition, 1e-9);
+        Assertions.assertSame(handle, trajectoryManager.buildTrajectoryAsync("approach", () -> null));
+
+        // trajectories that fail to build are built again the next time they are requested
+        FutureTrajectory failedHandle = trajectoryManager.buildTrajectoryAsync("failed", () -> null);
+        Assertions.assertNull(failedHandle.await());
+        Assertions.assertNotSame(failedHandle, trajectoryManager.buildTrajectoryAsync("failed", () -> null));
+    }
+}
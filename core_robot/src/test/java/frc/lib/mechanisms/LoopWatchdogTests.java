@@ -0,0 +1,95 @@
+package frc.lib.mechanisms;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import frc.lib.RobotOptions;
+import frc.lib.robotprovider.NullLogger;
+import frc.robot.LoggingKey;
+import frc.robot.TuningConstants;
+
+public class LoopWatchdogTests
+{
+    private static final long OVER_BUDGET = Math.round(TuningConstants.LOOP_WATCHDOG_BUDGET * 1000000000.0) + 1000000L;
+
+    @Test
+    public void testShedsAndRestores()
+    {
+        LoggingManager logger = new LoggingManager(new NullLogger());
+        RobotOptions options = new RobotOptions();
+        MechanismManager mechanisms = new MechanismManager(List.of(), new LoopProfiler(logger), logger, options);
+        LoopWatchdog watchdog = new LoopWatchdog(logger, mechanisms, options);
+
+        watchdog.record(LoopWatchdogPhase.Mechanisms, 1000L);
+        watchdog.endTick();
+        Assertions.assertEquals(LoadSheddingStage.None, watchdog.getStage());
+        Assertions.assertFalse(watchdog.shouldDeferFlush(TuningConstants.LOG_FLUSH_THRESHOLD + 1));
+
+        // each run of consecutive overruns sheds one more stage
+        LoopWatchdogTests.overrun(watchdog, LoopWatchdogPhase.Logging, TuningConstants.LOOP_WATCHDOG_SHED_TICKS);
+        Assertions.assertEquals(LoadSheddingStage.SkipVerboseLogging, watchdog.getStage());
+
+        logger.logNumber(LoggingKey.DriveTrainAngle, 1.0);
+        logger.logNumber(LoggingKey.DriveTrainXPosition, 1.0);
+        Assertions.assertEquals(1, logger.getSkippedCount());
+
+        LoopWatchdogTests.overrun(watchdog, LoopWatchdogPhase.Sensors, TuningConstants.LOOP_WATCHDOG_SHED_TICKS);
+        Assertions.assertEquals(LoadSheddingStage.DeferFlush, watchdog.getStage());
+        Assertions.assertTrue(watchdog.shouldDeferFlush(TuningConstants.LOG_FLUSH_THRESHOLD + 1));
+        Assertions.assertFalse(watchdog.shouldDeferFlush(TuningConstants.LOG_FLUSH_THRESHOLD * TuningConstants.LOOP_WATCHDOG_MAX_FLUSH_DEFERRAL + 1));
+
+        LoopWatchdogTests.overrun(watchdog, LoopWatchdogPhase.Mechanisms, 2 * TuningConstants.LOOP_WATCHDOG_SHED_TICKS);
+        Assertions.assertEquals(LoadSheddingStage.SlowNonCriticalMechanisms, watchdog.getStage());
+
+        // stages are restored one at a time once there is enough slack
+        for (int i = 0; i < TuningConstants.LOOP_WATCHDOG_RESTORE_TICKS; i++)
+        {
+            Assertions.assertEquals(LoadSheddingStage.SlowNonCriticalMechanisms, watchdog.getStage());
+            watchdog.record(LoopWatchdogPhase.Mechanisms, 1000L);
+            watchdog.endTick();
+        }
+
+        Assertions.assertEquals(LoadSheddingStage.DeferFlush, watchdog.getStage());
+
+        watchdog.reset();
+        Assertions.assertEquals(LoadSheddingStage.None, watchdog.getStage());
+        logger.logNumber(LoggingKey.DriveTrainAngle, 1.0);
+        Assertions.assertEquals(1, logger.getSkippedCount());
+    }
+
+    @Test
+    public void testIgnoresSingleSpikes()
+    {
+        LoggingManager logger = new LoggingManager(new NullLogger());
+        RobotOptions options = new RobotOptions();
+        MechanismManager mechanisms = new MechanismManager(List.of(), new LoopProfiler(logger), logger, options);
+        LoopWatchdog watchdog = new LoopWatchdog(logger, mechanisms, options);
+
+        // overruns that are separated by a tick within the budget never shed anything
+        for (int i = 0; i < 100; i++)
+        {
+            LoopWatchdogTests.overrun(watchdog, LoopWatchdogPhase.Mechanisms, TuningConstants.LOOP_WATCHDOG_SHED_TICKS - 1);
+            Assertions.assertEquals(LoadSheddingStage.None, watchdog.getStage());
+
+            watchdog.record(LoopWatchdogPhase.Mechanisms, 1000L);
+            watchdog.endTick();
+        }
+
+        Assertions.assertEquals(LoadSheddingStage.None, watchdog.getStage());
+        Assertions.assertEquals(0, logger.getSkippedCount());
+
+        LoopWatchdogTests.overrun(watchdog, LoopWatchdogPhase.Mechanisms, TuningConstants.LOOP_WATCHDOG_SHED_TICKS);
+        Assertions.assertEquals(LoadSheddingStage.SkipVerboseLogging, watchdog.getStage());
+    }
+
+    private static void overrun(LoopWatchdog watchdog, LoopWatchdogPhase phase, int ticks)
+    {
+        for (int i = 0; i < ticks; i++)
+        {
+            watchdog.record(phase, LoopWatchdogTests.OVER_BUDGET);
+            watchdog.endTick();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package frc.lib.mechanisms;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import frc.lib.robotprovider.NullLogger;
+import frc.lib.robotprovider.RobotMode;
+
+public class MechanismExecutorTests
+{
+    @Test
+    public void testRunsDependenciesFirst()
+    {
+        AtomicInteger sequence = new AtomicInteger(0);
+        SourceMechanism first = new SourceMechanism(sequence);
+        OtherSourceMechanism second = new OtherSourceMechanism(sequence);
+        DependentMechanism dependent = new DependentMechanism(sequence);
+        List<IMechanism> mechanismList = List.of(first, second, dependent);
+
+        MechanismExecutor executor = MechanismExecutorTests.createExecutor(mechanismList, 2);
+        boolean[] due = new boolean[] { true, true, true };
+        for (int i = 0; i < 20; i++)
+        {
+            executor.run(LoopPhase.ReadSensors, null, due);
+            Assertions.assertTrue(dependent.readStart > first.readEnd);
+            Assertions.assertTrue(dependent.readStart > second.readEnd);
+
+            executor.run(LoopPhase.Update, RobotMode.Teleop, due);
+            Assertions.assertTrue(dependent.updateStart > first.updateEnd);
+            Assertions.assertTrue(dependent.updateStart > second.updateEnd);
+        }
+
+        Assertions.assertEquals(20, first.readCount);
+        Assertions.assertEquals(20, second.updateCount);
+        Assertions.assertEquals(20, dependent.readCount);
+        Assertions.assertEquals(20, dependent.updateCount);
+    }
+
+    @Test
+    public void testIsolatesExceptions()
+    {
+        AtomicInteger sequence = new AtomicInteger(0);
+        SourceMechanism first = new SourceMechanism(sequence);
+        first.fail = true;
+        OtherSourceMechanism second = new OtherSourceMechanism(sequence);
+        DependentMechanism dependent = new DependentMechanism(sequence);
+
+        MechanismExecutor executor = MechanismExecutorTests.createExecutor(List.of(first, second, dependent), 1);
+        boolean[] due = new boolean[] { true, true, true };
+        executor.run(LoopPhase.ReadSensors, null, due);
+
+        Assertions.assertEquals(1, second.readCount);
+        Assertions.assertEquals(1, dependent.readCount);
+    }
+
+    @Test
+    public void testSkipsMechanismsNotDue()
+    {
+        AtomicInteger sequence = new AtomicInteger(0);
+        SourceMechanism first = new SourceMechanism(sequence);
+        OtherSourceMechanism second = new OtherSourceMechanism(sequence);
+        DependentMechanism dependent = new DependentMechanism(sequence);
+
+        MechanismExecutor executor = MechanismExecutorTests.createExecutor(List.of(first, second, dependent), 1);
+        executor.run(LoopPhase.Update, RobotMode.Teleop, new boolean[] { false, true, true });
+        executor.run(LoopPhase.Update, RobotMode.Teleop, new boolean[] { true, false, false });
+
+        Assertions.assertEquals(1, first.updateCount);
+        Assertions.assertEquals(1, second.updateCount);
+        Assertions.assertEquals(1, dependent.updateCount);
+    }
+
+    private static MechanismExecutor createExecutor(List<IMechanism> mechanismList, int workerCount)
+    {
+        LoopProfiler profiler = new LoopProfiler(new LoggingManager(new NullLogger()));
+        int[] profilerSections = new int[mechanismList.size()];
+        for (int i = 0; i < profilerSections.length; i++)
+        {
+            profilerSections[i] = profiler.register(mechanismList.get(i).getClass().getSimpleName());
+        }
+
+        return new MechanismExecutor(mechanismList, profiler, profilerSections, new int[mechanismList.size()], workerCount);
+    }
+
+    private static class RecordingMechanism implements IMechanism
+    {
+        private final AtomicInteger sequence;
+
+        boolean fail;
+        int readStart;
+        int readEnd;
+        int readCount;
+        int updateStart;
+        int updateEnd;
+        int updateCount;
+
+        RecordingMechanism(AtomicInteger sequence)
+        {
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void readSensors()
+        {
+            this.readStart = this.sequence.incrementAndGet();
+            this.readCount++;
+            if (this.fail)
+            {
+                throw new RuntimeException("expected");
+            }
+
+            Thread.yield();
+            this.readEnd = this.sequence.incrementAndGet();
+        }
+
+        @Override
+        public void update(RobotMode mode)
+        {
+            this.updateStart = this.sequence.incrementAndGet();
+            this.updateCount++;
+            Thread.yield();
+            this.updateEnd = this.sequence.incrementAndGet();
+        }
+
+        @Override
+        public void stop()
+        {
+        }
+    }
+
+    private static class SourceMechanism extends RecordingMechanism
+    {
+        SourceMechanism(AtomicInteger sequence)
+        {
+            super(sequence);
+        }
+    }
+
+    private static class OtherSourceMechanism extends RecordingMechanism
+    {
+        OtherSourceMechanism(AtomicInteger sequence)
+        {
+            super(sequence);
+        }
+    }
+
+    @DependsOn({ SourceMechanism.class, OtherSourceMechanism.class })
+    private static class DependentMechanism extends RecordingMechanism
+    {
+        DependentMechanism(AtomicInteger sequence)
+        {
+            super(sequence);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package frc.lib.mechanisms;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import frc.lib.robotprovider.NullLogger;
+import frc.lib.robotprovider.RobotMode;
+import frc.robot.TuningConstants;
+
+public class MechanismSchedulerTests
+{
+    @Test
+    public void testDivisorsAndStagger()
+    {
+        MechanismScheduler scheduler = new MechanismScheduler(
+            List.of(new PriorityMechanism(), new DefaultMechanism(), new SlowMechanism(), new SlowerMechanism()),
+            new LoggingManager(new NullLogger()),
+            0.02);
+
+        Assertions.assertArrayEquals(new int[] { 3, 0, 1, 0 }, scheduler.getPriorities());
+
+        int[] runCounts = new int[4];
+        for (int loop = 0; loop < 20; loop++)
+        {
+            scheduler.startLoop();
+
+            boolean[] due = scheduler.getDue();
+            Assertions.assertTrue(due[0] && due[1], "expect the main loop group to run in every loop");
+            Assertions.assertFalse(due[2] && due[3], "expect the slow groups to be staggered onto different loops");
+            for (int i = 0; i < due.length; i++)
+            {
+                if (due[i])
+                {
+                    runCounts[i]++;
+                }
+            }
+        }
+
+        Assertions.assertArrayEquals(new int[] { 20, 20, 10, 5 }, runCounts);
+    }
+
+    @Test
+    public void testSlowsNonCritical()
+    {
+        MechanismScheduler scheduler = new MechanismScheduler(
+            List.of(new PriorityMechanism(), new NonCriticalMechanism()),
+            new LoggingManager(new NullLogger()),
+            0.02);
+
+        scheduler.setSlowNonCritical(true);
+
+        int[] runCounts = new int[2];
+        for (int loop = 0; loop < 20; loop++)
+        {
+            scheduler.startLoop();
+            boolean[] due = scheduler.getDue();
+            for (int i = 0; i < due.length; i++)
+            {
+                if (due[i])
+                {
+                    runCounts[i]++;
+                }
+            }
+        }
+
+        Assertions.assertArrayEquals(new int[] { 20, 20 / TuningConstants.LOOP_WATCHDOG_SLOW_MECHANISM_DIVISOR }, runCounts);
+    }
+
+    private static class TestMechanism implements IMechanism
+    {
+        @Override
+        public void readSensors()
+        {
+        }
+
+        @Override
+        public void update(RobotMode mode)
+        {
+        }
+
+        @Override
+        public void stop()
+        {
+        }
+    }
+
+    @MechanismSchedule(priority = 3)
+    private static class PriorityMechanism extends TestMechanism
+    {
+    }
+
+    private static class DefaultMechanism extends TestMechanism
+    {
+    }
+
+    @MechanismSchedule(period = 0.04, priority = 1)
+    private static class SlowMechanism extends TestMechanism
+    {
+    }
+
+    @MechanismSchedule(period = 0.02, critical = false)
+    private static class NonCriticalMechanism extends TestMechanism
+    {
+    }
+
+    @MechanismSchedule(period = 0.08)
+    private static class SlowerMechanism extends TestMechanism
+    {
+    }
+}
@@ -0,0 +1,176 @@
+package frc.lib.robotprovider;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AsyncBinaryFileWriterTests
+{
+    @Test
+    public void testWritesInOrder() throws InterruptedException
+    {
+        TestBinaryFileWriter fileWriter = new TestBinaryFileWriter(null);
+        AsyncBinaryFileWriter writer = new AsyncBinaryFileWriter(fileWriter, 16);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        byte[] record = new byte[5];
+        for (int i = 0; i < 50; i++)
+        {
+            for (int j = 0; j < record.length; j++)
+            {
+                record[j] = (byte)(i * record.length + j);
+            }
+
+            // wait for the background thread to make room, so that nothing is dropped (and we wrap around the ring buffer)
+            while (!fileWriter.hasAtLeast(expected.size() + record.length - 16))
+            {
+                Thread.sleep(1);
+            }
+
+            writer.write(record, 0, record.length);
+            expected.write(record, 0, record.length);
+        }
+
+        writer.flush();
+        fileWriter.awaitFlush();
+
+        Assertions.assertEquals(0, writer.getDroppedWrites());
+        Assertions.assertArrayEquals(expected.toByteArray(), fileWriter.toByteArray());
+    }
+
+    @Test
+    public void testDropsWhenFull() throws InterruptedException
+    {
+        CountDownLatch blocker = new CountDownLatch(1);
+        TestBinaryFileWriter fileWriter = new TestBinaryFileWriter(blocker);
+        AsyncBinaryFileWriter writer = new AsyncBinaryFileWriter(fileWriter, 16);
+
+        byte[] first = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 };
+        byte[] second = new byte[] { 9, 10, 11, 12, 13, 14, 15, 16 };
+        byte[] third = new byte[] { 17, 18, 19, 20 };
+
+        // the underlying writer is blocked, so the ring buffer can only hold the first two writes
+        writer.write(first, 0, first.length);
+        writer.write(second, 0, second.length);
+        writer.write(third, 0, third.length);
+        Assertions.assertEquals(1, writer.getDroppedWrites());
+
+        blocker.countDown();
+        writer.flush();
+        fileWriter.awaitFlush();
+
+        Assertions.assertArrayEquals(
+            new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 },
+            fileWriter.toByteArray());
+    }
+
+    @Test
+    public void testCloseWritesEverything() throws IOException
+    {
+        CountDownLatch blocker = new CountDownLatch(1);
+        TestBinaryFileWriter fileWriter = new TestBinaryFileWriter(blocker);
+        AsyncBinaryFileWriter writer = new AsyncBinaryFileWriter(fileWriter, 16);
+
+        byte[] first = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 };
+        byte[] second = new byte[] { 9, 10, 11, 12 };
+
+        // nothing has been written out yet, but closing waits until everything has been written
+        writer.write(first, 0, first.length);
+        writer.write(second, 0, second.length);
+        blocker.countDown();
+        writer.close();
+
+        Assertions.assertTrue(fileWriter.isClosed());
+        Assertions.assertArrayEquals(
+            new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 },
+            fileWriter.toByteArray());
+
+        // anything written afterwards is dropped
+        writer.write(first, 0, first.length);
+        Assertions.assertEquals(1, writer.getDroppedWrites());
+    }
+
+    private static class TestBinaryFileWriter implements IBinaryFileWriter
+    {
+        private final CountDownLatch blocker;
+        private final ByteArrayOutputStream data;
+        private final CountDownLatch flushed;
+        private volatile boolean closed;
+
+        TestBinaryFileWriter(CountDownLatch blocker)
+        {
+            this.blocker = blocker;
+            this.data = new ByteArrayOutputStream();
+            this.flushed = new CountDownLatch(1);
+            this.closed = false;
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int length)
+        {
+            if (this.blocker != null)
+            {
+                try
+                {
+                    this.blocker.await();
+                }
+                catch (InterruptedException e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            synchronized (this.data)
+            {
+                this.data.write(data, offset, length);
+            }
+        }
+
+        @Override
+        public void flush()
+        {
+            this.flushed.countDown();
+        }
+
+        @Override
+        public void close()
+        {
+            this.closed = true;
+        }
+
+        @Override
+        public int getDroppedWrites()
+        {
+            return 0;
+        }
+
+        boolean hasAtLeast(int size)
+        {
+            synchronized (this.data)
+            {
+                return this.data.size() >= size;
+            }
+        }
+
+        byte[] toByteArray()
+        {
+            synchronized (this.data)
+            {
+                return this.data.toByteArray();
+            }
+        }
+
+        boolean isClosed()
+        {
+            return this.closed;
+        }
+
+        void awaitFlush() throws InterruptedException
+        {
+            this.flushed.await();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package frc.lib.robotprovider;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import frc.robot.LoggingKey;
+
+public class BinaryLoggerTests
+{
+    @Test
+    public void testRoundTripToCsv() throws IOException
+    {
+        TestBinaryFileWriter writer = new TestBinaryFileWriter();
+        BinaryLogger logger = new BinaryLogger(writer, LoggingKey.RobotState, LoggingKey.RobotTime, LoggingKey.DriverActiveMacros, LoggingKey.DriveTrainXPosition);
+
+        logger.logString(LoggingKey.RobotState, "Autonomous");
+        logger.logNumber(LoggingKey.RobotTime, 1.5);
+        logger.logString(LoggingKey.DriverActiveMacros, "a \"quoted\" macro");
+        logger.logNumber(LoggingKey.DriveTrainXPosition, (Double)null);
+        logger.update();
+
+        logger.logNumber(LoggingKey.RobotTime, 1.52);
+        logger.logInteger(LoggingKey.DriveTrainXPosition, 3);
+        logger.logBoolean(LoggingKey.PigeonYaw, true); // not part of the schema
+        logger.update();
+
+        logger.logBoolean(LoggingKey.RobotState, true);
+        logger.logBooleanArray(LoggingKey.DriverActiveMacros, new boolean[] { true, false, true });
+        logger.logString(LoggingKey.DriveTrainXPosition, "\u00b0\u2713");
+        logger.update();
+        logger.flush();
+
+        StringBuilder csv = new StringBuilder();
+        int records = BinaryLogConverter.convert(new ByteArrayInputStream(writer.toByteArray()), csv);
+
+        Assertions.assertEquals(3, records);
+        Assertions.assertEquals(
+            "r/state,r/time,driver/activeMacros,dt/xpos\r\n" +
+            "Autonomous,1.5,\"a \"\"quoted\"\" macro\",null\r\n" +
+            ",1.52,,3\r\n" +
+            "true,,\"true,false,true\",\u00b0\u2713\r\n",
+            csv.toString());
+    }
+
+    @Test
+    public void testPartialRecordIgnored() throws IOException
+    {
+        TestBinaryFileWriter writer = new TestBinaryFileWriter();
+        BinaryLogger logger = new BinaryLogger(writer, LoggingKey.RobotTime);
+
+        logger.logNumber(LoggingKey.RobotTime, 0.02);
+        logger.update();
+        logger.logNumber(LoggingKey.RobotTime, 0.04);
+        logger.update();
+
+        byte[] data = writer.toByteArray();
+        byte[] truncated = new byte[data.length - 3];
+        System.arraycopy(data, 0, truncated, 0, truncated.length);
+
+        StringBuilder csv = new StringBuilder();
+        int records = BinaryLogConverter.convert(new ByteArrayInputStream(truncated), csv);
+
+        Assertions.assertEquals(1, records);
+        Assertions.assertEquals("r/time\r\n0.02\r\n", csv.toString());
+    }
+
+    private static class TestBinaryFileWriter extends ByteArrayOutputStream implements IBinaryFileWriter
+    {
+        @Override
+        public void write(byte[] data, int offset, int length)
+        {
+            super.write(data, offset, length);
+        }
+
+        @Override
+        public int getDroppedWrites()
+        {
+            return 0;
+        }
+    }
+}
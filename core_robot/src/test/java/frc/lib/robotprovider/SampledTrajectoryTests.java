@@ -0,0 +1,41 @@
+package frc.lib.robotprovider;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import frc.lib.driver.TestPathPlanner;
+
+public class SampledTrajectoryTests
+{
+    @Test
+    public void testInterpolation()
+    {
+        SampledTrajectory trajectory = SampledTrajectory.sample(new TestPathPlanner.LinearTrajectory(60.0, 12.0), 0.1);
+        Assertions.assertEquals(1.0, trajectory.getDuration(), 1e-9);
+
+        MutableTrajectoryState state = new MutableTrajectoryState();
+        for (double time = 0.0; time <= 1.0; time += 0.01)
+        {
+            TrajectoryState expected = new TestPathPlanner.LinearTrajectory(60.0, 12.0).get(time);
+            Assertions.assertTrue(trajectory.get(time, state));
+            Assertions.assertEquals(expected.xPosition, state.xPosition, 1e-9);
+            Assertions.assertEquals(expected.yPosition, state.yPosition, 1e-9);
+            Assertions.assertEquals(expected.xVelocity, state.xVelocity, 1e-9);
+            Assertions.assertEquals(expected.angleVelocity, state.angleVelocity, 1e-9);
+
+            // interpolates the short way around, across +/-180
+            Assertions.assertEquals(0.0, Math.abs(expected.angle - state.angle) % 360.0, 1e-9);
+            Assertions.assertTrue(state.angle > -180.0 && state.angle <= 180.0);
+
+            TrajectoryState allocated = trajectory.get(time);
+            Assertions.assertEquals(state.xPosition, allocated.xPosition, 0.0);
+            Assertions.assertEquals(state.angle, allocated.angle, 0.0);
+        }
+
+        // times outside the trajectory are clamped to its start or end
+        trajectory.get(-1.0, state);
+        Assertions.assertEquals(0.0, state.xPosition, 1e-9);
+        trajectory.get(2.0, state);
+        Assertions.assertEquals(60.0, state.xPosition, 1e-9);
+    }
+}
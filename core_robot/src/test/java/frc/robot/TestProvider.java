@@ -393,6 +393,11 @@ public class TestProvider implements IRobotProvider
         return null;
     }
 
+    @Override
+    public void refreshBatchedSignals()
+    {
+    }
+
     public void setAnalogInput(int channel, IAnalogInput value)
     {
         this.analogInputMap.put(channel, value);
@@ -10,6 +10,7 @@ import frc.lib.helpers.Helpers;
 import frc.lib.robotprovider.IPathPlanner;
 import frc.lib.robotprovider.IPathPlannerGoal;
 import frc.lib.robotprovider.ITrajectory;
+import frc.lib.robotprovider.MirroredTrajectory;
 import frc.lib.robotprovider.MotorType;
 import frc.lib.robotprovider.PathPlannerRotationTarget;
 import frc.lib.robotprovider.PathPlannerWaypoint;
@@ -55,9 +56,23 @@ public class PathPlannerTrajectoryTests
                 continue;
             }
 
-            PathPlannerVerifier.DummyTrajectory dummyTrajectory = (PathPlannerVerifier.DummyTrajectory)trajectoryManager.getTrajectory(name);
-            for (Point2d point : dummyTrajectory.points)
+            PathPlannerVerifier.DummyTrajectory dummyTrajectory;
+            if (isRed)
             {
+                // red trajectories are mirrored from the blue ones rather than built
+                String blueName = name.substring(0, name.length() - "Red".length()) + "Blue";
+                Assertions.assertTrue(trajectoryManager.getTrajectory(name) instanceof MirroredTrajectory, "expect mirrored trajectory " + name);
+                dummyTrajectory = (PathPlannerVerifier.DummyTrajectory)trajectoryManager.getTrajectory(blueName);
+                Assertions.assertNotNull(dummyTrajectory, "expect trajectory " + blueName + " to mirror for " + name);
+            }
+            else
+            {
+                dummyTrajectory = (PathPlannerVerifier.DummyTrajectory)trajectoryManager.getTrajectory(name);
+            }
+
+            for (Point2d bluePoint : dummyTrajectory.points)
+            {
+                Point2d point = isRed ? new Point2d(-bluePoint.x, -bluePoint.y) : bluePoint;
                 if (isRed)
                 {
                     Assertions.assertTrue(point.x >= MIN_ALLOWED_X_POSITION_RED && point.x <= MAX_ALLOWED_X_POSITION_RED, "x position out of bounds for red: " + point.x + " in trajectory " + name);
@@ -136,6 +136,11 @@ public class MechanismSafetyTests
             public void flush()
             {
             }
+
+            @Override
+            public void close()
+            {
+            }
         }
 
         @Singleton
@@ -175,6 +180,12 @@ public class MechanismSafetyTests
             {
                 throw new UnsupportedOperationException("Don't expect file.openWriter() to be run during readSensors");
             }
+
+            @Override
+            public IBinaryFileWriter openBinaryWriter() throws IOException
+            {
+                throw new UnsupportedOperationException("Don't expect file.openBinaryWriter() to be run during readSensors");
+            }
         }
 
         @Singleton
@@ -476,6 +487,11 @@ public class MechanismSafetyTests
                 return null;
             }
 
+            @Override
+            public void refreshBatchedSignals()
+            {
+            }
+
             static class TestAnalogInput implements IAnalogInput
             {
                 @Override
@@ -682,6 +698,29 @@ public class MechanismSafetyTests
                 {
                 }
 
+                @Override
+                public void registerBatchedSignals(TalonFXSignal... signals)
+                {
+                }
+
+                @Override
+                public IStatusSignal createSignal(TalonFXSignal signal)
+                {
+                    return new IStatusSignal()
+                    {
+                        @Override
+                        public void refresh()
+                        {
+                        }
+
+                        @Override
+                        public double getValue()
+                        {
+                            return 0.0;
+                        }
+                    };
+                }
+
                 @Override
                 public void optimizeCanbus()
                 {
@@ -1231,6 +1270,11 @@ public class MechanismSafetyTests
                 {
                 }
 
+                @Override
+                public void registerBatchedSignals(CANCoderSignal... signals)
+                {
+                }
+
                 @Override
                 public void configSensorDirection(boolean clockwisePositive)
                 {
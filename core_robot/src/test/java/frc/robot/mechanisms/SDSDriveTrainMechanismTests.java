@@ -1,8 +1,10 @@
 package frc.robot.mechanisms;
 
+import frc.lib.RobotOptions;
 import frc.lib.driver.IDriver;
 import frc.lib.mechanisms.LoggingManager;
 import frc.lib.robotprovider.IPigeon2;
+import frc.lib.robotprovider.IStatusSignal;
 import frc.lib.robotprovider.ITalonFX;
 import frc.lib.robotprovider.ITimer;
 import frc.lib.robotprovider.JoystickRumbleType;
@@ -11,6 +13,7 @@ import frc.lib.robotprovider.NullLogger;
 import frc.lib.robotprovider.Pose2d;
 import frc.lib.robotprovider.RobotMode;
 import frc.lib.robotprovider.TalonFXControlMode;
+import frc.lib.robotprovider.TalonFXSignal;
 import frc.lib.robotprovider.TalonXLimitSwitchStatus;
 import frc.lib.driver.descriptions.UserInputDevice;
 import frc.lib.helpers.Helpers;
@@ -21,6 +24,7 @@ import frc.robot.driver.AnalogOperation;
 import frc.robot.driver.DigitalOperation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
 
 import org.junit.jupiter.api.Test;
 
@@ -66,7 +70,7 @@ public class SDSDriveTrainMechanismTests
 
         IDriver driver = new MockDriver();
         LoggingManager logger = new LoggingManager(new NullLogger());
-        PigeonManager pigeonManager = new PigeonManager(driver, logger, provider);
+        PigeonManager pigeonManager = new PigeonManager(driver, logger, provider, new RobotOptions(true, false, 0, false));
         PowerManager powerManager = new PowerManager(driver, timer, logger, provider);
         CoralEndEffectorMechanism coralIntake = new CoralEndEffectorMechanism(provider, driver, timer, logger, powerManager);
         AlgaeIntakeMechanism algaeIntake = new AlgaeIntakeMechanism(provider, driver, timer, logger, powerManager);
@@ -77,8 +81,10 @@ public class SDSDriveTrainMechanismTests
             provider,
             pigeonManager,
             powerManager,
+            mock(OffboardVisionManager.class),
             elevator,
-            timer);
+            timer,
+            new SDSOdometrySamplerFactory(false));
 
         for (int timestep = 0; timestep < 10; timestep++)
         {
@@ -115,7 +121,7 @@ public class SDSDriveTrainMechanismTests
 
         IDriver driver = new MockDriver();
         LoggingManager logger = new LoggingManager(new NullLogger());
-        PigeonManager pigeonManager = new PigeonManager(driver, logger, provider);
+        PigeonManager pigeonManager = new PigeonManager(driver, logger, provider, new RobotOptions(true, false, 0, false));
         PowerManager powerManager = new PowerManager(driver, timer, logger, provider);
         CoralEndEffectorMechanism coralIntake = new CoralEndEffectorMechanism(provider, driver, timer, logger, powerManager);
         AlgaeIntakeMechanism algaeIntake = new AlgaeIntakeMechanism(provider, driver, timer, logger, powerManager);
@@ -126,8 +132,10 @@ public class SDSDriveTrainMechanismTests
             provider,
             pigeonManager,
             powerManager,
+            mock(OffboardVisionManager.class),
             elevator,
-            timer);
+            timer,
+            new SDSOdometrySamplerFactory(false));
 
         for (int timestep = 0; timestep < 50; timestep++)
         {
@@ -170,7 +178,7 @@ public class SDSDriveTrainMechanismTests
 
         IDriver driver = new MockDriver();
         LoggingManager logger = new LoggingManager(new NullLogger());
-        PigeonManager pigeonManager = new PigeonManager(driver, logger, provider);
+        PigeonManager pigeonManager = new PigeonManager(driver, logger, provider, new RobotOptions(true, false, 0, false));
         PowerManager powerManager = new PowerManager(driver, timer, logger, provider);
         CoralEndEffectorMechanism coralIntake = new CoralEndEffectorMechanism(provider, driver, timer, logger, powerManager);
         AlgaeIntakeMechanism algaeIntake = new AlgaeIntakeMechanism(provider, driver, timer, logger, powerManager);
@@ -181,8 +189,10 @@ public class SDSDriveTrainMechanismTests
             provider,
             pigeonManager,
             powerManager,
+            mock(OffboardVisionManager.class),
             elevator,
-            timer);
+            timer,
+            new SDSOdometrySamplerFactory(false));
 
         for (int timestep = 0; timestep < 50; timestep++)
         {
@@ -226,7 +236,7 @@ public class SDSDriveTrainMechanismTests
 
         IDriver driver = new MockDriver();
         LoggingManager logger = new LoggingManager(new NullLogger());
-        PigeonManager pigeonManager = new PigeonManager(driver, logger, provider);
+        PigeonManager pigeonManager = new PigeonManager(driver, logger, provider, new RobotOptions(true, false, 0, false));
         PowerManager powerManager = new PowerManager(driver, timer, logger, provider);
         CoralEndEffectorMechanism coralIntake = new CoralEndEffectorMechanism(provider, driver, timer, logger, powerManager);
         AlgaeIntakeMechanism algaeIntake = new AlgaeIntakeMechanism(provider, driver, timer, logger, powerManager);
@@ -237,8 +247,10 @@ public class SDSDriveTrainMechanismTests
             provider,
             pigeonManager,
             powerManager,
+            mock(OffboardVisionManager.class),
             elevator,
-            timer);
+            timer,
+            new SDSOdometrySamplerFactory(false));
 
         for (int timestep = 0; timestep < 50; timestep++)
         {
@@ -283,7 +295,7 @@ public class SDSDriveTrainMechanismTests
 
         IDriver driver = new MockDriver();
         LoggingManager logger = new LoggingManager(new NullLogger());
-        PigeonManager pigeonManager = new PigeonManager(driver, logger, provider);
+        PigeonManager pigeonManager = new PigeonManager(driver, logger, provider, new RobotOptions(true, false, 0, false));
         PowerManager powerManager = new PowerManager(driver, timer, logger, provider);
         CoralEndEffectorMechanism coralIntake = new CoralEndEffectorMechanism(provider, driver, timer, logger, powerManager);
         AlgaeIntakeMechanism algaeIntake = new AlgaeIntakeMechanism(provider, driver, timer, logger, powerManager);
@@ -294,8 +306,10 @@ public class SDSDriveTrainMechanismTests
             provider,
             pigeonManager,
             powerManager,
+            mock(OffboardVisionManager.class),
             elevator,
-            timer);
+            timer,
+            new SDSOdometrySamplerFactory(false));
 
         for (int timestep = 0; timestep < 50; timestep++)
         {
@@ -339,7 +353,7 @@ public class SDSDriveTrainMechanismTests
 
         IDriver driver = new MockDriver();
         LoggingManager logger = new LoggingManager(new NullLogger());
-        PigeonManager pigeonManager = new PigeonManager(driver, logger, provider);
+        PigeonManager pigeonManager = new PigeonManager(driver, logger, provider, new RobotOptions(true, false, 0, false));
         PowerManager powerManager = new PowerManager(driver, timer, logger, provider);
         CoralEndEffectorMechanism coralIntake = new CoralEndEffectorMechanism(provider, driver, timer, logger, powerManager);
         AlgaeIntakeMechanism algaeIntake = new AlgaeIntakeMechanism(provider, driver, timer, logger, powerManager);
@@ -350,8 +364,10 @@ public class SDSDriveTrainMechanismTests
             provider,
             pigeonManager,
             powerManager,
+            mock(OffboardVisionManager.class),
             elevator,
-            timer);
+            timer,
+            new SDSOdometrySamplerFactory(false));
 
         double robotVelocityRight = 0.0;
         double robotVelocityForward = 0.0;
@@ -668,6 +684,17 @@ public class SDSDriveTrainMechanismTests
         {
         }
 
+        @Override
+        public void registerBatchedSignals(TalonFXSignal... signals)
+        {
+        }
+
+        @Override
+        public IStatusSignal createSignal(TalonFXSignal signal)
+        {
+            return null;
+        }
+
         @Override
         public void optimizeCanbus()
         {
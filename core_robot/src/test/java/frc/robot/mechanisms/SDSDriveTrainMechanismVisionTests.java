@@ -0,0 +1,131 @@
+package frc.robot.mechanisms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import frc.lib.driver.IDriver;
+import frc.lib.helpers.Helpers;
+import frc.lib.mechanisms.LoggingManager;
+import frc.lib.robotprovider.ITimer;
+import frc.lib.robotprovider.NullLogger;
+import frc.robot.FieldConstants;
+import frc.robot.TestProvider;
+import frc.robot.TuningConstants;
+
+public class SDSDriveTrainMechanismVisionTests
+{
+    private static final double FIELD_WIDTH_METERS = FieldConstants.FIELD_WIDTH / Helpers.INCHES_PER_METER;
+    private static final double FIELD_LENGTH_METERS = FieldConstants.FIELD_LENGTH / Helpers.INCHES_PER_METER;
+
+    @Test
+    public void testConvertFieldCenter()
+    {
+        double x = SDSDriveTrainMechanismVisionTests.FIELD_WIDTH_METERS / 2.0;
+        double y = SDSDriveTrainMechanismVisionTests.FIELD_LENGTH_METERS / 2.0;
+        assertEquals(0.0, SDSDriveTrainMechanism.convertVisionPositionX(x, false), 1e-6);
+        assertEquals(0.0, SDSDriveTrainMechanism.convertVisionPositionY(y, false), 1e-6);
+        assertEquals(0.0, SDSDriveTrainMechanism.convertVisionPositionX(x, true), 1e-6);
+        assertEquals(0.0, SDSDriveTrainMechanism.convertVisionPositionY(y, true), 1e-6);
+    }
+
+    @Test
+    public void testConvertBlueAllianceMeasurement()
+    {
+        // 2m from the blue alliance wall, 1m from the scoring table side of the field
+        double x = SDSDriveTrainMechanism.convertVisionPositionX(2.0, false);
+        double y = SDSDriveTrainMechanism.convertVisionPositionY(1.0, false);
+        assertEquals(2.0 * Helpers.INCHES_PER_METER - FieldConstants.FIELD_WIDTH / 2.0, x, 1e-6);
+        assertEquals(1.0 * Helpers.INCHES_PER_METER - FieldConstants.FIELD_LENGTH / 2.0, y, 1e-6);
+        assertEquals(-266.7, x, 0.1);
+        assertEquals(-119.1, y, 0.1);
+    }
+
+    @Test
+    public void testConvertRedAllianceMeasurement()
+    {
+        // 2m from the red alliance wall, 1m from the far side of the field, which is where the blue alliance robot above would be
+        // if it were on the red alliance
+        double x = SDSDriveTrainMechanism.convertVisionPositionX(SDSDriveTrainMechanismVisionTests.FIELD_WIDTH_METERS - 2.0, true);
+        double y = SDSDriveTrainMechanism.convertVisionPositionY(SDSDriveTrainMechanismVisionTests.FIELD_LENGTH_METERS - 1.0, true);
+        assertEquals(-266.7, x, 0.1);
+        assertEquals(-119.1, y, 0.1);
+
+        // the same red alliance robot 1m closer to the center of the field
+        x = SDSDriveTrainMechanism.convertVisionPositionX(SDSDriveTrainMechanismVisionTests.FIELD_WIDTH_METERS - 3.0, true);
+        assertEquals(-266.7 + Helpers.INCHES_PER_METER, x, 0.1);
+    }
+
+    @Test
+    public void testFuseUpdatesPoseAndVariance()
+    {
+        SDSDriveTrainMechanism driveTrain = SDSDriveTrainMechanismVisionTests.createStationaryDriveTrain();
+
+        double initialVariance = TuningConstants.SDSDRIVETRAIN_POSE_INITIAL_VARIANCE;
+        assertEquals(initialVariance, driveTrain.getPoseVariance(), 1e-9);
+
+        // a measurement as trustworthy as odometry moves the pose halfway there and halves the variance
+        assertTrue(driveTrain.fuseVisionMeasurement(10.0, -4.0, Math.sqrt(initialVariance), 0.05));
+        assertEquals(5.0, driveTrain.getPositionX(), 1e-9);
+        assertEquals(-2.0, driveTrain.getPositionY(), 1e-9);
+        assertEquals(0.5 * initialVariance, driveTrain.getPoseVariance(), 1e-9);
+
+        // a noisier measurement gets a smaller gain: 0.5 / (0.5 + 4.5) = 0.1
+        assertTrue(driveTrain.fuseVisionMeasurement(15.0, 8.0, Math.sqrt(4.5 * initialVariance), 0.07));
+        assertEquals(5.0 + 0.1 * (15.0 - 5.0), driveTrain.getPositionX(), 1e-9);
+        assertEquals(-2.0 + 0.1 * (8.0 + 2.0), driveTrain.getPositionY(), 1e-9);
+        assertEquals(0.45 * initialVariance, driveTrain.getPoseVariance(), 1e-9);
+    }
+
+    @Test
+    public void testFuseSkipsRepeatedFrames()
+    {
+        SDSDriveTrainMechanism driveTrain = SDSDriveTrainMechanismVisionTests.createStationaryDriveTrain();
+
+        assertTrue(driveTrain.fuseVisionMeasurement(10.0, 10.0, 1.0, 0.05));
+        double x = driveTrain.getPositionX();
+        double y = driveTrain.getPositionY();
+        double variance = driveTrain.getPoseVariance();
+
+        // the same frame reported again (e.g. while the vision manager isn't being read), or an older one, isn't fused again
+        assertFalse(driveTrain.fuseVisionMeasurement(10.0, 10.0, 1.0, 0.05));
+        assertFalse(driveTrain.fuseVisionMeasurement(10.0, 10.0, 1.0, 0.04));
+        assertEquals(x, driveTrain.getPositionX(), 1e-9);
+        assertEquals(y, driveTrain.getPositionY(), 1e-9);
+        assertEquals(variance, driveTrain.getPoseVariance(), 1e-9);
+
+        // but a newer frame is
+        assertTrue(driveTrain.fuseVisionMeasurement(10.0, 10.0, 1.0, 0.06));
+        assertTrue(driveTrain.getPoseVariance() < variance);
+    }
+
+    /**
+     * Create a drivetrain that has been sitting still at the origin, with odometry recorded from 0.0 to 0.1 seconds
+     */
+    private static SDSDriveTrainMechanism createStationaryDriveTrain()
+    {
+        ITimer timer = mock(ITimer.class);
+        SDSDriveTrainMechanism driveTrain = new SDSDriveTrainMechanism(
+            mock(IDriver.class),
+            new LoggingManager(new NullLogger()),
+            new TestProvider(),
+            mock(PigeonManager.class),
+            mock(PowerManager.class),
+            mock(OffboardVisionManager.class),
+            mock(ElevatorMechanism.class),
+            timer,
+            new SDSOdometrySamplerFactory(false));
+
+        for (int i = 0; i <= 5; i++)
+        {
+            when(timer.get()).thenReturn(0.02 * i);
+            driveTrain.readSensors();
+        }
+
+        return driveTrain;
+    }
+}
@@ -0,0 +1,45 @@
+package frc.lib.controllers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import frc.robot.BenchProvider;
+
+/**
+ * Benchmark for calculating the output of a PIDHandler in position mode, as a mechanism does each loop
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PIDHandlerBenchmark
+{
+    private static final double LOOP_TIME = 0.02;
+
+    private BenchProvider.BenchTimer timer;
+    private PIDHandler handler;
+    private double measuredValue;
+
+    @Setup
+    public void setup()
+    {
+        this.timer = new BenchProvider.BenchTimer();
+        this.handler = new PIDHandler(0.5, 0.01, 0.05, 0.0, 1.0, -1.0, 1.0, this.timer);
+        this.measuredValue = 0.0;
+    }
+
+    @Benchmark
+    public double calculatePosition()
+    {
+        this.timer.increment(PIDHandlerBenchmark.LOOP_TIME);
+
+        double output = this.handler.calculatePosition(10.0, this.measuredValue);
+        this.measuredValue += output * PIDHandlerBenchmark.LOOP_TIME;
+        if (this.measuredValue > 9.9)
+        {
+            this.measuredValue = 0.0;
+        }
+
+        return output;
+    }
+}
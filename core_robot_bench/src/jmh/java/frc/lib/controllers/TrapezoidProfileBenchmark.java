@@ -0,0 +1,41 @@
+package frc.lib.controllers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark for calculating the next step of a TrapezoidProfile, as a mechanism does each loop while moving to a goal
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrapezoidProfileBenchmark
+{
+    private static final double LOOP_TIME = 0.02;
+
+    private TrapezoidProfile profile;
+    private TrapezoidProfile.State current;
+    private TrapezoidProfile.State goal;
+
+    @Setup
+    public void setup()
+    {
+        this.profile = new TrapezoidProfile(2.0, 4.0, 3.0);
+        this.current = new TrapezoidProfile.State(0.0, 0.0);
+        this.goal = new TrapezoidProfile.State(5.0, 0.0);
+    }
+
+    @Benchmark
+    public boolean update()
+    {
+        boolean inProgress = this.profile.update(TrapezoidProfileBenchmark.LOOP_TIME, this.current, this.goal);
+        if (!inProgress)
+        {
+            // head back the other way, so that we keep measuring a profile that is in progress
+            this.goal.updatePosition(-this.goal.getPosition());
+        }
+
+        return inProgress;
+    }
+}
@@ -0,0 +1,42 @@
+package frc.lib.driver;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.google.inject.Injector;
+
+import frc.lib.mechanisms.LoggingManager;
+import frc.lib.robotprovider.RobotMode;
+import frc.robot.BenchProvider;
+import frc.robot.driver.ButtonMap;
+
+/**
+ * Benchmark for a teleop update of the Driver, using the production ButtonMap
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DriverBenchmark
+{
+    private Driver driver;
+
+    @Setup
+    public void setup()
+    {
+        BenchProvider provider = new BenchProvider();
+        this.driver = new Driver(
+            new LoggingManager(new BenchProvider.BenchLogger()),
+            BenchProvider.createNull(Injector.class),
+            new ButtonMap(),
+            provider.getProvider());
+
+        this.driver.startMode(RobotMode.Teleop);
+    }
+
+    @Benchmark
+    public void update()
+    {
+        this.driver.update();
+    }
+}
@@ -0,0 +1,47 @@
+package frc.lib.filters;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import frc.robot.BenchProvider;
+
+/**
+ * Benchmark for updating a FloatingMedianCalculator once per loop with a noisy signal, for various window sizes (in samples)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FloatingMedianCalculatorBenchmark
+{
+    private static final double LOOP_TIME = 0.02;
+
+    @Param({ "50", "500", "5000" })
+    public int windowSize;
+
+    private BenchProvider.BenchTimer timer;
+    private FloatingMedianCalculator calculator;
+    private int loop;
+
+    @Setup
+    public void setup()
+    {
+        this.timer = new BenchProvider.BenchTimer();
+        this.calculator = new FloatingMedianCalculator(
+            this.timer,
+            this.windowSize * FloatingMedianCalculatorBenchmark.LOOP_TIME,
+            1.0 / FloatingMedianCalculatorBenchmark.LOOP_TIME);
+        this.loop = 0;
+    }
+
+    @Benchmark
+    public double update()
+    {
+        this.timer.increment(FloatingMedianCalculatorBenchmark.LOOP_TIME);
+
+        // deterministic pseudo-random noise around a slowly-changing value
+        int loop = this.loop++;
+        double value = (loop % 500) * 0.01 + ((loop * 7919) % 101) * 0.001;
+        return this.calculator.update(value);
+    }
+}
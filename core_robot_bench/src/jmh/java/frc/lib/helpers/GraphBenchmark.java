@@ -0,0 +1,90 @@
+package frc.lib.helpers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark for finding the optimal path across a grid-shaped graph, from one corner to the opposite corner
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GraphBenchmark
+{
+    @Param({ "5", "15" })
+    public int gridSize;
+
+    @Param({ "false", "true" })
+    public boolean precalculate;
+
+    private BenchGraphNode start;
+    private BenchGraphNode end;
+    private BenchGraph graph;
+    private BenchGraphNode[] path;
+
+    @Setup
+    public void setup()
+    {
+        this.graph = new BenchGraph();
+
+        BenchGraphNode[][] nodes = new BenchGraphNode[this.gridSize][this.gridSize];
+        for (int x = 0; x < this.gridSize; x++)
+        {
+            for (int y = 0; y < this.gridSize; y++)
+            {
+                nodes[x][y] = this.graph.createNode();
+                if (x > 0)
+                {
+                    this.graph.connectBidirectional(nodes[x - 1][y], nodes[x][y], 1.0 + ((x * 31 + y * 17) % 5) * 0.1);
+                }
+
+                if (y > 0)
+                {
+                    this.graph.connectBidirectional(nodes[x][y - 1], nodes[x][y], 1.0 + ((x * 13 + y * 29) % 5) * 0.1);
+                }
+
+                if (x > 0 && y > 0)
+                {
+                    this.graph.connectBidirectional(nodes[x - 1][y - 1], nodes[x][y], 1.5);
+                }
+            }
+        }
+
+        if (this.precalculate)
+        {
+            this.graph.precalculateOptimalPaths();
+        }
+
+        this.start = nodes[0][0];
+        this.end = nodes[this.gridSize - 1][this.gridSize - 1];
+        this.path = new BenchGraphNode[this.gridSize * this.gridSize];
+    }
+
+    @Benchmark
+    public List<BenchGraphNode> getOptimalPath()
+    {
+        return this.graph.getOptimalPath(this.start, this.end);
+    }
+
+    @Benchmark
+    public int getOptimalPathIntoBuffer()
+    {
+        return this.graph.getOptimalPath(this.start, this.end, this.path);
+    }
+
+    static class BenchGraph extends Graph<BenchGraphNode>
+    {
+        BenchGraphNode createNode()
+        {
+            BenchGraphNode node = new BenchGraphNode();
+            this.addNode(node);
+            return node;
+        }
+    }
+
+    static class BenchGraphNode extends GraphNode
+    {
+    }
+}
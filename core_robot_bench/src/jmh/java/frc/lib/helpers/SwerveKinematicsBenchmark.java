@@ -0,0 +1,66 @@
+package frc.lib.helpers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark for the swerve kinematics that the SDS drivetrain runs each loop: calculating the module setpoints for the desired robot
+ * velocity, and calculating the robot velocity from the module states for odometry
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SwerveKinematicsBenchmark
+{
+    private static final double LOOP_TIME = 0.02;
+
+    private SwerveKinematics kinematics;
+    private double[] currentAngles;
+    private double[] speeds;
+    private double[] angles;
+    private boolean[] reversed;
+    private double[] robotVelocity;
+    private double time;
+
+    @Setup
+    public void setup()
+    {
+        this.kinematics = new SwerveKinematics(
+            new double[] { -11.25, 11.25, 11.25, -11.25 },
+            new double[] { -11.25, -11.25, 11.25, 11.25 });
+
+        this.currentAngles = new double[] { 10.0, 190.0, -30.0, 400.0 };
+        this.speeds = new double[4];
+        this.angles = new double[4];
+        this.reversed = new boolean[4];
+        this.robotVelocity = new double[3];
+        this.time = 0.0;
+    }
+
+    @Benchmark
+    public double calculateModuleSetpoints()
+    {
+        this.time += SwerveKinematicsBenchmark.LOOP_TIME;
+        return this.kinematics.calculateModuleSetpoints(
+            60.0 * Math.sin(this.time),
+            30.0,
+            1.5,
+            0.0,
+            0.0,
+            0.001,
+            this.currentAngles,
+            this.speeds,
+            this.angles,
+            this.reversed);
+    }
+
+    @Benchmark
+    public double calculateRobotVelocity()
+    {
+        this.time += SwerveKinematicsBenchmark.LOOP_TIME;
+        this.currentAngles[0] = 30.0 * Math.sin(this.time);
+        this.kinematics.calculateRobotVelocity(this.currentAngles, this.currentAngles, 0.1, this.robotVelocity);
+        return this.robotVelocity[SwerveKinematics.OMEGA_INDEX];
+    }
+}
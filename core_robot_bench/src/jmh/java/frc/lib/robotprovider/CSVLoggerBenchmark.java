@@ -0,0 +1,88 @@
+package frc.lib.robotprovider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import frc.robot.LoggingKey;
+
+/**
+ * Benchmark for a loop of the CSVLogger: logging a value for each of the CSV keys and then writing the row
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CSVLoggerBenchmark
+{
+    private CSVLogger logger;
+    private LoggingKey[] keys;
+    private int loop;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        this.logger = new CSVLogger(new NullFileWriter());
+
+        ArrayList<LoggingKey> csvKeys = new ArrayList<LoggingKey>();
+        for (LoggingKey key : LoggingKey.values())
+        {
+            if (key.shouldLogToCsv)
+            {
+                csvKeys.add(key);
+            }
+        }
+
+        this.keys = csvKeys.toArray(new LoggingKey[0]);
+        this.loop = 0;
+    }
+
+    @Benchmark
+    public void logAndUpdate()
+    {
+        int loop = this.loop++;
+        for (LoggingKey key : this.keys)
+        {
+            switch (key.type)
+            {
+                case Boolean:
+                    this.logger.logBoolean(key, (loop & 1) == 0);
+                    break;
+
+                case Integer:
+                case NullableInteger:
+                    this.logger.logInteger(key, loop);
+                    break;
+
+                case String:
+                    this.logger.logString(key, "Teleop");
+                    break;
+
+                default:
+                    this.logger.logNumber(key, loop * 0.02);
+                    break;
+            }
+        }
+
+        this.logger.update();
+    }
+
+    private static class NullFileWriter implements IFileWriter
+    {
+        @Override
+        public void append(String string)
+        {
+        }
+
+        @Override
+        public void flush()
+        {
+        }
+
+        @Override
+        public void close()
+        {
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package frc.lib.robotprovider;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark for looking up the desired state of a SampledTrajectory, as the FollowPathTask does each loop while following a path
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SampledTrajectoryBenchmark
+{
+    private static final double LOOP_TIME = 0.02;
+    private static final double DURATION = 4.0;
+
+    private SampledTrajectory trajectory;
+    private MutableTrajectoryState state;
+    private double time;
+
+    @Setup
+    public void setup()
+    {
+        this.trajectory = SampledTrajectory.sample(
+            new ITrajectory()
+            {
+                @Override
+                public double getDuration()
+                {
+                    return SampledTrajectoryBenchmark.DURATION;
+                }
+
+                @Override
+                public TrajectoryState get(double time)
+                {
+                    return new TrajectoryState(30.0 * time * time, 12.0 * time, 45.0 * time, 60.0 * time, 12.0, 45.0);
+                }
+            },
+            0.01);
+
+        this.state = new MutableTrajectoryState();
+        this.time = 0.0;
+    }
+
+    @Benchmark
+    public TrajectoryState get()
+    {
+        return this.trajectory.get(this.nextTime());
+    }
+
+    @Benchmark
+    public double getInto()
+    {
+        this.trajectory.get(this.nextTime(), this.state);
+        return this.state.xPosition;
+    }
+
+    private double nextTime()
+    {
+        this.time += SampledTrajectoryBenchmark.LOOP_TIME;
+        if (this.time > SampledTrajectoryBenchmark.DURATION)
+        {
+            this.time = 0.0;
+        }
+
+        return this.time;
+    }
+}
@@ -0,0 +1,732 @@
+package frc.robot;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import frc.lib.driver.IDriver;
+import frc.lib.driver.descriptions.UserInputDevice;
+import frc.lib.robotprovider.*;
+import frc.robot.driver.AnalogOperation;
+import frc.robot.driver.DigitalOperation;
+
+/**
+ * Robot provider for benchmarks.
+ * The devices that are read/written within the robot loop (TalonFX, CANCoder, Pigeon2, Joystick) are simple fakes so that they
+ * don't add time or allocations to the measurements.  All other devices are no-op proxies, which are only expected to be used
+ * while constructing mechanisms.
+ */
+public class BenchProvider implements InvocationHandler
+{
+    private final HashMap<Integer, BenchTalonFX> talonFxMap;
+    private final HashMap<Integer, BenchCANCoder> cancoderMap;
+    private final HashMap<Integer, BenchJoystick> joystickMap;
+    private final BenchPigeon2 pigeon;
+    private final IRobotProvider provider;
+
+    public BenchProvider()
+    {
+        this.talonFxMap = new HashMap<Integer, BenchTalonFX>();
+        this.cancoderMap = new HashMap<Integer, BenchCANCoder>();
+        this.joystickMap = new HashMap<Integer, BenchJoystick>();
+        this.pigeon = new BenchPigeon2();
+        this.provider = (IRobotProvider)Proxy.newProxyInstance(
+            IRobotProvider.class.getClassLoader(),
+            new Class<?>[] { IRobotProvider.class },
+            this);
+    }
+
+    /**
+     * Retrieve the robot provider to pass into the code being benchmarked
+     * @return robot provider
+     */
+    public IRobotProvider getProvider()
+    {
+        return this.provider;
+    }
+
+    public BenchTalonFX getTalonFX(int canId)
+    {
+        return this.talonFxMap.computeIfAbsent(canId, id -> new BenchTalonFX());
+    }
+
+    public BenchCANCoder getCANCoder(int canId)
+    {
+        return this.cancoderMap.computeIfAbsent(canId, id -> new BenchCANCoder());
+    }
+
+    public BenchJoystick getJoystick(int port)
+    {
+        return this.joystickMap.computeIfAbsent(port, id -> new BenchJoystick());
+    }
+
+    public BenchPigeon2 getPigeon2()
+    {
+        return this.pigeon;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args)
+    {
+        switch (method.getName())
+        {
+            case "getTalonFX":
+                return this.getTalonFX((Integer)args[0]);
+
+            case "getCANCoder":
+                return this.getCANCoder((Integer)args[0]);
+
+            case "getJoystick":
+                return this.getJoystick((Integer)args[0]);
+
+            case "getPigeon2":
+                return this.pigeon;
+
+            case "getDriverStation":
+                return new BenchDriverStation();
+
+            default:
+                return BenchProvider.createNull(method.getReturnType());
+        }
+    }
+
+    /**
+     * Create a no-op implementation of the provided interface, which returns default values from all methods
+     * @param type of interface to implement
+     * @return no-op implementation
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T createNull(Class<T> type)
+    {
+        if (!type.isInterface())
+        {
+            return null;
+        }
+
+        return (T)Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] { type },
+            (proxy, method, args) -> BenchProvider.getDefaultValue(method.getReturnType()));
+    }
+
+    private static Object getDefaultValue(Class<?> type)
+    {
+        if (type == boolean.class)
+        {
+            return false;
+        }
+        else if (type == double.class)
+        {
+            return 0.0;
+        }
+        else if (type == int.class)
+        {
+            return 0;
+        }
+        else if (type == long.class)
+        {
+            return 0L;
+        }
+        else if (type == Optional.class)
+        {
+            return Optional.empty();
+        }
+        else if (type == OptionalInt.class)
+        {
+            return OptionalInt.empty();
+        }
+
+        return null;
+    }
+
+    /**
+     * Logger that ignores everything, so that benchmarks of mechanisms don't include the cost of logging
+     */
+    public static class BenchLogger implements ILogger
+    {
+        @Override
+        public void logBoolean(LoggingKey key, boolean value)
+        {
+        }
+
+        @Override
+        public void logBooleanArray(LoggingKey key, boolean[] value)
+        {
+        }
+
+        @Override
+        public void logNumber(LoggingKey key, double value)
+        {
+        }
+
+        @Override
+        public void logNumber(LoggingKey key, Double value)
+        {
+        }
+
+        @Override
+        public void logInteger(LoggingKey key, int value)
+        {
+        }
+
+        @Override
+        public void logInteger(LoggingKey key, Integer value)
+        {
+        }
+
+        @Override
+        public void logInteger(LoggingKey key, int value, String formatString)
+        {
+        }
+
+        @Override
+        public void logString(LoggingKey key, String value)
+        {
+        }
+
+        @Override
+        public void update()
+        {
+        }
+
+        @Override
+        public void flush()
+        {
+        }
+
+        @Override
+        public void close()
+        {
+        }
+    }
+
+    /**
+     * Timer whose time is advanced manually by the benchmark
+     */
+    public static class BenchTimer implements ITimer
+    {
+        private double time;
+
+        @Override
+        public void start()
+        {
+        }
+
+        @Override
+        public void stop()
+        {
+        }
+
+        @Override
+        public double get()
+        {
+            return this.time;
+        }
+
+        @Override
+        public void reset()
+        {
+            this.time = 0.0;
+        }
+
+        public void increment(double seconds)
+        {
+            this.time += seconds;
+        }
+    }
+
+    /**
+     * Driver whose operation values are set directly by the benchmark
+     */
+    public static class BenchDriver implements IDriver
+    {
+        private final double[] analogValues;
+        private final boolean[] digitalValues;
+        private RobotMode mode;
+
+        public BenchDriver()
+        {
+            this.analogValues = new double[AnalogOperation.values().length];
+            this.digitalValues = new boolean[DigitalOperation.values().length];
+            this.mode = RobotMode.Teleop;
+        }
+
+        public void setAnalog(AnalogOperation analogOperation, double value)
+        {
+            this.analogValues[analogOperation.ordinal()] = value;
+        }
+
+        public void setDigital(DigitalOperation digitalOperation, boolean value)
+        {
+            this.digitalValues[digitalOperation.ordinal()] = value;
+        }
+
+        @Override
+        public RobotMode getMode()
+        {
+            return this.mode;
+        }
+
+        @Override
+        public void update()
+        {
+        }
+
+        @Override
+        public void stop()
+        {
+        }
+
+        @Override
+        public void prepAutoMode()
+        {
+        }
+
+        @Override
+        public void startMode(RobotMode mode)
+        {
+            this.mode = mode;
+        }
+
+        @Override
+        public boolean getDigital(DigitalOperation digitalOperation)
+        {
+            return this.digitalValues[digitalOperation.ordinal()];
+        }
+
+        @Override
+        public double getAnalog(AnalogOperation analogOperation)
+        {
+            return this.analogValues[analogOperation.ordinal()];
+        }
+
+        @Override
+        public void setRumble(UserInputDevice device, JoystickRumbleType type, double value)
+        {
+        }
+    }
+
+    /**
+     * Joystick that is connected, but has nothing pressed
+     */
+    public static class BenchJoystick implements IJoystick
+    {
+        @Override
+        public boolean isConnected()
+        {
+            return true;
+        }
+
+        @Override
+        public double getAxis(int relevantAxis)
+        {
+            return 0.0;
+        }
+
+        @Override
+        public int getPOV()
+        {
+            return -1;
+        }
+
+        @Override
+        public boolean getRawButton(int value)
+        {
+            return false;
+        }
+
+        @Override
+        public void setRumble(JoystickRumbleType type, double value)
+        {
+        }
+    }
+
+    public static class BenchPigeon2 implements IPigeon2
+    {
+        public double yaw;
+        public double yawRate;
+
+        @Override
+        public void getYawPitchRoll(double[] ypr_deg)
+        {
+            ypr_deg[0] = this.yaw;
+            ypr_deg[1] = 0.0;
+            ypr_deg[2] = 0.0;
+        }
+
+        @Override
+        public void getRollPitchYawRates(double[] xyz_dps)
+        {
+            xyz_dps[0] = 0.0;
+            xyz_dps[1] = 0.0;
+            xyz_dps[2] = this.yawRate;
+        }
+
+        @Override
+        public void setYaw(double angleDeg)
+        {
+            this.yaw = angleDeg;
+        }
+
+        @Override
+        public void setYPRUpdateFrequency(double frequencyHz)
+        {
+        }
+
+        @Override
+        public void setRPYRateUpdateFrequency(double frequencyHz)
+        {
+        }
+    }
+
+    public static class BenchCANCoder implements ICANCoder
+    {
+        public double position;
+        public double velocity;
+
+        @Override
+        public double getPosition()
+        {
+            return this.position;
+        }
+
+        @Override
+        public double getVelocity()
+        {
+            return this.velocity;
+        }
+
+        @Override
+        public double getAbsolutePosition()
+        {
+            return this.position;
+        }
+
+        @Override
+        public void setPosition(double newPosition)
+        {
+            this.position = newPosition;
+        }
+
+        @Override
+        public void registerBatchedSignals(CANCoderSignal... signals)
+        {
+        }
+
+        @Override
+        public void configSensorDirection(boolean clockwisePositive)
+        {
+        }
+    }
+
+    /**
+     * TalonFX that remembers the last value it was set to, and reports the position/velocity set by the benchmark
+     */
+    public static class BenchTalonFX implements ITalonFX
+    {
+        public double position;
+        public double velocity;
+        public double value;
+
+        @Override
+        public void set(double value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public void set(double value, double feedForward)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public void set(TalonFXControlMode mode, double value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public void set(TalonFXControlMode mode, int slotId, double value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public void set(TalonFXControlMode mode, double value, double feedForward)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public void set(TalonFXControlMode mode, int slotId, double value, double feedForward)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public void follow(ITalonFX talonFX)
+        {
+        }
+
+        @Override
+        public void follow(ITalonFX talonFX, boolean invertDirection)
+        {
+        }
+
+        @Override
+        public void setControlMode(TalonFXControlMode mode)
+        {
+        }
+
+        @Override
+        public void clearRemoteSensor()
+        {
+        }
+
+        @Override
+        public void setRemoteSensor(int sensorId, double ratio)
+        {
+        }
+
+        @Override
+        public void setFeedbackUpdateRate(double frequencyHz)
+        {
+        }
+
+        @Override
+        public void setErrorUpdateRate(double frequencyHz)
+        {
+        }
+
+        @Override
+        public void setOutputUpdateRate(double frequencyHz)
+        {
+        }
+
+        @Override
+        public void setForwardLimitSwitchUpdateRate(double frequencyHz)
+        {
+        }
+
+        @Override
+        public void setReverseLimitSwitchUpdateRate(double frequencyHz)
+        {
+        }
+
+        @Override
+        public void registerBatchedSignals(TalonFXSignal... signals)
+        {
+        }
+
+        @Override
+        public IStatusSignal createSignal(TalonFXSignal signal)
+        {
+            return new IStatusSignal()
+            {
+                private double value;
+
+                @Override
+                public void refresh()
+                {
+                    this.value = signal == TalonFXSignal.Velocity ? BenchTalonFX.this.getVelocity() : BenchTalonFX.this.getPosition();
+                }
+
+                @Override
+                public double getValue()
+                {
+                    return this.value;
+                }
+            };
+        }
+
+        @Override
+        public void optimizeCanbus()
+        {
+        }
+
+        @Override
+        public void setMotionMagicPIDVS(double p, double i, double d, double v, double s, double cruiseVelocity, double maxAcceleration, double maxJerk, int slotId)
+        {
+        }
+
+        @Override
+        public void setMotionMagicExpoPIDVS(double p, double i, double d, double v, double s, double cruiseVelocity, double velocityVoltage, double accelerationVoltage, int slotId)
+        {
+        }
+
+        @Override
+        public void updateLimitSwitchConfig(
+            boolean forwardEnabled,
+            boolean forwardNormallyOpen,
+            boolean forwardReset,
+            double forwardResetPosition,
+            boolean reverseEnabled,
+            boolean reverseNormallyOpen,
+            boolean reverseReset,
+            double reverseResetPosition)
+        {
+        }
+
+        @Override
+        public void updateLimitSwitchConfig(boolean forwardEnabled, boolean forwardNormallyOpen, boolean reverseEnabled, boolean reverseNormallyOpen)
+        {
+        }
+
+        @Override
+        public void setVoltageCompensation(boolean enabled, double maxVoltage)
+        {
+        }
+
+        @Override
+        public boolean getForwardLimitSwitchClosed()
+        {
+            return false;
+        }
+
+        @Override
+        public boolean getReverseLimitSwitchClosed()
+        {
+            return false;
+        }
+
+        @Override
+        public void setCurrentLimit(boolean enabled, double currentLimit, double triggerThresholdCurrent, double triggerThresholdTime)
+        {
+        }
+
+        @Override
+        public void setCurrentLimit(boolean enabled, double currentLimit, double triggerThresholdCurrent, double triggerThresholdTime, boolean statorLimiting, double statorCurrentLimit)
+        {
+        }
+
+        @Override
+        public void setSelectedSlot(int slotId)
+        {
+        }
+
+        @Override
+        public void setPIDF(double p, double i, double d, double f, int slotId)
+        {
+        }
+
+        @Override
+        public void setMotorOutputSettings(boolean invert, MotorNeutralMode neutralMode)
+        {
+        }
+
+        @Override
+        public void stop()
+        {
+            this.value = 0.0;
+        }
+
+        @Override
+        public void setPosition(double position)
+        {
+            this.position = position;
+        }
+
+        @Override
+        public void reset()
+        {
+            this.position = 0.0;
+        }
+
+        @Override
+        public double getPosition()
+        {
+            return this.position;
+        }
+
+        @Override
+        public double getVelocity()
+        {
+            return this.velocity;
+        }
+
+        @Override
+        public double getError()
+        {
+            return 0.0;
+        }
+
+        @Override
+        public double getOutput()
+        {
+            return this.value;
+        }
+
+        @Override
+        public TalonXLimitSwitchStatus getLimitSwitchStatus()
+        {
+            return null;
+        }
+    }
+
+    private static class BenchDriverStation implements IDriverStation
+    {
+        @Override
+        public String getEventName()
+        {
+            return "";
+        }
+
+        @Override
+        public Optional<Alliance> getAlliance()
+        {
+            return Optional.of(Alliance.Blue);
+        }
+
+        @Override
+        public OptionalInt getLocation()
+        {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public int getMatchNumber()
+        {
+            return 0;
+        }
+
+        @Override
+        public MatchType getMatchType()
+        {
+            return MatchType.None;
+        }
+
+        @Override
+        public int getReplayNumber()
+        {
+            return 0;
+        }
+
+        @Override
+        public double getMatchTime()
+        {
+            return 0.0;
+        }
+
+        @Override
+        public RobotMode getMode()
+        {
+            return RobotMode.Teleop;
+        }
+
+        @Override
+        public boolean isFMSMode()
+        {
+            return false;
+        }
+
+        @Override
+        public String getGameSpecificMessage()
+        {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package frc.robot.mechanisms;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import frc.lib.RobotOptions;
+import frc.lib.mechanisms.LoggingManager;
+import frc.lib.robotprovider.RobotMode;
+import frc.robot.BenchProvider;
+import frc.robot.ElectronicsConstants;
+import frc.robot.driver.AnalogOperation;
+
+/**
+ * Benchmark for a loop of the SDS drivetrain (readSensors, including odometry, and then update) while driving and turning in teleop
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SDSDriveTrainMechanismBenchmark
+{
+    private static final double LOOP_TIME = 0.02;
+
+    private BenchProvider.BenchTimer timer;
+    private BenchProvider.BenchTalonFX[] driveMotors;
+    private BenchProvider.BenchPigeon2 pigeon;
+    private PigeonManager pigeonManager;
+    private SDSDriveTrainMechanism driveTrain;
+
+    @Setup
+    public void setup()
+    {
+        BenchProvider provider = new BenchProvider();
+        this.timer = new BenchProvider.BenchTimer();
+        this.pigeon = provider.getPigeon2();
+
+        BenchProvider.BenchDriver driver = new BenchProvider.BenchDriver();
+        driver.setAnalog(AnalogOperation.DriveTrainMoveForward, 0.6);
+        driver.setAnalog(AnalogOperation.DriveTrainMoveRight, 0.2);
+        driver.setAnalog(AnalogOperation.DriveTrainSpinLeft, 0.3);
+
+        LoggingManager logger = new LoggingManager(new BenchProvider.BenchLogger());
+        this.pigeonManager = new PigeonManager(driver, logger, provider.getProvider(), new RobotOptions(true, false, 0, false));
+        PowerManager powerManager = new PowerManager(driver, this.timer, logger, provider.getProvider());
+        CoralEndEffectorMechanism coralEndEffector = new CoralEndEffectorMechanism(provider.getProvider(), driver, this.timer, logger, powerManager);
+        AlgaeIntakeMechanism algaeIntake = new AlgaeIntakeMechanism(provider.getProvider(), driver, this.timer, logger, powerManager);
+        ElevatorMechanism elevator = new ElevatorMechanism(provider.getProvider(), driver, this.timer, powerManager, coralEndEffector, algaeIntake, logger);
+        OffboardVisionManager vision = new OffboardVisionManager(driver, logger, provider.getProvider(), this.timer);
+        this.driveTrain = new SDSDriveTrainMechanism(driver, logger, provider.getProvider(), this.pigeonManager, powerManager, vision, elevator, this.timer, new SDSOdometrySamplerFactory(false));
+
+        this.driveMotors = new BenchProvider.BenchTalonFX[]
+        {
+            provider.getTalonFX(ElectronicsConstants.SDSDRIVETRAIN_DRIVE_MOTOR_1_CAN_ID),
+            provider.getTalonFX(ElectronicsConstants.SDSDRIVETRAIN_DRIVE_MOTOR_2_CAN_ID),
+            provider.getTalonFX(ElectronicsConstants.SDSDRIVETRAIN_DRIVE_MOTOR_3_CAN_ID),
+            provider.getTalonFX(ElectronicsConstants.SDSDRIVETRAIN_DRIVE_MOTOR_4_CAN_ID),
+        };
+
+        for (BenchProvider.BenchTalonFX driveMotor : this.driveMotors)
+        {
+            driveMotor.velocity = 2.0;
+        }
+
+        this.pigeon.yawRate = 30.0;
+    }
+
+    @Benchmark
+    public double readSensorsAndUpdate()
+    {
+        this.timer.increment(SDSDriveTrainMechanismBenchmark.LOOP_TIME);
+        for (BenchProvider.BenchTalonFX driveMotor : this.driveMotors)
+        {
+            driveMotor.position += driveMotor.velocity * SDSDriveTrainMechanismBenchmark.LOOP_TIME;
+        }
+
+        this.pigeon.yaw += this.pigeon.yawRate * SDSDriveTrainMechanismBenchmark.LOOP_TIME;
+
+        this.pigeonManager.readSensors();
+        this.driveTrain.readSensors();
+        this.driveTrain.update(RobotMode.Teleop);
+        return this.driveTrain.getPositionX();
+    }
+}
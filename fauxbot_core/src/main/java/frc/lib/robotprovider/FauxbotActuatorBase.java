@@ -2,7 +2,22 @@ package frc.lib.robotprovider;
 
 public abstract class FauxbotActuatorBase
 {
-    public FauxbotActuatorBase()
+    protected final FauxbotActuatorManager manager;
+    protected final int slot;
+
+    protected FauxbotActuatorBase(FauxbotActuatorManager manager, FauxbotActuatorConnection connection)
+    {
+        this.manager = manager;
+        this.slot = manager.register(connection, this);
+    }
+
+    protected double getSlotOutput()
+    {
+        return this.manager.getOutput(this.slot);
+    }
+
+    protected void setSlotOutput(double output)
     {
+        this.manager.setOutput(this.slot, output);
     }
 }
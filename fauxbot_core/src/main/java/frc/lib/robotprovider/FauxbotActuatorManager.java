@@ -1,29 +1,134 @@
 package frc.lib.robotprovider;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
 
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Registry of the actuators of one simulated robot.  Like the FauxbotSensorManager, each connection is assigned a dense slot when
+ * its actuator is registered, and the output of each actuator is kept in an (atomic) array indexed by its slot.
+ */
+@Singleton
 public class FauxbotActuatorManager
 {
-    public static final Map<FauxbotActuatorConnection, FauxbotActuatorBase> actuatorMap = new HashMap<>();
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<FauxbotActuatorConnection, Integer> slotMap;
+
+    private FauxbotActuatorConnection[] connections;
+    private FauxbotActuatorBase[] actuators;
+    private AtomicLongArray outputs; // raw bits of each double
+    private int count;
+
+    @Inject
+    public FauxbotActuatorManager()
+    {
+        this.slotMap = new HashMap<FauxbotActuatorConnection, Integer>();
+
+        this.connections = new FauxbotActuatorConnection[FauxbotActuatorManager.INITIAL_CAPACITY];
+        this.actuators = new FauxbotActuatorBase[FauxbotActuatorManager.INITIAL_CAPACITY];
+        this.outputs = new AtomicLongArray(FauxbotActuatorManager.INITIAL_CAPACITY);
+        this.count = 0;
+    }
 
-    public static void set(FauxbotActuatorConnection connection, FauxbotActuatorBase actuator)
+    /**
+     * Register an actuator on a connection
+     * @param connection that the actuator is on
+     * @param actuator to register, or null to reserve the connection (such as the reverse channel of a double solenoid)
+     * @return the slot of the connection
+     */
+    public int register(FauxbotActuatorConnection connection, FauxbotActuatorBase actuator)
     {
-        if (FauxbotActuatorManager.actuatorMap.containsKey(connection))
+        if (this.slotMap.containsKey(connection))
         {
             throw new RuntimeException("Don't expect connection " + connection.toString() + " to be specified multiple times!");
         }
 
-        FauxbotActuatorManager.actuatorMap.put(connection, actuator);
+        if (this.count == this.connections.length)
+        {
+            int capacity = 2 * this.count;
+            this.connections = Arrays.copyOf(this.connections, capacity);
+            this.actuators = Arrays.copyOf(this.actuators, capacity);
+            AtomicLongArray outputs = new AtomicLongArray(capacity);
+            for (int i = 0; i < this.count; i++)
+            {
+                outputs.set(i, this.outputs.get(i));
+            }
+
+            this.outputs = outputs;
+        }
+
+        int slot = this.count++;
+        this.connections[slot] = connection;
+        this.actuators[slot] = actuator;
+        this.outputs.set(slot, Double.doubleToRawLongBits(Double.NaN));
+        this.slotMap.put(connection, slot);
+        return slot;
+    }
+
+    /**
+     * Find the slot of a connection
+     * @param connection to find
+     * @return the slot of the connection, or -1 if nothing has been registered on it
+     */
+    public int getSlot(FauxbotActuatorConnection connection)
+    {
+        Integer slot = this.slotMap.get(connection);
+        if (slot == null)
+        {
+            return -1;
+        }
+
+        return slot;
+    }
+
+    /**
+     * Retrieve the number of slots that have been registered
+     * @return the number of slots
+     */
+    public int getCount()
+    {
+        return this.count;
+    }
+
+    public FauxbotActuatorConnection getConnection(int slot)
+    {
+        return this.connections[slot];
+    }
+
+    public FauxbotActuatorBase get(int slot)
+    {
+        return this.actuators[slot];
     }
 
-    public static FauxbotActuatorBase get(FauxbotActuatorConnection connection)
+    public FauxbotActuatorBase get(FauxbotActuatorConnection connection)
     {
-        if (!FauxbotActuatorManager.actuatorMap.containsKey(connection))
+        int slot = this.getSlot(connection);
+        if (slot < 0)
         {
             return null;
         }
 
-        return FauxbotActuatorManager.actuatorMap.get(connection);
+        return this.actuators[slot];
+    }
+
+    /**
+     * Retrieve the current output of the actuator in a slot
+     * @param slot of the actuator
+     * @return the output of a motor, 1 or 0 for a solenoid (extended or not), 1, 0 or -1 for a double solenoid (forward, off or
+     * reverse), or NaN if the actuator doesn't keep an output
+     */
+    public double getOutput(int slot)
+    {
+        return Double.longBitsToDouble(this.outputs.get(slot));
+    }
+
+    void setOutput(int slot, double output)
+    {
+        this.outputs.set(slot, Double.doubleToRawLongBits(output));
     }
 }
@@ -4,9 +4,15 @@ public abstract class FauxbotAdvancedMotorBase extends FauxbotMotorBase
 {
     protected FauxbotActuatorConnection connection;
 
-    protected FauxbotAdvancedMotorBase(int deviceNumber)
+    protected FauxbotAdvancedMotorBase(int deviceNumber, FauxbotActuatorManager manager)
     {
-        this.connection = new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, deviceNumber);
-        FauxbotActuatorManager.set(this.connection, this);
+        this(new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, deviceNumber), manager);
+    }
+
+    private FauxbotAdvancedMotorBase(FauxbotActuatorConnection connection, FauxbotActuatorManager manager)
+    {
+        super(manager, connection);
+
+        this.connection = connection;
     }
 }
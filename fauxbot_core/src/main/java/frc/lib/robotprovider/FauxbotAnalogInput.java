@@ -2,11 +2,11 @@ package frc.lib.robotprovider;
 
 public class FauxbotAnalogInput extends FauxbotSensorBase implements IAnalogInput
 {
-    private double value;
-
-    public FauxbotAnalogInput(int port)
+    public FauxbotAnalogInput(int port, FauxbotSensorManager manager)
     {
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.AnalogInput, this.getClass(), port), this);
+        super(manager, new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.AnalogInput, FauxbotAnalogInput.class, port));
+
+        this.setSlotValue(0.0);
     }
 
     /**
@@ -17,7 +17,7 @@ public class FauxbotAnalogInput extends FauxbotSensorBase implements IAnalogInpu
     {
         synchronized (this)
         {
-            return this.value;
+            return this.getSlotValue();
         }
     }
 
@@ -25,7 +25,7 @@ public class FauxbotAnalogInput extends FauxbotSensorBase implements IAnalogInpu
     {
         synchronized (this)
         {
-            this.value = newValue;
+            this.setSlotValue(newValue);
         }
     }
 
@@ -33,7 +33,7 @@ public class FauxbotAnalogInput extends FauxbotSensorBase implements IAnalogInpu
     {
         synchronized (this)
         {
-            return this.value;
+            return this.getSlotValue();
         }
     }
 }
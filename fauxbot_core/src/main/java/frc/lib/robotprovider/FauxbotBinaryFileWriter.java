@@ -0,0 +1,27 @@
+package frc.lib.robotprovider;
+
+import java.io.IOException;
+
+public class FauxbotBinaryFileWriter implements IBinaryFileWriter
+{
+    public FauxbotBinaryFileWriter()
+    {
+    }
+
+    public void write(byte[] data, int offset, int length) throws IOException
+    {
+    }
+
+    public void flush() throws IOException
+    {
+    }
+
+    public void close() throws IOException
+    {
+    }
+
+    public int getDroppedWrites()
+    {
+        return 0;
+    }
+}
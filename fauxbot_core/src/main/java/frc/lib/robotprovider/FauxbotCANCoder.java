@@ -3,35 +3,29 @@ package frc.lib.robotprovider;
 public class FauxbotCANCoder extends FauxbotSensorBase implements ICANCoder
 {
     private final FauxbotTimer timer;
-    private double value;
     private double rate;
     private double prevTime;
+    private boolean reverse;
 
-    public FauxbotCANCoder(int deviceNumber)
+    public FauxbotCANCoder(int deviceNumber, FauxbotSensorManager manager, FauxbotClock clock)
     {
-        this.value = 0.0;
-        this.rate = 0.0;
-        this.timer = new FauxbotTimer();
-        this.timer.start();
-        this.prevTime = this.timer.get();
-
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, this.getClass(), deviceNumber), this);
+        this(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, FauxbotCANCoder.class, deviceNumber), manager, clock);
     }
 
-    FauxbotCANCoder(FauxbotSensorConnection connection)
+    FauxbotCANCoder(FauxbotSensorConnection connection, FauxbotSensorManager manager, FauxbotClock clock)
     {
-        this.value = 0.0;
+        super(manager, connection);
+
+        this.setSlotValue(0.0);
         this.rate = 0.0;
-        this.timer = new FauxbotTimer();
+        this.timer = new FauxbotTimer(clock);
         this.timer.start();
         this.prevTime = this.timer.get();
-
-        FauxbotSensorManager.set(connection, this);
     }
 
     public double getPosition()
     {
-        return this.value;
+        return this.getSlotValue();
     }
 
     public double getVelocity()
@@ -41,22 +35,40 @@ public class FauxbotCANCoder extends FauxbotSensorBase implements ICANCoder
 
     public double getAbsolutePosition()
     {
-        return this.value;
+        return this.getSlotValue();
     }
 
     public void setPosition(double newPosition)
     {
         double currTime = this.timer.get();
-        double prevValue = this.value;
+        double prevValue = this.getSlotValue();
 
-        this.value = newPosition;
+        this.setSlotValue(newPosition);
         this.rate = (newPosition - prevValue) / (currTime - this.prevTime);
 
         this.prevTime = currTime;
     }
 
+    /**
+     * Update the state of the CANCoder from a physics simulation
+     * @param absolutePosition of the magnet, counter-clockwise positive (in rotations), reported in the range [-0.5, 0.5) like Phoenix 6
+     * @param velocity of the magnet, counter-clockwise positive (in rotations per second)
+     */
+    public void setSimulatedState(double absolutePosition, double velocity)
+    {
+        double position = this.reverse ? -absolutePosition : absolutePosition;
+        this.setSlotValue(position - Math.floor(position + 0.5));
+        this.rate = this.reverse ? -velocity : velocity;
+        this.prevTime = this.timer.get();
+    }
+
+    public void registerBatchedSignals(CANCoderSignal... signals)
+    {
+    }
+
     public void configSensorDirection(boolean clockwisePositive)
     {
+        this.reverse = clockwisePositive;
     }
 
     public void configAbsoluteRange(boolean useZeroToThreeSixty)
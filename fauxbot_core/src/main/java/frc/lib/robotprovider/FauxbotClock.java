@@ -0,0 +1,47 @@
+package frc.lib.robotprovider;
+
+/**
+ * Source of time for the fauxbot's timers.  By default this follows the wall clock, but a headless simulation can use a clock with
+ * a virtual time that only moves forward when the simulation advances it, so that runs are reproducible and not limited to real time.
+ * Each robot gets its own clock from its injector, so that simulations running side by side don't affect each other's time.
+ */
+public class FauxbotClock
+{
+    private static final double NANOSECONDS_PER_SECOND = 1000000000.0;
+
+    private final boolean useVirtualTime;
+    private double virtualTime;
+
+    /**
+     * Initializes a new instance of the FauxbotClock class
+     * @param useVirtualTime true to use a virtual time starting from 0, or false to follow the wall clock
+     */
+    public FauxbotClock(boolean useVirtualTime)
+    {
+        this.useVirtualTime = useVirtualTime;
+        this.virtualTime = 0.0;
+    }
+
+    /**
+     * Retrieve the current time
+     * @return the current time in seconds (only meaningful relative to other times)
+     */
+    public synchronized double getTime()
+    {
+        if (this.useVirtualTime)
+        {
+            return this.virtualTime;
+        }
+
+        return System.nanoTime() / FauxbotClock.NANOSECONDS_PER_SECOND;
+    }
+
+    /**
+     * Move the virtual time forward
+     * @param seconds to advance the time by
+     */
+    public synchronized void advance(double seconds)
+    {
+        this.virtualTime += seconds;
+    }
+}
@@ -2,19 +2,18 @@ package frc.lib.robotprovider;
 
 public class FauxbotCounter extends FauxbotSensorBase implements ICounter
 {
-    private int count;
-
-    public FauxbotCounter(int port)
+    public FauxbotCounter(int port, FauxbotSensorManager manager)
     {
-        this.count = 0;
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, this.getClass(), port), this);
+        super(manager, new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, FauxbotCounter.class, port));
+
+        this.setSlotValue(0.0);
     }
 
     public int get()
     {
         synchronized (this)
         {
-            return this.count;
+            return (int)this.getSlotValue();
         }
     }
 
@@ -27,7 +26,7 @@ public class FauxbotCounter extends FauxbotSensorBase implements ICounter
     {
         synchronized (this)
         {
-            this.count = newValue;
+            this.setSlotValue(newValue);
         }
     }
 }
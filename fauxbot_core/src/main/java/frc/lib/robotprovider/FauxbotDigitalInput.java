@@ -2,15 +2,14 @@ package frc.lib.robotprovider;
 
 public class FauxbotDigitalInput extends FauxbotSensorBase implements IDigitalInput
 {
-    private boolean isSet;
     private boolean isInverted;
 
-    public FauxbotDigitalInput(int port)
+    public FauxbotDigitalInput(int port, FauxbotSensorManager manager)
     {
-        this.isSet = false;
-        this.isInverted = false;
+        super(manager, new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, FauxbotDigitalInput.class, port));
 
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, this.getClass(), port), this);
+        this.setSlotValue(0.0);
+        this.isInverted = false;
     }
 
     /**
@@ -21,7 +20,7 @@ public class FauxbotDigitalInput extends FauxbotSensorBase implements IDigitalIn
     {
         synchronized (this)
         {
-            return this.isSet != this.isInverted;
+            return (this.getSlotValue() != 0.0) != this.isInverted;
         }
     }
 
@@ -29,7 +28,7 @@ public class FauxbotDigitalInput extends FauxbotSensorBase implements IDigitalIn
     {
         synchronized (this)
         {
-            this.isSet = newValue;
+            this.setSlotValue(newValue ? 1.0 : 0.0);
         }
     }
 
@@ -2,12 +2,11 @@ package frc.lib.robotprovider;
 
 public class FauxbotDigitalOutput extends FauxbotSensorBase implements IDigitalOutput
 {
-    private boolean isSet;
-
-    public FauxbotDigitalOutput(int port)
+    public FauxbotDigitalOutput(int port, FauxbotSensorManager manager)
     {
-        this.isSet = false;
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, this.getClass(), port), this);
+        super(manager, new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, FauxbotDigitalOutput.class, port));
+
+        this.setSlotValue(0.0);
     }
 
     /**
@@ -18,7 +17,7 @@ public class FauxbotDigitalOutput extends FauxbotSensorBase implements IDigitalO
     {
         synchronized (this)
         {
-            return this.isSet;
+            return this.getSlotValue() != 0.0;
         }
     }
 
@@ -26,7 +25,7 @@ public class FauxbotDigitalOutput extends FauxbotSensorBase implements IDigitalO
     {
         synchronized (this)
         {
-            this.isSet = newValue;
+            this.setSlotValue(newValue ? 1.0 : 0.0);
         }
     }
 }
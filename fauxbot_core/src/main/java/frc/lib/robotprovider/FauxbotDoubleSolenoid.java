@@ -2,26 +2,39 @@ package frc.lib.robotprovider;
 
 public class FauxbotDoubleSolenoid extends FauxbotActuatorBase implements IDoubleSolenoid
 {
-    private DoubleSolenoidValue currentValue;
-
-    public FauxbotDoubleSolenoid(PneumaticsModuleType moduleType, int forwardPort, int reversePort)
+    public FauxbotDoubleSolenoid(PneumaticsModuleType moduleType, int forwardPort, int reversePort, FauxbotActuatorManager manager)
     {
-        this(0, moduleType, forwardPort, reversePort);
+        this(0, moduleType, forwardPort, reversePort, manager);
     }
 
-    public FauxbotDoubleSolenoid(int moduleNumber, PneumaticsModuleType moduleType, int forwardPort, int reversePort)
+    public FauxbotDoubleSolenoid(int moduleNumber, PneumaticsModuleType moduleType, int forwardPort, int reversePort, FauxbotActuatorManager manager)
     {
-        FauxbotActuatorManager.set(new FauxbotActuatorConnection(this.getModule(moduleNumber, true), forwardPort), this);
-        FauxbotActuatorManager.set(new FauxbotActuatorConnection(this.getModule(moduleNumber, false), reversePort), null);
+        super(manager, new FauxbotActuatorConnection(FauxbotDoubleSolenoid.getModule(moduleNumber, true), forwardPort));
+
+        manager.register(new FauxbotActuatorConnection(FauxbotDoubleSolenoid.getModule(moduleNumber, false), reversePort), null);
 
-        this.currentValue = DoubleSolenoidValue.Off;
+        this.setSlotOutput(0.0);
     }
 
     public void set(DoubleSolenoidValue value)
     {
         synchronized (this)
         {
-            this.currentValue = value;
+            switch (value)
+            {
+                case Forward:
+                    this.setSlotOutput(1.0);
+                    break;
+
+                case Reverse:
+                    this.setSlotOutput(-1.0);
+                    break;
+
+                case Off:
+                default:
+                    this.setSlotOutput(0.0);
+                    break;
+            }
         }
     }
 
@@ -29,11 +42,21 @@ public class FauxbotDoubleSolenoid extends FauxbotActuatorBase implements IDoubl
     {
         synchronized (this)
         {
-            return this.currentValue;
+            double output = this.getSlotOutput();
+            if (output > 0.0)
+            {
+                return DoubleSolenoidValue.Forward;
+            }
+            else if (output < 0.0)
+            {
+                return DoubleSolenoidValue.Reverse;
+            }
+
+            return DoubleSolenoidValue.Off;
         }
     }
 
-    private FauxbotActuatorConnection.ActuatorConnector getModule(int moduleNumber, boolean isA)
+    private static FauxbotActuatorConnection.ActuatorConnector getModule(int moduleNumber, boolean isA)
     {
         if (moduleNumber == 0)
         {
@@ -3,15 +3,20 @@ package frc.lib.robotprovider;
 import java.util.Optional;
 import java.util.OptionalInt;
 
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+@Singleton
 public class FauxbotDriverStation implements IDriverStation
 {
-    public static FauxbotDriverStation Instance = new FauxbotDriverStation();
-
     private RobotMode currentMode;
+    private Alliance alliance;
 
-    private FauxbotDriverStation()
+    @Inject
+    public FauxbotDriverStation()
     {
         this.currentMode = RobotMode.Disabled;
+        this.alliance = Alliance.Red;
     }
 
     @Override
@@ -23,7 +28,7 @@ public class FauxbotDriverStation implements IDriverStation
     @Override
     public Optional<Alliance> getAlliance()
     {
-        return Optional.of(Alliance.Red);
+        return Optional.of(this.alliance);
     }
 
     @Override
@@ -78,4 +83,9 @@ public class FauxbotDriverStation implements IDriverStation
     {
         this.currentMode = mode;
     }
+
+    public void setAlliance(Alliance alliance)
+    {
+        this.alliance = alliance;
+    }
 }
\ No newline at end of file
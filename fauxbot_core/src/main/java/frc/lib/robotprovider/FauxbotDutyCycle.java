@@ -2,19 +2,18 @@ package frc.lib.robotprovider;
 
 public class FauxbotDutyCycle extends FauxbotSensorBase implements IDutyCycle
 {
-    private double dutyCycle;
-
-    public FauxbotDutyCycle(int port)
+    public FauxbotDutyCycle(int port, FauxbotSensorManager manager)
     {
-        this.dutyCycle = 0.0;
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, this.getClass(), port), this);
+        super(manager, new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, FauxbotDutyCycle.class, port));
+
+        this.setSlotValue(0.0);
     }
 
     public double getOutput()
     {
         synchronized (this)
         {
-            return this.dutyCycle;
+            return this.getSlotValue();
         }
     }
 
@@ -27,7 +26,7 @@ public class FauxbotDutyCycle extends FauxbotSensorBase implements IDutyCycle
     {
         synchronized (this)
         {
-            this.dutyCycle = newValue;
+            this.setSlotValue(newValue);
         }
     }
 }
@@ -5,14 +5,13 @@ public class FauxbotDutyCycleEncoder extends FauxbotSensorBase implements IDutyC
     private double offset;
     private double distancePerRotation;
 
-    private double dutyCycle;
-
-    public FauxbotDutyCycleEncoder(int port)
+    public FauxbotDutyCycleEncoder(int port, FauxbotSensorManager manager)
     {
-        this.dutyCycle = 0.0;
+        super(manager, new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, FauxbotDutyCycleEncoder.class, port));
+
+        this.setSlotValue(0.0);
         this.offset = 0.0;
         this.distancePerRotation = 1.0;
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, this.getClass(), port), this);
     }
 
     public double get()
@@ -29,7 +28,7 @@ public class FauxbotDutyCycleEncoder extends FauxbotSensorBase implements IDutyC
     {
         synchronized (this)
         {
-            return this.dutyCycle;
+            return this.getSlotValue();
         }
     }
 
@@ -67,14 +66,14 @@ public class FauxbotDutyCycleEncoder extends FauxbotSensorBase implements IDutyC
 
     public void reset()
     {
-        this.offset = this.dutyCycle;
+        this.offset = this.getAbsolutePosition();
     }
 
     public void set(double newValue)
     {
         synchronized (this)
         {
-            this.dutyCycle = newValue;
+            this.setSlotValue(newValue);
         }
     }
 }
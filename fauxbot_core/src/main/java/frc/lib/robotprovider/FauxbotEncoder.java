@@ -3,34 +3,27 @@ package frc.lib.robotprovider;
 public class FauxbotEncoder extends FauxbotSensorBase implements IEncoder
 {
     private final FauxbotTimer timer;
-    private double value;
     private double rate;
     private double distancePerPulse;
     private double prevTime;
 
-    public FauxbotEncoder(int channelA, int channelB)
+    public FauxbotEncoder(int channelA, int channelB, FauxbotSensorManager manager, FauxbotClock clock)
     {
-        this.value = 0.0;
-        this.rate = 0.0;
-        this.timer = new FauxbotTimer();
-        this.timer.start();
-        this.distancePerPulse = 1.0;
-        this.prevTime = this.timer.get();
+        this(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, FauxbotEncoder.class, channelA), manager, clock);
 
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, this.getClass(), channelA), this);
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, this.getClass(), channelB), null);
+        manager.register(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, FauxbotEncoder.class, channelB), null);
     }
 
-    FauxbotEncoder(FauxbotSensorConnection connection)
+    FauxbotEncoder(FauxbotSensorConnection connection, FauxbotSensorManager manager, FauxbotClock clock)
     {
-        this.value = 0.0;
+        super(manager, connection);
+
+        this.setSlotValue(0.0);
         this.rate = 0.0;
-        this.timer = new FauxbotTimer();
+        this.timer = new FauxbotTimer(clock);
         this.timer.start();
         this.distancePerPulse = 1.0;
         this.prevTime = this.timer.get();
-
-        FauxbotSensorManager.set(connection, this);
     }
 
     public double getRate()
@@ -45,7 +38,7 @@ public class FauxbotEncoder extends FauxbotSensorBase implements IEncoder
     {
         synchronized (this)
         {
-            return this.value * this.distancePerPulse;
+            return this.getSlotValue() * this.distancePerPulse;
         }
     }
 
@@ -53,7 +46,7 @@ public class FauxbotEncoder extends FauxbotSensorBase implements IEncoder
     {
         synchronized (this)
         {
-            return (int)this.value;
+            return (int)this.getSlotValue();
         }
     }
 
@@ -66,7 +59,7 @@ public class FauxbotEncoder extends FauxbotSensorBase implements IEncoder
     {
         synchronized (this)
         {
-            this.value = 0.0;
+            this.setSlotValue(0.0);
             this.rate = 0.0;
             this.prevTime = this.timer.get();
         }
@@ -77,23 +70,38 @@ public class FauxbotEncoder extends FauxbotSensorBase implements IEncoder
         synchronized (this)
         {
             double currTime = this.timer.get();
-            double prevValue = this.value;
+            double prevValue = this.getSlotValue();
 
-            this.value = newValue;
+            this.setSlotValue(newValue);
             this.rate = (newValue - prevValue) / (currTime - this.prevTime);
 
             this.prevTime = currTime;
         }
     }
 
+    /**
+     * Set both the value and the rate of the encoder directly, such as from a physics simulation
+     * @param newValue of the encoder
+     * @param newRate of the encoder
+     */
+    public void setState(double newValue, double newRate)
+    {
+        synchronized (this)
+        {
+            this.setSlotValue(newValue);
+            this.rate = newRate;
+            this.prevTime = this.timer.get();
+        }
+    }
+
     public void setRate(double newValue)
     {
         synchronized (this)
         {
             double currTime = this.timer.get();
-            double currTicks = this.value + newValue * (currTime - this.prevTime);
+            double currTicks = this.getSlotValue() + newValue * (currTime - this.prevTime);
             this.rate = newValue;
-            this.value = currTicks;
+            this.setSlotValue(currTicks);
             this.prevTime = currTime;
         }
     }
@@ -33,4 +33,9 @@ public class FauxbotFile implements IFile
     {
         return new FauxbotFileWriter();
     }
+
+    public IBinaryFileWriter openBinaryWriter() throws IOException
+    {
+        return new FauxbotBinaryFileWriter();
+    }
 }
@@ -15,4 +15,8 @@ public class FauxbotFileWriter implements IFileWriter
     public void flush() throws IOException
     {
     }
+
+    public void close() throws IOException
+    {
+    }
 }
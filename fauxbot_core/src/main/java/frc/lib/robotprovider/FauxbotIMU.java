@@ -2,18 +2,18 @@ package frc.lib.robotprovider;
 
 public class FauxbotIMU extends FauxbotSensorBase
 {
-    private double angle;
-
-    public FauxbotIMU()
+    public FauxbotIMU(FauxbotSensorManager manager, FauxbotSensorConnection connection)
     {
-        this.angle = 0.0;
+        super(manager, connection);
+
+        this.setSlotValue(0.0);
     }
 
     public double get()
     {
         synchronized (this)
         {
-            return this.angle;
+            return this.getSlotValue();
         }
     }
 
@@ -21,7 +21,7 @@ public class FauxbotIMU extends FauxbotSensorBase
     {
         synchronized (this)
         {
-            this.angle = value;
+            this.setSlotValue(value);
         }
     }
 }
\ No newline at end of file
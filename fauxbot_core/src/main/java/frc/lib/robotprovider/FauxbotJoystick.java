@@ -41,14 +41,14 @@ public class FauxbotJoystick implements IJoystick
     private int pov;
     private Controller controller;
 
-    public FauxbotJoystick(int port)
+    public FauxbotJoystick(int port, FauxbotJoystickManager joystickManager)
     {
         this.buttons = new HashMap<Integer, Boolean>();
         this.axes = new HashMap<Integer, Double>();
         this.pov = -1;
         this.controller = null;
 
-        FauxbotJoystickManager.set(port, this);
+        joystickManager.set(port, this);
     }
 
     public void setController(Controller controller)
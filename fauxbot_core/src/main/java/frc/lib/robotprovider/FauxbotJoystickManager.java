@@ -3,32 +3,43 @@ package frc.lib.robotprovider;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+@Singleton
 public class FauxbotJoystickManager
 {
-    private static Map<Integer, IJoystick> joystickMap = new HashMap<Integer, IJoystick>();
-    private static int highestPort = 0;
+    private final Map<Integer, IJoystick> joystickMap;
+    private int highestPort;
+
+    @Inject
+    public FauxbotJoystickManager()
+    {
+        this.joystickMap = new HashMap<Integer, IJoystick>();
+        this.highestPort = 0;
+    }
 
-    public static void set(int port, IJoystick sensor)
+    public synchronized void set(int port, IJoystick sensor)
     {
-        FauxbotJoystickManager.joystickMap.put(port, sensor);
-        if (FauxbotJoystickManager.highestPort < port)
+        this.joystickMap.put(port, sensor);
+        if (this.highestPort < port)
         {
-            FauxbotJoystickManager.highestPort = port;
+            this.highestPort = port;
         }
     }
 
-    public static IJoystick get(int port)
+    public synchronized IJoystick get(int port)
     {
-        if (!FauxbotJoystickManager.joystickMap.containsKey(port))
+        if (!this.joystickMap.containsKey(port))
         {
             return null;
         }
 
-        return FauxbotJoystickManager.joystickMap.get(port);
+        return this.joystickMap.get(port);
     }
 
-    public static int getHightestPort()
+    public synchronized int getHightestPort()
     {
-        return FauxbotJoystickManager.highestPort;
+        return this.highestPort;
     }
 }
@@ -2,18 +2,18 @@ package frc.lib.robotprovider;
 
 public class FauxbotMotorBase extends FauxbotActuatorBase implements IMotor
 {
-    protected double currentPower;
-
-    public FauxbotMotorBase()
+    public FauxbotMotorBase(FauxbotActuatorManager manager, FauxbotActuatorConnection connection)
     {
-        this.currentPower = 0.0;
+        super(manager, connection);
+
+        this.setSlotOutput(0.0);
     }
 
     public void set(double newValue)
     {
         synchronized (this)
         {
-            this.currentPower = newValue;
+            this.setSlotOutput(newValue);
         }
     }
 
@@ -21,7 +21,7 @@ public class FauxbotMotorBase extends FauxbotActuatorBase implements IMotor
     {
         synchronized (this)
         {
-            return this.currentPower;
+            return this.getSlotOutput();
         }
     }
 }
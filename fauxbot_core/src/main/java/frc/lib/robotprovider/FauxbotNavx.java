@@ -2,11 +2,9 @@ package frc.lib.robotprovider;
 
 public class FauxbotNavx extends FauxbotIMU implements INavx
 {
-    public FauxbotNavx()
+    public FauxbotNavx(FauxbotSensorManager manager)
     {
-        super();
-
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.NavX, this.getClass(), 0), this);
+        super(manager, new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.NavX, FauxbotNavx.class, 0));
     }
 
     public boolean isConnected()
@@ -2,6 +2,13 @@ package frc.lib.robotprovider;
 
 public class FauxbotNetworkTableProvider implements INetworkTableProvider
 {
+    private final FauxbotSendableChooserSelections chooserSelections;
+
+    public FauxbotNetworkTableProvider(FauxbotSendableChooserSelections chooserSelections)
+    {
+        this.chooserSelections = chooserSelections;
+    }
+
     @Override
     public void startShuffleboardRecording()
     {
@@ -48,7 +55,7 @@ public class FauxbotNetworkTableProvider implements INetworkTableProvider
     @Override
     public <V> ISendableChooser<V> getSendableChooser(String name)
     {
-        return new FauxbotSendableChooser<V>();
+        return new FauxbotSendableChooser<V>(name, this.chooserSelections);
     }
 
     @Override
@@ -1,12 +1,23 @@
 package frc.lib.robotprovider;
 
+import java.util.ArrayList;
+
+import frc.lib.helpers.ExceptionHelpers;
+import frc.robot.TuningConstants;
+
 public class FauxbotPathPlanner implements IPathPlanner
 {
     private boolean configured;
+    private double maxModuleVelocity;
+    private double[] moduleOffsetX;
+    private double[] moduleOffsetY;
 
     public FauxbotPathPlanner()
     {
         this.configured = false;
+        this.maxModuleVelocity = 0.0;
+        this.moduleOffsetX = new double[0];
+        this.moduleOffsetY = new double[0];
     }
 
     @Override
@@ -30,11 +41,15 @@ public class FauxbotPathPlanner implements IPathPlanner
         double verticalModuleCenterDistance)
     {
         this.configured = true;
+        this.maxModuleVelocity = swerveModuleMaxVelocity;
+        this.moduleOffsetX = new double[] { -horizontalModuleCenterDistance, horizontalModuleCenterDistance, horizontalModuleCenterDistance, -horizontalModuleCenterDistance };
+        this.moduleOffsetY = new double[] { -verticalModuleCenterDistance, -verticalModuleCenterDistance, verticalModuleCenterDistance, verticalModuleCenterDistance };
     }
 
     @Override
     public ITrajectory loadTrajectory(String name)
     {
+        // there are no PathPlanner path files to load in the simulator
         return null;
     }
 
@@ -47,6 +62,80 @@ public class FauxbotPathPlanner implements IPathPlanner
     @Override
     public ITrajectory buildTrajectory(double maxVelocity, double maxAcceleration, double maxAngularVelocity, double maxAngularAcceleration, IPathPlannerGoal... goalPoints)
     {
-        return null;
+        if (goalPoints == null || goalPoints.length < 2 ||
+            !(goalPoints[0] instanceof PathPlannerWaypoint) ||
+            !(goalPoints[goalPoints.length - 1] instanceof PathPlannerWaypoint))
+        {
+            ExceptionHelpers.Assert(false, "there must be at least 2 goal points to make a trajectory, starting and ending with a PathPlannerWaypoint!");
+            return null;
+        }
+
+        PathPlannerWaypoint firstWaypoint = (PathPlannerWaypoint)goalPoints[0];
+        PathPlannerWaypoint lastWaypoint = (PathPlannerWaypoint)goalPoints[goalPoints.length - 1];
+        if (!firstWaypoint.orientation.isPresent() || !lastWaypoint.orientation.isPresent())
+        {
+            ExceptionHelpers.Assert(false, "The first and last goal points must have an orientation present");
+            return null;
+        }
+
+        // split the goal points into the waypoints and the rotation targets, positioned along the path like PathPlanner does
+        ArrayList<PathPlannerWaypoint> waypoints = new ArrayList<PathPlannerWaypoint>(goalPoints.length);
+        ArrayList<Double> rotationPositions = new ArrayList<Double>(goalPoints.length);
+        ArrayList<Double> rotationOrientations = new ArrayList<Double>(goalPoints.length);
+        for (IPathPlannerGoal goalPoint : goalPoints)
+        {
+            if (goalPoint instanceof PathPlannerWaypoint)
+            {
+                PathPlannerWaypoint waypoint = (PathPlannerWaypoint)goalPoint;
+                waypoints.add(waypoint);
+                if (waypoint.orientation.isPresent())
+                {
+                    rotationPositions.add((double)(waypoints.size() - 1));
+                    rotationOrientations.add(waypoint.orientation.getAsDouble());
+                }
+            }
+            else if (goalPoint instanceof PathPlannerRotationTarget)
+            {
+                PathPlannerRotationTarget rotation = (PathPlannerRotationTarget)goalPoint;
+                rotationPositions.add(waypoints.size() - 1 + rotation.percentage);
+                rotationOrientations.add(rotation.orientation);
+            }
+            else
+            {
+                ExceptionHelpers.Assert(false, "unknown type for goalPoint: " + (goalPoint == null ? "null" : goalPoint.getClass().getName()));
+            }
+        }
+
+        double[] waypointX = new double[waypoints.size()];
+        double[] waypointY = new double[waypoints.size()];
+        double[] waypointHeading = new double[waypoints.size()];
+        for (int i = 0; i < waypoints.size(); i++)
+        {
+            waypointX[i] = waypoints.get(i).x;
+            waypointY[i] = waypoints.get(i).y;
+            waypointHeading[i] = waypoints.get(i).heading;
+        }
+
+        double[] rotationPositionArray = new double[rotationPositions.size()];
+        double[] rotationOrientationArray = new double[rotationOrientations.size()];
+        for (int i = 0; i < rotationPositions.size(); i++)
+        {
+            rotationPositionArray[i] = rotationPositions.get(i);
+            rotationOrientationArray[i] = rotationOrientations.get(i);
+        }
+
+        FauxbotTrajectoryGenerator generator =
+            new FauxbotTrajectoryGenerator(
+                maxVelocity,
+                maxAcceleration,
+                maxAngularVelocity,
+                maxAngularAcceleration,
+                this.maxModuleVelocity,
+                this.moduleOffsetX,
+                this.moduleOffsetY);
+
+        return SampledTrajectory.sample(
+            generator.generate(waypointX, waypointY, waypointHeading, rotationPositionArray, rotationOrientationArray),
+            TuningConstants.TRAJECTORY_SAMPLE_INTERVAL);
     }
-}
\ No newline at end of file
+}
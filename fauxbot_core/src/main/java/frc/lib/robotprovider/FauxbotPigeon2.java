@@ -2,11 +2,17 @@ package frc.lib.robotprovider;
 
 public class FauxbotPigeon2 extends FauxbotIMU implements IPigeon2
 {
-    public FauxbotPigeon2(int deviceNumber)
+    private double simulatedYaw;
+    private double yawOffset;
+    private double yawRate;
+
+    public FauxbotPigeon2(int deviceNumber, FauxbotSensorManager manager)
     {
-        super();
+        super(manager, new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, FauxbotPigeon2.class, deviceNumber));
 
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, this.getClass(), deviceNumber), this);
+        this.simulatedYaw = 0.0;
+        this.yawOffset = 0.0;
+        this.yawRate = 0.0;
     }
 
     public void getYawPitchRoll(double[] ypr_deg)
@@ -20,7 +26,11 @@ public class FauxbotPigeon2 extends FauxbotIMU implements IPigeon2
 
     public void setYaw(double angleDeg)
     {
-        this.set(angleDeg);
+        synchronized (this)
+        {
+            this.yawOffset = angleDeg - this.simulatedYaw;
+            this.set(angleDeg);
+        }
     }
 
     public void setGyroUpdatePeriod(int timeoutMs)
@@ -29,6 +39,25 @@ public class FauxbotPigeon2 extends FauxbotIMU implements IPigeon2
 
     public void getRollPitchYawRates(double[] xyz_dps)
     {
+        synchronized (this)
+        {
+            xyz_dps[2] = this.yawRate;
+        }
+    }
+
+    /**
+     * Update the state of the Pigeon2 from a physics simulation
+     * @param yaw of the robot, counter-clockwise positive (in degrees)
+     * @param yawRate of the robot, counter-clockwise positive (in degrees per second)
+     */
+    public void setSimulatedState(double yaw, double yawRate)
+    {
+        synchronized (this)
+        {
+            this.simulatedYaw = yaw;
+            this.yawRate = yawRate;
+            this.set(yaw + this.yawOffset);
+        }
     }
 
     public void setYPRUpdateFrequency(double frequencyHz)
@@ -2,11 +2,9 @@ package frc.lib.robotprovider;
 
 public class FauxbotPigeonIMU extends FauxbotIMU implements IPigeonIMU
 {
-    public FauxbotPigeonIMU(int deviceNumber)
+    public FauxbotPigeonIMU(int deviceNumber, FauxbotSensorManager manager)
     {
-        super();
-
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, this.getClass(), deviceNumber), this);
+        super(manager, new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, FauxbotPigeonIMU.class, deviceNumber));
     }
 
     public void getYawPitchRoll(double[] ypr_deg)
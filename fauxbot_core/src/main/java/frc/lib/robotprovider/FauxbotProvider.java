@@ -9,83 +9,102 @@ import frc.robot.simulation.SimulatorBase;
 public class FauxbotProvider implements IRobotProvider
 {
     private final SimulatorBase simulator;
+    private final FauxbotSensorManager sensorManager;
+    private final FauxbotActuatorManager actuatorManager;
+    private final FauxbotClock clock;
+    private final FauxbotDriverStation driverStation;
+    private final FauxbotJoystickManager joystickManager;
+    private final FauxbotSendableChooserSelections chooserSelections;
 
     @Inject
-    public FauxbotProvider(SimulatorBase simulator)
+    public FauxbotProvider(
+        SimulatorBase simulator,
+        FauxbotSensorManager sensorManager,
+        FauxbotActuatorManager actuatorManager,
+        FauxbotClock clock,
+        FauxbotDriverStation driverStation,
+        FauxbotJoystickManager joystickManager,
+        FauxbotSendableChooserSelections chooserSelections)
     {
         this.simulator = simulator;
+        this.sensorManager = sensorManager;
+        this.actuatorManager = actuatorManager;
+        this.clock = clock;
+        this.driverStation = driverStation;
+        this.joystickManager = joystickManager;
+        this.chooserSelections = chooserSelections;
     }
 
     @Override
     public IAnalogInput getAnalogInput(int channel)
     {
-        return new FauxbotAnalogInput(channel);
+        return new FauxbotAnalogInput(channel, this.sensorManager);
     }
 
     @Override
     public IDigitalInput getDigitalInput(int channel)
     {
-        return new FauxbotDigitalInput(channel);
+        return new FauxbotDigitalInput(channel, this.sensorManager);
     }
 
     @Override
     public IDigitalOutput getDigitalOutput(int channel)
     {
-        return new FauxbotDigitalOutput(channel);
+        return new FauxbotDigitalOutput(channel, this.sensorManager);
     }
 
     @Override
     public ICounter getCounter(int channel)
     {
-        return new FauxbotCounter(channel);
+        return new FauxbotCounter(channel, this.sensorManager);
     }
 
     @Override
     public IDutyCycle getDutyCycle(int channel)
     {
-        return new FauxbotDutyCycle(channel);
+        return new FauxbotDutyCycle(channel, this.sensorManager);
     }
 
     @Override
     public IDutyCycleEncoder getDutyCycleEncoder(int channel)
     {
-        return new FauxbotDutyCycleEncoder(channel);
+        return new FauxbotDutyCycleEncoder(channel, this.sensorManager);
     }
 
     @Override
     public ITalonSRX getTalonSRX(int deviceNumber)
     {
-        return new FauxbotTalonSRX(deviceNumber, this.simulator);
+        return new FauxbotTalonSRX(deviceNumber, this.simulator, this.sensorManager, this.actuatorManager, this.clock);
     }
 
     @Override
     public ITalonFX getTalonFX(int deviceNumber)
     {
-        return new FauxbotTalonFX(deviceNumber, this.simulator);
+        return new FauxbotTalonFX(deviceNumber, this.simulator, this.sensorManager, this.actuatorManager, this.clock);
     }
 
     @Override
     public ITalonFX getTalonFX(int deviceNumber, String canbus)
     {
-        return new FauxbotTalonFX(deviceNumber, this.simulator);
+        return new FauxbotTalonFX(deviceNumber, this.simulator, this.sensorManager, this.actuatorManager, this.clock);
     }
 
     @Override
     public IVictorSPX getVictorSPX(int deviceNumber)
     {
-        return new FauxbotVictorSPX(deviceNumber);
+        return new FauxbotVictorSPX(deviceNumber, this.actuatorManager);
     }
 
     @Override
     public ISparkMax getSparkMax(int deviceId, SparkMotorType motorType)
     {
-        return new FauxbotSparkMax(deviceId, motorType);
+        return new FauxbotSparkMax(deviceId, motorType, this.sensorManager, this.actuatorManager, this.clock);
     }
 
     @Override
     public ISparkFlex getSparkFlex(int deviceId, SparkMotorType motorType)
     {
-        return new FauxbotSparkFlex(deviceId, motorType);
+        return new FauxbotSparkFlex(deviceId, motorType, this.sensorManager, this.actuatorManager, this.clock);
     }
 
     @Override
@@ -103,49 +122,49 @@ public class FauxbotProvider implements IRobotProvider
     @Override
     public IDoubleSolenoid getDoubleSolenoid(PneumaticsModuleType moduleType, int forwardChannel, int reverseChannel)
     {
-        return new FauxbotDoubleSolenoid(moduleType, forwardChannel, reverseChannel);
+        return new FauxbotDoubleSolenoid(moduleType, forwardChannel, reverseChannel, this.actuatorManager);
     }
 
     @Override
     public IDoubleSolenoid getDoubleSolenoid(int module, PneumaticsModuleType moduleType, int forwardChannel, int reverseChannel)
     {
-        return new FauxbotDoubleSolenoid(module, moduleType, forwardChannel, reverseChannel);
+        return new FauxbotDoubleSolenoid(module, moduleType, forwardChannel, reverseChannel, this.actuatorManager);
     }
 
     @Override
     public IEncoder getEncoder(int channelA, int channelB)
     {
-        return new FauxbotEncoder(channelA, channelB);
+        return new FauxbotEncoder(channelA, channelB, this.sensorManager, this.clock);
     }
 
     @Override
     public ICANCoder getCANCoder(int deviceNumber)
     {
-        return new FauxbotCANCoder(deviceNumber);
+        return new FauxbotCANCoder(deviceNumber, this.sensorManager, this.clock);
     }
 
     @Override
     public ICANCoder getCANCoder(int deviceNumber, String canbus)
     {
-        return new FauxbotCANCoder(deviceNumber);
+        return new FauxbotCANCoder(deviceNumber, this.sensorManager, this.clock);
     }
 
     @Override
     public IJoystick getJoystick(int port)
     {
-        return new FauxbotJoystick(port);
+        return new FauxbotJoystick(port, this.joystickManager);
     }
 
     @Override
     public IMotor getTalon(int channel)
     {
-        return new FauxbotTalon(channel);
+        return new FauxbotTalon(channel, this.actuatorManager);
     }
 
     @Override
     public IMotor getVictor(int channel)
     {
-        return new FauxbotVictor(channel);
+        return new FauxbotVictor(channel, this.actuatorManager);
     }
 
     @Override
@@ -181,37 +200,37 @@ public class FauxbotProvider implements IRobotProvider
     @Override
     public ISolenoid getSolenoid(PneumaticsModuleType moduleType, int channel)
     {
-        return new FauxbotSolenoid(moduleType, channel);
+        return new FauxbotSolenoid(moduleType, channel, this.actuatorManager);
     }
 
     @Override
     public ISolenoid getSolenoid(int module, PneumaticsModuleType moduleType, int channel)
     {
-        return new FauxbotSolenoid(module, moduleType, channel);
+        return new FauxbotSolenoid(module, moduleType, channel, this.actuatorManager);
     }
 
     @Override
     public INavx getNavx()
     {
-        return new FauxbotNavx();
+        return new FauxbotNavx(this.sensorManager);
     }
 
     @Override
     public IPigeonIMU getPigeonIMU(int deviceNumber)
     {
-        return new FauxbotPigeonIMU(deviceNumber);
+        return new FauxbotPigeonIMU(deviceNumber, this.sensorManager);
     }
 
     @Override
     public IPigeon2 getPigeon2(int deviceNumber)
     {
-        return new FauxbotPigeon2(deviceNumber);
+        return new FauxbotPigeon2(deviceNumber, this.sensorManager);
     }
 
     @Override
     public IPigeon2 getPigeon2(int deviceNumber, String canbus)
     {
-        return new FauxbotPigeon2(deviceNumber);
+        return new FauxbotPigeon2(deviceNumber, this.sensorManager);
     }
 
     @Override
@@ -229,13 +248,13 @@ public class FauxbotProvider implements IRobotProvider
     @Override
     public IDriverStation getDriverStation()
     {
-        return FauxbotDriverStation.Instance;
+        return this.driverStation;
     }
 
     @Override
     public INetworkTableProvider getNetworkTableProvider()
     {
-        return new FauxbotNetworkTableProvider();
+        return new FauxbotNetworkTableProvider(this.chooserSelections);
     }
 
     @Override
@@ -249,4 +268,9 @@ public class FauxbotProvider implements IRobotProvider
     {
         return new FauxbotPreferences();
     }
+
+    @Override
+    public void refreshBatchedSignals()
+    {
+    }
 }
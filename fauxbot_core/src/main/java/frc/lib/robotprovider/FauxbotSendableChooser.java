@@ -1,24 +1,53 @@
 package frc.lib.robotprovider;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class FauxbotSendableChooser<V> implements ISendableChooser<V>
 {
-    public FauxbotSendableChooser()
+    private final String name;
+    private final FauxbotSendableChooserSelections selections;
+    private final Map<String, V> options;
+    private V defaultOption;
+
+    public FauxbotSendableChooser(String name, FauxbotSendableChooserSelections selections)
     {
+        this.name = name;
+        this.selections = selections;
+        this.options = new LinkedHashMap<String, V>();
+        this.defaultOption = null;
     }
 
     @Override
     public void addDefault(String name, V object)
     {
+        this.addOption(name, object);
+        this.defaultOption = object;
     }
 
     @Override
     public void addObject(String name, V object)
     {
+        this.addOption(name, object);
     }
 
     @Override
     public V getSelected()
     {
-        return (V)null;
+        String selection = this.selections.getSelection(this.name);
+        if (selection != null && this.options.containsKey(selection))
+        {
+            return this.options.get(selection);
+        }
+
+        return this.defaultOption;
+    }
+
+    private void addOption(String name, V object)
+    {
+        if (this.options.put(name, object) == null)
+        {
+            this.selections.addOptionName(this.name, name);
+        }
     }
 }
@@ -0,0 +1,71 @@
+package frc.lib.robotprovider;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Singleton;
+
+/**
+ * The options that have been added to, and selected on, the robot's sendable choosers (by name).  Each robot gets its own instance
+ * from its injector, so that a headless simulation can select its own options (e.g. which autonomous routine to run) without affecting
+ * any other simulations that are running side by side.
+ */
+@Singleton
+public class FauxbotSendableChooserSelections
+{
+    private final Map<String, String> selections;
+    private final Map<String, List<String>> optionNames;
+
+    public FauxbotSendableChooserSelections()
+    {
+        this.selections = new HashMap<String, String>();
+        this.optionNames = new HashMap<String, List<String>>();
+    }
+
+    /**
+     * Select an option by name (e.g. for a headless simulation), applying to the chooser with the provided name
+     * @param chooserName name of the chooser
+     * @param optionName name of the option to select, or null to use the default
+     */
+    public synchronized void select(String chooserName, String optionName)
+    {
+        this.selections.put(chooserName, optionName);
+    }
+
+    /**
+     * Retrieve the name of the option that has been selected for the chooser with the provided name
+     * @param chooserName name of the chooser
+     * @return the name of the selected option, or null to use the default
+     */
+    public synchronized String getSelection(String chooserName)
+    {
+        return this.selections.get(chooserName);
+    }
+
+    /**
+     * Retrieve the names of the options that have been added to the chooser with the provided name (e.g. to simulate each of them)
+     * @param chooserName name of the chooser
+     * @return the names of the options, in the order that they were added
+     */
+    public synchronized List<String> getOptionNames(String chooserName)
+    {
+        List<String> names = this.optionNames.get(chooserName);
+        return names == null ? List.of() : List.copyOf(names);
+    }
+
+    /**
+     * Record that an option has been added to the chooser with the provided name
+     * @param chooserName name of the chooser
+     * @param optionName name of the option
+     */
+    synchronized void addOptionName(String chooserName, String optionName)
+    {
+        List<String> names = this.optionNames.computeIfAbsent(chooserName, (name) -> new ArrayList<String>());
+        if (!names.contains(optionName))
+        {
+            names.add(optionName);
+        }
+    }
+}
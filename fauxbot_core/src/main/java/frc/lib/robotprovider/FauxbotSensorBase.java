@@ -2,4 +2,22 @@ package frc.lib.robotprovider;
 
 public abstract class FauxbotSensorBase
 {
+    protected final FauxbotSensorManager manager;
+    protected final int slot;
+
+    protected FauxbotSensorBase(FauxbotSensorManager manager, FauxbotSensorConnection connection)
+    {
+        this.manager = manager;
+        this.slot = manager.register(connection, this);
+    }
+
+    protected double getSlotValue()
+    {
+        return this.manager.getValue(this.slot);
+    }
+
+    protected void setSlotValue(double value)
+    {
+        this.manager.setValue(this.slot, value);
+    }
 }
@@ -1,29 +1,136 @@
 package frc.lib.robotprovider;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
 
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Registry of the sensors of one simulated robot.  Each connection is assigned a dense slot when its sensor is registered, and the
+ * value of each sensor is kept in an array indexed by its slot, so that the simulation and the UI can resolve their connections once
+ * and then loop over the sensors without any hashing.  Sensors are expected to be registered while the robot is being initialized,
+ * before the simulation starts.  After that, the values are written and read from different threads (e.g. the UI's sliders and the
+ * robot's thread), so each value is kept as the raw bits of the double in an AtomicLongArray, for atomic and visible updates.
+ */
+@Singleton
 public class FauxbotSensorManager
 {
-    public static final Map<FauxbotSensorConnection, FauxbotSensorBase> sensorMap = new HashMap<>();
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<FauxbotSensorConnection, Integer> slotMap;
+
+    private FauxbotSensorConnection[] connections;
+    private FauxbotSensorBase[] sensors;
+    private AtomicLongArray values; // raw bits of each double
+    private int count;
+
+    @Inject
+    public FauxbotSensorManager()
+    {
+        this.slotMap = new HashMap<FauxbotSensorConnection, Integer>();
+
+        this.connections = new FauxbotSensorConnection[FauxbotSensorManager.INITIAL_CAPACITY];
+        this.sensors = new FauxbotSensorBase[FauxbotSensorManager.INITIAL_CAPACITY];
+        this.values = new AtomicLongArray(FauxbotSensorManager.INITIAL_CAPACITY);
+        this.count = 0;
+    }
 
-    public static void set(FauxbotSensorConnection connection, FauxbotSensorBase sensor)
+    /**
+     * Register a sensor on a connection
+     * @param connection that the sensor is on
+     * @param sensor to register, or null to reserve the connection (such as the second channel of an encoder)
+     * @return the slot of the connection
+     */
+    public int register(FauxbotSensorConnection connection, FauxbotSensorBase sensor)
     {
-        if (FauxbotSensorManager.sensorMap.containsKey(connection))
+        if (this.slotMap.containsKey(connection))
         {
             throw new RuntimeException("Don't expect port " + connection.toString() + " to be specified multiple times!");
         }
 
-        FauxbotSensorManager.sensorMap.put(connection, sensor);
+        if (this.count == this.connections.length)
+        {
+            int capacity = 2 * this.count;
+            this.connections = Arrays.copyOf(this.connections, capacity);
+            this.sensors = Arrays.copyOf(this.sensors, capacity);
+            AtomicLongArray values = new AtomicLongArray(capacity);
+            for (int i = 0; i < this.count; i++)
+            {
+                values.set(i, this.values.get(i));
+            }
+
+            this.values = values;
+        }
+
+        int slot = this.count++;
+        this.connections[slot] = connection;
+        this.sensors[slot] = sensor;
+        this.values.set(slot, Double.doubleToRawLongBits(Double.NaN));
+        this.slotMap.put(connection, slot);
+        return slot;
+    }
+
+    /**
+     * Find the slot of a connection
+     * @param connection to find
+     * @return the slot of the connection, or -1 if nothing has been registered on it
+     */
+    public int getSlot(FauxbotSensorConnection connection)
+    {
+        Integer slot = this.slotMap.get(connection);
+        if (slot == null)
+        {
+            return -1;
+        }
+
+        return slot;
+    }
+
+    /**
+     * Retrieve the number of slots that have been registered
+     * @return the number of slots
+     */
+    public int getCount()
+    {
+        return this.count;
+    }
+
+    public FauxbotSensorConnection getConnection(int slot)
+    {
+        return this.connections[slot];
+    }
+
+    public FauxbotSensorBase get(int slot)
+    {
+        return this.sensors[slot];
     }
 
-    public static FauxbotSensorBase get(FauxbotSensorConnection connection)
+    public FauxbotSensorBase get(FauxbotSensorConnection connection)
     {
-        if (!FauxbotSensorManager.sensorMap.containsKey(connection))
+        int slot = this.getSlot(connection);
+        if (slot < 0)
         {
             return null;
         }
 
-        return FauxbotSensorManager.sensorMap.get(connection);
+        return this.sensors[slot];
+    }
+
+    /**
+     * Retrieve the current value of the sensor in a slot
+     * @param slot of the sensor
+     * @return the value (1 or 0 for digital sensors), or NaN if the sensor doesn't keep a value
+     */
+    public double getValue(int slot)
+    {
+        return Double.longBitsToDouble(this.values.get(slot));
+    }
+
+    void setValue(int slot, double value)
+    {
+        this.values.set(slot, Double.doubleToRawLongBits(value));
     }
 }
@@ -4,9 +4,15 @@ public abstract class FauxbotSimpleMotorBase extends FauxbotMotorBase
 {
     protected FauxbotActuatorConnection connection;
 
-    protected FauxbotSimpleMotorBase(int port)
+    protected FauxbotSimpleMotorBase(int port, FauxbotActuatorManager manager)
     {
-        this.connection = new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.PWM, port);
-        FauxbotActuatorManager.set(this.connection, this);
+        this(new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.PWM, port), manager);
+    }
+
+    private FauxbotSimpleMotorBase(FauxbotActuatorConnection connection, FauxbotActuatorManager manager)
+    {
+        super(manager, connection);
+
+        this.connection = connection;
     }
 }
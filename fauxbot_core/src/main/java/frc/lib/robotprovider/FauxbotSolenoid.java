@@ -2,25 +2,23 @@ package frc.lib.robotprovider;
 
 public class FauxbotSolenoid extends FauxbotActuatorBase implements ISolenoid
 {
-    private boolean currentValue;
-
-    public FauxbotSolenoid(PneumaticsModuleType moduleType, int port)
+    public FauxbotSolenoid(PneumaticsModuleType moduleType, int port, FauxbotActuatorManager manager)
     {
-        this(0, moduleType, port);
+        this(0, moduleType, port, manager);
     }
 
-    public FauxbotSolenoid(int moduleNumber, PneumaticsModuleType moduleType, int port)
+    public FauxbotSolenoid(int moduleNumber, PneumaticsModuleType moduleType, int port, FauxbotActuatorManager manager)
     {
-        FauxbotActuatorManager.set(new FauxbotActuatorConnection(this.getModule(moduleNumber), port), this);
+        super(manager, new FauxbotActuatorConnection(FauxbotSolenoid.getModule(moduleNumber), port));
 
-        this.currentValue = false;
+        this.setSlotOutput(0.0);
     }
 
     public void set(boolean on)
     {
         synchronized (this)
         {
-            this.currentValue = on;
+            this.setSlotOutput(on ? 1.0 : 0.0);
         }
     }
 
@@ -28,11 +26,11 @@ public class FauxbotSolenoid extends FauxbotActuatorBase implements ISolenoid
     {
         synchronized (this)
         {
-            return this.currentValue;
+            return this.getSlotOutput() != 0.0;
         }
     }
 
-    private FauxbotActuatorConnection.ActuatorConnector getModule(int moduleNumber)
+    private static FauxbotActuatorConnection.ActuatorConnector getModule(int moduleNumber)
     {
         if (moduleNumber == 0)
         {
@@ -4,6 +4,8 @@ import frc.lib.controllers.PIDHandler;
 
 abstract class FauxbotSparkBase extends FauxbotAdvancedMotorBase implements ISparkBase
 {
+    private final FauxbotClock clock;
+
     private FauxbotEncoder innerEncoder;
     private PIDHandler pidHandler;
 
@@ -13,12 +15,13 @@ abstract class FauxbotSparkBase extends FauxbotAdvancedMotorBase implements ISpa
     private double kd;
     private double kf;
 
-    FauxbotSparkBase(int deviceID, SparkMotorType motorType)
+    FauxbotSparkBase(int deviceID, SparkMotorType motorType, FauxbotSensorManager sensorManager, FauxbotActuatorManager actuatorManager, FauxbotClock clock)
     {
-        super(deviceID);
+        super(deviceID, actuatorManager);
 
+        this.clock = clock;
         this.currentMode = SparkControlMode.PercentOutput;
-        this.innerEncoder = new FauxbotEncoder(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, this.getClass(), this.connection.getPort()));
+        this.innerEncoder = new FauxbotEncoder(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, this.getClass(), this.connection.getPort()), sensorManager, clock);
     }
 
     @Override
@@ -246,7 +249,7 @@ abstract class FauxbotSparkBase extends FauxbotAdvancedMotorBase implements ISpa
         if (this.currentMode == SparkControlMode.Position ||
             this.currentMode == SparkControlMode.Velocity)
         {
-            ITimer timer = new FauxbotTimer();
+            ITimer timer = new FauxbotTimer(this.clock);
             timer.start();
             this.pidHandler = new PIDHandler(this.kp, this.ki, this.kd, this.kf, 1.0, -4096.0, 4096.0, timer);
         }
@@ -2,8 +2,8 @@ package frc.lib.robotprovider;
 
 public class FauxbotSparkFlex extends FauxbotSparkBase implements ISparkFlex
 {
-    public FauxbotSparkFlex(int deviceId, SparkMotorType motorType)
+    public FauxbotSparkFlex(int deviceId, SparkMotorType motorType, FauxbotSensorManager sensorManager, FauxbotActuatorManager actuatorManager, FauxbotClock clock)
     {
-        super(deviceId, motorType);
+        super(deviceId, motorType, sensorManager, actuatorManager, clock);
     }
 }
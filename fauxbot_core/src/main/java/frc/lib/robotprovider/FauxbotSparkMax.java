@@ -2,8 +2,8 @@ package frc.lib.robotprovider;
 
 public class FauxbotSparkMax extends FauxbotSparkBase implements ISparkMax
 {
-    public FauxbotSparkMax(int deviceId, SparkMotorType motorType)
+    public FauxbotSparkMax(int deviceId, SparkMotorType motorType, FauxbotSensorManager sensorManager, FauxbotActuatorManager actuatorManager, FauxbotClock clock)
     {
-        super(deviceId, motorType);
+        super(deviceId, motorType, sensorManager, actuatorManager, clock);
     }
 }
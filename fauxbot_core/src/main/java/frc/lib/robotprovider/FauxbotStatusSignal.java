@@ -0,0 +1,30 @@
+package frc.lib.robotprovider;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Simulated status signal, which takes its value from the simulated device's getter when it is refreshed
+ */
+public class FauxbotStatusSignal implements IStatusSignal
+{
+    private final DoubleSupplier getter;
+    private double value;
+
+    public FauxbotStatusSignal(DoubleSupplier getter)
+    {
+        this.getter = getter;
+        this.value = 0.0;
+    }
+
+    @Override
+    public void refresh()
+    {
+        this.value = this.getter.getAsDouble();
+    }
+
+    @Override
+    public double getValue()
+    {
+        return this.value;
+    }
+}
@@ -2,8 +2,8 @@ package frc.lib.robotprovider;
 
 public class FauxbotTalon extends FauxbotSimpleMotorBase
 {
-    public FauxbotTalon(int port)
+    public FauxbotTalon(int port, FauxbotActuatorManager manager)
     {
-        super(port);
+        super(port, manager);
     }
 }
@@ -1,11 +1,24 @@
 package frc.lib.robotprovider;
 
 import frc.lib.controllers.PIDHandler;
+import frc.lib.helpers.Helpers;
 import frc.robot.simulation.SimulatorBase;
 
+/**
+ * Simulated TalonFX.  The commanded control mode and setpoint are stored so that a physics simulation (see SwerveDriveSimulator)
+ * can run the TalonFX's closed-loop control the way the device would, with calculateOutputVoltage, and report the simulated motor
+ * state back with updateSimulatedState.  Positions are in rotations, velocities in rotations per second, and the closed-loop gains
+ * are in volts when voltage compensation is enabled (or in duty cycle otherwise), as with Phoenix 6.
+ */
 public class FauxbotTalonFX extends FauxbotAdvancedMotorBase implements ITalonFX
 {
+    public static final double NOMINAL_VOLTAGE = 12.0;
+
+    private static final int SLOT_COUNT = 3;
+    private static final double FEEDBACK_TIME_TOLERANCE = 1e-6;
+
     private final SimulatorBase simulator;
+    private final FauxbotClock clock;
 
     private FauxbotEncoder innerEncoder;
     private PIDHandler pidHandler;
@@ -16,29 +29,81 @@ public class FauxbotTalonFX extends FauxbotAdvancedMotorBase implements ITalonFX
     private double kd;
     private double kf;
 
-    public FauxbotTalonFX(int deviceNumber, SimulatorBase simulator)
-    {
-        super(deviceNumber);
+    // closed-loop configuration and state, for simulating the control that the TalonFX runs on the device
+    private final double[] slotKp;
+    private final double[] slotKi;
+    private final double[] slotKd;
+    private final double[] slotKv;
+    private final double[] slotKs;
+    private int selectedSlot;
+    private double setpoint;
+    private double feedForward;
+    private double motionMagicCruiseVelocity;
+    private double motionMagicAcceleration;
+    private boolean useVoltageCompensation;
+    private double maxVoltage;
+    private boolean brakeWhenNeutral;
+    private double statorCurrentLimit;
+    private FauxbotTalonFX leader;
+    private boolean opposeLeader;
+
+    private double simulatedPosition;
+    private double simulatedVelocity;
+    private double positionOffset;
+    private double errorIntegral;
+    private double error;
+    private double profilePosition;
+    private double profileVelocity;
+    private double appliedVoltage;
+    private double feedbackPeriod;
+    private double lastFeedbackTime;
+
+    public FauxbotTalonFX(int deviceNumber, SimulatorBase simulator, FauxbotSensorManager sensorManager, FauxbotActuatorManager actuatorManager, FauxbotClock clock)
+    {
+        super(deviceNumber, actuatorManager);
 
         this.simulator = simulator;
+        this.clock = clock;
         this.currentMode = TalonFXControlMode.PercentOutput;
 
-        this.innerEncoder = new FauxbotEncoder(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, FauxbotTalonFX.class, this.connection.getPort()));
+        this.slotKp = new double[FauxbotTalonFX.SLOT_COUNT];
+        this.slotKi = new double[FauxbotTalonFX.SLOT_COUNT];
+        this.slotKd = new double[FauxbotTalonFX.SLOT_COUNT];
+        this.slotKv = new double[FauxbotTalonFX.SLOT_COUNT];
+        this.slotKs = new double[FauxbotTalonFX.SLOT_COUNT];
+        this.selectedSlot = 0;
+        this.maxVoltage = FauxbotTalonFX.NOMINAL_VOLTAGE;
+        this.brakeWhenNeutral = false;
+        this.statorCurrentLimit = Double.POSITIVE_INFINITY;
+        this.feedbackPeriod = 0.0;
+        this.lastFeedbackTime = Double.NEGATIVE_INFINITY;
+
+        this.innerEncoder = new FauxbotEncoder(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, FauxbotTalonFX.class, this.connection.getPort()), sensorManager, clock);
     }
 
     @Override
     public void follow(ITalonFX talonFX)
     {
+        this.follow(talonFX, false);
     }
 
     @Override
     public void follow(ITalonFX talonFX, boolean invertDirection)
     {
+        this.currentMode = TalonFXControlMode.Follower;
+        this.leader = (FauxbotTalonFX)talonFX;
+        this.opposeLeader = invertDirection;
+        this.resetPID();
     }
 
     @Override
     public void setControlMode(TalonFXControlMode mode)
     {
+        if (mode != this.currentMode)
+        {
+            this.resetClosedLoop();
+        }
+
         this.currentMode = mode;
         this.resetPID();
     }
@@ -56,6 +121,7 @@ public class FauxbotTalonFX extends FauxbotAdvancedMotorBase implements ITalonFX
     @Override
     public void setFeedbackUpdateRate(double frequencyHz)
     {
+        this.feedbackPeriod = frequencyHz > 0.0 ? 1.0 / frequencyHz : 0.0;
     }
 
     @Override
@@ -78,6 +144,37 @@ public class FauxbotTalonFX extends FauxbotAdvancedMotorBase implements ITalonFX
     {
     }
 
+    @Override
+    public void registerBatchedSignals(TalonFXSignal... signals)
+    {
+    }
+
+    @Override
+    public IStatusSignal createSignal(TalonFXSignal signal)
+    {
+        switch (signal)
+        {
+            case Position:
+                return new FauxbotStatusSignal(this::getPosition);
+
+            case Velocity:
+                return new FauxbotStatusSignal(this::getVelocity);
+
+            case Error:
+                return new FauxbotStatusSignal(this::getError);
+
+            case Output:
+                return new FauxbotStatusSignal(this::getOutput);
+
+            case ForwardLimitSwitch:
+                return new FauxbotStatusSignal(() -> this.getForwardLimitSwitchClosed() ? 1.0 : 0.0);
+
+            case ReverseLimitSwitch:
+            default:
+                return new FauxbotStatusSignal(() -> this.getReverseLimitSwitchClosed() ? 1.0 : 0.0);
+        }
+    }
+
     @Override
     public void optimizeCanbus()
     {
@@ -96,11 +193,18 @@ public class FauxbotTalonFX extends FauxbotAdvancedMotorBase implements ITalonFX
     @Override
     public void setCurrentLimit(boolean enabled, double currentLimit, double triggerThresholdCurrent, double triggerThresholdTime, boolean statorLimiting, double statorCurrentLimit)
     {
+        this.statorCurrentLimit = statorLimiting ? statorCurrentLimit : Double.POSITIVE_INFINITY;
     }
 
     @Override
     public void setSelectedSlot(int slotId)
     {
+        if (slotId != this.selectedSlot)
+        {
+            this.resetClosedLoop();
+        }
+
+        this.selectedSlot = slotId;
     }
 
     @Override
@@ -111,16 +215,28 @@ public class FauxbotTalonFX extends FauxbotAdvancedMotorBase implements ITalonFX
         this.kd = d;
         this.kf = f;
         this.resetPID();
+
+        this.setSlot(p, i, d, f, 0.0, slotId);
     }
 
     @Override
     public void setMotionMagicPIDVS(double p, double i, double d, double v, double s, double cruiseVelocity, double maxAcceleration, double maxJerk, int slotId)
     {
+        this.setSlot(p, i, d, v, s, slotId);
+
+        // jerk isn't simulated, so the profile is trapezoidal
+        this.motionMagicCruiseVelocity = cruiseVelocity;
+        this.motionMagicAcceleration = maxAcceleration;
     }
 
     @Override
     public void setMotionMagicExpoPIDVS(double p, double i, double d, double v, double s, double cruiseVelocity, double velocityVoltage, double accelerationVoltage, int slotId)
     {
+        this.setSlot(p, i, d, v, s, slotId);
+
+        // approximate the exponential profile with a trapezoidal one that has the same limits
+        this.motionMagicCruiseVelocity = cruiseVelocity;
+        this.motionMagicAcceleration = velocityVoltage > 0.0 && accelerationVoltage > 0.0 ? cruiseVelocity * velocityVoltage / accelerationVoltage : 0.0;
     }
 
     @Override
@@ -156,15 +272,24 @@ public class FauxbotTalonFX extends FauxbotAdvancedMotorBase implements ITalonFX
     @Override
     public void set(TalonFXControlMode mode, int slotId, double value, double feedForward)
     {
+        if (mode != this.currentMode)
+        {
+            this.resetClosedLoop();
+        }
+
+        this.currentMode = mode;
+        this.setpoint = value;
+        this.feedForward = feedForward;
         if (mode == TalonFXControlMode.Follower)
         {
-            FauxbotActuatorBase actuator = FauxbotActuatorManager.get(new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, (int)value));
+            FauxbotActuatorBase actuator = this.manager.get(new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, (int)value));
             if (actuator != null && actuator instanceof FauxbotAdvancedMotorBase)
             {
-                FauxbotAdvancedMotorBase advancedMotor = (FauxbotAdvancedMotorBase)actuator;
-                // TODO: fix link between primary and follower
-                // advancedMotor.currentPowerProperty.addListener(
-                //     (observable, oldValue, value) -> { this.currentPowerProperty.set((Double)value); });
+                if (actuator instanceof FauxbotTalonFX)
+                {
+                    this.leader = (FauxbotTalonFX)actuator;
+                    this.opposeLeader = false;
+                }
             }
             else
             {
@@ -193,50 +318,60 @@ public class FauxbotTalonFX extends FauxbotAdvancedMotorBase implements ITalonFX
     @Override
     public void setMotorOutputSettings(boolean invert, MotorNeutralMode neutralMode)
     {
+        // the simulated motor has no wiring to invert, so positive output always turns it in the positive direction
+        this.brakeWhenNeutral = neutralMode == MotorNeutralMode.Brake;
     }
 
     @Override
     public void setVoltageCompensation(boolean enabled, double maxVoltage)
     {
+        this.useVoltageCompensation = enabled;
+        this.maxVoltage = maxVoltage;
     }
 
     @Override
     public void stop()
     {
+        this.currentMode = TalonFXControlMode.Neutral;
+        this.resetClosedLoop();
+        super.set(0.0);
     }
 
     @Override
     public void setPosition(double position)
     {
+        this.positionOffset = position - this.simulatedPosition;
+        this.innerEncoder.setState(this.simulatedPosition, this.simulatedVelocity);
     }
 
     @Override
     public void reset()
     {
+        this.setPosition(0.0);
     }
 
     @Override
     public double getPosition()
     {
-        return this.innerEncoder.getDistance();
+        return this.innerEncoder.getDistance() + this.positionOffset;
     }
 
     @Override
     public double getVelocity()
     {
-        return 0.0;
+        return this.innerEncoder.getRate();
     }
 
     @Override
     public double getError()
     {
-        return 0.0;
+        return this.error;
     }
 
     @Override
     public double getOutput()
     {
-        return 0.0;
+        return this.get();
     }
 
     @Override
@@ -257,12 +392,181 @@ public class FauxbotTalonFX extends FauxbotAdvancedMotorBase implements ITalonFX
         return new TalonXLimitSwitchStatus(false, false);
     }
 
+    /**
+     * Check whether the motor is coasting, so that it shouldn't apply any torque (not even to brake)
+     * @return true if the motor is coasting
+     */
+    public boolean isCoasting()
+    {
+        switch (this.currentMode)
+        {
+            case Coast:
+                return true;
+
+            case Neutral:
+                return !this.brakeWhenNeutral;
+
+            case Follower:
+                return this.leader != null && this.leader.isCoasting();
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Retrieve the stator current limit
+     * @return the stator current limit (in amps), or positive infinity when it isn't limited
+     */
+    public double getStatorCurrentLimit()
+    {
+        return this.statorCurrentLimit;
+    }
+
+    /**
+     * Run the closed-loop control for the current control mode, based on the simulated state of the motor, like the TalonFX would
+     * @param batteryVoltage the voltage available to the motor
+     * @param dt the time since the last time the output was calculated (in seconds)
+     * @return the voltage to apply to the motor
+     */
+    public double calculateOutputVoltage(double batteryVoltage, double dt)
+    {
+        // closed-loop gains are in volts with voltage compensation, or in duty cycle without it
+        double outputScale = this.useVoltageCompensation ? 1.0 : batteryVoltage;
+        int slot = this.selectedSlot;
+
+        double voltage;
+        switch (this.currentMode)
+        {
+            case PercentOutput:
+                voltage = this.setpoint * (this.useVoltageCompensation ? this.maxVoltage : batteryVoltage);
+                break;
+
+            case Follower:
+                voltage = this.leader == null ? 0.0 : (this.opposeLeader ? -this.leader.appliedVoltage : this.leader.appliedVoltage);
+                break;
+
+            case Velocity:
+            case MotionMagicVelocity:
+                this.error = this.setpoint - this.simulatedVelocity;
+                this.errorIntegral += this.error * dt;
+                voltage = outputScale * (
+                    this.slotKv[slot] * this.setpoint +
+                    this.slotKs[slot] * Math.signum(this.setpoint) +
+                    this.slotKp[slot] * this.error +
+                    this.slotKi[slot] * this.errorIntegral +
+                    this.feedForward);
+                break;
+
+            case Position:
+                this.error = this.setpoint - (this.simulatedPosition + this.positionOffset);
+                this.errorIntegral += this.error * dt;
+                voltage = outputScale * (
+                    this.slotKs[slot] * Math.signum(this.error) +
+                    this.slotKp[slot] * this.error +
+                    this.slotKi[slot] * this.errorIntegral -
+                    this.slotKd[slot] * this.simulatedVelocity +
+                    this.feedForward);
+                break;
+
+            case MotionMagicPosition:
+            case MotionMagicPositionExpo:
+                this.updateProfile(this.setpoint - this.positionOffset, dt);
+                this.error = this.profilePosition - this.simulatedPosition;
+                this.errorIntegral += this.error * dt;
+                voltage = outputScale * (
+                    this.slotKv[slot] * this.profileVelocity +
+                    this.slotKs[slot] * Math.signum(this.profileVelocity) +
+                    this.slotKp[slot] * this.error +
+                    this.slotKi[slot] * this.errorIntegral +
+                    this.slotKd[slot] * (this.profileVelocity - this.simulatedVelocity) +
+                    this.feedForward);
+                break;
+
+            case Coast:
+            case StaticBrake:
+            case Neutral:
+            default:
+                voltage = 0.0;
+                break;
+        }
+
+        this.appliedVoltage = Helpers.enforceRange(voltage, -batteryVoltage, batteryVoltage);
+        super.set(this.appliedVoltage / batteryVoltage);
+        return this.appliedVoltage;
+    }
+
+    /**
+     * Update the simulated state of the motor.  The position and velocity that the TalonFX reports are only updated at its feedback
+     * update rate, while the closed-loop control always uses the latest state.
+     * @param position of the rotor (in rotations)
+     * @param velocity of the rotor (in rotations per second)
+     * @param time of the simulation (in seconds)
+     */
+    public void updateSimulatedState(double position, double velocity, double time)
+    {
+        this.simulatedPosition = position;
+        this.simulatedVelocity = velocity;
+        if (time - this.lastFeedbackTime >= this.feedbackPeriod - FauxbotTalonFX.FEEDBACK_TIME_TOLERANCE)
+        {
+            this.innerEncoder.setState(position, velocity);
+            this.lastFeedbackTime = time;
+        }
+    }
+
+    private void setSlot(double p, double i, double d, double v, double s, int slotId)
+    {
+        this.slotKp[slotId] = p;
+        this.slotKi[slotId] = i;
+        this.slotKd[slotId] = d;
+        this.slotKv[slotId] = v;
+        this.slotKs[slotId] = s;
+    }
+
+    private void resetClosedLoop()
+    {
+        this.errorIntegral = 0.0;
+        this.profilePosition = this.simulatedPosition;
+        this.profileVelocity = this.simulatedVelocity;
+    }
+
+    /**
+     * Move the motion magic profile towards the target position, limited by the cruise velocity and acceleration
+     * @param target position (in rotations of the rotor)
+     * @param dt the time to move the profile forward by (in seconds)
+     */
+    private void updateProfile(double target, double dt)
+    {
+        if (this.motionMagicCruiseVelocity <= 0.0 || this.motionMagicAcceleration <= 0.0)
+        {
+            this.profilePosition = target;
+            this.profileVelocity = 0.0;
+            return;
+        }
+
+        // the fastest velocity from which the profile can still stop at the target
+        double distance = target - this.profilePosition;
+        double stoppingVelocity = Math.signum(distance) * Math.sqrt(2.0 * this.motionMagicAcceleration * Math.abs(distance));
+        double desiredVelocity = Helpers.enforceRange(stoppingVelocity, -this.motionMagicCruiseVelocity, this.motionMagicCruiseVelocity);
+
+        double maxVelocityChange = this.motionMagicAcceleration * dt;
+        this.profileVelocity += Helpers.enforceRange(desiredVelocity - this.profileVelocity, -maxVelocityChange, maxVelocityChange);
+        this.profilePosition += this.profileVelocity * dt;
+
+        // settle on the target rather than oscillating around it
+        if (Math.abs(target - this.profilePosition) < Math.abs(this.profileVelocity) * dt)
+        {
+            this.profilePosition = target;
+            this.profileVelocity = 0.0;
+        }
+    }
+
     private void resetPID()
     {
         if (this.simulator.shouldSimulatePID() &&
             (this.currentMode == TalonFXControlMode.Position || this.currentMode == TalonFXControlMode.Velocity))
         {
-            ITimer timer = new FauxbotTimer();
+            ITimer timer = new FauxbotTimer(this.clock);
             timer.start();
             this.pidHandler = new PIDHandler(this.kp, this.ki, this.kd, this.kf, 1.0, -4096.0, 4096.0, timer);
         }
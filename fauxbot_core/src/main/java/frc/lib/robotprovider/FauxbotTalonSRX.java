@@ -6,6 +6,8 @@ import frc.lib.controllers.PIDHandler;
 public class FauxbotTalonSRX extends FauxbotAdvancedMotorBase implements ITalonSRX
 {
     private final SimulatorBase simulator;
+    private final FauxbotSensorManager sensorManager;
+    private final FauxbotClock clock;
 
     private FauxbotEncoder innerEncoder;
     private PIDHandler pidHandler;
@@ -16,11 +18,13 @@ public class FauxbotTalonSRX extends FauxbotAdvancedMotorBase implements ITalonS
     private double kd;
     private double kf;
 
-    public FauxbotTalonSRX(int deviceNumber, SimulatorBase simulator)
+    public FauxbotTalonSRX(int deviceNumber, SimulatorBase simulator, FauxbotSensorManager sensorManager, FauxbotActuatorManager actuatorManager, FauxbotClock clock)
     {
-        super(deviceNumber);
+        super(deviceNumber, actuatorManager);
 
         this.simulator = simulator;
+        this.clock = clock;
+        this.sensorManager = sensorManager;
         this.currentMode = TalonSRXControlMode.PercentOutput;
     }
 
@@ -42,7 +46,7 @@ public class FauxbotTalonSRX extends FauxbotAdvancedMotorBase implements ITalonS
     {
         if (feedbackDevice == TalonSRXFeedbackDevice.QuadEncoder)
         {
-            this.innerEncoder = new FauxbotEncoder(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, FauxbotTalonSRX.class, this.connection.getPort()));
+            this.innerEncoder = new FauxbotEncoder(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, FauxbotTalonSRX.class, this.connection.getPort()), this.sensorManager, this.clock);
         }
     }
 
@@ -115,7 +119,7 @@ public class FauxbotTalonSRX extends FauxbotAdvancedMotorBase implements ITalonS
     {
         if (mode == TalonSRXControlMode.Follower)
         {
-            FauxbotActuatorBase actuator = FauxbotActuatorManager.get(new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, (int)value));
+            FauxbotActuatorBase actuator = this.manager.get(new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, (int)value));
             if (actuator != null && actuator instanceof FauxbotAdvancedMotorBase)
             {
                 FauxbotAdvancedMotorBase advancedMotor = (FauxbotAdvancedMotorBase)actuator;
@@ -199,7 +203,7 @@ public class FauxbotTalonSRX extends FauxbotAdvancedMotorBase implements ITalonS
         if (this.simulator.shouldSimulatePID() &&
             (this.currentMode == TalonSRXControlMode.Position || this.currentMode == TalonSRXControlMode.Velocity))
         {
-            ITimer timer = new FauxbotTimer();
+            ITimer timer = new FauxbotTimer(this.clock);
             timer.start();
             this.pidHandler = new PIDHandler(this.kp, this.ki, this.kd, this.kf, 1.0, -4096.0, 4096.0, timer);
         }
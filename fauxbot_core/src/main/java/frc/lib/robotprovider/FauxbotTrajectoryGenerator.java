@@ -0,0 +1,379 @@
+package frc.lib.robotprovider;
+
+import java.util.Arrays;
+
+import frc.lib.helpers.Helpers;
+
+/**
+ * Simple trajectory generator for the fauxbot, standing in for PathPlanner.  Like PathPlanner, the path between each pair of waypoints
+ * is a cubic bezier curve with control points a third of the way towards the neighboring waypoint along each waypoint's heading, and
+ * the robot's orientation is interpolated between the rotation targets along the path.  The path is then sampled at (roughly) a fixed
+ * distance, and the velocity at each sample is limited by the maximum velocity, the centripetal acceleration around curves, the maximum
+ * angular velocity, and the maximum velocity of the swerve modules, before applying the acceleration limits (both linear and angular)
+ * going forwards and backwards along the path.  Where the robot only turns in place, progress along the path is measured by its
+ * rotation instead of the distance traveled, so that turning in place still takes the time allowed by the angular limits.
+ */
+public class FauxbotTrajectoryGenerator
+{
+    private static final double SAMPLE_DISTANCE = 0.5; // inches between samples along the path
+    private static final int MIN_SAMPLES_PER_SEGMENT = 8;
+    private static final double EPSILON = 1e-9;
+
+    private final double maxVelocity;
+    private final double maxAcceleration;
+    private final double maxAngularVelocity;
+    private final double maxAngularAcceleration;
+    private final double maxModuleVelocity;
+    private final double[] moduleOffsetX;
+    private final double[] moduleOffsetY;
+
+    /**
+     * Initializes a new FauxbotTrajectoryGenerator
+     * @param maxVelocity the maximum velocity of the robot (in inches per second)
+     * @param maxAcceleration the maximum acceleration of the robot (in inches per second squared)
+     * @param maxAngularVelocity the maximum angular velocity of the robot (in degrees per second)
+     * @param maxAngularAcceleration the maximum angular acceleration of the robot (in degrees per second squared)
+     * @param maxModuleVelocity the maximum velocity of each swerve module (in inches per second), or 0 for no limit
+     * @param moduleOffsetX the x offset of each swerve module from the center of the robot (in inches)
+     * @param moduleOffsetY the y offset of each swerve module from the center of the robot (in inches)
+     */
+    public FauxbotTrajectoryGenerator(
+        double maxVelocity,
+        double maxAcceleration,
+        double maxAngularVelocity,
+        double maxAngularAcceleration,
+        double maxModuleVelocity,
+        double[] moduleOffsetX,
+        double[] moduleOffsetY)
+    {
+        this.maxVelocity = maxVelocity;
+        this.maxAcceleration = maxAcceleration;
+        this.maxAngularVelocity = maxAngularVelocity * Helpers.DEGREES_TO_RADIANS;
+        this.maxAngularAcceleration = maxAngularAcceleration * Helpers.DEGREES_TO_RADIANS;
+        this.maxModuleVelocity = maxModuleVelocity;
+        this.moduleOffsetX = moduleOffsetX;
+        this.moduleOffsetY = moduleOffsetY;
+    }
+
+    /**
+     * Generate a trajectory through the provided waypoints
+     * @param waypointX the x position of each waypoint (in inches)
+     * @param waypointY the y position of each waypoint (in inches)
+     * @param waypointHeading the direction of travel at each waypoint (in degrees)
+     * @param rotationPositions the position of each rotation target along the path, in waypoints (e.g. 1.5 is half way between the second and third waypoint), in increasing order
+     * @param rotationOrientations the orientation of the robot at each rotation target (in degrees)
+     * @return the trajectory, from the first to the last waypoint
+     */
+    public ITrajectory generate(
+        double[] waypointX,
+        double[] waypointY,
+        double[] waypointHeading,
+        double[] rotationPositions,
+        double[] rotationOrientations)
+    {
+        int segmentCount = waypointX.length - 1;
+
+        // unwrap the rotation targets so that the robot turns the shortest way between each of them
+        double[] rotations = new double[rotationOrientations.length];
+        for (int i = 0; i < rotations.length; i++)
+        {
+            rotations[i] = i == 0 ? rotationOrientations[0] : Helpers.getClosestAngle(rotationOrientations[i], rotations[i - 1]);
+        }
+
+        // sample the bezier curve for each segment between waypoints
+        int[] segmentSamples = new int[segmentCount];
+        int sampleCount = 1;
+        for (int i = 0; i < segmentCount; i++)
+        {
+            double distance = Math.hypot(waypointX[i + 1] - waypointX[i], waypointY[i + 1] - waypointY[i]);
+            segmentSamples[i] = Math.max(FauxbotTrajectoryGenerator.MIN_SAMPLES_PER_SEGMENT, (int)Math.ceil(distance / FauxbotTrajectoryGenerator.SAMPLE_DISTANCE));
+            sampleCount += segmentSamples[i];
+        }
+
+        double[] x = new double[sampleCount];
+        double[] y = new double[sampleCount];
+        double[] heading = new double[sampleCount]; // radians
+        double[] curvature = new double[sampleCount]; // radians per inch
+        double[] rotation = new double[sampleCount]; // radians, unwrapped
+        double[] distance = new double[sampleCount];
+
+        int sample = 0;
+        for (int i = 0; i < segmentCount; i++)
+        {
+            double length = Math.hypot(waypointX[i + 1] - waypointX[i], waypointY[i + 1] - waypointY[i]) / 3.0;
+            double x0 = waypointX[i];
+            double y0 = waypointY[i];
+            double x1 = x0 + length * Helpers.cosd(waypointHeading[i]);
+            double y1 = y0 + length * Helpers.sind(waypointHeading[i]);
+            double x3 = waypointX[i + 1];
+            double y3 = waypointY[i + 1];
+            double x2 = x3 - length * Helpers.cosd(waypointHeading[i + 1]);
+            double y2 = y3 - length * Helpers.sind(waypointHeading[i + 1]);
+
+            // include the end of the segment only for the last segment, as it is the start of the next one
+            int samples = segmentSamples[i];
+            for (int j = 0; j < samples || (i == segmentCount - 1 && j == samples); j++)
+            {
+                double t = (double)j / samples;
+                double u = 1.0 - t;
+
+                x[sample] = u * u * u * x0 + 3.0 * u * u * t * x1 + 3.0 * u * t * t * x2 + t * t * t * x3;
+                y[sample] = u * u * u * y0 + 3.0 * u * u * t * y1 + 3.0 * u * t * t * y2 + t * t * t * y3;
+
+                double dx = 3.0 * u * u * (x1 - x0) + 6.0 * u * t * (x2 - x1) + 3.0 * t * t * (x3 - x2);
+                double dy = 3.0 * u * u * (y1 - y0) + 6.0 * u * t * (y2 - y1) + 3.0 * t * t * (y3 - y2);
+                double ddx = 6.0 * u * (x2 - 2.0 * x1 + x0) + 6.0 * t * (x3 - 2.0 * x2 + x1);
+                double ddy = 6.0 * u * (y2 - 2.0 * y1 + y0) + 6.0 * t * (y3 - 2.0 * y2 + y1);
+                double speed = Math.hypot(dx, dy);
+                if (speed > FauxbotTrajectoryGenerator.EPSILON)
+                {
+                    heading[sample] = Math.atan2(dy, dx);
+                    curvature[sample] = (dx * ddy - dy * ddx) / (speed * speed * speed);
+                }
+                else
+                {
+                    heading[sample] = sample > 0 ? heading[sample - 1] : waypointHeading[i] * Helpers.DEGREES_TO_RADIANS;
+                    curvature[sample] = 0.0;
+                }
+
+                rotation[sample] = FauxbotTrajectoryGenerator.interpolateRotation(i + t, rotationPositions, rotations) * Helpers.DEGREES_TO_RADIANS;
+                if (sample > 0)
+                {
+                    distance[sample] = distance[sample - 1] + Math.hypot(x[sample] - x[sample - 1], y[sample] - y[sample - 1]);
+                }
+
+                sample++;
+            }
+        }
+
+        // the progress along the path is the distance traveled, except where the robot only turns in place, where it is the rotation
+        // (scaled so that the maximum angular velocity corresponds to the maximum velocity), so that turning in place also takes time
+        double rotationScale = this.maxAngularVelocity > FauxbotTrajectoryGenerator.EPSILON ? this.maxVelocity / this.maxAngularVelocity : 0.0; // inches per radian
+        double[] progress = new double[sampleCount];
+        double[] distanceRate = new double[sampleCount]; // inches per unit of progress (1 while traveling, or 0 while turning in place)
+        double[] rotationRate = new double[sampleCount]; // radians per unit of progress
+        for (int i = 0; i < sampleCount - 1; i++)
+        {
+            double distanceStep = distance[i + 1] - distance[i];
+            double rotationStep = rotation[i + 1] - rotation[i];
+            double step = distanceStep > FauxbotTrajectoryGenerator.EPSILON ? distanceStep : Math.abs(rotationStep) * rotationScale;
+            progress[i + 1] = progress[i] + step;
+            if (step > FauxbotTrajectoryGenerator.EPSILON)
+            {
+                distanceRate[i] = distanceStep / step;
+                rotationRate[i] = rotationStep / step;
+            }
+        }
+
+        if (sampleCount > 1)
+        {
+            distanceRate[sampleCount - 1] = distanceRate[sampleCount - 2];
+            rotationRate[sampleCount - 1] = rotationRate[sampleCount - 2];
+        }
+
+        // limit the rate of progress at each sample, and then limit its rate of change going forwards and then backwards along the path
+        double[] velocity = new double[sampleCount];
+        double[] acceleration = new double[sampleCount];
+        for (int i = 0; i < sampleCount; i++)
+        {
+            velocity[i] = this.calculateMaxVelocity(heading[i], curvature[i], rotation[i], distanceRate[i], rotationRate[i]);
+            acceleration[i] = 0.0;
+            if (distanceRate[i] > FauxbotTrajectoryGenerator.EPSILON)
+            {
+                acceleration[i] = this.maxAcceleration;
+            }
+
+            if (Math.abs(rotationRate[i]) > FauxbotTrajectoryGenerator.EPSILON)
+            {
+                double angularLimit = this.maxAngularAcceleration / Math.abs(rotationRate[i]);
+                acceleration[i] = acceleration[i] > 0.0 ? Math.min(acceleration[i], angularLimit) : angularLimit;
+            }
+        }
+
+        // stop at the start and end of the path, and wherever the robot switches between traveling and turning in place
+        velocity[0] = 0.0;
+        velocity[sampleCount - 1] = 0.0;
+        for (int i = 1; i < sampleCount - 1; i++)
+        {
+            if ((distanceRate[i - 1] > FauxbotTrajectoryGenerator.EPSILON) != (distanceRate[i] > FauxbotTrajectoryGenerator.EPSILON))
+            {
+                velocity[i] = 0.0;
+            }
+        }
+
+        for (int i = 1; i < sampleCount; i++)
+        {
+            double step = progress[i] - progress[i - 1];
+            velocity[i] = Math.min(velocity[i], Math.sqrt(velocity[i - 1] * velocity[i - 1] + 2.0 * acceleration[i - 1] * step));
+        }
+
+        for (int i = sampleCount - 2; i >= 0; i--)
+        {
+            double step = progress[i + 1] - progress[i];
+            velocity[i] = Math.min(velocity[i], Math.sqrt(velocity[i + 1] * velocity[i + 1] + 2.0 * acceleration[i + 1] * step));
+        }
+
+        // calculate the time at each sample, assuming constant acceleration between them
+        double[] time = new double[sampleCount];
+        double[] xVelocity = new double[sampleCount];
+        double[] yVelocity = new double[sampleCount];
+        double[] angleVelocity = new double[sampleCount];
+        for (int i = 0; i < sampleCount; i++)
+        {
+            if (i > 0)
+            {
+                double step = progress[i] - progress[i - 1];
+                double averageVelocity = (velocity[i] + velocity[i - 1]) / 2.0;
+                time[i] = time[i - 1] + (averageVelocity > FauxbotTrajectoryGenerator.EPSILON ? step / averageVelocity : 0.0);
+            }
+
+            xVelocity[i] = velocity[i] * distanceRate[i] * Math.cos(heading[i]);
+            yVelocity[i] = velocity[i] * distanceRate[i] * Math.sin(heading[i]);
+            angleVelocity[i] = velocity[i] * rotationRate[i] * Helpers.RADIANS_TO_DEGREES;
+            rotation[i] *= Helpers.RADIANS_TO_DEGREES;
+        }
+
+        return new GeneratedTrajectory(time, x, y, rotation, xVelocity, yVelocity, angleVelocity);
+    }
+
+    /**
+     * Calculate the maximum rate of progress of the robot at a point along the path
+     * @param heading the direction of travel (in radians)
+     * @param curvature the curvature of the path (in radians per inch)
+     * @param rotation the orientation of the robot (in radians)
+     * @param distanceRate the distance traveled per unit of progress (1 while traveling, or 0 while turning in place)
+     * @param rotationRate the rotation per unit of progress (in radians)
+     * @return the maximum rate of progress (in units of progress per second), or infinity if the robot isn't moving here
+     */
+    private double calculateMaxVelocity(double heading, double curvature, double rotation, double distanceRate, double rotationRate)
+    {
+        double maxVelocity = Double.POSITIVE_INFINITY;
+        if (distanceRate > FauxbotTrajectoryGenerator.EPSILON)
+        {
+            maxVelocity = this.maxVelocity;
+
+            // limit the centripetal acceleration around curves
+            if (Math.abs(curvature) > FauxbotTrajectoryGenerator.EPSILON)
+            {
+                maxVelocity = Math.min(maxVelocity, Math.sqrt(this.maxAcceleration / Math.abs(curvature)));
+            }
+        }
+
+        if (Math.abs(rotationRate) > FauxbotTrajectoryGenerator.EPSILON)
+        {
+            maxVelocity = Math.min(maxVelocity, this.maxAngularVelocity / Math.abs(rotationRate));
+        }
+
+        // each module's velocity is the robot's velocity plus its velocity from the robot rotating, (v * rotationRate) x offset
+        if (this.maxModuleVelocity > 0.0)
+        {
+            double headingCos = Math.cos(heading);
+            double headingSin = Math.sin(heading);
+            double rotationCos = Math.cos(rotation);
+            double rotationSin = Math.sin(rotation);
+            double maxModuleScale = 0.0;
+            for (int i = 0; i < this.moduleOffsetX.length; i++)
+            {
+                double offsetX = rotationCos * this.moduleOffsetX[i] - rotationSin * this.moduleOffsetY[i];
+                double offsetY = rotationSin * this.moduleOffsetX[i] + rotationCos * this.moduleOffsetY[i];
+                double moduleScale = Math.hypot(distanceRate * headingCos - rotationRate * offsetY, distanceRate * headingSin + rotationRate * offsetX);
+                if (moduleScale > maxModuleScale)
+                {
+                    maxModuleScale = moduleScale;
+                }
+            }
+
+            if (maxModuleScale > FauxbotTrajectoryGenerator.EPSILON)
+            {
+                maxVelocity = Math.min(maxVelocity, this.maxModuleVelocity / maxModuleScale);
+            }
+        }
+
+        return maxVelocity;
+    }
+
+    /**
+     * Interpolate the orientation of the robot between the rotation targets
+     * @param position along the path, in waypoints
+     * @param rotationPositions the position of each rotation target along the path, in waypoints
+     * @param rotations the (unwrapped) orientation at each rotation target, in degrees
+     * @return the orientation at the position, in degrees
+     */
+    private static double interpolateRotation(double position, double[] rotationPositions, double[] rotations)
+    {
+        if (position <= rotationPositions[0])
+        {
+            return rotations[0];
+        }
+
+        for (int i = 1; i < rotationPositions.length; i++)
+        {
+            if (position <= rotationPositions[i])
+            {
+                double range = rotationPositions[i] - rotationPositions[i - 1];
+                double ratio = range > FauxbotTrajectoryGenerator.EPSILON ? (position - rotationPositions[i - 1]) / range : 1.0;
+                return rotations[i - 1] + (rotations[i] - rotations[i - 1]) * ratio;
+            }
+        }
+
+        return rotations[rotations.length - 1];
+    }
+
+    /**
+     * Trajectory through the generated samples, linearly interpolating between them
+     */
+    private static class GeneratedTrajectory implements ITrajectory
+    {
+        private final double[] time;
+        private final double[] xPositions;
+        private final double[] yPositions;
+        private final double[] angles;
+        private final double[] xVelocities;
+        private final double[] yVelocities;
+        private final double[] angleVelocities;
+
+        GeneratedTrajectory(double[] time, double[] xPositions, double[] yPositions, double[] angles, double[] xVelocities, double[] yVelocities, double[] angleVelocities)
+        {
+            this.time = time;
+            this.xPositions = xPositions;
+            this.yPositions = yPositions;
+            this.angles = angles;
+            this.xVelocities = xVelocities;
+            this.yVelocities = yVelocities;
+            this.angleVelocities = angleVelocities;
+        }
+
+        @Override
+        public double getDuration()
+        {
+            return this.time[this.time.length - 1];
+        }
+
+        @Override
+        public TrajectoryState get(double time)
+        {
+            int lastIndex = this.time.length - 1;
+            int index = Arrays.binarySearch(this.time, Helpers.enforceRange(time, 0.0, this.time[lastIndex]));
+            if (index < 0)
+            {
+                index = -index - 2;
+            }
+
+            int nextIndex = Math.min(index + 1, lastIndex);
+            double duration = this.time[nextIndex] - this.time[index];
+            double ratio = duration > FauxbotTrajectoryGenerator.EPSILON ? Helpers.enforceRange((time - this.time[index]) / duration, 0.0, 1.0) : 0.0;
+            return new TrajectoryState(
+                GeneratedTrajectory.interpolate(this.xPositions, index, nextIndex, ratio),
+                GeneratedTrajectory.interpolate(this.yPositions, index, nextIndex, ratio),
+                Helpers.updateAngleRange180(GeneratedTrajectory.interpolate(this.angles, index, nextIndex, ratio)),
+                GeneratedTrajectory.interpolate(this.xVelocities, index, nextIndex, ratio),
+                GeneratedTrajectory.interpolate(this.yVelocities, index, nextIndex, ratio),
+                GeneratedTrajectory.interpolate(this.angleVelocities, index, nextIndex, ratio));
+        }
+
+        private static double interpolate(double[] values, int index, int nextIndex, double ratio)
+        {
+            return values[index] + (values[nextIndex] - values[index]) * ratio;
+        }
+    }
+}
@@ -2,8 +2,8 @@ package frc.lib.robotprovider;
 
 public class FauxbotVictor extends FauxbotSimpleMotorBase
 {
-    public FauxbotVictor(int port)
+    public FauxbotVictor(int port, FauxbotActuatorManager manager)
     {
-        super(port);
+        super(port, manager);
     }
 }
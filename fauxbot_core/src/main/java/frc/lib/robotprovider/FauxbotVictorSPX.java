@@ -2,9 +2,9 @@ package frc.lib.robotprovider;
 
 public class FauxbotVictorSPX extends FauxbotAdvancedMotorBase implements IVictorSPX
 {
-    public FauxbotVictorSPX(int deviceNumber)
+    public FauxbotVictorSPX(int deviceNumber, FauxbotActuatorManager manager)
     {
-        super(deviceNumber);
+        super(deviceNumber, manager);
     }
 
     public void follow(ITalonSRX talonSRX)
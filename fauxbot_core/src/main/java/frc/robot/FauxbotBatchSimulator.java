@@ -0,0 +1,235 @@
+package frc.robot;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+import frc.lib.robotprovider.Alliance;
+import frc.lib.robotprovider.FauxbotSendableChooserSelections;
+import frc.lib.robotprovider.RobotMode;
+import frc.robot.driver.MacroOperation;
+import frc.robot.driver.SmartDashboardSelectionManager;
+
+/**
+ * Simulates every autonomous routine from every start position for both alliances, and prints a table of the results (when the routine
+ * finished, how far the robot ended up from the last goal pose of the drivetrain, and which tasks gave up because of a timeout).
+ * Each scenario runs in its own {@link FauxbotHeadlessRunner}, with its own Guice injector and so its own provider, sensor/actuator managers,
+ * driver station, chooser selections and virtual clock.  As none of that state is shared, the scenarios can run concurrently, on a thread for
+ * each available processor.
+ */
+public class FauxbotBatchSimulator
+{
+    private static final String START_POSITION_CHOOSER = "Start Position";
+    private static final String ROUTINE_CHOOSER = "Auto Routine";
+    private static final String NO_SELECTION = "None";
+
+    /**
+     * The outcome of simulating one scenario
+     */
+    public static class ScenarioResult
+    {
+        public final String routine;
+        public final String startPosition;
+        public final String alliance;
+        public final double completionTime;
+        public final double poseError;
+        public final List<String> timedOutTasks;
+
+        /**
+         * Initializes a new instance of the ScenarioResult class
+         * @param routine the name of the autonomous routine
+         * @param startPosition the name of the start position
+         * @param alliance the name of the alliance
+         * @param completionTime the time (in seconds) that the routine took to complete or cancel, or NaN if it was still running
+         * @param poseError the distance between the final position and the last goal position of the drivetrain, or NaN if there was no goal
+         * @param timedOutTasks the tasks that timed out (with the time that they did), in order
+         */
+        public ScenarioResult(String routine, String startPosition, String alliance, double completionTime, double poseError, List<String> timedOutTasks)
+        {
+            this.routine = routine;
+            this.startPosition = startPosition;
+            this.alliance = alliance;
+            this.completionTime = completionTime;
+            this.poseError = poseError;
+            this.timedOutTasks = timedOutTasks;
+        }
+    }
+
+    /**
+     * Run the full matrix of scenarios and print the table of results to standard out.
+     * Arguments: [duration of autonomous in seconds]
+     * @param args command-line arguments
+     * @throws Exception if a scenario fails
+     */
+    public static void main(String[] args) throws Exception
+    {
+        double duration = args.length > 0 ? Double.parseDouble(args[0]) : 15.0;
+
+        long startTime = System.nanoTime();
+
+        FauxbotSendableChooserSelections chooserSelections = FauxbotBatchSimulator.createChoosers();
+        List<String> startPositions = FauxbotBatchSimulator.getOptions(chooserSelections, FauxbotBatchSimulator.START_POSITION_CHOOSER);
+        List<String> routines = FauxbotBatchSimulator.getOptions(chooserSelections, FauxbotBatchSimulator.ROUTINE_CHOOSER);
+
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<ScenarioResult> results = new ArrayList<ScenarioResult>();
+        try
+        {
+            List<Future<ScenarioResult>> futures = new ArrayList<Future<ScenarioResult>>();
+            for (String routine : routines)
+            {
+                for (String startPosition : startPositions)
+                {
+                    for (Alliance alliance : Alliance.values())
+                    {
+                        futures.add(
+                            executor.submit(
+                                () -> FauxbotBatchSimulator.runScenario(routine, startPosition, alliance, duration)));
+                    }
+                }
+            }
+
+            for (Future<ScenarioResult> future : futures)
+            {
+                results.add(future.get());
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+
+        FauxbotBatchSimulator.printTable(results, duration);
+        System.out.println(
+            String.format(
+                "Simulated %d scenarios on %d threads in %.3fs",
+                results.size(),
+                threadCount,
+                (System.nanoTime() - startTime) / 1000000000.0));
+    }
+
+    /**
+     * Simulate a single autonomous scenario
+     * @param routine the name of the autonomous routine
+     * @param startPosition the name of the start position
+     * @param alliance the alliance
+     * @param duration the maximum duration (in seconds) to run autonomous mode for
+     * @return the result of the scenario
+     * @throws Exception if the simulation fails
+     */
+    public static ScenarioResult runScenario(String routine, String startPosition, Alliance alliance, double duration) throws Exception
+    {
+        FauxbotHeadlessRunner runner = new FauxbotHeadlessRunner(new RobotFauxbotModule(), null);
+        runner.setAlliance(alliance);
+        runner.select(FauxbotBatchSimulator.START_POSITION_CHOOSER, startPosition);
+        runner.select(FauxbotBatchSimulator.ROUTINE_CHOOSER, routine);
+        runner.run(RobotMode.Disabled, TuningConstants.LOOP_DURATION);
+
+        String autonomousMacro = MacroOperation.AutonomousRoutine.toString();
+        LinkedHashSet<String> timedOutTasks = new LinkedHashSet<String>();
+        double startTime = runner.getTime();
+        double completionTime = Double.NaN;
+        boolean wasActive = false;
+
+        long ticks = Math.round(duration / TuningConstants.LOOP_DURATION);
+        for (long tick = 0; tick < ticks; tick++)
+        {
+            runner.run(RobotMode.Autonomous, TuningConstants.LOOP_DURATION);
+
+            String timedOutTask = runner.getLoggedString(LoggingKey.AutonomousTimedOutTask);
+            if (timedOutTask != null && !timedOutTask.isEmpty())
+            {
+                timedOutTasks.add(timedOutTask);
+            }
+
+            String activeMacros = runner.getLoggedString(LoggingKey.DriverActiveMacros);
+            if (activeMacros != null && activeMacros.contains(autonomousMacro))
+            {
+                wasActive = true;
+            }
+            else if (wasActive)
+            {
+                completionTime = runner.getTime() - startTime;
+                break;
+            }
+        }
+
+        double poseError = Math.hypot(
+            FauxbotBatchSimulator.getLoggedNumber(runner, LoggingKey.DriveTrainXPosition) - FauxbotBatchSimulator.getLoggedNumber(runner, LoggingKey.DriveTrainXPositionGoal),
+            FauxbotBatchSimulator.getLoggedNumber(runner, LoggingKey.DriveTrainYPosition) - FauxbotBatchSimulator.getLoggedNumber(runner, LoggingKey.DriveTrainYPositionGoal));
+
+        return new ScenarioResult(routine, startPosition, alliance.toString(), completionTime, poseError, new ArrayList<String>(timedOutTasks));
+    }
+
+    /**
+     * Create the robot's choosers (without creating the rest of the robot), so that their options can be listed
+     * @return the chooser selections that the options of the choosers were added to
+     */
+    private static FauxbotSendableChooserSelections createChoosers()
+    {
+        Injector injector = Guice.createInjector(new RobotFauxbotModule());
+        injector.getInstance(SmartDashboardSelectionManager.class);
+        return injector.getInstance(FauxbotSendableChooserSelections.class);
+    }
+
+    /**
+     * Retrieve the names of the options of a chooser, except for "None"
+     * @param chooserSelections that the options of the choosers were added to
+     * @param chooserName the name of the chooser
+     * @return the names of the options
+     */
+    private static List<String> getOptions(FauxbotSendableChooserSelections chooserSelections, String chooserName)
+    {
+        List<String> options = new ArrayList<String>(chooserSelections.getOptionNames(chooserName));
+        options.remove(FauxbotBatchSimulator.NO_SELECTION);
+        return options;
+    }
+
+    private static double getLoggedNumber(FauxbotHeadlessRunner runner, LoggingKey key)
+    {
+        String value = runner.getLoggedString(key);
+        if (value == null)
+        {
+            return Double.NaN;
+        }
+
+        try
+        {
+            return Double.parseDouble(value);
+        }
+        catch (NumberFormatException ex)
+        {
+            return Double.NaN;
+        }
+    }
+
+    private static void printTable(List<ScenarioResult> results, double duration)
+    {
+        int routineWidth = "Routine".length();
+        for (ScenarioResult result : results)
+        {
+            routineWidth = Math.max(routineWidth, result.routine.length());
+        }
+
+        String format = "%-" + routineWidth + "s  %-8s  %-8s  %10s  %10s  %s%n";
+        System.out.printf(format, "Routine", "Start", "Alliance", "Completed", "Pose error", "Timed out");
+        for (ScenarioResult result : results)
+        {
+            System.out.printf(
+                format,
+                result.routine,
+                result.startPosition,
+                result.alliance,
+                Double.isNaN(result.completionTime) ? String.format(">%.1fs", duration) : String.format("%.2fs", result.completionTime),
+                Double.isNaN(result.poseError) ? "-" : String.format("%.2f", result.poseError),
+                String.join(", ", result.timedOutTasks));
+        }
+    }
+}
@@ -2,7 +2,10 @@ package frc.robot;
 
 import javax.inject.Singleton;
 
+import frc.lib.RobotOptions;
 import frc.lib.driver.IButtonMap;
+import frc.lib.mechanisms.LoggingManager;
+import frc.lib.mechanisms.LoopProfiler;
 import frc.lib.mechanisms.MechanismManager;
 import frc.lib.robotprovider.*;
 import frc.lib.driver.*;
@@ -14,6 +17,29 @@ import com.google.inject.Provides;
 
 public abstract class FauxbotCommonModule extends AbstractModule
 {
+    private RobotOptions options;
+    private FauxbotClock clock;
+
+    /**
+     * Override the options that the robot is created with, instead of using the ones from the TuningConstants.
+     * Must be called before the injector is created from this module.
+     * @param options to use
+     */
+    public void setOptions(RobotOptions options)
+    {
+        this.options = options;
+    }
+
+    /**
+     * Override the clock that the robot's timers use, instead of following the wall clock (e.g. to use a virtual time).
+     * Must be called before the injector is created from this module.
+     * @param clock to use
+     */
+    public void setClock(FauxbotClock clock)
+    {
+        this.clock = clock;
+    }
+
     @Override
     protected void configure()
     {
@@ -28,6 +54,30 @@ public abstract class FauxbotCommonModule extends AbstractModule
     @Provides
     public MechanismManager getMechanismManager(Injector injector)
     {
-        return new MechanismManager(SettingsManager.getActiveMechanisms(injector));
+        return new MechanismManager(SettingsManager.getActiveMechanisms(injector), injector.getInstance(LoopProfiler.class), injector.getInstance(LoggingManager.class), injector.getInstance(RobotOptions.class));
+    }
+
+    @Singleton
+    @Provides
+    public RobotOptions getRobotOptions()
+    {
+        if (this.options == null)
+        {
+            return new RobotOptions();
+        }
+
+        return this.options;
+    }
+
+    @Singleton
+    @Provides
+    public FauxbotClock getClock()
+    {
+        if (this.clock == null)
+        {
+            return new FauxbotClock(false);
+        }
+
+        return this.clock;
     }
 }
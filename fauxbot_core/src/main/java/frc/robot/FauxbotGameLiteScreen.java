@@ -19,7 +19,6 @@ import frc.lib.driver.descriptions.MacroOperationDescription;
 import frc.lib.driver.descriptions.OperationDescription;
 import frc.lib.robotprovider.FauxbotActuatorBase;
 import frc.lib.robotprovider.FauxbotActuatorConnection;
-import frc.lib.robotprovider.FauxbotActuatorManager;
 import frc.lib.robotprovider.FauxbotAnalogInput;
 import frc.lib.robotprovider.FauxbotDigitalInput;
 import frc.lib.robotprovider.FauxbotDoubleSolenoid;
@@ -30,7 +29,6 @@ import frc.lib.robotprovider.FauxbotJoystickManager;
 import frc.lib.robotprovider.FauxbotMotorBase;
 import frc.lib.robotprovider.FauxbotSensorBase;
 import frc.lib.robotprovider.FauxbotSensorConnection;
-import frc.lib.robotprovider.FauxbotSensorManager;
 import frc.lib.robotprovider.FauxbotSolenoid;
 
 public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Screen
@@ -74,22 +72,18 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
         innerInfoTable.add(sensorsLabel).colspan(2).left().expandX().padTop(10);
         innerInfoTable.row();
 
-        FauxbotSensorConnection[] sensors = this.simulator.getSensors();
-        if (sensors == null)
+        FauxbotSensorConnection[] sensors = this.runner.getSensors();
+        for (int i = 0; i < sensors.length; i++)
         {
-            sensors = (FauxbotSensorConnection[])FauxbotSensorManager.sensorMap.keySet().toArray();
-        }
-
-        for (FauxbotSensorConnection connection : sensors)
-        {
-            FauxbotSensorBase sensor = FauxbotSensorManager.get(connection);
+            FauxbotSensorConnection connection = sensors[i];
+            FauxbotSensorBase sensor = this.runner.getSensorManager().get(connection);
             if (sensor != null)
             {
                 String sensorName = this.simulator.getSensorName(connection) + ":";
 
                 if (sensor instanceof FauxbotDigitalInput)
                 {
-                    DigitalInputUI digitalInput = new DigitalInputUI((FauxbotDigitalInput)sensor, sensorName, this.skin);
+                    DigitalInputUI digitalInput = new DigitalInputUI((FauxbotDigitalInput)sensor, i, sensorName, this.skin);
                     innerInfoTable.add(digitalInput).colspan(2).left();
                 }
                 else if (sensor instanceof FauxbotAnalogInput)
@@ -100,7 +94,7 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
                     float min = (float)this.simulator.getSensorMin(connection);
                     float max = (float)this.simulator.getSensorMax(connection);
 
-                    AnalogInputUI analogInput = new AnalogInputUI((FauxbotAnalogInput)sensor, min, max, 0.1f, this.skin);
+                    AnalogInputUI analogInput = new AnalogInputUI((FauxbotAnalogInput)sensor, i, min, max, 0.1f, this.skin);
                     innerInfoTable.add(analogInput).fillX();
                 }
                 else if (sensor instanceof FauxbotEncoder)
@@ -111,7 +105,7 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
                     float min = (float)this.simulator.getSensorMin(connection);
                     float max = (float)this.simulator.getSensorMax(connection);
 
-                    EncoderUI encoder = new EncoderUI((FauxbotEncoder)sensor, min, max, this.skin);
+                    EncoderUI encoder = new EncoderUI((FauxbotEncoder)sensor, i, min, max, this.skin);
                     innerInfoTable.add(encoder).fillX();
                 }
                 else if (sensor instanceof FauxbotIMU)
@@ -122,7 +116,7 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
                     float min = (float)this.simulator.getSensorMin(connection);
                     float max = (float)this.simulator.getSensorMax(connection);
 
-                    ImuUI imu = new ImuUI((FauxbotIMU)sensor, min, max, 0.1f, this.skin);
+                    ImuUI imu = new ImuUI((FauxbotIMU)sensor, i, min, max, 0.1f, this.skin);
                     innerInfoTable.add(imu).fillX();
                 }
                 else
@@ -139,15 +133,11 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
         innerInfoTable.add(actuatorsLabel).colspan(2).left().expandX().padTop(10);
         innerInfoTable.row();
 
-        FauxbotActuatorConnection[] actuators = this.simulator.getActuators();
-        if (actuators == null)
-        {
-            actuators = (FauxbotActuatorConnection[])FauxbotActuatorManager.actuatorMap.keySet().toArray();
-        }
-
-        for (FauxbotActuatorConnection connection : actuators)
+        FauxbotActuatorConnection[] actuators = this.runner.getActuators();
+        for (int i = 0; i < actuators.length; i++)
         {
-            FauxbotActuatorBase actuator = FauxbotActuatorManager.get(connection);
+            FauxbotActuatorConnection connection = actuators[i];
+            FauxbotActuatorBase actuator = this.runner.getActuatorManager().get(connection);
             String actuatorName = this.simulator.getActuatorName(connection);
 
             Label actuatorLabel = new Label(actuatorName, this.skin);
@@ -158,21 +148,21 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
                 float min = (float)this.simulator.getMotorMin(connection);
                 float max = (float)this.simulator.getMotorMax(connection);
 
-                MotorUI motor = new MotorUI((FauxbotMotorBase)actuator, min, max, 0.1f, this.skin);
+                MotorUI motor = new MotorUI(i, min, max, 0.1f, this.skin);
                 innerInfoTable.add(motor).fillX();
             }
             else if (actuator instanceof FauxbotSolenoid)
             {
                 innerInfoTable.add(actuatorLabel).left();
 
-                SolenoidUI solenoid = new SolenoidUI((FauxbotSolenoid)actuator, this.skin);
+                SolenoidUI solenoid = new SolenoidUI(i, this.skin);
                 innerInfoTable.add(solenoid).fillX();
             }
             else if (actuator instanceof FauxbotDoubleSolenoid)
             {
                 innerInfoTable.add(actuatorLabel).left();
 
-                DoubleSolenoidUI doubleSolenoid = new DoubleSolenoidUI((FauxbotDoubleSolenoid)actuator, this.skin);
+                DoubleSolenoidUI doubleSolenoid = new DoubleSolenoidUI(i, this.skin);
                 innerInfoTable.add(doubleSolenoid).fillX();
             }
             else
@@ -194,7 +184,7 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
         int joystickPort = description.getUserInputDevice().getId();
         if (joystickPort != -1)
         {
-            final FauxbotJoystick joystick = (FauxbotJoystick)FauxbotJoystickManager.get(joystickPort);
+            final FauxbotJoystick joystick = (FauxbotJoystick)this.robot.getInjector().getInstance(FauxbotJoystickManager.class).get(joystickPort);
             if (joystick != null)
             {
                 switch (description.getType())
@@ -266,7 +256,7 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
         int joystickPort = description.getUserInputDevice().getId();
         if (joystickPort != -1)
         {
-            final FauxbotJoystick joystick = (FauxbotJoystick)FauxbotJoystickManager.get(joystickPort);
+            final FauxbotJoystick joystick = (FauxbotJoystick)this.robot.getInjector().getInstance(FauxbotJoystickManager.class).get(joystickPort);
             if (joystick != null)
             {
                 UserInputDeviceButton button = description.getUserInputDeviceButton();
@@ -480,13 +470,13 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
 
     private class DigitalInputUI extends CheckBox
     {
-        private final FauxbotDigitalInput digitalInput;
+        private final int index;
 
-        public DigitalInputUI(FauxbotDigitalInput digitalInput, String text, Skin skin)
+        public DigitalInputUI(FauxbotDigitalInput digitalInput, int index, String text, Skin skin)
         {
             super(text, skin);
 
-            this.digitalInput = digitalInput;
+            this.index = index;
 
             this.setProgrammaticChangeEvents(false);
             this.addListener(
@@ -505,19 +495,19 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
         {
             super.act(delta);
 
-            this.setChecked(this.digitalInput.get());
+            this.setChecked(FauxbotGameLiteScreen.this.snapshot.getSensorValue(this.index) != 0.0);
         }
     }
 
     private class AnalogInputUI extends Slider
     {
-        private final FauxbotAnalogInput analogInput;
+        private final int index;
 
-        public AnalogInputUI(FauxbotAnalogInput analogInput, float min, float max, float step, Skin skin)
+        public AnalogInputUI(FauxbotAnalogInput analogInput, int index, float min, float max, float step, Skin skin)
         {
             super(min, max, step, false, skin);
 
-            this.analogInput = analogInput;
+            this.index = index;
 
             this.setProgrammaticChangeEvents(false);
             this.setValue(Math.min(Math.max(min, 0.0f), max));
@@ -537,19 +527,19 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
         {
             super.act(delta);
 
-            this.setValue((float)this.analogInput.get());
+            this.setValue((float)FauxbotGameLiteScreen.this.snapshot.getSensorValue(this.index));
         }
     }
 
     private class EncoderUI extends Slider
     {
-        private final FauxbotEncoder encoder;
+        private final int index;
 
-        public EncoderUI(FauxbotEncoder encoder, float min, float max, Skin skin)
+        public EncoderUI(FauxbotEncoder encoder, int index, float min, float max, Skin skin)
         {
             super(min, max, 1.0f, false, skin);
 
-            this.encoder = encoder;
+            this.index = index;
 
             this.setProgrammaticChangeEvents(false);
             this.setValue(Math.min(Math.max(min, 0.0f), max));
@@ -569,19 +559,19 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
         {
             super.act(delta);
 
-            this.setValue((float)this.encoder.get());
+            this.setValue((float)FauxbotGameLiteScreen.this.snapshot.getSensorValue(this.index));
         }
     }
 
     private class ImuUI extends Slider
     {
-        private final FauxbotIMU imu;
+        private final int index;
 
-        public ImuUI(FauxbotIMU imu, float min, float max, float step, Skin skin)
+        public ImuUI(FauxbotIMU imu, int index, float min, float max, float step, Skin skin)
         {
             super(min, max, step, false, skin);
 
-            this.imu = imu;
+            this.index = index;
 
             this.setProgrammaticChangeEvents(false);
             this.setValue(Math.min(Math.max(min, 0.0f), max));
@@ -601,19 +591,19 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
         {
             super.act(delta);
 
-            this.setValue((float)this.imu.get());
+            this.setValue((float)FauxbotGameLiteScreen.this.snapshot.getSensorValue(this.index));
         }
     }
 
     private class MotorUI extends Slider
     {
-        private final FauxbotMotorBase motor;
+        private final int index;
 
-        public MotorUI(FauxbotMotorBase motor, float min, float max, float step, Skin skin)
+        public MotorUI(int index, float min, float max, float step, Skin skin)
         {
             super(min, max, step, false, skin);
 
-            this.motor = motor;
+            this.index = index;
 
             this.setValue(Math.min(Math.max(min, 0.0f), max));
         }
@@ -623,19 +613,19 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
         {
             super.act(delta);
 
-            this.setValue((float)this.motor.get());
+            this.setValue((float)FauxbotGameLiteScreen.this.snapshot.getActuatorValue(this.index));
         }
     }
 
     private class SolenoidUI extends Slider
     {
-        private final FauxbotSolenoid solenoid;
+        private final int index;
 
-        public SolenoidUI(FauxbotSolenoid solenoid, Skin skin)
+        public SolenoidUI(int index, Skin skin)
         {
             super(0.0f, 1.0f, 1.0f, false, skin);
 
-            this.solenoid = solenoid;
+            this.index = index;
 
             this.setValue(0.0f);
         }
@@ -645,19 +635,19 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
         {
             super.act(delta);
 
-            this.setValue(this.solenoid.get() ? 0.0f : -1.0f);
+            this.setValue((float)FauxbotGameLiteScreen.this.snapshot.getActuatorValue(this.index));
         }
     }
 
     private class DoubleSolenoidUI extends Slider
     {
-        private final FauxbotDoubleSolenoid doubleSolenoid;
+        private final int index;
 
-        public DoubleSolenoidUI(FauxbotDoubleSolenoid doubleSolenoid, Skin skin)
+        public DoubleSolenoidUI(int index, Skin skin)
         {
             super(-1.0f, 1.0f, 1.0f, false, skin);
 
-            this.doubleSolenoid = doubleSolenoid;
+            this.index = index;
 
             this.setValue(0.0f);
         }
@@ -667,23 +657,7 @@ public class FauxbotGameLiteScreen extends FauxbotGameScreenBase implements Scre
         {
             super.act(delta);
 
-            float value;
-            switch (this.doubleSolenoid.get())
-            {
-                case Forward:
-                    value = 1.0f;
-                    break;
-
-                case Reverse:
-                    value = -1.0f;
-                    break;
-
-                case Off:
-                default:
-                    value = 0.0f;
-            }
-
-            this.setValue(value);
+            this.setValue((float)FauxbotGameLiteScreen.this.snapshot.getActuatorValue(this.index));
         }
     }
 }
@@ -10,9 +10,7 @@ import com.badlogic.gdx.utils.Array;
 
 import frc.lib.robotprovider.FauxbotJoystick;
 import frc.lib.robotprovider.FauxbotJoystickManager;
-import frc.lib.robotprovider.FauxbotSmartDashboardLogger;
 import frc.lib.robotprovider.IJoystick;
-import frc.lib.robotprovider.ISmartDashboardLogger;
 
 public class FauxbotGameScreen extends FauxbotGameScreenBase implements Screen
 {
@@ -20,9 +18,11 @@ public class FauxbotGameScreen extends FauxbotGameScreenBase implements Screen
     {
         super(game, selectedSimulation);
 
+        FauxbotJoystickManager joystickManager = this.robot.getInjector().getInstance(FauxbotJoystickManager.class);
+
         for (int i = 0; i < controllers.size; i++)
         {
-            IJoystick joystick = FauxbotJoystickManager.get(i);
+            IJoystick joystick = joystickManager.get(i);
             if (joystick != null && joystick instanceof FauxbotJoystick)
             {
                 FauxbotJoystick fauxbotJoystick = (FauxbotJoystick)joystick;
@@ -39,16 +39,13 @@ public class FauxbotGameScreen extends FauxbotGameScreenBase implements Screen
         innerInfoTable.add(buttonsLabel).colspan(2).top().left().expandX().padTop(10);
         innerInfoTable.row();
 
-        FauxbotSmartDashboardLogger logger =
-            (FauxbotSmartDashboardLogger)this.robot.getInjector().getInstance(ISmartDashboardLogger.class);
-
         LoggingKey[] keys = LoggingKey.values();
         for (LoggingKey key : keys)
         {
             Label keyLabel = new Label(key.value, this.skin);
             innerInfoTable.add(keyLabel).left();
 
-            LoggingKeyUI loggedValue = new LoggingKeyUI(key, logger, this.skin);
+            LoggingKeyUI loggedValue = new LoggingKeyUI(key, this.skin);
             innerInfoTable.add(loggedValue).left();
 
             innerInfoTable.row();
@@ -69,14 +66,12 @@ public class FauxbotGameScreen extends FauxbotGameScreenBase implements Screen
     private class LoggingKeyUI extends TextField
     {
         private final LoggingKey key;
-        private final FauxbotSmartDashboardLogger logger;
 
-        public LoggingKeyUI(LoggingKey key, FauxbotSmartDashboardLogger logger, Skin skin)
+        public LoggingKeyUI(LoggingKey key, Skin skin)
         {
             super("", skin);
 
             this.key = key;
-            this.logger = logger;
 
             this.setProgrammaticChangeEvents(false);
             this.setDisabled(true);
@@ -87,7 +82,7 @@ public class FauxbotGameScreen extends FauxbotGameScreenBase implements Screen
         {
             super.act(delta);
 
-            this.setText(this.logger.getString(this.key));
+            this.setText(FauxbotGameScreen.this.snapshot.getLoggedString(this.key));
         }
     }
 }
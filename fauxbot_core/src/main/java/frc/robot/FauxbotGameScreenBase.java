@@ -18,6 +18,7 @@ import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import frc.lib.CoreRobot;
 import frc.lib.robotprovider.FauxbotDriverStation;
 import frc.lib.robotprovider.RobotMode;
+import frc.robot.simulation.SimulationSnapshot;
 import frc.robot.simulation.SimulatorBase;
 
 abstract class FauxbotGameScreenBase implements Screen
@@ -27,6 +28,7 @@ abstract class FauxbotGameScreenBase implements Screen
 
     protected final CoreRobot<FauxbotCommonModule> robot;
     protected final SimulatorBase simulator;
+    protected final FauxbotDriverStation driverStation;
     protected final FauxbotRunner runner;
     protected final Thread runnerThread;
 
@@ -34,6 +36,7 @@ abstract class FauxbotGameScreenBase implements Screen
     protected final Skin skin;
 
     protected RobotMode currentMode;
+    protected SimulationSnapshot snapshot;
 
     FauxbotGameScreenBase(final FauxbotGame game, Simulation selectedSimulation)
     {
@@ -51,10 +54,13 @@ abstract class FauxbotGameScreenBase implements Screen
         this.robot = new CoreRobot<FauxbotCommonModule>(desiredModule);
 
         this.simulator = this.robot.getInjector().getInstance(SimulatorBase.class);
-        this.runner = new FauxbotRunner(this.robot);
-        this.runnerThread = new Thread(this.runner);
+        this.driverStation = this.robot.getInjector().getInstance(FauxbotDriverStation.class);
         this.robot.robotInit();
 
+        // the robot and its physics run on their own thread, and the UI only reads the snapshots that it publishes
+        this.runner = new FauxbotRunner(this.robot);
+        this.snapshot = this.runner.getSnapshot();
+        this.runnerThread = new Thread(this.runner, "FauxbotRunner");
         this.runnerThread.start();
 
         this.stage = new Stage(new ExtendViewport(900, 750));
@@ -121,8 +127,10 @@ abstract class FauxbotGameScreenBase implements Screen
 
         // update mode
         this.runner.setMode(this.currentMode);
-        FauxbotDriverStation.Instance.setMode(this.currentMode);
+        this.driverStation.setMode(this.currentMode);
 
+        // use the same snapshot for all of the widgets in this frame
+        this.snapshot = this.runner.getSnapshot();
         this.stage.act(delta);
         this.stage.draw();
     }
@@ -0,0 +1,253 @@
+package frc.robot;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+
+import frc.lib.CoreRobot;
+import frc.lib.RobotOptions;
+import frc.lib.driver.TrajectoryManager;
+import frc.lib.robotprovider.Alliance;
+import frc.lib.robotprovider.FauxbotClock;
+import frc.lib.robotprovider.FauxbotDriverStation;
+import frc.lib.robotprovider.FauxbotSendableChooserSelections;
+import frc.lib.robotprovider.FauxbotSmartDashboardLogger;
+import frc.lib.robotprovider.RobotMode;
+import frc.robot.simulation.SimulatorBase;
+
+/**
+ * Runs the robot without any UI, as fast as the CPU allows.  Instead of sleeping until the next tick, a virtual clock is advanced
+ * by exactly LOOP_DURATION after each tick, so a 15 second autonomous routine takes a fraction of a second and repeated
+ * runs of the same scenario produce identical logs.
+ * The module is given RobotOptions that turn off the features that depend on the wall-clock time (the loop watchdog and the odometry
+ * sampler thread), run the mechanisms in sequence on the calling thread and always build trajectories rather than loading them from
+ * the on-disk cache, and the timing metrics are left out of the log.  The trajectories are still built on worker threads, so the runner waits
+ * for all of them to be ready before the first tick.  The physics of the robot are simulated after each tick, so that its sensors respond to its actuators.
+ * The log is written as CSV, with a row of the most recently logged values after each tick.
+ */
+public class FauxbotHeadlessRunner
+{
+    private final CoreRobot<FauxbotCommonModule> robot;
+    private final SimulatorBase simulator;
+    private final FauxbotSmartDashboardLogger dashboardLogger;
+    private final FauxbotDriverStation driverStation;
+    private final FauxbotSendableChooserSelections chooserSelections;
+    private final FauxbotClock clock;
+    private final LoggingKey[] logKeys;
+    private final Writer logWriter;
+
+    private RobotMode currentMode;
+
+    /**
+     * Initializes a new instance of the FauxbotHeadlessRunner class, creating and initializing the robot
+     * @param module to create the robot with
+     * @param logWriter to write the CSV log to, or null to skip logging
+     * @throws IOException if the log header can't be written (or we are interrupted while waiting for the trajectories)
+     */
+    public FauxbotHeadlessRunner(FauxbotCommonModule module, Writer logWriter) throws IOException
+    {
+        // must be set up before the robot's mechanisms are created
+        this.clock = new FauxbotClock(true);
+        module.setClock(this.clock);
+        module.setOptions(new RobotOptions(false, false, 0, false));
+
+        this.robot = new CoreRobot<FauxbotCommonModule>(module);
+        this.robot.robotInit();
+
+        // otherwise the virtual time would run ahead of the trajectories, and whether a path is ready in time would depend on this machine's speed
+        TrajectoryManager trajectoryManager = this.robot.getInjector().getInstance(TrajectoryManager.class);
+        while (!trajectoryManager.isReady())
+        {
+            try
+            {
+                Thread.sleep(1);
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the trajectories to be built");
+            }
+        }
+
+        this.simulator = this.robot.getInjector().getInstance(SimulatorBase.class);
+        this.dashboardLogger = this.robot.getInjector().getInstance(FauxbotSmartDashboardLogger.class);
+        this.driverStation = this.robot.getInjector().getInstance(FauxbotDriverStation.class);
+        this.chooserSelections = this.robot.getInjector().getInstance(FauxbotSendableChooserSelections.class);
+
+        ArrayList<LoggingKey> keys = new ArrayList<LoggingKey>();
+        for (LoggingKey key : LoggingKey.values())
+        {
+            if (key.shouldLogToCsv && !FauxbotHeadlessRunner.isTimingKey(key))
+            {
+                keys.add(key);
+            }
+        }
+
+        this.logKeys = keys.toArray(new LoggingKey[keys.size()]);
+        this.logWriter = logWriter;
+        if (this.logWriter != null)
+        {
+            this.logWriter.write("time");
+            for (LoggingKey key : this.logKeys)
+            {
+                this.logWriter.write(',');
+                this.logWriter.write(key.value);
+            }
+
+            this.logWriter.write('\n');
+        }
+
+        // no mode has been initialized yet, so the first run initializes whichever mode it is for
+        this.currentMode = null;
+    }
+
+    /**
+     * Run the robot in the provided mode for the provided amount of (virtual) time
+     * @param mode to run the robot in
+     * @param duration to run for, in seconds
+     * @throws IOException if the log can't be written
+     */
+    public void run(RobotMode mode, double duration) throws IOException
+    {
+        if (mode != this.currentMode)
+        {
+            this.driverStation.setMode(mode);
+            FauxbotRunner.initMode(this.robot, mode);
+            this.currentMode = mode;
+        }
+
+        long ticks = Math.round(duration / TuningConstants.LOOP_DURATION);
+        for (long tick = 0; tick < ticks; tick++)
+        {
+            FauxbotRunner.runPeriodic(this.robot, mode);
+            this.simulator.simulate(TuningConstants.LOOP_DURATION);
+            this.writeRow();
+            this.clock.advance(TuningConstants.LOOP_DURATION);
+        }
+
+        if (this.logWriter != null)
+        {
+            this.logWriter.flush();
+        }
+    }
+
+    /**
+     * Select an option of one of the robot's choosers (e.g. the autonomous routine), before running the mode that uses it
+     * @param chooserName name of the chooser
+     * @param optionName name of the option to select, or null to use the default
+     */
+    public void select(String chooserName, String optionName)
+    {
+        this.chooserSelections.select(chooserName, optionName);
+    }
+
+    /**
+     * Set the alliance that the driver station reports, before running the mode that uses it
+     * @param alliance to report
+     */
+    public void setAlliance(Alliance alliance)
+    {
+        this.driverStation.setAlliance(alliance);
+    }
+
+    /**
+     * Retrieve the current (virtual) time of the robot
+     * @return the time in seconds since the robot was created
+     */
+    public double getTime()
+    {
+        return this.clock.getTime();
+    }
+
+    /**
+     * Retrieve the most recently logged value for the provided key
+     * @param key to retrieve
+     * @return the value as a string, or null if it hasn't been logged
+     */
+    public String getLoggedString(LoggingKey key)
+    {
+        return this.dashboardLogger.getString(key);
+    }
+
+    /**
+     * Run an autonomous routine headlessly, and write the log as CSV to a file (or to standard out).
+     * Arguments: [start position] [auto routine] [duration in seconds] [output file]
+     * @param args command-line arguments
+     * @throws IOException if the log can't be written
+     */
+    public static void main(String[] args) throws IOException
+    {
+        String startPosition = args.length > 0 ? args[0] : "None";
+        String routine = args.length > 1 ? args[1] : "None";
+        double duration = args.length > 2 ? Double.parseDouble(args[2]) : 15.0;
+
+        Writer writer;
+        if (args.length > 3)
+        {
+            writer = new BufferedWriter(new FileWriter(args[3]));
+        }
+        else
+        {
+            writer = new BufferedWriter(new OutputStreamWriter(System.out));
+        }
+
+        try
+        {
+            long startTime = System.nanoTime();
+
+            FauxbotHeadlessRunner runner = new FauxbotHeadlessRunner(new RobotFauxbotModule(), writer);
+            runner.select("Start Position", startPosition);
+            runner.select("Auto Routine", routine);
+
+            runner.run(RobotMode.Disabled, TuningConstants.LOOP_DURATION);
+            runner.run(RobotMode.Autonomous, duration);
+            runner.run(RobotMode.Disabled, TuningConstants.LOOP_DURATION);
+
+            System.err.println(String.format("Simulated %.1fs in %.3fs", duration, (System.nanoTime() - startTime) / 1000000000.0));
+        }
+        finally
+        {
+            writer.close();
+        }
+    }
+
+    private void writeRow() throws IOException
+    {
+        if (this.logWriter == null)
+        {
+            return;
+        }
+
+        this.logWriter.write(String.format("%.3f", this.clock.getTime()));
+        for (LoggingKey key : this.logKeys)
+        {
+            this.logWriter.write(',');
+            String value = this.dashboardLogger.getString(key);
+            if (value != null)
+            {
+                if (value.contains(",") || value.contains("\"") || value.contains("\r") || value.contains("\n"))
+                {
+                    value = "\"" + value.replace("\"", "\"\"") + "\"";
+                }
+
+                this.logWriter.write(value);
+            }
+        }
+
+        this.logWriter.write('\n');
+    }
+
+    /**
+     * Check whether a key holds a measurement of the wall-clock time taken by the loop, which differs between runs
+     * @param key to check
+     * @return true if the key holds timing metrics
+     */
+    private static boolean isTimingKey(LoggingKey key)
+    {
+        return key.value.startsWith("loop/") || key.value.startsWith("sched/") || key.value.startsWith("watchdog/");
+    }
+}
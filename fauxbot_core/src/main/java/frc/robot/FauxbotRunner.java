@@ -1,14 +1,38 @@
 package frc.robot;
 
-import java.util.Calendar;
-
 import frc.lib.CoreRobot;
+import frc.lib.robotprovider.FauxbotActuatorConnection;
+import frc.lib.robotprovider.FauxbotActuatorManager;
+import frc.lib.robotprovider.FauxbotClock;
+import frc.lib.robotprovider.FauxbotSensorConnection;
+import frc.lib.robotprovider.FauxbotSensorManager;
+import frc.lib.robotprovider.FauxbotSmartDashboardLogger;
 import frc.lib.robotprovider.RobotMode;
+import frc.robot.simulation.SimulationSnapshot;
+import frc.robot.simulation.SimulatorBase;
+import frc.robot.simulation.TripleBuffer;
 
+/**
+ * Runs the robot and the simulation of its physics on their own thread, at the fixed rate of the robot's loop.  After each tick, a
+ * snapshot of the simulated robot is published through a triple buffer, so that the UI can display it at its own frame rate without
+ * waiting for the robot's thread (or holding it up).
+ */
 public class FauxbotRunner implements Runnable
 {
+    private static final long TICK_NANOSECONDS = Math.round(TuningConstants.LOOP_DURATION * 1000000000.0);
+
     private final Object locker;
     private final CoreRobot<FauxbotCommonModule> robot;
+    private final SimulatorBase simulator;
+    private final FauxbotSmartDashboardLogger logger;
+    private final FauxbotSensorManager sensorManager;
+    private final FauxbotActuatorManager actuatorManager;
+    private final FauxbotClock clock;
+    private final FauxbotSensorConnection[] sensors;
+    private final FauxbotActuatorConnection[] actuators;
+    private final int[] sensorSlots;
+    private final int[] actuatorSlots;
+    private final TripleBuffer<SimulationSnapshot> snapshots;
 
     private final IRefresh fauxbot;
 
@@ -20,10 +44,62 @@ public class FauxbotRunner implements Runnable
         this(robot, null);
     }
 
+    /**
+     * Initializes a new instance of the FauxbotRunner class.  The robot must already be initialized, so that the devices in the
+     * snapshots can be found.
+     * @param robot to run
+     * @param fauxbot to refresh after each tick, or null
+     */
     public FauxbotRunner(CoreRobot<FauxbotCommonModule> robot, IRefresh fauxbot)
     {
         this.locker = new Object();
         this.robot = robot;
+        this.simulator = robot.getInjector().getInstance(SimulatorBase.class);
+        this.logger = robot.getInjector().getInstance(FauxbotSmartDashboardLogger.class);
+        this.sensorManager = robot.getInjector().getInstance(FauxbotSensorManager.class);
+        this.actuatorManager = robot.getInjector().getInstance(FauxbotActuatorManager.class);
+        this.clock = robot.getInjector().getInstance(FauxbotClock.class);
+
+        // show the devices that the simulator describes, or all of the devices if it doesn't
+        FauxbotSensorConnection[] sensors = this.simulator.getSensors();
+        if (sensors == null)
+        {
+            sensors = new FauxbotSensorConnection[this.sensorManager.getCount()];
+            for (int i = 0; i < sensors.length; i++)
+            {
+                sensors[i] = this.sensorManager.getConnection(i);
+            }
+        }
+
+        FauxbotActuatorConnection[] actuators = this.simulator.getActuators();
+        if (actuators == null)
+        {
+            actuators = new FauxbotActuatorConnection[this.actuatorManager.getCount()];
+            for (int i = 0; i < actuators.length; i++)
+            {
+                actuators[i] = this.actuatorManager.getConnection(i);
+            }
+        }
+
+        // resolve the slots of the devices once, so that capturing each snapshot is just copying values out of the managers
+        this.sensors = sensors;
+        this.sensorSlots = new int[sensors.length];
+        for (int i = 0; i < sensors.length; i++)
+        {
+            this.sensorSlots[i] = this.sensorManager.getSlot(sensors[i]);
+        }
+
+        this.actuators = actuators;
+        this.actuatorSlots = new int[actuators.length];
+        for (int i = 0; i < actuators.length; i++)
+        {
+            this.actuatorSlots[i] = this.actuatorManager.getSlot(actuators[i]);
+        }
+
+        int sensorCount = sensors.length;
+        int actuatorCount = actuators.length;
+        this.snapshots = new TripleBuffer<SimulationSnapshot>(() -> new SimulationSnapshot(sensorCount, actuatorCount));
+
         this.fauxbot = fauxbot;
         this.stop = false;
         this.mode = RobotMode.Disabled;
@@ -33,6 +109,7 @@ public class FauxbotRunner implements Runnable
     public void run()
     {
         RobotMode currentMode = RobotMode.Disabled;
+        long nextTickTime = System.nanoTime();
 
         boolean shouldStop;
         do
@@ -43,68 +120,32 @@ public class FauxbotRunner implements Runnable
                 newMode = this.mode;
             }
 
-            long startTime = Calendar.getInstance().getTime().getTime();
             if (currentMode != newMode)
             {
-                switch (newMode)
-                {
-                    case Disabled:
-                        this.robot.disabledInit();
-                        break;
-
-                    case Autonomous:
-                        this.robot.autonomousInit();
-                        break;
-
-                    case Simulation:
-                        this.robot.simulationInit();
-
-                    case Teleop:
-                        this.robot.teleopInit();
-                        break;
-
-                    case Test:
-                        this.robot.testInit();
-                        break;
-                }
-
+                FauxbotRunner.initMode(this.robot, newMode);
                 currentMode = newMode;
             }
 
-            switch (currentMode)
-            {
-                case Disabled:
-                    this.robot.disabledPeriodic();
-                    break;
-
-                case Autonomous:
-                    this.robot.autonomousPeriodic();
-                    break;
+            FauxbotRunner.runPeriodic(this.robot, currentMode);
+            this.simulator.simulate(TuningConstants.LOOP_DURATION);
 
-                case Simulation:
-                    this.robot.simulationPeriodic();
-
-                case Teleop:
-                    this.robot.teleopPeriodic();
-                    break;
-
-                case Test:
-                    this.robot.testPeriodic();
-                    break;
-            }
+            SimulationSnapshot snapshot = this.snapshots.getBack();
+            snapshot.capture(this.sensorManager, this.sensorSlots, this.actuatorManager, this.actuatorSlots, this.logger, this.clock.getTime());
+            this.snapshots.publish();
 
             if (this.fauxbot != null)
             {
                 this.fauxbot.refresh();
             }
 
-            long endTime = Calendar.getInstance().getTime().getTime();
-            long elapsed = endTime - startTime;
-            if (elapsed <= 20)
+            // schedule ticks at a fixed rate, rather than a fixed delay after each tick
+            nextTickTime += FauxbotRunner.TICK_NANOSECONDS;
+            long remaining = nextTickTime - System.nanoTime();
+            if (remaining > 0)
             {
                 try
                 {
-                    Thread.sleep(20 - elapsed);
+                    Thread.sleep(remaining / 1000000L, (int)(remaining % 1000000L));
                 }
                 catch (InterruptedException e)
                 {
@@ -113,7 +154,10 @@ public class FauxbotRunner implements Runnable
             }
             else
             {
-                System.out.println("20ms loop time exceeded (" + elapsed + ")");
+                System.out.println(String.format("%dms loop time exceeded (%dms)", FauxbotRunner.TICK_NANOSECONDS / 1000000L, (FauxbotRunner.TICK_NANOSECONDS - remaining) / 1000000L));
+
+                // don't try to catch up on the missed ticks
+                nextTickTime = System.nanoTime();
             }
 
             synchronized (this.locker)
@@ -124,6 +168,112 @@ public class FauxbotRunner implements Runnable
         while (!shouldStop);
     }
 
+    /**
+     * Run the init function of the robot for the provided mode
+     * @param robot to initialize
+     * @param mode that is starting
+     */
+    static void initMode(CoreRobot<FauxbotCommonModule> robot, RobotMode mode)
+    {
+        switch (mode)
+        {
+            case Disabled:
+                robot.disabledInit();
+                break;
+
+            case Autonomous:
+                robot.autonomousInit();
+                break;
+
+            case Simulation:
+                robot.simulationInit();
+
+            case Teleop:
+                robot.teleopInit();
+                break;
+
+            case Test:
+                robot.testInit();
+                break;
+        }
+    }
+
+    /**
+     * Run the periodic function of the robot for the provided mode
+     * @param robot to run
+     * @param mode that is currently active
+     */
+    static void runPeriodic(CoreRobot<FauxbotCommonModule> robot, RobotMode mode)
+    {
+        switch (mode)
+        {
+            case Disabled:
+                robot.disabledPeriodic();
+                break;
+
+            case Autonomous:
+                robot.autonomousPeriodic();
+                break;
+
+            case Simulation:
+                robot.simulationPeriodic();
+
+            case Teleop:
+                robot.teleopPeriodic();
+                break;
+
+            case Test:
+                robot.testPeriodic();
+                break;
+        }
+    }
+
+    /**
+     * Retrieve the sensor manager of the robot that is being run
+     * @return the sensor manager
+     */
+    public FauxbotSensorManager getSensorManager()
+    {
+        return this.sensorManager;
+    }
+
+    /**
+     * Retrieve the actuator manager of the robot that is being run
+     * @return the actuator manager
+     */
+    public FauxbotActuatorManager getActuatorManager()
+    {
+        return this.actuatorManager;
+    }
+
+    /**
+     * Retrieve the connections of the sensors in the snapshots
+     * @return the sensor connections, in the order of their values in the snapshots
+     */
+    public FauxbotSensorConnection[] getSensors()
+    {
+        return this.sensors;
+    }
+
+    /**
+     * Retrieve the connections of the actuators in the snapshots
+     * @return the actuator connections, in the order of their values in the snapshots
+     */
+    public FauxbotActuatorConnection[] getActuators()
+    {
+        return this.actuators;
+    }
+
+    /**
+     * Retrieve the most recent snapshot of the simulated robot (only to be called from the UI thread).  The snapshot won't change
+     * until the next time this is called.
+     * @return the snapshot
+     */
+    public SimulationSnapshot getSnapshot()
+    {
+        return this.snapshots.getFront();
+    }
+
     public void setMode(RobotMode newMode)
     {
         synchronized (this.locker)
@@ -0,0 +1,95 @@
+package frc.robot.simulation;
+
+import frc.lib.helpers.ExceptionHelpers;
+import frc.lib.robotprovider.MotorType;
+
+/**
+ * Model of a brushed/brushless DC motor, based on its specifications (the stall torque, stall current, free current and free speed at
+ * the nominal voltage).  Torque is proportional to current, and the current is driven by the applied voltage less the back-EMF of the
+ * motor through its winding resistance.  All values are in SI units (volts, amps, newton-meters, radians per second).
+ */
+public class DCMotorModel
+{
+    private static final double NOMINAL_VOLTAGE = 12.0;
+    private static final double RPM_TO_RADIANS_PER_SECOND = 2.0 * Math.PI / 60.0;
+
+    public final double resistance;
+    public final double velocityConstant;
+    public final double torqueConstant;
+    public final int motorCount;
+
+    /**
+     * Initializes a new instance of the DCMotorModel class
+     * @param stallTorque of the motor at the nominal voltage (in newton-meters)
+     * @param stallCurrent of the motor at the nominal voltage (in amps)
+     * @param freeCurrent of the motor at the nominal voltage (in amps)
+     * @param freeSpeed of the motor at the nominal voltage (in rpm)
+     * @param motorCount the number of motors geared together
+     */
+    public DCMotorModel(double stallTorque, double stallCurrent, double freeCurrent, double freeSpeed, int motorCount)
+    {
+        ExceptionHelpers.Assert(motorCount > 0, "Expect at least one motor, got %d", motorCount);
+
+        this.resistance = DCMotorModel.NOMINAL_VOLTAGE / (stallCurrent * motorCount);
+        this.velocityConstant = freeSpeed * DCMotorModel.RPM_TO_RADIANS_PER_SECOND / (DCMotorModel.NOMINAL_VOLTAGE - this.resistance * freeCurrent * motorCount);
+        this.torqueConstant = stallTorque / stallCurrent;
+        this.motorCount = motorCount;
+    }
+
+    /**
+     * Create the model for a type of motor, using the published specifications of the motor
+     * @param motorType the type of motor
+     * @param motorCount the number of motors geared together
+     * @return the motor model
+     */
+    public static DCMotorModel create(MotorType motorType, int motorCount)
+    {
+        switch (motorType)
+        {
+            case Bag:
+                return new DCMotorModel(0.43, 53.0, 1.8, 13180.0, motorCount);
+
+            case Cim:
+                return new DCMotorModel(2.42, 133.0, 2.7, 5310.0, motorCount);
+
+            case Vex775Pro:
+                return new DCMotorModel(0.71, 134.0, 0.7, 18730.0, motorCount);
+
+            case NeoVortex:
+                return new DCMotorModel(3.6, 211.0, 3.6, 6784.0, motorCount);
+
+            case Neo:
+                return new DCMotorModel(2.6, 105.0, 1.8, 5676.0, motorCount);
+
+            case Neo550:
+                return new DCMotorModel(0.97, 100.0, 1.4, 11000.0, motorCount);
+
+            case Falcon500:
+                return new DCMotorModel(4.69, 257.0, 1.5, 6380.0, motorCount);
+
+            case KrakenX60:
+            default:
+                return new DCMotorModel(7.09, 366.0, 2.0, 6000.0, motorCount);
+        }
+    }
+
+    /**
+     * Calculate the current drawn by the motor
+     * @param voltage applied to the motor (in volts)
+     * @param speed of the motor (in radians per second)
+     * @return the current (in amps)
+     */
+    public double getCurrent(double voltage, double speed)
+    {
+        return (voltage - speed / this.velocityConstant) / this.resistance;
+    }
+
+    /**
+     * Calculate the rate at which the motor's torque falls as its speed increases at a constant voltage (from its back-EMF)
+     * @return the damping (in newton-meters per radian per second)
+     */
+    public double getDamping()
+    {
+        return this.torqueConstant / (this.velocityConstant * this.resistance);
+    }
+}
@@ -68,6 +68,10 @@ public class RobotSimulator extends SimulatorBase
     // private static final double ElevatorMinVelocity = -20.0;
     // private static final double ElevatorMaxVelocity = 20.0;
 
+    private final FauxbotSensorManager sensorManager;
+    private final FauxbotActuatorManager actuatorManager;
+    private final SwerveDriveSimulator driveTrain;
+
     // private Texture elevatorPassenger;
     // private Texture drawerTexture;
 
@@ -75,8 +79,12 @@ public class RobotSimulator extends SimulatorBase
     // private double prevVelocity;
 
     @Inject
-    public RobotSimulator()
+    public RobotSimulator(FauxbotSensorManager sensorManager, FauxbotActuatorManager actuatorManager)
     {
+        this.sensorManager = sensorManager;
+        this.actuatorManager = actuatorManager;
+        this.driveTrain = new SwerveDriveSimulator(sensorManager, actuatorManager);
+
         // this.elevatorPassenger = new Texture(Gdx.files.internal("images/stickFigure.png"));
 
         // Pixmap pixmap = new Pixmap(1, 1, Format.RGBA8888);
@@ -155,6 +163,12 @@ public class RobotSimulator extends SimulatorBase
         return true;
     }
 
+    @Override
+    public void simulate(double duration)
+    {
+        this.driveTrain.simulate(duration);
+    }
+
     @Override
     public void act(float delta)
     {
@@ -162,7 +176,7 @@ public class RobotSimulator extends SimulatorBase
         // double currVelocity = this.prevVelocity;
 
         // double motorPower = 0.0;
-        // FauxbotActuatorBase actuator = FauxbotActuatorManager.get(RobotSimulator.MotorChannel);
+        // FauxbotActuatorBase actuator = this.actuatorManager.get(RobotSimulator.MotorChannel);
         // if (actuator != null && actuator instanceof FauxbotMotorBase)
         // {
         //     FauxbotMotorBase motor = (FauxbotMotorBase)actuator;
@@ -195,7 +209,7 @@ public class RobotSimulator extends SimulatorBase
         // this.prevHeight = currHeight;
         // this.prevVelocity = currVelocity;
 
-        // FauxbotSensorBase sensor = FauxbotSensorManager.get(RobotSimulator.EncoderAChannel);
+        // FauxbotSensorBase sensor = this.sensorManager.get(RobotSimulator.EncoderAChannel);
         // if (sensor != null && sensor instanceof FauxbotEncoder)
         // {
         //     FauxbotEncoder encoder = (FauxbotEncoder)sensor;
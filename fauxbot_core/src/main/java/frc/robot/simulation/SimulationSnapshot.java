@@ -0,0 +1,109 @@
+package frc.robot.simulation;
+
+import frc.lib.robotprovider.*;
+import frc.robot.LoggingKey;
+
+/**
+ * Snapshot of the state of the simulated robot after a tick, for the UI to display without touching the devices that the robot's
+ * thread is using.  The sensor and actuator values are indexed in the same order as the slots that the snapshot is captured from,
+ * and the logged values are indexed by LoggingKey.
+ */
+public class SimulationSnapshot
+{
+    private static final LoggingKey[] LOGGING_KEYS = LoggingKey.values();
+
+    private final double[] sensorValues;
+    private final double[] actuatorValues;
+    private final String[] loggedValues;
+    private double time;
+
+    /**
+     * Initializes a new, empty instance of the SimulationSnapshot class
+     * @param sensorCount the number of sensors in the snapshot
+     * @param actuatorCount the number of actuators in the snapshot
+     */
+    public SimulationSnapshot(int sensorCount, int actuatorCount)
+    {
+        this.sensorValues = new double[sensorCount];
+        this.actuatorValues = new double[actuatorCount];
+        this.loggedValues = new String[SimulationSnapshot.LOGGING_KEYS.length];
+        this.time = 0.0;
+    }
+
+    /**
+     * Capture the current state of the simulated robot into this snapshot
+     * @param sensorManager to capture the sensor values from
+     * @param sensorSlots the slots of the sensors to capture, or -1 for a sensor that doesn't exist
+     * @param actuatorManager to capture the actuator outputs from
+     * @param actuatorSlots the slots of the actuators to capture, or -1 for an actuator that doesn't exist
+     * @param logger to capture the most recently logged values from
+     * @param time of the simulation (in seconds)
+     */
+    public void capture(
+        FauxbotSensorManager sensorManager,
+        int[] sensorSlots,
+        FauxbotActuatorManager actuatorManager,
+        int[] actuatorSlots,
+        FauxbotSmartDashboardLogger logger,
+        double time)
+    {
+        for (int i = 0; i < this.sensorValues.length; i++)
+        {
+            int slot = sensorSlots[i];
+            this.sensorValues[i] = slot < 0 ? Double.NaN : sensorManager.getValue(slot);
+        }
+
+        for (int i = 0; i < this.actuatorValues.length; i++)
+        {
+            int slot = actuatorSlots[i];
+            this.actuatorValues[i] = slot < 0 ? Double.NaN : actuatorManager.getOutput(slot);
+        }
+
+        for (int i = 0; i < this.loggedValues.length; i++)
+        {
+            this.loggedValues[i] = logger.getString(SimulationSnapshot.LOGGING_KEYS[i]);
+        }
+
+        this.time = time;
+    }
+
+    /**
+     * Retrieve the value of a sensor
+     * @param index of the sensor
+     * @return the value of the sensor (1 or 0 for digital inputs, before any inversion), or NaN if the sensor doesn't exist
+     */
+    public double getSensorValue(int index)
+    {
+        return this.sensorValues[index];
+    }
+
+    /**
+     * Retrieve the value of an actuator
+     * @param index of the actuator
+     * @return the output of a motor, 1 or 0 for a solenoid (extended or not), 1, 0 or -1 for a double solenoid (forward, off or
+     * reverse), or NaN if the actuator doesn't exist
+     */
+    public double getActuatorValue(int index)
+    {
+        return this.actuatorValues[index];
+    }
+
+    /**
+     * Retrieve the most recently logged value for a key
+     * @param key to retrieve
+     * @return the logged value, or null if it hasn't been logged
+     */
+    public String getLoggedString(LoggingKey key)
+    {
+        return this.loggedValues[key.ordinal()];
+    }
+
+    /**
+     * Retrieve the time of the simulation when the snapshot was captured
+     * @return the time (in seconds)
+     */
+    public double getTime()
+    {
+        return this.time;
+    }
+}
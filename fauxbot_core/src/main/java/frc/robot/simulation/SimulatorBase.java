@@ -18,6 +18,14 @@ public abstract class SimulatorBase extends Actor implements Disposable
     public abstract double getMotorMax(FauxbotActuatorConnection connection);
     public abstract boolean shouldSimulatePID();
 
+    /**
+     * Simulate the physics of the robot after each tick of the robot's loop, updating its sensors based on its actuators
+     * @param duration of the tick (in seconds)
+     */
+    public void simulate(double duration)
+    {
+    }
+
     public void dispose()
     {
     }
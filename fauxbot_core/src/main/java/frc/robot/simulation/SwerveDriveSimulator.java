@@ -0,0 +1,384 @@
+package frc.robot.simulation;
+
+import frc.lib.helpers.Helpers;
+import frc.lib.robotprovider.*;
+import frc.robot.ElectronicsConstants;
+import frc.robot.HardwareConstants;
+import frc.robot.TuningConstants;
+
+/**
+ * Physics simulation of the SDS swerve drivetrain, driving the simulated TalonFXs, CANCoders and Pigeon2 of the drivetrain.
+ * Each robot loop is simulated in SUBSTEPS_PER_SECOND steps.  In each step, the closed-loop control of each TalonFX is run (as it
+ * would be on the device) to find the voltage applied to each motor, each motor is modeled as a DC motor through its gearing, each
+ * wheel pushes against the carpet through a stiff slip model limited by the friction available to it, and the rigid body of the robot
+ * is moved by the forces and torques from the wheels.  The state is kept in a preallocated array in SI units, so that stepping the
+ * simulation doesn't allocate.
+ * Note: the robot frame uses the right-hand rule, so "forward" is x and "left" is y, angles are counter-clockwise positive.  A steer
+ * motor's positive direction is taken to be counter-clockwise, after the inversion that the robot configures on the TalonFX.
+ */
+public class SwerveDriveSimulator
+{
+    private static final int MODULE_COUNT = 4;
+
+    private static final double SUBSTEPS_PER_SECOND = 1000.0;
+    private static final double BATTERY_VOLTAGE = 12.0;
+    private static final double GRAVITY = 9.80665; // m/s^2
+
+    // inertia of the wheel and drive gearing, at the wheel (kg-m^2)
+    private static final double DRIVE_INERTIA = 0.025;
+
+    // inertia of the module and steer gearing, at the module (kg-m^2), and the friction of turning the module (N-m per rad/s)
+    private static final double STEER_INERTIA = 0.004;
+    private static final double STEER_FRICTION = 0.01;
+
+    // force from the carpet per m/s of slip of the wheel, along the wheel's direction and across it (N/(m/s))
+    private static final double LONGITUDINAL_SLIP_STIFFNESS = 2000.0;
+    private static final double LATERAL_SLIP_STIFFNESS = 2000.0;
+
+    // indexes of the robot's state, in the field frame
+    private static final int X = 0;
+    private static final int Y = 1;
+    private static final int THETA = 2;
+    private static final int X_VELOCITY = 3;
+    private static final int Y_VELOCITY = 4;
+    private static final int OMEGA = 5;
+
+    // indexes of each module's state, from the start of the module's state
+    private static final int WHEEL_ANGLE = 0;
+    private static final int WHEEL_SPEED = 1;
+    private static final int STEER_ANGLE = 2;
+    private static final int STEER_SPEED = 3;
+
+    private static final int ROBOT_STATE_SIZE = 6;
+    private static final int MODULE_STATE_SIZE = 4;
+
+    private static final FauxbotActuatorConnection[] DRIVE_MOTORS =
+        new FauxbotActuatorConnection[]
+        {
+            new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, ElectronicsConstants.SDSDRIVETRAIN_DRIVE_MOTOR_1_CAN_ID),
+            new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, ElectronicsConstants.SDSDRIVETRAIN_DRIVE_MOTOR_2_CAN_ID),
+            new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, ElectronicsConstants.SDSDRIVETRAIN_DRIVE_MOTOR_3_CAN_ID),
+            new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, ElectronicsConstants.SDSDRIVETRAIN_DRIVE_MOTOR_4_CAN_ID),
+        };
+
+    private static final FauxbotActuatorConnection[] STEER_MOTORS =
+        new FauxbotActuatorConnection[]
+        {
+            new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, ElectronicsConstants.SDSDRIVETRAIN_STEER_MOTOR_1_CAN_ID),
+            new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, ElectronicsConstants.SDSDRIVETRAIN_STEER_MOTOR_2_CAN_ID),
+            new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, ElectronicsConstants.SDSDRIVETRAIN_STEER_MOTOR_3_CAN_ID),
+            new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, ElectronicsConstants.SDSDRIVETRAIN_STEER_MOTOR_4_CAN_ID),
+        };
+
+    private static final FauxbotSensorConnection[] ABSOLUTE_ENCODERS =
+        new FauxbotSensorConnection[]
+        {
+            new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, FauxbotCANCoder.class, ElectronicsConstants.SDSDRIVETRAIN_ABSOLUTE_ENCODER_1_CAN_ID),
+            new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, FauxbotCANCoder.class, ElectronicsConstants.SDSDRIVETRAIN_ABSOLUTE_ENCODER_2_CAN_ID),
+            new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, FauxbotCANCoder.class, ElectronicsConstants.SDSDRIVETRAIN_ABSOLUTE_ENCODER_3_CAN_ID),
+            new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, FauxbotCANCoder.class, ElectronicsConstants.SDSDRIVETRAIN_ABSOLUTE_ENCODER_4_CAN_ID),
+        };
+
+    private static final FauxbotSensorConnection PIGEON =
+        new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, FauxbotPigeon2.class, ElectronicsConstants.PIGEON_IMU_CAN_ID);
+
+    private static final double[] ABSOLUTE_OFFSETS =
+        new double[]
+        {
+            TuningConstants.SDSDRIVETRAIN_STEER_MOTOR1_ABSOLUTE_OFFSET,
+            TuningConstants.SDSDRIVETRAIN_STEER_MOTOR2_ABSOLUTE_OFFSET,
+            TuningConstants.SDSDRIVETRAIN_STEER_MOTOR3_ABSOLUTE_OFFSET,
+            TuningConstants.SDSDRIVETRAIN_STEER_MOTOR4_ABSOLUTE_OFFSET,
+        };
+
+    private final double mass;
+    private final double momentOfInertia;
+    private final double wheelRadius;
+    private final double maxWheelFriction;
+    private final double[] moduleX;
+    private final double[] moduleY;
+
+    private final DCMotorModel driveMotorModel;
+    private final DCMotorModel steerMotorModel;
+
+    private final FauxbotSensorManager sensorManager;
+    private final FauxbotActuatorManager actuatorManager;
+    private final FauxbotTalonFX[] driveMotors;
+    private final FauxbotTalonFX[] steerMotors;
+    private final FauxbotCANCoder[] absoluteEncoders;
+    private FauxbotPigeon2 pigeon;
+    private boolean foundDevices;
+
+    private final double[] state;
+    private double time;
+
+    /**
+     * Initializes a new instance of the SwerveDriveSimulator class, with the robot at rest at the origin facing forward
+     * @param sensorManager of the simulated robot, to find the CANCoders and Pigeon2 in
+     * @param actuatorManager of the simulated robot, to find the TalonFXs in
+     */
+    public SwerveDriveSimulator(FauxbotSensorManager sensorManager, FauxbotActuatorManager actuatorManager)
+    {
+        this.mass = HardwareConstants.ROBOT_WEIGHT * Helpers.KILOGRAMS_PER_POUND;
+        this.momentOfInertia = HardwareConstants.ROBOT_MOI * Helpers.KILOGRAMS_PER_POUND * Helpers.METERS_PER_FOOT * Helpers.METERS_PER_FOOT;
+        this.wheelRadius = 0.5 * HardwareConstants.SDSDRIVETRAIN_DRIVE_WHEEL_DIAMETER * Helpers.METERS_PER_INCH;
+        this.maxWheelFriction = HardwareConstants.SDSDRIVETRAIN_WHEEL_COEFFICIENT_OF_FRICTION * this.mass * SwerveDriveSimulator.GRAVITY / SwerveDriveSimulator.MODULE_COUNT;
+
+        // front-right, front-left, back-left, back-right
+        double horizontal = HardwareConstants.SDSDRIVETRAIN_HORIZONTAL_WHEEL_CENTER_DISTANCE * Helpers.METERS_PER_INCH;
+        double vertical = HardwareConstants.SDSDRIVETRAIN_VERTICAL_WHEEL_CENTER_DISTANCE * Helpers.METERS_PER_INCH;
+        this.moduleX = new double[] { vertical, vertical, -vertical, -vertical };
+        this.moduleY = new double[] { -horizontal, horizontal, horizontal, -horizontal };
+
+        this.driveMotorModel = DCMotorModel.create(HardwareConstants.SDSDRIVETRAIN_DRIVE_MOTOR_TYPE, HardwareConstants.SDSDRIVETRAIN_DRIVE_MOTOR_COUNT);
+        this.steerMotorModel = DCMotorModel.create(HardwareConstants.SDSDRIVETRAIN_STEER_MOTOR_TYPE, 1);
+
+        this.sensorManager = sensorManager;
+        this.actuatorManager = actuatorManager;
+        this.driveMotors = new FauxbotTalonFX[SwerveDriveSimulator.MODULE_COUNT];
+        this.steerMotors = new FauxbotTalonFX[SwerveDriveSimulator.MODULE_COUNT];
+        this.absoluteEncoders = new FauxbotCANCoder[SwerveDriveSimulator.MODULE_COUNT];
+
+        this.state = new double[SwerveDriveSimulator.ROBOT_STATE_SIZE + SwerveDriveSimulator.MODULE_COUNT * SwerveDriveSimulator.MODULE_STATE_SIZE];
+        this.time = 0.0;
+        this.foundDevices = false;
+    }
+
+    /**
+     * Simulate the drivetrain for the provided duration, and update its sensors
+     * @param duration to simulate (in seconds)
+     */
+    public void simulate(double duration)
+    {
+        // the devices are created when the robot is initialized, so find them the first time that they are all there
+        if (!this.foundDevices)
+        {
+            this.foundDevices = this.findDevices();
+            if (!this.foundDevices)
+            {
+                return;
+            }
+        }
+
+        int steps = Math.max(1, (int)Math.round(duration * SwerveDriveSimulator.SUBSTEPS_PER_SECOND));
+        double dt = duration / steps;
+        for (int step = 0; step < steps; step++)
+        {
+            this.step(dt);
+        }
+
+        for (int i = 0; i < SwerveDriveSimulator.MODULE_COUNT; i++)
+        {
+            int module = SwerveDriveSimulator.ROBOT_STATE_SIZE + i * SwerveDriveSimulator.MODULE_STATE_SIZE;
+            this.absoluteEncoders[i].setSimulatedState(
+                this.state[module + SwerveDriveSimulator.STEER_ANGLE] / (2.0 * Math.PI) + SwerveDriveSimulator.ABSOLUTE_OFFSETS[i],
+                this.state[module + SwerveDriveSimulator.STEER_SPEED] / (2.0 * Math.PI));
+        }
+
+        this.pigeon.setSimulatedState(
+            this.state[SwerveDriveSimulator.THETA] * Helpers.RADIANS_TO_DEGREES,
+            this.state[SwerveDriveSimulator.OMEGA] * Helpers.RADIANS_TO_DEGREES);
+    }
+
+    /**
+     * Retrieve the actual x position of the robot, relative to where it started
+     * @return the x position (in inches)
+     */
+    public double getX()
+    {
+        return this.state[SwerveDriveSimulator.X] * Helpers.INCHES_PER_METER;
+    }
+
+    /**
+     * Retrieve the actual y position of the robot, relative to where it started
+     * @return the y position (in inches)
+     */
+    public double getY()
+    {
+        return this.state[SwerveDriveSimulator.Y] * Helpers.INCHES_PER_METER;
+    }
+
+    /**
+     * Retrieve the actual angle of the robot, relative to where it started
+     * @return the angle, counter-clockwise positive (in degrees)
+     */
+    public double getAngle()
+    {
+        return this.state[SwerveDriveSimulator.THETA] * Helpers.RADIANS_TO_DEGREES;
+    }
+
+    private boolean findDevices()
+    {
+        for (int i = 0; i < SwerveDriveSimulator.MODULE_COUNT; i++)
+        {
+            FauxbotActuatorBase driveMotor = this.actuatorManager.get(SwerveDriveSimulator.DRIVE_MOTORS[i]);
+            FauxbotActuatorBase steerMotor = this.actuatorManager.get(SwerveDriveSimulator.STEER_MOTORS[i]);
+            FauxbotSensorBase absoluteEncoder = this.sensorManager.get(SwerveDriveSimulator.ABSOLUTE_ENCODERS[i]);
+            if (!(driveMotor instanceof FauxbotTalonFX) ||
+                !(steerMotor instanceof FauxbotTalonFX) ||
+                !(absoluteEncoder instanceof FauxbotCANCoder))
+            {
+                return false;
+            }
+
+            this.driveMotors[i] = (FauxbotTalonFX)driveMotor;
+            this.steerMotors[i] = (FauxbotTalonFX)steerMotor;
+            this.absoluteEncoders[i] = (FauxbotCANCoder)absoluteEncoder;
+        }
+
+        FauxbotSensorBase pigeon = this.sensorManager.get(SwerveDriveSimulator.PIGEON);
+        if (!(pigeon instanceof FauxbotPigeon2))
+        {
+            return false;
+        }
+
+        this.pigeon = (FauxbotPigeon2)pigeon;
+        return true;
+    }
+
+    private void step(double dt)
+    {
+        double[] state = this.state;
+
+        double cosTheta = Math.cos(state[SwerveDriveSimulator.THETA]);
+        double sinTheta = Math.sin(state[SwerveDriveSimulator.THETA]);
+        double xVelocity = state[SwerveDriveSimulator.X_VELOCITY];
+        double yVelocity = state[SwerveDriveSimulator.Y_VELOCITY];
+        double omega = state[SwerveDriveSimulator.OMEGA];
+
+        double xForce = 0.0;
+        double yForce = 0.0;
+        double torque = 0.0;
+        for (int i = 0; i < SwerveDriveSimulator.MODULE_COUNT; i++)
+        {
+            int module = SwerveDriveSimulator.ROBOT_STATE_SIZE + i * SwerveDriveSimulator.MODULE_STATE_SIZE;
+
+            // velocity of the wheel's contact patch over the carpet, along the wheel's direction and across it
+            double offsetX = cosTheta * this.moduleX[i] - sinTheta * this.moduleY[i];
+            double offsetY = sinTheta * this.moduleX[i] + cosTheta * this.moduleY[i];
+            double moduleAngle = state[SwerveDriveSimulator.THETA] + state[module + SwerveDriveSimulator.STEER_ANGLE];
+            double cosModule = Math.cos(moduleAngle);
+            double sinModule = Math.sin(moduleAngle);
+            double contactXVelocity = xVelocity - omega * offsetY;
+            double contactYVelocity = yVelocity + omega * offsetX;
+            double longitudinalVelocity = contactXVelocity * cosModule + contactYVelocity * sinModule;
+            double lateralVelocity = -contactXVelocity * sinModule + contactYVelocity * cosModule;
+
+            // force from the carpet, resisting the slip of the wheel up to the friction that is available to it
+            double longitudinalForce = SwerveDriveSimulator.LONGITUDINAL_SLIP_STIFFNESS * (state[module + SwerveDriveSimulator.WHEEL_SPEED] * this.wheelRadius - longitudinalVelocity);
+            double lateralForce = -SwerveDriveSimulator.LATERAL_SLIP_STIFFNESS * lateralVelocity;
+            double force = Math.sqrt(longitudinalForce * longitudinalForce + lateralForce * lateralForce);
+            if (force > this.maxWheelFriction)
+            {
+                double scale = this.maxWheelFriction / force;
+                longitudinalForce *= scale;
+                lateralForce *= scale;
+            }
+
+            double moduleXForce = longitudinalForce * cosModule - lateralForce * sinModule;
+            double moduleYForce = longitudinalForce * sinModule + lateralForce * cosModule;
+            xForce += moduleXForce;
+            yForce += moduleYForce;
+            torque += offsetX * moduleYForce - offsetY * moduleXForce;
+
+            // run each motor's closed-loop control, then move the wheel and module
+            SwerveDriveSimulator.updateMechanism(
+                state,
+                module + SwerveDriveSimulator.WHEEL_ANGLE,
+                module + SwerveDriveSimulator.WHEEL_SPEED,
+                this.driveMotors[i],
+                this.driveMotorModel,
+                HardwareConstants.SDSDRIVETRAIN_DRIVE_GEAR_RATIO,
+                SwerveDriveSimulator.DRIVE_INERTIA,
+                0.0,
+                -longitudinalForce * this.wheelRadius,
+                dt);
+
+            SwerveDriveSimulator.updateMechanism(
+                state,
+                module + SwerveDriveSimulator.STEER_ANGLE,
+                module + SwerveDriveSimulator.STEER_SPEED,
+                this.steerMotors[i],
+                this.steerMotorModel,
+                HardwareConstants.SDSDRIVETRAIN_STEER_GEAR_RATIO,
+                SwerveDriveSimulator.STEER_INERTIA,
+                SwerveDriveSimulator.STEER_FRICTION,
+                0.0,
+                dt);
+        }
+
+        // semi-implicit Euler integration of the rigid body
+        state[SwerveDriveSimulator.X_VELOCITY] += xForce / this.mass * dt;
+        state[SwerveDriveSimulator.Y_VELOCITY] += yForce / this.mass * dt;
+        state[SwerveDriveSimulator.OMEGA] += torque / this.momentOfInertia * dt;
+        state[SwerveDriveSimulator.X] += state[SwerveDriveSimulator.X_VELOCITY] * dt;
+        state[SwerveDriveSimulator.Y] += state[SwerveDriveSimulator.Y_VELOCITY] * dt;
+        state[SwerveDriveSimulator.THETA] += state[SwerveDriveSimulator.OMEGA] * dt;
+
+        this.time += dt;
+        for (int i = 0; i < SwerveDriveSimulator.MODULE_COUNT; i++)
+        {
+            int module = SwerveDriveSimulator.ROBOT_STATE_SIZE + i * SwerveDriveSimulator.MODULE_STATE_SIZE;
+            this.driveMotors[i].updateSimulatedState(
+                state[module + SwerveDriveSimulator.WHEEL_ANGLE] * HardwareConstants.SDSDRIVETRAIN_DRIVE_GEAR_RATIO / (2.0 * Math.PI),
+                state[module + SwerveDriveSimulator.WHEEL_SPEED] * HardwareConstants.SDSDRIVETRAIN_DRIVE_GEAR_RATIO / (2.0 * Math.PI),
+                this.time);
+            this.steerMotors[i].updateSimulatedState(
+                state[module + SwerveDriveSimulator.STEER_ANGLE] * HardwareConstants.SDSDRIVETRAIN_STEER_GEAR_RATIO / (2.0 * Math.PI),
+                state[module + SwerveDriveSimulator.STEER_SPEED] * HardwareConstants.SDSDRIVETRAIN_STEER_GEAR_RATIO / (2.0 * Math.PI),
+                this.time);
+        }
+    }
+
+    /**
+     * Update the angle and speed of a mechanism that is driven by a motor through gearing
+     * @param state of the simulation
+     * @param angleIndex the index of the mechanism's angle in the state (in radians)
+     * @param speedIndex the index of the mechanism's speed in the state (in radians per second)
+     * @param motor that drives the mechanism
+     * @param motorModel of the motor
+     * @param gearRatio the reduction from the motor to the mechanism
+     * @param inertia of the mechanism (in kg-m^2)
+     * @param friction the viscous friction of the mechanism (in N-m per radian per second)
+     * @param externalTorque applied to the mechanism (in N-m)
+     * @param dt the duration of the step (in seconds)
+     */
+    static void updateMechanism(
+        double[] state,
+        int angleIndex,
+        int speedIndex,
+        FauxbotTalonFX motor,
+        DCMotorModel motorModel,
+        double gearRatio,
+        double inertia,
+        double friction,
+        double externalTorque,
+        double dt)
+    {
+        double voltage = motor.calculateOutputVoltage(SwerveDriveSimulator.BATTERY_VOLTAGE, dt);
+        double speed = state[speedIndex];
+        double current = motorModel.getCurrent(voltage, speed * gearRatio);
+
+        // the stator current limit applies to each of the motors geared together, while the model's current is their total
+        double currentLimit = motor.getStatorCurrentLimit() * motorModel.motorCount;
+        if (motor.isCoasting())
+        {
+            speed = (inertia * speed + externalTorque * dt) / (inertia + friction * dt);
+        }
+        else if (Math.abs(current) > currentLimit)
+        {
+            double motorTorque = Math.copySign(currentLimit, current) * motorModel.torqueConstant * gearRatio;
+            speed = (inertia * speed + (motorTorque + externalTorque) * dt) / (inertia + friction * dt);
+        }
+        else
+        {
+            // the back-EMF of the motor acts as damping, which is integrated implicitly as it's too stiff for the step size
+            double motorTorque = voltage / motorModel.resistance * motorModel.torqueConstant * gearRatio;
+            double damping = motorModel.getDamping() * gearRatio * gearRatio + friction;
+            speed = (inertia * speed + (motorTorque + externalTorque) * dt) / (inertia + damping * dt);
+        }
+
+        state[speedIndex] = speed;
+        state[angleIndex] += speed * dt;
+    }
+}
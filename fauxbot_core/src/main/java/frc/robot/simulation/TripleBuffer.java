@@ -0,0 +1,71 @@
+package frc.robot.simulation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free triple buffer for handing the latest state from a single writer thread to a single reader thread.
+ * The writer fills in the back buffer and publishes it, and the reader takes the most recently published buffer as its front buffer.
+ * Neither side ever waits for the other or sees a buffer that is being written to, and the reader skips any buffers that were
+ * published while it wasn't looking.
+ * @param <T> the type of the buffers
+ */
+public class TripleBuffer<T>
+{
+    private static final int INDEX_MASK = 0x3;
+    private static final int UPDATED_FLAG = 0x4;
+
+    private final Object[] buffers;
+
+    // the index of the buffer between the writer and the reader, and whether it has been updated since the reader last took it
+    private final AtomicInteger middle;
+
+    private int back;
+    private int front;
+
+    /**
+     * Initializes a new instance of the TripleBuffer class
+     * @param creator to create each of the three buffers with
+     */
+    public TripleBuffer(Supplier<T> creator)
+    {
+        this.buffers = new Object[] { creator.get(), creator.get(), creator.get() };
+        this.back = 0;
+        this.middle = new AtomicInteger(1);
+        this.front = 2;
+    }
+
+    /**
+     * Retrieve the buffer for the writer to fill in (only to be called from the writer thread)
+     * @return the back buffer
+     */
+    @SuppressWarnings("unchecked")
+    public T getBack()
+    {
+        return (T)this.buffers[this.back];
+    }
+
+    /**
+     * Publish the back buffer for the reader, and swap in another buffer to write to next (only to be called from the writer thread)
+     */
+    public void publish()
+    {
+        this.back = this.middle.getAndSet(this.back | TripleBuffer.UPDATED_FLAG) & TripleBuffer.INDEX_MASK;
+    }
+
+    /**
+     * Retrieve the most recently published buffer (only to be called from the reader thread).  The buffer stays the same until the
+     * next time this is called.
+     * @return the front buffer
+     */
+    @SuppressWarnings("unchecked")
+    public T getFront()
+    {
+        if ((this.middle.get() & TripleBuffer.UPDATED_FLAG) != 0)
+        {
+            this.front = this.middle.getAndSet(this.front) & TripleBuffer.INDEX_MASK;
+        }
+
+        return (T)this.buffers[this.front];
+    }
+}
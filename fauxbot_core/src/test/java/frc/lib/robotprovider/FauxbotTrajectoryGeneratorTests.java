@@ -0,0 +1,131 @@
+package frc.lib.robotprovider;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FauxbotTrajectoryGeneratorTests
+{
+    private static final double[] MODULE_OFFSET_X = new double[] { 10.0, 10.0, -10.0, -10.0 };
+    private static final double[] MODULE_OFFSET_Y = new double[] { 10.0, -10.0, 10.0, -10.0 };
+
+    @Test
+    public void testStraightPath()
+    {
+        // 100 inches at up to 50 in/s and 100 in/s^2: 0.5s to accelerate over 12.5 inches, 1.5s to cruise 75 inches, 0.5s to stop
+        FauxbotTrajectoryGenerator generator = new FauxbotTrajectoryGenerator(50.0, 100.0, 90.0, 180.0, 0.0, MODULE_OFFSET_X, MODULE_OFFSET_Y);
+        ITrajectory trajectory = generator.generate(
+            new double[] { 0.0, 100.0 },
+            new double[] { 0.0, 0.0 },
+            new double[] { 0.0, 0.0 },
+            new double[] { 0.0, 1.0 },
+            new double[] { 0.0, 0.0 });
+
+        Assertions.assertEquals(2.5, trajectory.getDuration(), 0.01);
+
+        TrajectoryState start = trajectory.get(0.0);
+        Assertions.assertEquals(0.0, start.xPosition, 1e-9);
+        Assertions.assertEquals(0.0, start.xVelocity, 1e-9);
+
+        TrajectoryState middle = trajectory.get(1.25);
+        Assertions.assertEquals(50.0, middle.xPosition, 0.5);
+        Assertions.assertEquals(50.0, middle.xVelocity, 1e-6);
+        Assertions.assertEquals(0.0, middle.yPosition, 1e-9);
+        Assertions.assertEquals(0.0, middle.angleVelocity, 1e-9);
+
+        TrajectoryState end = trajectory.get(trajectory.getDuration());
+        Assertions.assertEquals(100.0, end.xPosition, 1e-9);
+        Assertions.assertEquals(0.0, end.xVelocity, 1e-9);
+    }
+
+    @Test
+    public void testRotationOnlyPath()
+    {
+        // 90 degrees at up to 90 deg/s and 180 deg/s^2: 0.5s to accelerate over 22.5 degrees, 0.5s to cruise 45 degrees, 0.5s to stop
+        FauxbotTrajectoryGenerator generator = new FauxbotTrajectoryGenerator(50.0, 100.0, 90.0, 180.0, 60.0, MODULE_OFFSET_X, MODULE_OFFSET_Y);
+        ITrajectory trajectory = generator.generate(
+            new double[] { 0.0, 0.0 },
+            new double[] { 0.0, 0.0 },
+            new double[] { 0.0, 0.0 },
+            new double[] { 0.0, 1.0 },
+            new double[] { 0.0, 90.0 });
+
+        Assertions.assertEquals(1.5, trajectory.getDuration(), 1e-6);
+
+        TrajectoryState middle = trajectory.get(0.75);
+        Assertions.assertEquals(45.0, middle.angle, 1e-6);
+        Assertions.assertEquals(90.0, middle.angleVelocity, 1e-6);
+        Assertions.assertEquals(0.0, middle.xPosition, 1e-9);
+        Assertions.assertEquals(0.0, middle.yPosition, 1e-9);
+        Assertions.assertEquals(0.0, middle.xVelocity, 1e-9);
+        Assertions.assertEquals(0.0, middle.yVelocity, 1e-9);
+
+        TrajectoryState end = trajectory.get(trajectory.getDuration());
+        Assertions.assertEquals(90.0, end.angle, 1e-9);
+        Assertions.assertEquals(0.0, end.angleVelocity, 1e-9);
+    }
+
+    @Test
+    public void testShortPathLimitedByRotation()
+    {
+        // driving 1 inch takes 0.2s, but turning 90 degrees along the way can't take less than 1.5s
+        FauxbotTrajectoryGenerator generator = new FauxbotTrajectoryGenerator(50.0, 100.0, 90.0, 180.0, 0.0, MODULE_OFFSET_X, MODULE_OFFSET_Y);
+        ITrajectory trajectory = generator.generate(
+            new double[] { 0.0, 1.0 },
+            new double[] { 0.0, 0.0 },
+            new double[] { 0.0, 0.0 },
+            new double[] { 0.0, 1.0 },
+            new double[] { 0.0, 90.0 });
+
+        Assertions.assertTrue(trajectory.getDuration() >= 1.5 - 1e-6);
+        for (double time = 0.0; time <= trajectory.getDuration(); time += 0.01)
+        {
+            TrajectoryState state = trajectory.get(time);
+            Assertions.assertTrue(Math.abs(state.angleVelocity) <= 90.0 + 1e-6);
+            Assertions.assertTrue(Math.abs(state.xVelocity) <= 50.0 + 1e-6);
+        }
+
+        Assertions.assertEquals(1.0, trajectory.get(trajectory.getDuration()).xPosition, 1e-9);
+        Assertions.assertEquals(90.0, trajectory.get(trajectory.getDuration()).angle, 1e-9);
+    }
+
+    @Test
+    public void testMultipleWaypoints()
+    {
+        FauxbotTrajectoryGenerator generator = new FauxbotTrajectoryGenerator(50.0, 100.0, 90.0, 180.0, 60.0, MODULE_OFFSET_X, MODULE_OFFSET_Y);
+        ITrajectory trajectory = generator.generate(
+            new double[] { 0.0, 60.0, 60.0 },
+            new double[] { 0.0, 0.0, 60.0 },
+            new double[] { 0.0, 45.0, 90.0 },
+            new double[] { 0.0, 2.0 },
+            new double[] { 0.0, -90.0 });
+
+        // can't be faster than driving straight to the end at the maximum velocity
+        double duration = trajectory.getDuration();
+        Assertions.assertTrue(duration > Math.hypot(60.0, 60.0) / 50.0);
+
+        double closestToMiddle = Double.POSITIVE_INFINITY;
+        double previousAngle = 0.0;
+        for (double time = 0.0; time <= duration; time += 0.01)
+        {
+            TrajectoryState state = trajectory.get(time);
+            Assertions.assertTrue(Math.hypot(state.xVelocity, state.yVelocity) <= 50.0 + 1e-6);
+            Assertions.assertTrue(Math.abs(state.angleVelocity) <= 90.0 + 1e-6);
+
+            // turns steadily from 0 to -90 degrees
+            Assertions.assertTrue(state.angle <= previousAngle + 1e-9);
+            previousAngle = state.angle;
+
+            closestToMiddle = Math.min(closestToMiddle, Math.hypot(state.xPosition - 60.0, state.yPosition));
+        }
+
+        Assertions.assertTrue(closestToMiddle < 0.5);
+
+        TrajectoryState end = trajectory.get(duration);
+        Assertions.assertEquals(60.0, end.xPosition, 1e-9);
+        Assertions.assertEquals(60.0, end.yPosition, 1e-9);
+        Assertions.assertEquals(-90.0, end.angle, 1e-9);
+        Assertions.assertEquals(0.0, end.xVelocity, 1e-9);
+        Assertions.assertEquals(0.0, end.yVelocity, 1e-9);
+        Assertions.assertEquals(0.0, end.angleVelocity, 1e-9);
+    }
+}
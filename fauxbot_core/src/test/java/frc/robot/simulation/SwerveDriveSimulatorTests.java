@@ -0,0 +1,129 @@
+package frc.robot.simulation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import frc.lib.helpers.Helpers;
+import frc.lib.robotprovider.*;
+import frc.robot.ElectronicsConstants;
+import frc.robot.HardwareConstants;
+
+public class SwerveDriveSimulatorTests
+{
+    private static final int[] DRIVE_MOTOR_CAN_IDS =
+        new int[]
+        {
+            ElectronicsConstants.SDSDRIVETRAIN_DRIVE_MOTOR_1_CAN_ID,
+            ElectronicsConstants.SDSDRIVETRAIN_DRIVE_MOTOR_2_CAN_ID,
+            ElectronicsConstants.SDSDRIVETRAIN_DRIVE_MOTOR_3_CAN_ID,
+            ElectronicsConstants.SDSDRIVETRAIN_DRIVE_MOTOR_4_CAN_ID,
+        };
+
+    private static final int[] STEER_MOTOR_CAN_IDS =
+        new int[]
+        {
+            ElectronicsConstants.SDSDRIVETRAIN_STEER_MOTOR_1_CAN_ID,
+            ElectronicsConstants.SDSDRIVETRAIN_STEER_MOTOR_2_CAN_ID,
+            ElectronicsConstants.SDSDRIVETRAIN_STEER_MOTOR_3_CAN_ID,
+            ElectronicsConstants.SDSDRIVETRAIN_STEER_MOTOR_4_CAN_ID,
+        };
+
+    private static final int[] ABSOLUTE_ENCODER_CAN_IDS =
+        new int[]
+        {
+            ElectronicsConstants.SDSDRIVETRAIN_ABSOLUTE_ENCODER_1_CAN_ID,
+            ElectronicsConstants.SDSDRIVETRAIN_ABSOLUTE_ENCODER_2_CAN_ID,
+            ElectronicsConstants.SDSDRIVETRAIN_ABSOLUTE_ENCODER_3_CAN_ID,
+            ElectronicsConstants.SDSDRIVETRAIN_ABSOLUTE_ENCODER_4_CAN_ID,
+        };
+
+    @Test
+    public void testFreeSpeed()
+    {
+        FauxbotSensorManager sensorManager = new FauxbotSensorManager();
+        FauxbotActuatorManager actuatorManager = new FauxbotActuatorManager();
+        FauxbotTalonFX[] driveMotors = SwerveDriveSimulatorTests.createDevices(sensorManager, actuatorManager);
+        for (FauxbotTalonFX driveMotor : driveMotors)
+        {
+            driveMotor.set(TalonFXControlMode.PercentOutput, 1.0);
+        }
+
+        SwerveDriveSimulator simulator = new SwerveDriveSimulator(sensorManager, actuatorManager);
+        for (int i = 0; i < 150; i++)
+        {
+            simulator.simulate(0.02);
+        }
+
+        // with nothing resisting the robot, the wheels reach the free speed of the drive motors at the battery voltage
+        DCMotorModel motorModel = DCMotorModel.create(HardwareConstants.SDSDRIVETRAIN_DRIVE_MOTOR_TYPE, HardwareConstants.SDSDRIVETRAIN_DRIVE_MOTOR_COUNT);
+        double expectedVelocity =
+            12.0 * motorModel.velocityConstant / HardwareConstants.SDSDRIVETRAIN_DRIVE_GEAR_RATIO * 0.5 * HardwareConstants.SDSDRIVETRAIN_DRIVE_WHEEL_DIAMETER;
+
+        double startX = simulator.getX();
+        simulator.simulate(0.5);
+        Assertions.assertEquals(expectedVelocity, (simulator.getX() - startX) / 0.5, 0.005 * expectedVelocity);
+        Assertions.assertEquals(0.0, simulator.getY(), 1e-6);
+        Assertions.assertEquals(0.0, simulator.getAngle(), 1e-6);
+    }
+
+    @Test
+    public void testCurrentLimit()
+    {
+        // while the stator current is limited, the robot accelerates in proportion to the limit
+        double limitedVelocity = SwerveDriveSimulatorTests.calculateVelocityAfter(0.1, 20.0);
+        double doubleLimitedVelocity = SwerveDriveSimulatorTests.calculateVelocityAfter(0.1, 40.0);
+        double unlimitedVelocity = SwerveDriveSimulatorTests.calculateVelocityAfter(0.1, Double.POSITIVE_INFINITY);
+        Assertions.assertEquals(2.0, doubleLimitedVelocity / limitedVelocity, 0.05);
+        Assertions.assertTrue(doubleLimitedVelocity < unlimitedVelocity);
+    }
+
+    @Test
+    public void testCurrentLimitPerMotor()
+    {
+        FauxbotSensorManager sensorManager = new FauxbotSensorManager();
+        FauxbotActuatorManager actuatorManager = new FauxbotActuatorManager();
+        FauxbotTalonFX motor = new FauxbotTalonFX(1, null, sensorManager, actuatorManager, new FauxbotClock(true));
+        motor.setCurrentLimit(false, 0.0, 0.0, 0.0, true, 40.0);
+        motor.set(TalonFXControlMode.PercentOutput, 1.0);
+
+        // from a stop, the current of two motors geared together is limited to 40A each (80A between them)
+        DCMotorModel motorModel = DCMotorModel.create(MotorType.KrakenX60, 2);
+        double[] state = new double[2];
+        SwerveDriveSimulator.updateMechanism(state, 0, 1, motor, motorModel, 5.0, 0.1, 0.0, 0.0, 0.001);
+        Assertions.assertEquals(2.0 * 40.0 * motorModel.torqueConstant * 5.0 * 0.001 / 0.1, state[1], 1e-9);
+    }
+
+    private static double calculateVelocityAfter(double duration, double statorCurrentLimit)
+    {
+        FauxbotSensorManager sensorManager = new FauxbotSensorManager();
+        FauxbotActuatorManager actuatorManager = new FauxbotActuatorManager();
+        FauxbotTalonFX[] driveMotors = SwerveDriveSimulatorTests.createDevices(sensorManager, actuatorManager);
+        for (FauxbotTalonFX driveMotor : driveMotors)
+        {
+            driveMotor.setCurrentLimit(false, 0.0, 0.0, 0.0, true, statorCurrentLimit);
+            driveMotor.set(TalonFXControlMode.PercentOutput, 1.0);
+        }
+
+        SwerveDriveSimulator simulator = new SwerveDriveSimulator(sensorManager, actuatorManager);
+        simulator.simulate(duration);
+
+        double startX = simulator.getX();
+        simulator.simulate(0.001);
+        return (simulator.getX() - startX) / 0.001 * Helpers.METERS_PER_INCH;
+    }
+
+    private static FauxbotTalonFX[] createDevices(FauxbotSensorManager sensorManager, FauxbotActuatorManager actuatorManager)
+    {
+        FauxbotClock clock = new FauxbotClock(true);
+        FauxbotTalonFX[] driveMotors = new FauxbotTalonFX[SwerveDriveSimulatorTests.DRIVE_MOTOR_CAN_IDS.length];
+        for (int i = 0; i < driveMotors.length; i++)
+        {
+            driveMotors[i] = new FauxbotTalonFX(SwerveDriveSimulatorTests.DRIVE_MOTOR_CAN_IDS[i], null, sensorManager, actuatorManager, clock);
+            new FauxbotTalonFX(SwerveDriveSimulatorTests.STEER_MOTOR_CAN_IDS[i], null, sensorManager, actuatorManager, clock);
+            new FauxbotCANCoder(SwerveDriveSimulatorTests.ABSOLUTE_ENCODER_CAN_IDS[i], sensorManager, clock);
+        }
+
+        new FauxbotPigeon2(ElectronicsConstants.PIGEON_IMU_CAN_ID, sensorManager);
+        return driveMotors;
+    }
+}
@@ -0,0 +1,22 @@
+import java.util.Arrays;
+
+import frc.robot.FauxbotBatchSimulator;
+import frc.robot.FauxbotHeadlessRunner;
+
+// Runs the fauxbot without a window, so it doesn't need a display (e.g. on a CI box) and isn't limited by the frame rate.
+// Arguments: batch [duration in seconds] - simulate every autonomous routine from every start position, and print a table of the results
+//            [start position] [auto routine] [duration in seconds] [output file] - simulate one autonomous routine, and write its log as CSV
+public class HeadlessLauncher
+{
+    public static void main(String[] args) throws Exception
+    {
+        if (args.length > 0 && args[0].equals("batch"))
+        {
+            FauxbotBatchSimulator.main(Arrays.copyOfRange(args, 1, args.length));
+        }
+        else
+        {
+            FauxbotHeadlessRunner.main(args);
+        }
+    }
+}
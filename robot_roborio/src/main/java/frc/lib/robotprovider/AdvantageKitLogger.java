@@ -140,4 +140,12 @@ public class AdvantageKitLogger implements ISmartDashboardLogger
     public void flush()
     {
     }
+
+    /**
+     * Flush and close the output stream, if appropriate..
+     */
+    @Override
+    public void close()
+    {
+    }
 }
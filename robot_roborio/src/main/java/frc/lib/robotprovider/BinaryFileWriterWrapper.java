@@ -0,0 +1,37 @@
+package frc.lib.robotprovider;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+public class BinaryFileWriterWrapper implements IBinaryFileWriter
+{
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private BufferedOutputStream wrappedObject;
+
+    public BinaryFileWriterWrapper(String fileName) throws IOException
+    {
+        this.wrappedObject = new BufferedOutputStream(new FileOutputStream(fileName), BinaryFileWriterWrapper.BUFFER_SIZE);
+    }
+
+    public void write(byte[] data, int offset, int length) throws IOException
+    {
+        this.wrappedObject.write(data, offset, length);
+    }
+
+    public void flush() throws IOException
+    {
+        this.wrappedObject.flush();
+    }
+
+    public void close() throws IOException
+    {
+        this.wrappedObject.close();
+    }
+
+    public int getDroppedWrites()
+    {
+        return 0;
+    }
+}
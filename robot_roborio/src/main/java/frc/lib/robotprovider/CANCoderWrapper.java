@@ -1,5 +1,8 @@
 package frc.lib.robotprovider;
 
+import java.util.EnumSet;
+
+import com.ctre.phoenix6.BaseStatusSignal;
 import com.ctre.phoenix6.StatusSignal;
 import com.ctre.phoenix6.hardware.CANcoder;
 
@@ -13,6 +16,8 @@ public class CANCoderWrapper implements ICANCoder
     private final CANcoder wrappedObject;
 
     private final String cancoderId;
+    private final String canbus;
+    private final CTRESignalBatch batch;
 
     private boolean reverse;
 
@@ -20,20 +25,73 @@ public class CANCoderWrapper implements ICANCoder
     private StatusSignal<Angle> absolutePosition;
     private StatusSignal<AngularVelocity> velocity;
 
-    public CANCoderWrapper(int deviceNumber)
+    private final EnumSet<CANCoderSignal> batchedSignals;
+
+    public CANCoderWrapper(int deviceNumber, CTRESignalBatch batch)
     {
         this.wrappedObject = new CANcoder(deviceNumber);
         this.cancoderId = String.format("CANcoder %d", deviceNumber);
+        this.canbus = "";
+        this.batch = batch;
+        this.batchedSignals = EnumSet.noneOf(CANCoderSignal.class);
         this.reverse = false;
     }
 
-    public CANCoderWrapper(int deviceNumber, String canbus)
+    public CANCoderWrapper(int deviceNumber, String canbus, CTRESignalBatch batch)
     {
         this.wrappedObject = new CANcoder(deviceNumber, canbus);
         this.cancoderId = String.format("CANcoder %s-%d", canbus, deviceNumber);
+        this.canbus = canbus;
+        this.batch = batch;
+        this.batchedSignals = EnumSet.noneOf(CANCoderSignal.class);
         this.reverse = false;
     }
 
+    public void registerBatchedSignals(CANCoderSignal... signals)
+    {
+        for (CANCoderSignal signal : signals)
+        {
+            if (!this.batchedSignals.add(signal))
+            {
+                continue;
+            }
+
+            BaseStatusSignal statusSignal;
+            switch (signal)
+            {
+                case Position:
+                    if (this.position == null)
+                    {
+                        this.position = this.wrappedObject.getPosition();
+                    }
+
+                    statusSignal = this.position;
+                    break;
+
+                case Velocity:
+                    if (this.velocity == null)
+                    {
+                        this.velocity = this.wrappedObject.getVelocity();
+                    }
+
+                    statusSignal = this.velocity;
+                    break;
+
+                case AbsolutePosition:
+                default:
+                    if (this.absolutePosition == null)
+                    {
+                        this.absolutePosition = this.wrappedObject.getAbsolutePosition();
+                    }
+
+                    statusSignal = this.absolutePosition;
+                    break;
+            }
+
+            this.batch.register(this.canbus, statusSignal);
+        }
+    }
+
     public double getPosition()
     {
         if (this.position == null)
@@ -41,7 +99,11 @@ public class CANCoderWrapper implements ICANCoder
             this.position = this.wrappedObject.getPosition();
         }
 
-        this.position.refresh();
+        if (!this.batchedSignals.contains(CANCoderSignal.Position))
+        {
+            this.position.refresh();
+        }
+
         CTREStatusCodeHelper.printError(this.position.getStatus(), this.cancoderId, "CANCoderWrapper.getPosition");
         return this.position.getValue().magnitude() * (this.reverse ? -1.0 : 1.0);
     }
@@ -53,7 +115,11 @@ public class CANCoderWrapper implements ICANCoder
             this.velocity = this.wrappedObject.getVelocity();
         }
 
-        this.velocity.refresh();
+        if (!this.batchedSignals.contains(CANCoderSignal.Velocity))
+        {
+            this.velocity.refresh();
+        }
+
         CTREStatusCodeHelper.printError(this.velocity.getStatus(), this.cancoderId, "CANCoderWrapper.getVelocity");
         return this.velocity.getValue().magnitude() * (this.reverse ? -1.0 : 1.0);
     }
@@ -65,7 +131,11 @@ public class CANCoderWrapper implements ICANCoder
             this.absolutePosition = this.wrappedObject.getAbsolutePosition();
         }
 
-        this.absolutePosition.refresh();
+        if (!this.batchedSignals.contains(CANCoderSignal.AbsolutePosition))
+        {
+            this.absolutePosition.refresh();
+        }
+
         CTREStatusCodeHelper.printError(this.absolutePosition.getStatus(), this.cancoderId, "CANCoderWrapper.getAbsolutePosition");
         return this.absolutePosition.getValue().magnitude() * (reverse ? -1.0 : 1.0);
     }
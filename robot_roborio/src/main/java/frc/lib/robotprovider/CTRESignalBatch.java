@@ -0,0 +1,61 @@
+package frc.lib.robotprovider;
+
+import java.util.Arrays;
+
+import com.ctre.phoenix6.BaseStatusSignal;
+
+/**
+ * Collection of CTRE status signals that are refreshed together in a single bulk operation per CAN bus,
+ * instead of each signal being refreshed individually when it is read.
+ */
+public class CTRESignalBatch
+{
+    private String[] canbuses;
+    private BaseStatusSignal[][] signals;
+
+    public CTRESignalBatch()
+    {
+        this.canbuses = new String[0];
+        this.signals = new BaseStatusSignal[0][];
+    }
+
+    /**
+     * Register a signal to be refreshed as a part of the batch (only expected during initialization)
+     * @param canbus that the device providing the signal is connected to
+     * @param signal to refresh
+     */
+    public void register(String canbus, BaseStatusSignal signal)
+    {
+        int index = 0;
+        while (index < this.canbuses.length && !this.canbuses[index].equals(canbus))
+        {
+            index++;
+        }
+
+        if (index == this.canbuses.length)
+        {
+            this.canbuses = Arrays.copyOf(this.canbuses, index + 1);
+            this.signals = Arrays.copyOf(this.signals, index + 1);
+            this.canbuses[index] = canbus;
+            this.signals[index] = new BaseStatusSignal[0];
+        }
+
+        BaseStatusSignal[] canbusSignals = Arrays.copyOf(this.signals[index], this.signals[index].length + 1);
+        canbusSignals[canbusSignals.length - 1] = signal;
+        this.signals[index] = canbusSignals;
+    }
+
+    /**
+     * Refresh all of the registered signals
+     */
+    public void refreshAll()
+    {
+        for (int i = 0; i < this.canbuses.length; i++)
+        {
+            CTREStatusCodeHelper.printError(
+                BaseStatusSignal.refreshAll(this.signals[i]),
+                this.canbuses[i],
+                "CTRESignalBatch.refreshAll");
+        }
+    }
+}
@@ -22,6 +22,7 @@ import edu.wpi.first.math.system.plant.DCMotor;
 import frc.lib.helpers.ExceptionHelpers;
 import frc.lib.helpers.Helpers;
 import frc.lib.helpers.ImmutableQuadruple;
+import frc.robot.TuningConstants;
 
 public class PathPlannerWrapper implements IPathPlanner
 {
@@ -141,7 +142,7 @@ public class PathPlannerWrapper implements IPathPlanner
         {
             PathPlannerPath path = PathPlannerPath.fromPathFile(name);
 
-            return new PathPlannerTrajectoryWrapper(path.generateTrajectory(new ChassisSpeeds(), Rotation2d.fromDegrees(0.0), robotConfig));
+            return PathPlannerWrapper.sample(new PathPlannerTrajectoryWrapper(path.generateTrajectory(new ChassisSpeeds(), Rotation2d.fromDegrees(0.0), robotConfig)));
         }
         catch (IOException ex)
         {
@@ -190,8 +191,26 @@ public class PathPlannerWrapper implements IPathPlanner
                 new GoalEndState(0.0, Rotation2d.fromDegrees(quad.fourth)),
                 false);
 
-        return new PathPlannerTrajectoryWrapper(
-            new PathPlannerTrajectory(path, new ChassisSpeeds(), Rotation2d.fromDegrees(quad.third), this.robotConfig));
+        return PathPlannerWrapper.sample(
+            new PathPlannerTrajectoryWrapper(
+                new PathPlannerTrajectory(path, new ChassisSpeeds(), Rotation2d.fromDegrees(quad.third), this.robotConfig)));
+    }
+
+    /**
+     * Sample the trajectory into primitive arrays once, so that following it doesn't need to sample the PathPlanner trajectory and
+     * convert its units on every update
+     * @param trajectory to sample
+     * @return the sampled trajectory, or the original trajectory if it couldn't be sampled
+     */
+    private static ITrajectory sample(PathPlannerTrajectoryWrapper trajectory)
+    {
+        SampledTrajectory sampled = SampledTrajectory.sample(trajectory, TuningConstants.TRAJECTORY_SAMPLE_INTERVAL);
+        if (sampled == null)
+        {
+            return trajectory;
+        }
+
+        return sampled;
     }
 
     private ImmutableQuadruple<List<Pose2d>, List<RotationTarget>, Double, Double> convertGoalPointsToPosesAndRotationTargets(IPathPlannerGoal[] goalPoints)
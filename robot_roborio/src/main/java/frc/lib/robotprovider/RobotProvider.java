@@ -7,8 +7,15 @@ import frc.robot.TuningConstants;
 @Singleton
 public class RobotProvider implements IRobotProvider
 {
+    private final CTRESignalBatch signalBatch;
+
     private IPowerDistribution powerDistribution;
 
+    public RobotProvider()
+    {
+        this.signalBatch = new CTRESignalBatch();
+    }
+
     @Override
     public IAnalogInput getAnalogInput(int channel)
     {
@@ -54,13 +61,13 @@ public class RobotProvider implements IRobotProvider
     @Override
     public ITalonFX getTalonFX(int deviceNumber)
     {
-        return new TalonFXWrapper(deviceNumber);
+        return new TalonFXWrapper(deviceNumber, this.signalBatch);
     }
 
     @Override
     public ITalonFX getTalonFX(int deviceNumber, String canbus)
     {
-        return new TalonFXWrapper(deviceNumber, canbus);
+        return new TalonFXWrapper(deviceNumber, canbus, this.signalBatch);
     }
 
     @Override
@@ -114,13 +121,13 @@ public class RobotProvider implements IRobotProvider
     @Override
     public ICANCoder getCANCoder(int deviceNumber)
     {
-        return new CANCoderWrapper(deviceNumber);
+        return new CANCoderWrapper(deviceNumber, this.signalBatch);
     }
 
     @Override
     public ICANCoder getCANCoder(int deviceNumber, String canbus)
     {
-        return new CANCoderWrapper(deviceNumber, canbus);
+        return new CANCoderWrapper(deviceNumber, canbus, this.signalBatch);
     }
 
     @Override
@@ -269,4 +276,10 @@ public class RobotProvider implements IRobotProvider
     {
         return new PreferencesWrapper();
     }
+
+    @Override
+    public void refreshBatchedSignals()
+    {
+        this.signalBatch.refreshAll();
+    }
 }
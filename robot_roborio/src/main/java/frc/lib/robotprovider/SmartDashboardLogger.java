@@ -172,4 +172,12 @@ public class SmartDashboardLogger implements ISmartDashboardLogger
     public void flush()
     {
     }
+
+    /**
+     * Flush and close the output stream, if appropriate..
+     */
+    @Override
+    public void close()
+    {
+    }
 }
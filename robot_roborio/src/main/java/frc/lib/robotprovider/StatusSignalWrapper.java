@@ -0,0 +1,28 @@
+package frc.lib.robotprovider;
+
+import com.ctre.phoenix6.StatusSignal;
+
+public class StatusSignalWrapper implements IStatusSignal
+{
+    private final StatusSignal<?> wrappedObject;
+    private final String deviceId;
+
+    public StatusSignalWrapper(StatusSignal<?> wrappedObject, String deviceId)
+    {
+        this.wrappedObject = wrappedObject;
+        this.deviceId = deviceId;
+    }
+
+    public void refresh()
+    {
+        CTREStatusCodeHelper.printError(
+            this.wrappedObject.refresh().getStatus(),
+            this.deviceId,
+            "StatusSignal.refresh");
+    }
+
+    public double getValue()
+    {
+        return this.wrappedObject.getValueAsDouble();
+    }
+}
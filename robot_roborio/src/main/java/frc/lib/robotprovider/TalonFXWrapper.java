@@ -1,5 +1,8 @@
 package frc.lib.robotprovider;
 
+import java.util.EnumSet;
+
+import com.ctre.phoenix6.BaseStatusSignal;
 import com.ctre.phoenix6.StatusSignal;
 import com.ctre.phoenix6.configs.*;
 import com.ctre.phoenix6.controls.*;
@@ -19,6 +22,8 @@ public class TalonFXWrapper implements ITalonFX
     final TalonFX wrappedObject;
 
     private final String talonId;
+    private final String canbus;
+    private final CTRESignalBatch batch;
 
     private TalonFXConfigurator currentConfigurator;
 
@@ -36,20 +41,26 @@ public class TalonFXWrapper implements ITalonFX
 
     private StatusSignal<ForwardLimitValue> forwardLimitSwitch;
     private StatusSignal<ReverseLimitValue> reverseLimitSwitch;
-    public TalonFXWrapper(int deviceNumber)
+
+    private final EnumSet<TalonFXSignal> batchedSignals;
+
+    public TalonFXWrapper(int deviceNumber, CTRESignalBatch batch)
     {
-        this(new TalonFX(deviceNumber), String.format("TalonFX %d", deviceNumber));
+        this(new TalonFX(deviceNumber), String.format("TalonFX %d", deviceNumber), "", batch);
     }
 
-    public TalonFXWrapper(int deviceNumber, String canbus)
+    public TalonFXWrapper(int deviceNumber, String canbus, CTRESignalBatch batch)
     {
-        this(new TalonFX(deviceNumber, canbus), String.format("TalonFX %s-%d", canbus, deviceNumber));
+        this(new TalonFX(deviceNumber, canbus), String.format("TalonFX %s-%d", canbus, deviceNumber), canbus, batch);
     }
 
-    private TalonFXWrapper(TalonFX wrappedObject, String talonId)
+    private TalonFXWrapper(TalonFX wrappedObject, String talonId, String canbus, CTRESignalBatch batch)
     {
         this.wrappedObject = wrappedObject;
         this.talonId = talonId;
+        this.canbus = canbus;
+        this.batch = batch;
+        this.batchedSignals = EnumSet.noneOf(TalonFXSignal.class);
 
         this.controlMode = TalonFXControlMode.Neutral;
         this.currentControlRequest = TalonFXWrapper.stop;
@@ -552,6 +563,113 @@ public class TalonFXWrapper implements ITalonFX
             "TalonFXWrapper.setReverseLimitSwitchUpdateRate");
     }
 
+    public void registerBatchedSignals(TalonFXSignal... signals)
+    {
+        for (TalonFXSignal signal : signals)
+        {
+            if (!this.batchedSignals.add(signal))
+            {
+                continue;
+            }
+
+            BaseStatusSignal statusSignal;
+            switch (signal)
+            {
+                case Position:
+                    if (this.position == null)
+                    {
+                        this.position = this.wrappedObject.getPosition();
+                    }
+
+                    statusSignal = this.position;
+                    break;
+
+                case Velocity:
+                    if (this.velocity == null)
+                    {
+                        this.velocity = this.wrappedObject.getVelocity();
+                    }
+
+                    statusSignal = this.velocity;
+                    break;
+
+                case Error:
+                    if (this.error == null)
+                    {
+                        this.error = this.wrappedObject.getClosedLoopError();
+                    }
+
+                    statusSignal = this.error;
+                    break;
+
+                case Output:
+                    if (this.output == null)
+                    {
+                        this.output = this.wrappedObject.getDutyCycle();
+                    }
+
+                    statusSignal = this.output;
+                    break;
+
+                case ForwardLimitSwitch:
+                    if (this.forwardLimitSwitch == null)
+                    {
+                        this.forwardLimitSwitch = this.wrappedObject.getForwardLimit();
+                    }
+
+                    statusSignal = this.forwardLimitSwitch;
+                    break;
+
+                case ReverseLimitSwitch:
+                default:
+                    if (this.reverseLimitSwitch == null)
+                    {
+                        this.reverseLimitSwitch = this.wrappedObject.getReverseLimit();
+                    }
+
+                    statusSignal = this.reverseLimitSwitch;
+                    break;
+            }
+
+            this.batch.register(this.canbus, statusSignal);
+        }
+    }
+
+    public IStatusSignal createSignal(TalonFXSignal signal)
+    {
+        // use clones, as StatusSignal objects aren't thread-safe and the TalonFX hands out the same ones to every caller
+        StatusSignal<?> statusSignal;
+        switch (signal)
+        {
+            case Position:
+                statusSignal = this.wrappedObject.getPosition().clone();
+                break;
+
+            case Velocity:
+                statusSignal = this.wrappedObject.getVelocity().clone();
+                break;
+
+            case Error:
+                statusSignal = this.wrappedObject.getClosedLoopError().clone();
+                break;
+
+            case Output:
+                statusSignal = this.wrappedObject.getDutyCycle().clone();
+                break;
+
+            case ForwardLimitSwitch:
+                statusSignal = this.wrappedObject.getForwardLimit().clone();
+                break;
+
+            case ReverseLimitSwitch:
+            default:
+                statusSignal = this.wrappedObject.getReverseLimit().clone();
+                break;
+        }
+
+        return new StatusSignalWrapper(statusSignal, this.talonId);
+    }
+
     public void optimizeCanbus()
     {
         CTREStatusCodeHelper.printError(
@@ -969,7 +1087,11 @@ public class TalonFXWrapper implements ITalonFX
             this.position = this.wrappedObject.getPosition();
         }
 
-        this.position.refresh();
+        if (!this.batchedSignals.contains(TalonFXSignal.Position))
+        {
+            this.position.refresh();
+        }
+
         CTREStatusCodeHelper.printError(
             this.position.getStatus(),
             this.talonId,
@@ -985,7 +1107,11 @@ public class TalonFXWrapper implements ITalonFX
             this.velocity = this.wrappedObject.getVelocity();
         }
 
-        this.velocity.refresh();
+        if (!this.batchedSignals.contains(TalonFXSignal.Velocity))
+        {
+            this.velocity.refresh();
+        }
+
         CTREStatusCodeHelper.printError(
             this.velocity.getStatus(),
             this.talonId,
@@ -1001,7 +1127,11 @@ public class TalonFXWrapper implements ITalonFX
             this.error = this.wrappedObject.getClosedLoopError();
         }
 
-        this.error.refresh();
+        if (!this.batchedSignals.contains(TalonFXSignal.Error))
+        {
+            this.error.refresh();
+        }
+
         CTREStatusCodeHelper.printError(
             this.error.getStatus(),
             this.talonId,
@@ -1017,7 +1147,11 @@ public class TalonFXWrapper implements ITalonFX
             this.output = this.wrappedObject.getDutyCycle();
         }
 
-        this.output.refresh();
+        if (!this.batchedSignals.contains(TalonFXSignal.Output))
+        {
+            this.output.refresh();
+        }
+
         CTREStatusCodeHelper.printError(
             this.output.getStatus(),
             this.talonId,
@@ -1033,7 +1167,11 @@ public class TalonFXWrapper implements ITalonFX
             this.forwardLimitSwitch = this.wrappedObject.getForwardLimit();
         }
 
-        this.forwardLimitSwitch.refresh();
+        if (!this.batchedSignals.contains(TalonFXSignal.ForwardLimitSwitch))
+        {
+            this.forwardLimitSwitch.refresh();
+        }
+
         return this.forwardLimitSwitch.getValue() == ForwardLimitValue.ClosedToGround;
     }
 
@@ -1044,7 +1182,11 @@ public class TalonFXWrapper implements ITalonFX
             this.reverseLimitSwitch = this.wrappedObject.getReverseLimit();
         }
 
-        this.reverseLimitSwitch.refresh();
+        if (!this.batchedSignals.contains(TalonFXSignal.ReverseLimitSwitch))
+        {
+            this.reverseLimitSwitch.refresh();
+        }
+
         return this.reverseLimitSwitch.getValue() == ReverseLimitValue.ClosedToGround;
     }
 
@@ -1060,8 +1202,15 @@ public class TalonFXWrapper implements ITalonFX
             this.reverseLimitSwitch = this.wrappedObject.getReverseLimit();
         }
 
-        this.forwardLimitSwitch.refresh();
-        this.reverseLimitSwitch.refresh();
+        if (!this.batchedSignals.contains(TalonFXSignal.ForwardLimitSwitch))
+        {
+            this.forwardLimitSwitch.refresh();
+        }
+
+        if (!this.batchedSignals.contains(TalonFXSignal.ReverseLimitSwitch))
+        {
+            this.reverseLimitSwitch.refresh();
+        }
 
         return new TalonXLimitSwitchStatus(
             this.forwardLimitSwitch.getValue() == ForwardLimitValue.ClosedToGround,
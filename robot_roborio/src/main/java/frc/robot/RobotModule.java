@@ -2,7 +2,10 @@ package frc.robot;
 
 import javax.inject.Singleton;
 
+import frc.lib.RobotOptions;
 import frc.lib.driver.*;
+import frc.lib.mechanisms.LoggingManager;
+import frc.lib.mechanisms.LoopProfiler;
 import frc.lib.mechanisms.MechanismManager;
 import frc.lib.robotprovider.*;
 import frc.robot.driver.*;
@@ -11,6 +14,8 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Injector;
 import com.google.inject.Provides;
 
+import edu.wpi.first.wpilibj.RobotBase;
+
 public class RobotModule extends AbstractModule
 {
     @Override
@@ -36,6 +41,13 @@ public class RobotModule extends AbstractModule
     @Provides
     public MechanismManager getMechanismManager(Injector injector)
     {
-        return new MechanismManager(SettingsManager.getActiveMechanisms(injector));
+        return new MechanismManager(SettingsManager.getActiveMechanisms(injector), injector.getInstance(LoopProfiler.class), injector.getInstance(LoggingManager.class), injector.getInstance(RobotOptions.class));
+    }
+
+    @Singleton
+    @Provides
+    public RobotOptions getRobotOptions()
+    {
+        return new RobotOptions(RobotBase.isReal());
     }
 }